@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.benchmarks;
+
+import com.midtrans.raygun.RaygunReport;
+import com.midtrans.raygun.RaygunTags;
+import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.ratelimit.RaygunRateLimiter;
+import com.midtrans.raygun.sampling.RaygunSampler;
+import com.midtrans.raygun.transport.TransportRaygunClientFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the memory allocated per report on each path of {@code RaygunTemplate}, read from
+ * the {@code gc.alloc.rate.norm} metric of the {@code gc} profiler.
+ *
+ * <p>The excluded, throttled and sampled out paths are expected to allocate nothing. The sent path
+ * is measured with a {@link SyncTaskExecutor}, so it includes building and serializing the message.
+ *
+ * @author Raydhitya Yoseph
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AllocationBenchmark {
+  private static final RaygunReport REPORT = RaygunReport.of(RaygunTags.of("benchmark"));
+
+  /** The path taken by the reports. */
+  @Param({"excluded", "throttled", "sampled-out", "sent"})
+  public String path;
+
+  private final IllegalStateException exception = new IllegalStateException("Benchmark");
+  private RaygunTemplate raygunTemplate;
+
+  @Setup
+  public void setUp() {
+    raygunTemplate =
+        new RaygunTemplate(
+            new TransportRaygunClientFactory("apiKey", new StubRaygunTransport()),
+            new SyncTaskExecutor());
+    switch (path) {
+      case "excluded":
+        raygunTemplate.registerException(IllegalStateException.class);
+        break;
+      case "throttled":
+        RaygunRateLimiter raygunRateLimiter = new RaygunRateLimiter();
+        raygunRateLimiter.setPerFingerprint(1);
+        raygunRateLimiter.afterPropertiesSet();
+        raygunTemplate.setRaygunRateLimiter(raygunRateLimiter);
+        break;
+      case "sampled-out":
+        RaygunSampler raygunSampler = new RaygunSampler();
+        raygunSampler.setTargetRate(Double.MIN_VALUE);
+        raygunSampler.afterPropertiesSet();
+        raygunTemplate.setRaygunSampler(raygunSampler);
+        break;
+      case "sent":
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown path " + path);
+    }
+  }
+
+  @Benchmark
+  public void send() {
+    raygunTemplate.send(exception, REPORT);
+  }
+}
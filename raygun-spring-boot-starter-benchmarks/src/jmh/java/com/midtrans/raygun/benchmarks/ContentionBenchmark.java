@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.benchmarks;
+
+import com.midtrans.raygun.RaygunReport;
+import com.midtrans.raygun.RaygunTags;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@code RaygunTemplate} sends from 1 to 64 concurrent calling threads, sharing the
+ * same template and executor.
+ *
+ * @author Raydhitya Yoseph
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentionBenchmark {
+  private static final RaygunReport REPORT = RaygunReport.of(RaygunTags.of("benchmark"));
+
+  private final IllegalStateException exception = new IllegalStateException("Benchmark");
+
+  @Benchmark
+  @Threads(1)
+  public void threads1(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception, REPORT);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void threads4(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception, REPORT);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public void threads16(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception, REPORT);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void threads64(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception, REPORT);
+  }
+}
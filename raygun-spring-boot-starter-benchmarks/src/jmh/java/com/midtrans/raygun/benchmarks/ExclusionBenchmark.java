@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.benchmarks;
+
+import com.midtrans.raygun.RaygunExceptionExcludeMode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the excluded paths of {@code RaygunTemplate} against the sent path, with the same
+ * exclusions registered.
+ *
+ * @author Raydhitya Yoseph
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExclusionBenchmark {
+  private final NumberFormatException excludedByType = new NumberFormatException("Benchmark");
+  private final UncheckedIOException excludedByRule =
+      new UncheckedIOException(new IOException("Broken pipe"));
+  private final IllegalStateException sent = new IllegalStateException("Benchmark");
+
+  @Setup
+  public void setUp(RaygunTemplateState state) {
+    state.raygunTemplate.registerException(
+        IllegalArgumentException.class, RaygunExceptionExcludeMode.SUBTYPE);
+    state.raygunTemplate.registerRule("type=java.io.UncheckedIOException; message=Broken pipe");
+  }
+
+  @Benchmark
+  public void excludedByType(RaygunTemplateState state) {
+    state.raygunTemplate.send(excludedByType);
+  }
+
+  @Benchmark
+  public void excludedByRule(RaygunTemplateState state) {
+    state.raygunTemplate.send(excludedByRule);
+  }
+
+  @Benchmark
+  public void sent(RaygunTemplateState state) {
+    state.raygunTemplate.send(sent);
+  }
+}
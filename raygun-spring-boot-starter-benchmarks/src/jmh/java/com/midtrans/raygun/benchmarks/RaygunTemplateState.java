@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.benchmarks;
+
+import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.transport.TransportRaygunClientFactory;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * A {@link RaygunTemplate} sending through a {@link StubRaygunTransport} with each of the supported
+ * executors.
+ *
+ * <p>The {@code thread-pool} executor and the {@code dispatcher} have bounded queues and drop the
+ * messages when they are full, like in production, so the benchmarks measure the cost paid by the
+ * calling threads rather than the throughput of the sender threads.
+ *
+ * @author Raydhitya Yoseph
+ */
+@State(Scope.Benchmark)
+public class RaygunTemplateState {
+
+  /** The executor sending the messages. */
+  @Param({"sync", "thread-pool", "dispatcher"})
+  public String executor;
+
+  public StubRaygunTransport raygunTransport;
+  public RaygunTemplate raygunTemplate;
+
+  private ThreadPoolTaskExecutor threadPoolTaskExecutor;
+  private RaygunDispatcher raygunDispatcher;
+
+  @Setup
+  public void setUp() {
+    raygunTransport = new StubRaygunTransport();
+    raygunTemplate =
+        new RaygunTemplate(
+            new TransportRaygunClientFactory("apiKey", raygunTransport), taskExecutor());
+  }
+
+  private TaskExecutor taskExecutor() {
+    switch (executor) {
+      case "sync":
+        return new SyncTaskExecutor();
+      case "thread-pool":
+        threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(2);
+        threadPoolTaskExecutor.setMaxPoolSize(2);
+        threadPoolTaskExecutor.setQueueCapacity(1024);
+        threadPoolTaskExecutor.setThreadNamePrefix("raygun-benchmark-");
+        threadPoolTaskExecutor.initialize();
+        return threadPoolTaskExecutor;
+      case "dispatcher":
+        raygunDispatcher = new RaygunDispatcher();
+        raygunDispatcher.afterPropertiesSet();
+        return raygunDispatcher.asTaskExecutor();
+      default:
+        throw new IllegalArgumentException("Unknown executor " + executor);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (threadPoolTaskExecutor != null) {
+      threadPoolTaskExecutor.shutdown();
+    }
+    if (raygunDispatcher != null) {
+      raygunDispatcher.destroy();
+    }
+  }
+}
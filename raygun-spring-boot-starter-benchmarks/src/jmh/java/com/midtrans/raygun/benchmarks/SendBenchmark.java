@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.benchmarks;
+
+import com.midtrans.raygun.RaygunDeliveryResult;
+import com.midtrans.raygun.RaygunReport;
+import com.midtrans.raygun.RaygunTags;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the cost of each {@code RaygunTemplate} send overload for the calling thread.
+ *
+ * @author Raydhitya Yoseph
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SendBenchmark {
+  private static final RaygunTags TAGS = RaygunTags.of("benchmark", "send");
+  private static final RaygunReport REPORT = RaygunReport.of(TAGS, Map.of("benchmark", "send"));
+
+  private final IllegalStateException exception = new IllegalStateException("Benchmark");
+  private final Error error = new AssertionError("Benchmark");
+  private final Set<String> tags = Set.of("benchmark", "send");
+  private final Map<String, String> data = Map.of("benchmark", "send");
+
+  @Benchmark
+  public void sendException(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception);
+  }
+
+  @Benchmark
+  public void sendThrowable(RaygunTemplateState state) {
+    state.raygunTemplate.send(error);
+  }
+
+  @Benchmark
+  public void sendWithVarargsTags(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception, "benchmark", "send");
+  }
+
+  @Benchmark
+  public void sendWithSetTags(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception, tags);
+  }
+
+  @Benchmark
+  public void sendWithRaygunTags(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception, TAGS);
+  }
+
+  @Benchmark
+  public void sendWithTagsAndData(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception, tags, data);
+  }
+
+  @Benchmark
+  public void sendWithReport(RaygunTemplateState state) {
+    state.raygunTemplate.send(exception, REPORT);
+  }
+
+  @Benchmark
+  public CompletionStage<RaygunDeliveryResult> sendAsync(RaygunTemplateState state) {
+    return state.raygunTemplate.sendAsync(exception, REPORT);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.benchmarks;
+
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+import com.midtrans.raygun.transport.TransportRaygunClient;
+import com.midtrans.raygun.transport.TransportRaygunClientFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of building and serializing a Raygun message by the stack depth of the exception.
+ *
+ * @author Raydhitya Yoseph
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+  /** The number of stack frames added to the stack of the benchmark. */
+  @Param({"0", "32", "128", "512"})
+  public int stackDepth;
+
+  private final Set<String> tags = Set.of("benchmark");
+  private final Map<String, String> data = Map.of("benchmark", "serialization");
+  private StubRaygunTransport raygunTransport;
+  private TransportRaygunClient raygunClient;
+  private IllegalStateException exception;
+
+  @Setup
+  public void setUp() {
+    raygunTransport = new StubRaygunTransport();
+    raygunClient =
+        (TransportRaygunClient)
+            new TransportRaygunClientFactory("apiKey", raygunTransport).newClient();
+    exception = exception(stackDepth);
+  }
+
+  private static IllegalStateException exception(int depth) {
+    return depth == 0 ? new IllegalStateException("Benchmark") : exception(depth - 1);
+  }
+
+  @Benchmark
+  public int serialize() {
+    CompletableFuture<RaygunTransportResponse> response =
+        raygunClient.deliver(exception, tags, data);
+    return response.join().getStatusCode() + raygunTransport.getLastPayloadLength();
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.benchmarks;
+
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link RaygunTransport} accepting every message without any I/O, so that the benchmarks only
+ * measure the reporting pipeline and are reproducible locally.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class StubRaygunTransport implements RaygunTransport {
+  private static final CompletableFuture<RaygunTransportResponse> ACCEPTED =
+      CompletableFuture.completedFuture(new RaygunTransportResponse(202));
+
+  private volatile int lastPayloadLength;
+
+  @Override
+  public CompletableFuture<RaygunTransportResponse> send(String apiKey, String payload) {
+    lastPayloadLength = payload.length();
+    return ACCEPTED;
+  }
+
+  /**
+   * Returns the length of the last message sent, consumed by the benchmarks so that the
+   * serialization is not eliminated.
+   *
+   * @return the length of the last JSON Raygun message
+   */
+  public int getLastPayloadLength() {
+    return lastPayloadLength;
+  }
+}
@@ -16,13 +16,18 @@
 
 package com.midtrans.raygun.example;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import com.midtrans.raygun.RaygunTemplate;
 import com.midtrans.raygun.test.MockRaygunClientFactory;
+import com.midtrans.raygun.test.MockRaygunRecorder;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
+
 /**
  * Test for {@link RaygunTemplate} auto-configuration and Raygun test context customization.
  *
@@ -35,8 +40,20 @@ class RaygunTest {
 
   @Autowired MockRaygunClientFactory mockRaygunClientFactory;
 
+  @Autowired MockRaygunRecorder mockRaygunRecorder;
+
   @Test
   void contextLoads() {
     raygunTemplate.send(new CaughtRaygunException());
   }
+
+  @Test
+  void flushShouldRecord() throws InterruptedException {
+    mockRaygunClientFactory.flush(Duration.ofSeconds(5));
+    mockRaygunRecorder.clear();
+    raygunTemplate.send(new CaughtRaygunException());
+    mockRaygunClientFactory.flush(Duration.ofSeconds(5));
+
+    assertThat(mockRaygunRecorder.getMessages(CaughtRaygunException.class)).hasSize(1);
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A recorder of request latencies with a fixed capacity, computing exact percentiles once the
+ * recording is over.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class LatencyRecorder {
+  private final long[] latencies;
+  private final AtomicInteger count = new AtomicInteger();
+
+  /**
+   * Create a recorder.
+   *
+   * @param capacity the maximum number of latencies recorded, the next ones are ignored
+   */
+  public LatencyRecorder(int capacity) {
+    this.latencies = new long[capacity];
+  }
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  public void record(long nanos) {
+    int index = count.getAndIncrement();
+    if (index < latencies.length) {
+      latencies[index] = nanos;
+    }
+  }
+
+  /**
+   * Returns the number of latencies recorded.
+   *
+   * @return the number of recorded latencies
+   */
+  public int getCount() {
+    return Math.min(count.get(), latencies.length);
+  }
+
+  /**
+   * Returns the latencies at the given percentiles, with the nearest-rank method. It must not be
+   * called while latencies are recorded.
+   *
+   * @param percentiles the percentiles, from 0 to 100
+   * @return the latencies, {@link Duration#ZERO} if no latency was recorded
+   */
+  public Duration[] percentiles(double... percentiles) {
+    long[] sorted = Arrays.copyOf(latencies, getCount());
+    Arrays.sort(sorted);
+    Duration[] durations = new Duration[percentiles.length];
+    for (int index = 0; index < percentiles.length; index++) {
+      int rank = (int) Math.ceil(percentiles[index] / 100 * sorted.length);
+      durations[index] =
+          sorted.length == 0
+              ? Duration.ZERO
+              : Duration.ofNanos(sorted[Math.min(sorted.length, Math.max(1, rank)) - 1]);
+    }
+    return durations;
+  }
+}
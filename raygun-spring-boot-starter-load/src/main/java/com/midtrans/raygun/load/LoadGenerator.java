@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An open-model load generator sending requests to the paths of an application in turn at a fixed
+ * rate, whatever the response times.
+ *
+ * <p>The latency of a request is measured from the time it was scheduled rather than the time it
+ * was sent, so that a stalled application is not hidden by the generator falling behind.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class LoadGenerator {
+  private final HttpClient httpClient;
+  private final List<URI> uris;
+  private final int requestsPerSecond;
+
+  /**
+   * Create a generator.
+   *
+   * @param baseUri the base URI of the application
+   * @param paths the paths requested in turn
+   * @param requestsPerSecond the request rate
+   */
+  public LoadGenerator(URI baseUri, List<String> paths, int requestsPerSecond) {
+    if (paths.isEmpty() || requestsPerSecond <= 0) {
+      throw new IllegalArgumentException("At least one path and a positive rate must be given");
+    }
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    this.uris = new ArrayList<>();
+    for (String path : paths) {
+      this.uris.add(baseUri.resolve(path));
+    }
+    this.requestsPerSecond = requestsPerSecond;
+  }
+
+  /**
+   * Sends requests for the given duration and waits for their responses.
+   *
+   * @param duration the duration of the load
+   * @param timeout how long to wait for the responses after the last request
+   * @return the result
+   * @throws InterruptedException if interrupted while sending or waiting
+   */
+  public Result run(Duration duration, Duration timeout) throws InterruptedException {
+    int requestCount = (int) Math.min(Integer.MAX_VALUE, duration.getSeconds() * requestsPerSecond);
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+    Result result = new Result(requestCount);
+    List<CompletableFuture<?>> responses = new ArrayList<>(requestCount);
+
+    long startNanos = System.nanoTime();
+    for (int index = 0; index < requestCount; index++) {
+      long scheduledNanos = startNanos + index * intervalNanos;
+      for (long delay = scheduledNanos - System.nanoTime();
+          delay > 0;
+          delay = scheduledNanos - System.nanoTime()) {
+        LockSupport.parkNanos(delay);
+      }
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      HttpRequest httpRequest =
+          HttpRequest.newBuilder(uris.get(index % uris.size())).timeout(timeout).GET().build();
+      responses.add(
+          httpClient
+              .sendAsync(httpRequest, BodyHandlers.discarding())
+              .whenComplete(
+                  (httpResponse, ex) ->
+                      result.record(System.nanoTime() - scheduledNanos, ex == null)));
+    }
+
+    try {
+      CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+          .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException | TimeoutException ex) {
+      // the failed and the missing responses are counted in the result
+    }
+    return result;
+  }
+
+  /** The result of a load. */
+  public static final class Result {
+    private final int requestCount;
+    private final LatencyRecorder latencyRecorder;
+    private final LongAdder errorCount = new LongAdder();
+
+    private Result(int requestCount) {
+      this.requestCount = requestCount;
+      this.latencyRecorder = new LatencyRecorder(requestCount);
+    }
+
+    private void record(long latencyNanos, boolean responded) {
+      latencyRecorder.record(latencyNanos);
+      if (!responded) {
+        errorCount.increment();
+      }
+    }
+
+    /**
+     * Returns the number of requests sent.
+     *
+     * @return the number of requests
+     */
+    public int getRequestCount() {
+      return requestCount;
+    }
+
+    /**
+     * Returns the latencies of the requests which completed, responded or not.
+     *
+     * @return the latency recorder
+     */
+    public LatencyRecorder getLatencyRecorder() {
+      return latencyRecorder;
+    }
+
+    /**
+     * Returns the number of requests which completed without a response.
+     *
+     * @return the number of errors
+     */
+    public long getErrorCount() {
+      return errorCount.sum();
+    }
+  }
+}
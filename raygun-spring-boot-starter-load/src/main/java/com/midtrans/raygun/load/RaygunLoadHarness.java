@@ -0,0 +1,215 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.load;
+
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.example.web.ExampleWebRaygunApplication;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A load and soak harness booting the Web MVC example application, reporting to a {@link
+ * StubIngestionServer}, and driving its endpoints at a fixed rate with the Raygun reporting off,
+ * then on.
+ *
+ * <p>With the reporting off, every exception is excluded by a rule, so the two runs only differ by
+ * the cost of reporting. Comparing their request latency percentiles under injected faults shows
+ * whether an outage of the Raygun API degrades the latency of the application. Every run also
+ * reports the heap growth, after a full garbage collection, and the numbers of reports generated,
+ * dropped and delivered.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunLoadHarness {
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9, 100};
+
+  private final RaygunLoadOptions options;
+  private final StubIngestionServer stubIngestionServer;
+
+  private RaygunLoadHarness(RaygunLoadOptions options, StubIngestionServer stubIngestionServer) {
+    this.options = options;
+    this.stubIngestionServer = stubIngestionServer;
+  }
+
+  public static void main(String[] args) throws Exception {
+    RaygunLoadOptions options = RaygunLoadOptions.parse(args);
+    try (StubIngestionServer stubIngestionServer = new StubIngestionServer()) {
+      stubIngestionServer.setLatency(options.getLatency());
+      stubIngestionServer.setThrottleRate(options.getThrottleRate());
+      stubIngestionServer.setErrorRate(options.getErrorRate());
+      stubIngestionServer.setResetRate(options.getResetRate());
+      stubIngestionServer.start();
+
+      RaygunLoadHarness harness = new RaygunLoadHarness(options, stubIngestionServer);
+      List<Run> runs = new ArrayList<>();
+      for (String mode : options.getModes()) {
+        runs.add(harness.run(mode));
+      }
+      print(System.out, options, runs);
+    }
+  }
+
+  private Run run(String mode) throws InterruptedException {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("server.port", 0);
+    properties.put("debug", false);
+    properties.put("logging.level.root", "warn");
+    properties.put("raygun.api-key", "load");
+    properties.put("raygun.transport.type", "http-client");
+    properties.put("raygun.transport.endpoint", stubIngestionServer.getEndpoint());
+    switch (mode) {
+      case "on":
+        break;
+      case "off":
+        properties.put("raygun.exclude.rules[0]", "type=java.lang.Throwable");
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown mode " + mode + ", expected off or on");
+    }
+
+    try (ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(ExampleWebRaygunApplication.class)
+            .properties(properties)
+            .run(options.getApplicationArgs().toArray(String[]::new))) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      LoadGenerator loadGenerator =
+          new LoadGenerator(
+              URI.create("http://localhost:" + port),
+              options.getPaths(),
+              options.getRequestsPerSecond());
+      RaygunDispatcher raygunDispatcher =
+          context.getBeanProvider(RaygunDispatcher.class).getIfAvailable();
+
+      loadGenerator.run(options.getWarmup(), options.getDrainTimeout());
+      drain(raygunDispatcher);
+      stubIngestionServer.resetCounts();
+      long droppedCount = raygunDispatcher == null ? 0 : raygunDispatcher.getDroppedCount();
+      long usedHeap = usedHeapAfterGc();
+
+      LoadGenerator.Result result =
+          loadGenerator.run(options.getDuration(), options.getDrainTimeout());
+      drain(raygunDispatcher);
+
+      return new Run(
+          mode,
+          result,
+          usedHeapAfterGc() - usedHeap,
+          raygunDispatcher == null ? 0 : raygunDispatcher.getDroppedCount() - droppedCount,
+          stubIngestionServer.getReceivedCount(),
+          stubIngestionServer.getAcceptedCount());
+    }
+  }
+
+  private void drain(RaygunDispatcher raygunDispatcher) throws InterruptedException {
+    if (raygunDispatcher != null) {
+      raygunDispatcher.flush(options.getDrainTimeout());
+    }
+  }
+
+  private static long usedHeapAfterGc() {
+    MemoryMXBean memoryMxBean = ManagementFactory.getMemoryMXBean();
+    memoryMxBean.gc();
+    return memoryMxBean.getHeapMemoryUsage().getUsed();
+  }
+
+  private static void print(PrintStream out, RaygunLoadOptions options, List<Run> runs) {
+    out.printf(
+        "%d requests/s for %s on %s, stub latency %s, throttle rate %.2f, error rate %.2f,"
+            + " reset rate %.2f%n%n",
+        options.getRequestsPerSecond(),
+        options.getDuration(),
+        options.getPaths(),
+        options.getLatency(),
+        options.getThrottleRate(),
+        options.getErrorRate(),
+        options.getResetRate());
+    out.printf(
+        "%-4s %9s %9s %9s %9s %9s %9s %7s %11s %9s %9s %9s %9s%n",
+        "mode",
+        "requests",
+        "p50 ms",
+        "p90 ms",
+        "p99 ms",
+        "p99.9 ms",
+        "max ms",
+        "errors",
+        "heap KiB",
+        "generated",
+        "dropped",
+        "received",
+        "delivered");
+    for (Run run : runs) {
+      Duration[] latencies = run.result.getLatencyRecorder().percentiles(PERCENTILES);
+      out.printf(
+          "%-4s %9d %9.2f %9.2f %9.2f %9.2f %9.2f %7d %11d %9d %9d %9d %9d%n",
+          run.mode,
+          run.result.getRequestCount(),
+          millis(latencies[0]),
+          millis(latencies[1]),
+          millis(latencies[2]),
+          millis(latencies[3]),
+          millis(latencies[4]),
+          run.result.getErrorCount(),
+          run.heapGrowth / 1024,
+          "on".equals(run.mode) ? run.result.getRequestCount() : 0,
+          run.droppedCount,
+          run.receivedCount,
+          run.deliveredCount);
+    }
+  }
+
+  private static double millis(Duration duration) {
+    return duration.toNanos() / 1_000_000.0;
+  }
+
+  /** The result of a run of the harness. */
+  private static final class Run {
+    private final String mode;
+    private final LoadGenerator.Result result;
+    private final long heapGrowth;
+    private final long droppedCount;
+    private final long receivedCount;
+    private final long deliveredCount;
+
+    private Run(
+        String mode,
+        LoadGenerator.Result result,
+        long heapGrowth,
+        long droppedCount,
+        long receivedCount,
+        long deliveredCount) {
+      this.mode = mode;
+      this.result = result;
+      this.heapGrowth = heapGrowth;
+      this.droppedCount = droppedCount;
+      this.receivedCount = receivedCount;
+      this.deliveredCount = deliveredCount;
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.load;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The options of the {@link RaygunLoadHarness}, given as {@code --load.*} arguments. The other
+ * arguments are passed to the application, for example {@code --raygun.retry.enabled=true}.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunLoadOptions {
+  private static final String PREFIX = "--load.";
+
+  private int requestsPerSecond = 200;
+  private Duration warmup = Duration.ofSeconds(10);
+  private Duration duration = Duration.ofSeconds(30);
+  private Duration drainTimeout = Duration.ofSeconds(10);
+  private List<String> paths = List.of("/caught", "/uncaught");
+  private List<String> modes = List.of("off", "on");
+  private Duration latency = Duration.ZERO;
+  private double throttleRate;
+  private double errorRate;
+  private double resetRate;
+  private final List<String> applicationArgs = new ArrayList<>();
+
+  /**
+   * Parses the arguments.
+   *
+   * @param args the command line arguments
+   * @return the options
+   */
+  public static RaygunLoadOptions parse(String... args) {
+    RaygunLoadOptions options = new RaygunLoadOptions();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (!arg.startsWith(PREFIX) || separator < 0) {
+        options.applicationArgs.add(arg);
+        continue;
+      }
+      options.set(arg.substring(PREFIX.length(), separator), arg.substring(separator + 1));
+    }
+    return options;
+  }
+
+  private void set(String name, String value) {
+    switch (name) {
+      case "rps":
+        requestsPerSecond = Integer.parseInt(value);
+        break;
+      case "warmup":
+        warmup = DurationStyle.detectAndParse(value);
+        break;
+      case "duration":
+        duration = DurationStyle.detectAndParse(value);
+        break;
+      case "drain-timeout":
+        drainTimeout = DurationStyle.detectAndParse(value);
+        break;
+      case "paths":
+        paths = List.of(value.split(","));
+        break;
+      case "modes":
+        modes = List.of(value.split(","));
+        break;
+      case "stub.latency":
+        latency = DurationStyle.detectAndParse(value);
+        break;
+      case "stub.throttle-rate":
+        throttleRate = Double.parseDouble(value);
+        break;
+      case "stub.error-rate":
+        errorRate = Double.parseDouble(value);
+        break;
+      case "stub.reset-rate":
+        resetRate = Double.parseDouble(value);
+        break;
+      default:
+        throw new IllegalArgumentException(
+            "Unknown option "
+                + PREFIX
+                + name
+                + ", expected one of "
+                + Arrays.asList(
+                    "rps",
+                    "warmup",
+                    "duration",
+                    "drain-timeout",
+                    "paths",
+                    "modes",
+                    "stub.latency",
+                    "stub.throttle-rate",
+                    "stub.error-rate",
+                    "stub.reset-rate"));
+    }
+  }
+
+  public int getRequestsPerSecond() {
+    return requestsPerSecond;
+  }
+
+  public Duration getWarmup() {
+    return warmup;
+  }
+
+  public Duration getDuration() {
+    return duration;
+  }
+
+  public Duration getDrainTimeout() {
+    return drainTimeout;
+  }
+
+  public List<String> getPaths() {
+    return paths;
+  }
+
+  public List<String> getModes() {
+    return modes;
+  }
+
+  public Duration getLatency() {
+    return latency;
+  }
+
+  public double getThrottleRate() {
+    return throttleRate;
+  }
+
+  public double getErrorRate() {
+    return errorRate;
+  }
+
+  public double getResetRate() {
+    return resetRate;
+  }
+
+  public List<String> getApplicationArgs() {
+    return applicationArgs;
+  }
+}
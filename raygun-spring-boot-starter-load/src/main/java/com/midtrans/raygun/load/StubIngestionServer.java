@@ -0,0 +1,313 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.load;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A local stand-in for the Raygun ingestion API, accepting the messages posted to {@code /entries}
+ * and injecting faults.
+ *
+ * <p>Every message is delayed by the configured latency, then answered with a 429, a 503 or a 202,
+ * or its connection is reset, at the configured rates. The server speaks HTTP/1.1 over plain
+ * sockets so that a reset is a real TCP reset seen by the client.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class StubIngestionServer implements AutoCloseable {
+  private static final Log logger = LogFactory.getLog(StubIngestionServer.class);
+
+  private static final int MAX_LINE_LENGTH = 8192;
+
+  private Duration latency = Duration.ZERO;
+  private double throttleRate;
+  private double errorRate;
+  private double resetRate;
+
+  private final LongAdder receivedCount = new LongAdder();
+  private final LongAdder acceptedCount = new LongAdder();
+  private final LongAdder throttledCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+  private final LongAdder resetCount = new LongAdder();
+
+  private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+
+  private ServerSocket serverSocket;
+  private ExecutorService executorService;
+
+  /**
+   * Set the delay before every message is answered.
+   *
+   * @param latency the latency
+   */
+  public void setLatency(Duration latency) {
+    this.latency = latency;
+  }
+
+  /**
+   * Set the rate, from 0 to 1, of the messages answered with 429 Too Many Requests.
+   *
+   * @param throttleRate the throttle rate
+   */
+  public void setThrottleRate(double throttleRate) {
+    this.throttleRate = throttleRate;
+  }
+
+  /**
+   * Set the rate, from 0 to 1, of the messages answered with 503 Service Unavailable.
+   *
+   * @param errorRate the error rate
+   */
+  public void setErrorRate(double errorRate) {
+    this.errorRate = errorRate;
+  }
+
+  /**
+   * Set the rate, from 0 to 1, of the messages whose connection is reset.
+   *
+   * @param resetRate the reset rate
+   */
+  public void setResetRate(double resetRate) {
+    this.resetRate = resetRate;
+  }
+
+  /**
+   * Starts listening on an ephemeral port of the loopback address.
+   *
+   * @throws IOException if the server socket cannot be bound
+   */
+  public void start() throws IOException {
+    if (throttleRate + errorRate + resetRate > 1) {
+      throw new IllegalStateException("The sum of the fault rates must be at most 1");
+    }
+    serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+    executorService =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread = new Thread(runnable, "stub-ingestion-server");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executorService.execute(this::accept);
+  }
+
+  /**
+   * Returns the URI of the ingestion endpoint.
+   *
+   * @return the endpoint URI
+   */
+  public URI getEndpoint() {
+    return URI.create("http://localhost:" + serverSocket.getLocalPort() + "/entries");
+  }
+
+  private void accept() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        sockets.add(socket);
+        executorService.execute(() -> serve(socket));
+      } catch (IOException ex) {
+        if (!serverSocket.isClosed()) {
+          logger.warn("Stub ingestion server could not accept a connection", ex);
+        }
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    try (socket) {
+      InputStream inputStream = new BufferedInputStream(socket.getInputStream());
+      OutputStream outputStream = socket.getOutputStream();
+      boolean keepAlive = true;
+      while (keepAlive) {
+        String requestLine = readLine(inputStream);
+        if (requestLine == null || requestLine.isEmpty()) {
+          return;
+        }
+        int contentLength = 0;
+        keepAlive = true;
+        for (String header = readLine(inputStream);
+            header != null && !header.isEmpty();
+            header = readLine(inputStream)) {
+          String lowerCaseHeader = header.toLowerCase(Locale.ROOT);
+          if (lowerCaseHeader.startsWith("content-length:")) {
+            contentLength = Integer.parseInt(header.substring("content-length:".length()).trim());
+          } else if (lowerCaseHeader.startsWith("connection:")
+              && lowerCaseHeader.contains("close")) {
+            keepAlive = false;
+          }
+        }
+        if (inputStream.readNBytes(contentLength).length < contentLength) {
+          return;
+        }
+        receivedCount.increment();
+        if (!respond(socket, outputStream)) {
+          return;
+        }
+      }
+    } catch (SocketException ex) {
+      logger.debug("Stub ingestion server connection closed", ex);
+    } catch (IOException | RuntimeException ex) {
+      logger.warn("Stub ingestion server could not serve a connection", ex);
+    } finally {
+      sockets.remove(socket);
+    }
+  }
+
+  /** Answers a message, returns {@code false} if the connection was reset. */
+  private boolean respond(Socket socket, OutputStream outputStream) throws IOException {
+    double roll = ThreadLocalRandom.current().nextDouble();
+    if (roll < resetRate) {
+      resetCount.increment();
+      socket.setSoLinger(true, 0);
+      return false;
+    }
+
+    sleep(latency);
+
+    String status;
+    if (roll < resetRate + throttleRate) {
+      throttledCount.increment();
+      status = "429 Too Many Requests\r\nRetry-After: 1";
+    } else if (roll < resetRate + throttleRate + errorRate) {
+      failedCount.increment();
+      status = "503 Service Unavailable";
+    } else {
+      acceptedCount.increment();
+      status = "202 Accepted";
+    }
+    outputStream.write(
+        ("HTTP/1.1 " + status + "\r\nContent-Length: 0\r\n\r\n")
+            .getBytes(StandardCharsets.US_ASCII));
+    outputStream.flush();
+    return true;
+  }
+
+  private static void sleep(Duration duration) {
+    if (duration.isZero()) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static String readLine(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    for (int b = inputStream.read(); b != '\n'; b = inputStream.read()) {
+      if (b == -1) {
+        return line.size() == 0 ? null : line.toString(StandardCharsets.US_ASCII);
+      }
+      if (b != '\r') {
+        line.write(b);
+      }
+      if (line.size() > MAX_LINE_LENGTH) {
+        throw new IOException("HTTP line too long");
+      }
+    }
+    return line.toString(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Returns the number of messages received.
+   *
+   * @return the number of messages received
+   */
+  public long getReceivedCount() {
+    return receivedCount.sum();
+  }
+
+  /**
+   * Returns the number of messages answered with 202 Accepted.
+   *
+   * @return the number of messages answered with 202 Accepted
+   */
+  public long getAcceptedCount() {
+    return acceptedCount.sum();
+  }
+
+  /**
+   * Returns the number of messages answered with 429 Too Many Requests.
+   *
+   * @return the number of messages answered with 429 Too Many Requests
+   */
+  public long getThrottledCount() {
+    return throttledCount.sum();
+  }
+
+  /**
+   * Returns the number of messages answered with 503 Service Unavailable.
+   *
+   * @return the number of messages answered with 503 Service Unavailable
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  /**
+   * Returns the number of messages whose connection was reset.
+   *
+   * @return the number of messages whose connection was reset
+   */
+  public long getResetCount() {
+    return resetCount.sum();
+  }
+
+  /** Resets the counters. */
+  public void resetCounts() {
+    receivedCount.reset();
+    acceptedCount.reset();
+    throttledCount.reset();
+    failedCount.reset();
+    resetCount.reset();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (serverSocket != null) {
+      serverSocket.close();
+      for (Socket socket : sockets) {
+        socket.close();
+      }
+      executorService.shutdownNow();
+    }
+  }
+}
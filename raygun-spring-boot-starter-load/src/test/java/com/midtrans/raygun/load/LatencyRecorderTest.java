@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Test for {@link LatencyRecorder}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class LatencyRecorderTest {
+
+  @Test
+  void percentilesShouldBeNearestRank() {
+    LatencyRecorder latencyRecorder = new LatencyRecorder(100);
+    for (int millis = 100; millis >= 1; millis--) {
+      latencyRecorder.record(Duration.ofMillis(millis).toNanos());
+    }
+
+    assertThat(latencyRecorder.percentiles(50, 99, 100))
+        .containsExactly(Duration.ofMillis(50), Duration.ofMillis(99), Duration.ofMillis(100));
+  }
+
+  @Test
+  void emptyShouldBeZero() {
+    assertThat(new LatencyRecorder(10).percentiles(99)).containsExactly(Duration.ZERO);
+  }
+
+  @Test
+  void beyondCapacityShouldBeIgnored() {
+    LatencyRecorder latencyRecorder = new LatencyRecorder(1);
+    latencyRecorder.record(1);
+    latencyRecorder.record(2);
+
+    assertThat(latencyRecorder.getCount()).isOne();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Test for {@link LoadGenerator} against a {@link StubIngestionServer}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class LoadGeneratorTest {
+  StubIngestionServer stubIngestionServer;
+  LoadGenerator loadGenerator;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    stubIngestionServer = new StubIngestionServer();
+    stubIngestionServer.start();
+    loadGenerator = new LoadGenerator(stubIngestionServer.getEndpoint(), List.of("/entries"), 20);
+  }
+
+  @AfterEach
+  void afterEach() throws IOException {
+    stubIngestionServer.close();
+  }
+
+  @Test
+  void requestsShouldBeSentAtRate() throws InterruptedException {
+    loadGenerator.run(Duration.ofSeconds(1), Duration.ofSeconds(5));
+
+    assertThat(stubIngestionServer.getReceivedCount()).isEqualTo(20);
+  }
+
+  @Test
+  void latenciesShouldBeRecorded() throws InterruptedException {
+    assertThat(
+            loadGenerator
+                .run(Duration.ofSeconds(1), Duration.ofSeconds(5))
+                .getLatencyRecorder()
+                .getCount())
+        .isEqualTo(20);
+  }
+
+  @Test
+  void resetShouldBeError() throws InterruptedException, IOException {
+    stubIngestionServer.close();
+    stubIngestionServer = new StubIngestionServer();
+    stubIngestionServer.setResetRate(1);
+    stubIngestionServer.start();
+    loadGenerator = new LoadGenerator(stubIngestionServer.getEndpoint(), List.of("/entries"), 20);
+
+    assertThat(loadGenerator.run(Duration.ofSeconds(1), Duration.ofSeconds(5)).getErrorCount())
+        .isEqualTo(20);
+  }
+}
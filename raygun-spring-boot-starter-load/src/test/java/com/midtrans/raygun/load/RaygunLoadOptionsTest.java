@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Test for {@link RaygunLoadOptions}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunLoadOptionsTest {
+
+  @Test
+  void rpsShouldBeParsed() {
+    assertThat(RaygunLoadOptions.parse("--load.rps=50").getRequestsPerSecond()).isEqualTo(50);
+  }
+
+  @Test
+  void durationShouldBeParsed() {
+    assertThat(RaygunLoadOptions.parse("--load.duration=2m").getDuration())
+        .isEqualTo(Duration.ofMinutes(2));
+  }
+
+  @Test
+  void pathsShouldBeParsed() {
+    assertThat(RaygunLoadOptions.parse("--load.paths=/caught").getPaths())
+        .isEqualTo(List.of("/caught"));
+  }
+
+  @Test
+  void stubLatencyShouldBeParsed() {
+    assertThat(RaygunLoadOptions.parse("--load.stub.latency=500ms").getLatency())
+        .isEqualTo(Duration.ofMillis(500));
+  }
+
+  @Test
+  void stubResetRateShouldBeParsed() {
+    assertThat(RaygunLoadOptions.parse("--load.stub.reset-rate=0.25").getResetRate())
+        .isEqualTo(0.25);
+  }
+
+  @Test
+  void otherArgsShouldBePassedToApplication() {
+    assertThat(
+            RaygunLoadOptions.parse("--load.rps=50", "--raygun.retry.enabled=true")
+                .getApplicationArgs())
+        .isEqualTo(List.of("--raygun.retry.enabled=true"));
+  }
+
+  @Test
+  void unknownOptionShouldBeRejected() {
+    assertThatThrownBy(() -> RaygunLoadOptions.parse("--load.poppin=party"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
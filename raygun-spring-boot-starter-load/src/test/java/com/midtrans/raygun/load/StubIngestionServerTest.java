@@ -0,0 +1,170 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Test for {@link StubIngestionServer}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class StubIngestionServerTest {
+  static final int RESPONSE_LENGTH = "HTTP/1.1 202 Accepted\r\nContent-Length: 0\r\n\r\n".length();
+
+  StubIngestionServer stubIngestionServer;
+  HttpClient httpClient;
+
+  @BeforeEach
+  void beforeEach() {
+    stubIngestionServer = new StubIngestionServer();
+    httpClient = HttpClient.newHttpClient();
+  }
+
+  @AfterEach
+  void afterEach() throws IOException {
+    stubIngestionServer.close();
+  }
+
+  HttpResponse<Void> post() throws IOException, InterruptedException {
+    return httpClient.send(
+        HttpRequest.newBuilder(stubIngestionServer.getEndpoint())
+            .POST(HttpRequest.BodyPublishers.ofString("{\"poppin\":\"party\"}"))
+            .build(),
+        BodyHandlers.discarding());
+  }
+
+  @Nested
+  class WithoutFaults {
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+      stubIngestionServer.start();
+    }
+
+    @Test
+    void shouldBeAccepted() throws IOException, InterruptedException {
+      assertThat(post().statusCode()).isEqualTo(202);
+    }
+
+    @Test
+    void shouldBeCounted() throws IOException, InterruptedException {
+      post();
+      post();
+
+      assertThat(stubIngestionServer.getAcceptedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void resetCountsShouldBeZero() throws IOException, InterruptedException {
+      post();
+      stubIngestionServer.resetCounts();
+
+      assertThat(stubIngestionServer.getReceivedCount()).isZero();
+    }
+
+    @Test
+    void closeShouldCloseIdleConnections() throws IOException {
+      try (Socket socket =
+          new Socket(
+              InetAddress.getLoopbackAddress(), stubIngestionServer.getEndpoint().getPort())) {
+        socket.setSoTimeout(5000);
+        socket
+            .getOutputStream()
+            .write(
+                "POST /entries HTTP/1.1\r\nContent-Length: 0\r\n\r\n"
+                    .getBytes(StandardCharsets.US_ASCII));
+        socket.getInputStream().readNBytes(RESPONSE_LENGTH);
+        stubIngestionServer.close();
+
+        assertThat(socket.getInputStream().read()).isEqualTo(-1);
+      }
+    }
+  }
+
+  @Nested
+  class WithFaults {
+
+    @Test
+    void throttledShouldBe429() throws IOException, InterruptedException {
+      stubIngestionServer.setThrottleRate(1);
+      stubIngestionServer.start();
+
+      assertThat(post().statusCode()).isEqualTo(429);
+    }
+
+    @Test
+    void throttledShouldContainRetryAfter() throws IOException, InterruptedException {
+      stubIngestionServer.setThrottleRate(1);
+      stubIngestionServer.start();
+
+      assertThat(post().headers().firstValue("Retry-After")).hasValue("1");
+    }
+
+    @Test
+    void failedShouldBe503() throws IOException, InterruptedException {
+      stubIngestionServer.setErrorRate(1);
+      stubIngestionServer.start();
+
+      assertThat(post().statusCode()).isEqualTo(503);
+    }
+
+    @Test
+    void resetShouldFail() throws IOException {
+      stubIngestionServer.setResetRate(1);
+      stubIngestionServer.start();
+
+      assertThatThrownBy(StubIngestionServerTest.this::post).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void latencyShouldDelay() throws IOException, InterruptedException {
+      stubIngestionServer.setLatency(Duration.ofMillis(200));
+      stubIngestionServer.start();
+      long startNanos = System.nanoTime();
+
+      post();
+
+      assertThat(Duration.ofNanos(System.nanoTime() - startNanos))
+          .isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    void ratesAboveOneShouldBeRejected() {
+      stubIngestionServer.setThrottleRate(0.5);
+      stubIngestionServer.setErrorRate(0.6);
+
+      assertThatThrownBy(stubIngestionServer::start).isInstanceOf(IllegalStateException.class);
+    }
+  }
+}
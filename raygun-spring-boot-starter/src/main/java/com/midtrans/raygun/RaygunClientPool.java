@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun;
+
+import com.mindscapehq.raygun4java.core.RaygunClient;
+import com.mindscapehq.raygun4java.core.RaygunClientFactory;
+
+import org.springframework.util.Assert;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of {@link RaygunClient}s owned by the threads sending the messages.
+ *
+ * <p>A {@code RaygunClient} is not thread-safe, so a borrowed client is used by one thread at a
+ * time until it is released. A new client is created when no idle client is available, so borrowing
+ * never blocks, and at most {@code maxIdle} clients are retained after being released. The number
+ * of retained clients is bounded by the number of sending threads instead of the number of request
+ * threads.
+ *
+ * <p>The tags of the clients can be replaced at runtime. The tags are published as an immutable
+ * snapshot and applied to a client when it is borrowed, so the idle clients are not recreated.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunClientPool {
+  private final RaygunClientFactory raygunClientFactory;
+  private final int maxIdle;
+  private final BlockingQueue<RaygunClient> idleClients;
+  private final LongAdder createdCount = new LongAdder();
+  private volatile Set<String> tags;
+
+  /**
+   * Creates a pool of clients created by the given factory.
+   *
+   * @param raygunClientFactory the Raygun client factory
+   * @param maxIdle the maximum number of idle clients retained
+   * @throws IllegalArgumentException if maxIdle is not positive
+   */
+  public RaygunClientPool(RaygunClientFactory raygunClientFactory, int maxIdle) {
+    Assert.isTrue(maxIdle > 0, "The maximum idle clients must be greater than 0");
+    this.raygunClientFactory = raygunClientFactory;
+    this.maxIdle = maxIdle;
+    this.idleClients = new ArrayBlockingQueue<>(maxIdle);
+  }
+
+  /**
+   * Borrows an idle client or creates a new one. The client must be released after being used.
+   *
+   * @return the borrowed client
+   */
+  public RaygunClient borrow() {
+    RaygunClient raygunClient = idleClients.poll();
+    if (raygunClient == null) {
+      createdCount.increment();
+      raygunClient = raygunClientFactory.newClient();
+    }
+
+    Set<String> currentTags = tags;
+    if (currentTags != null && raygunClient.getTags() != currentTags) {
+      raygunClient.setTags(currentTags);
+    }
+    return raygunClient;
+  }
+
+  /**
+   * Replace the tags applied to every message sent by the clients of this pool, instead of the tags
+   * of the Raygun client factory.
+   *
+   * @param tags the tags
+   * @throws IllegalArgumentException if tags is null
+   */
+  public void setTags(Set<String> tags) {
+    Assert.notNull(tags, "The tags must not be null");
+    this.tags = Set.copyOf(tags);
+  }
+
+  /**
+   * Releases a borrowed client. The client is discarded if the pool already retains the maximum
+   * number of idle clients.
+   *
+   * @param raygunClient the borrowed client
+   */
+  public void release(RaygunClient raygunClient) {
+    idleClients.offer(raygunClient);
+  }
+
+  /**
+   * Returns the number of clients created by this pool.
+   *
+   * @return the number of created clients
+   */
+  public long getCreatedCount() {
+    return createdCount.sum();
+  }
+
+  /**
+   * Returns the maximum number of idle clients retained by this pool.
+   *
+   * @return the maximum number of idle clients
+   */
+  public int getMaxIdle() {
+    return maxIdle;
+  }
+
+  /**
+   * Returns the number of idle clients retained by this pool.
+   *
+   * @return the number of idle clients
+   */
+  public int getIdleCount() {
+    return idleClients.size();
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun;
+
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import java.time.Duration;
+
+/**
+ * The outcome of a message sent by {@link RaygunTemplate#sendAsync(Exception)}.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunDeliveryResult {
+
+  /** The status of a message. */
+  public enum Status {
+    /** The Raygun API accepted the message. */
+    DELIVERED,
+
+    /** The Raygun API responded with a status code other than 2xx. */
+    REJECTED,
+
+    /** The message was spooled to be sent later. */
+    SPOOLED,
+
+    /** No response was received from the Raygun API. */
+    FAILED,
+
+    /** The message was not sent, see {@link DropReason}. */
+    DROPPED
+  }
+
+  /** The reason a message was not sent. */
+  public enum DropReason {
+    /** The exception is excluded. */
+    EXCLUDED,
+
+    /** The message is beyond the rate limits. */
+    THROTTLED,
+
+    /** The message is a duplicate counted in a report of occurrences. */
+    DUPLICATE,
+
+    /** The message was sampled out. */
+    SAMPLED_OUT,
+
+    /** The message was rejected by the {@code TaskExecutor} or dropped by the dispatcher. */
+    OVERFLOW,
+
+    /** The Raygun client did not send the message, for example an on before send handler. */
+    CANCELLED
+  }
+
+  private static final int NO_STATUS_CODE = -1;
+  private static final int SUCCESSFUL_MIN = 200;
+  private static final int SUCCESSFUL_MAX = 299;
+
+  private final Status status;
+  private final DropReason dropReason;
+  private final int statusCode;
+  private final int attempts;
+  private final Duration latency;
+
+  private RaygunDeliveryResult(
+      Status status, DropReason dropReason, int statusCode, int attempts, Duration latency) {
+    this.status = status;
+    this.dropReason = dropReason;
+    this.statusCode = statusCode;
+    this.attempts = attempts;
+    this.latency = latency;
+  }
+
+  static RaygunDeliveryResult dropped(DropReason dropReason, Duration latency) {
+    return new RaygunDeliveryResult(Status.DROPPED, dropReason, NO_STATUS_CODE, 0, latency);
+  }
+
+  static RaygunDeliveryResult failed(int attempts, Duration latency) {
+    return new RaygunDeliveryResult(Status.FAILED, null, NO_STATUS_CODE, attempts, latency);
+  }
+
+  static RaygunDeliveryResult of(int statusCode, Duration latency) {
+    if (statusCode == NO_STATUS_CODE) {
+      return failed(1, latency);
+    }
+    return new RaygunDeliveryResult(status(statusCode), null, statusCode, 1, latency);
+  }
+
+  static RaygunDeliveryResult of(RaygunTransportResponse response, Duration latency) {
+    if (response.isSpooled()) {
+      return new RaygunDeliveryResult(
+          Status.SPOOLED, null, NO_STATUS_CODE, response.getAttempts(), latency);
+    }
+    if (response.getAttempts() == 0) {
+      return dropped(DropReason.CANCELLED, latency);
+    }
+    return new RaygunDeliveryResult(
+        status(response.getStatusCode()),
+        null,
+        response.getStatusCode(),
+        response.getAttempts(),
+        latency);
+  }
+
+  private static Status status(int statusCode) {
+    return statusCode >= SUCCESSFUL_MIN && statusCode <= SUCCESSFUL_MAX
+        ? Status.DELIVERED
+        : Status.REJECTED;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  /**
+   * Returns whether the Raygun API accepted the message.
+   *
+   * @return {@code true} if the status is {@link Status#DELIVERED}
+   */
+  public boolean isDelivered() {
+    return status == Status.DELIVERED;
+  }
+
+  /**
+   * Returns the reason the message was not sent.
+   *
+   * @return the drop reason, {@code null} unless the status is {@link Status#DROPPED}
+   */
+  public DropReason getDropReason() {
+    return dropReason;
+  }
+
+  /**
+   * Returns the status code of the last response of the Raygun API.
+   *
+   * @return the status code, {@code -1} if no response was received
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * Returns the number of attempts to send the message.
+   *
+   * @return the number of attempts, {@code 0} if the message was not sent
+   */
+  public int getAttempts() {
+    return attempts;
+  }
+
+  /**
+   * Returns the time from the call of {@code sendAsync} to the outcome.
+   *
+   * @return the latency
+   */
+  public Duration getLatency() {
+    return latency;
+  }
+
+  @Override
+  public String toString() {
+    return "RaygunDeliveryResult{status="
+        + status
+        + ", dropReason="
+        + dropReason
+        + ", statusCode="
+        + statusCode
+        + ", attempts="
+        + attempts
+        + ", latency="
+        + latency
+        + "}";
+  }
+}
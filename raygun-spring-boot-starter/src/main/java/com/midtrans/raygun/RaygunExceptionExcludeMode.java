@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun;
+
+/**
+ * Modes of matching an excluded exception type registered in a {@link
+ * RaygunExceptionExcludeRegistry}.
+ *
+ * @author Raydhitya Yoseph
+ */
+public enum RaygunExceptionExcludeMode {
+  /** Exclude only the instances of exactly the registered type. */
+  EXACT,
+
+  /** Exclude the instances of the registered type and of its subtypes. */
+  SUBTYPE,
+
+  /**
+   * Exclude the instances of the registered type and of its subtypes, and any throwable caused by
+   * one of them.
+   */
+  CAUSE_CHAIN
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2023 authors.
+ * Copyright 2022-2026 authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,18 +16,45 @@
 
 package com.midtrans.raygun;
 
+import com.midtrans.raygun.dedup.RaygunFingerprinter;
+import com.midtrans.raygun.exclude.RaygunExcludeRule;
+import com.midtrans.raygun.exclude.RaygunExcludeRules;
+
 import org.springframework.util.Assert;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A registry of excluded exception types to be sent to Raygun.
  *
+ * <p>The registered types are held in an immutable snapshot replaced on every registration, so
+ * registering after startup is safe. The decision for every concrete class is computed once per
+ * snapshot and memoized in a {@link ClassValue}, so a lookup costs one volatile read no matter how
+ * many types are registered. Only when a type is registered with {@link
+ * RaygunExceptionExcludeMode#CAUSE_CHAIN}, the causes of a throwable are looked up as well.
+ *
+ * <p>Exceptions can also be excluded by declarative {@link RaygunExcludeRule rules}, compiled into
+ * {@link RaygunExcludeRules} on every registration.
+ *
+ * <p>An exception type or a fingerprint can be muted for a while, for example by an operator
+ * silencing a noisy exception without restarting the application. The mutes are held in another
+ * immutable snapshot, and an exception is only fingerprinted while a fingerprint is muted. The
+ * expired mutes are removed by the next change of the mutes, or by the first lookup finding one.
+ *
  * @author Raydhitya Yoseph
  */
 public class RaygunExceptionExcludeRegistry {
-  private final Set<Class<? extends Exception>> exceptionTypes = new HashSet<>();
+  private static final int MAX_CAUSE_DEPTH = 32;
+
+  private static final RaygunFingerprinter MUTE_FINGERPRINTER = new RaygunFingerprinter(0);
+
+  private volatile Rules rules = new Rules(Map.of(), List.of(), List.of());
+  private volatile Mutes mutes = Mutes.NONE;
 
   /**
    * Register an exception type to be excluded from Raygun sending.
@@ -43,11 +70,339 @@ public class RaygunExceptionExcludeRegistry {
    * @throws IllegalArgumentException if exceptionType is null
    */
   public void registerException(Class<? extends Exception> exceptionType) {
+    registerException(exceptionType, RaygunExceptionExcludeMode.EXACT);
+  }
+
+  /**
+   * Register an exception type to be excluded from Raygun sending with the given matching mode.
+   *
+   * <p>If a type is registered more than once, the mode excluding the most instances is kept.
+   *
+   * @param exceptionType the exception type to be excluded
+   * @param mode the matching mode
+   * @throws IllegalArgumentException if exceptionType or mode is null
+   */
+  public synchronized void registerException(
+      Class<? extends Exception> exceptionType, RaygunExceptionExcludeMode mode) {
+    Assert.notNull(exceptionType, "The exception type must not be null");
+    Assert.notNull(mode, "The exclude mode must not be null");
+
+    Map<Class<?>, RaygunExceptionExcludeMode> exceptionTypes = new HashMap<>(rules.exceptionTypes);
+    exceptionTypes.merge(
+        exceptionType,
+        mode,
+        (registered, added) -> registered.compareTo(added) >= 0 ? registered : added);
+    rules = new Rules(exceptionTypes, rules.excludeRules, rules.configuredRules);
+  }
+
+  /**
+   * Register a rule excluding the matching exceptions from Raygun sending.
+   *
+   * @param rule the rule, written as described in {@link RaygunExcludeRule}
+   * @throws IllegalArgumentException if the rule is invalid
+   * @see RaygunExcludeRule#parse(String)
+   */
+  public synchronized void registerRule(String rule) {
+    List<RaygunExcludeRule> excludeRules = new ArrayList<>(rules.excludeRules);
+    excludeRules.add(RaygunExcludeRule.parse(rule));
+    rules = new Rules(rules.exceptionTypes, excludeRules, rules.configuredRules);
+  }
+
+  /**
+   * Replace the rules configured through properties. The exception types and the rules registered
+   * through {@link #registerRule(String)} are kept. No rule is replaced if one of them is invalid.
+   *
+   * @param configuredRules the rules, written as described in {@link RaygunExcludeRule}
+   * @throws IllegalArgumentException if configuredRules is null or a rule is invalid
+   */
+  public synchronized void setConfiguredRules(List<String> configuredRules) {
+    Assert.notNull(configuredRules, "The configured rules must not be null");
+
+    List<RaygunExcludeRule> parsedRules = new ArrayList<>();
+    for (String configuredRule : configuredRules) {
+      parsedRules.add(RaygunExcludeRule.parse(configuredRule));
+    }
+    rules = new Rules(rules.exceptionTypes, rules.excludeRules, parsedRules);
+  }
+
+  /**
+   * Mute an exception type and its subtypes for a while.
+   *
+   * @param exceptionType the fully qualified name of the exception type
+   * @param duration the duration of the mute
+   * @throws IllegalArgumentException if exceptionType is null or duration is not positive
+   */
+  public synchronized void muteException(String exceptionType, Duration duration) {
     Assert.notNull(exceptionType, "The exception type must not be null");
-    exceptionTypes.add(exceptionType);
+    Map<String, Long> exceptionTypes = new HashMap<>(mutes.exceptionTypes);
+    exceptionTypes.put(exceptionType, deadline(duration));
+    mutes = Mutes.of(exceptionTypes, new HashMap<>(mutes.fingerprints));
+  }
+
+  /**
+   * Unmute an exception type.
+   *
+   * @param exceptionType the fully qualified name of the exception type
+   */
+  public synchronized void unmuteException(String exceptionType) {
+    Map<String, Long> exceptionTypes = new HashMap<>(mutes.exceptionTypes);
+    exceptionTypes.remove(exceptionType);
+    mutes = Mutes.of(exceptionTypes, new HashMap<>(mutes.fingerprints));
+  }
+
+  /**
+   * Mute the exceptions of a fingerprint for a while. The fingerprint hashes the exception type and
+   * the message with its digits masked, as computed by a {@link RaygunFingerprinter} without stack
+   * frames.
+   *
+   * @param fingerprint the fingerprint
+   * @param duration the duration of the mute
+   * @throws IllegalArgumentException if duration is not positive
+   */
+  public synchronized void muteFingerprint(long fingerprint, Duration duration) {
+    Map<Long, Long> fingerprints = new HashMap<>(mutes.fingerprints);
+    fingerprints.put(fingerprint, deadline(duration));
+    mutes = Mutes.of(new HashMap<>(mutes.exceptionTypes), fingerprints);
+  }
+
+  /**
+   * Unmute the exceptions of a fingerprint.
+   *
+   * @param fingerprint the fingerprint
+   */
+  public synchronized void unmuteFingerprint(long fingerprint) {
+    Map<Long, Long> fingerprints = new HashMap<>(mutes.fingerprints);
+    fingerprints.remove(fingerprint);
+    mutes = Mutes.of(new HashMap<>(mutes.exceptionTypes), fingerprints);
+  }
+
+  private static long deadline(Duration duration) {
+    Assert.isTrue(
+        duration != null && !duration.isNegative() && !duration.isZero(),
+        "The mute duration must be positive");
+    return System.nanoTime() + duration.toNanos();
+  }
+
+  /**
+   * Returns the muted exception types with the remaining durations of their mutes.
+   *
+   * @return the muted exception types, sorted by name
+   */
+  public Map<String, Duration> getMutedExceptions() {
+    return remaining(mutes.exceptionTypes);
+  }
+
+  /**
+   * Returns the muted fingerprints with the remaining durations of their mutes.
+   *
+   * @return the muted fingerprints, sorted
+   */
+  public Map<Long, Duration> getMutedFingerprints() {
+    return remaining(mutes.fingerprints);
+  }
+
+  private static <K> Map<K, Duration> remaining(Map<K, Long> deadlines) {
+    long now = System.nanoTime();
+    Map<K, Duration> remaining = new TreeMap<>();
+    deadlines.forEach(
+        (key, deadline) -> {
+          if (deadline - now > 0) {
+            remaining.put(key, Duration.ofNanos(deadline - now));
+          }
+        });
+    return remaining;
+  }
+
+  /**
+   * Returns the registered exception types with their matching modes.
+   *
+   * @return the fully qualified names of the registered exception types, sorted
+   */
+  public Map<String, RaygunExceptionExcludeMode> getExcludedExceptions() {
+    Map<String, RaygunExceptionExcludeMode> exceptionTypes = new TreeMap<>();
+    rules.exceptionTypes.forEach((type, mode) -> exceptionTypes.put(type.getName(), mode));
+    return exceptionTypes;
+  }
+
+  /**
+   * Returns the registered rules followed by the rules configured through properties.
+   *
+   * @return the rules, written as described in {@link RaygunExcludeRule}
+   */
+  public List<String> getExcludeRules() {
+    Rules current = rules;
+    List<String> excludeRules = new ArrayList<>();
+    current.excludeRules.forEach(rule -> excludeRules.add(rule.toString()));
+    current.configuredRules.forEach(rule -> excludeRules.add(rule.toString()));
+    return excludeRules;
   }
 
   protected boolean contains(Class<? extends Exception> exceptionType) {
-    return exceptionTypes.contains(exceptionType);
+    return rules.decisions.get(exceptionType).excluded;
+  }
+
+  /**
+   * Returns whether a throwable is excluded by its type, by a registered rule, for the types
+   * registered with {@link RaygunExceptionExcludeMode#CAUSE_CHAIN} by the types of its causes, or
+   * by a mute.
+   *
+   * @param throwable the throwable
+   * @return {@code true} if the throwable is excluded
+   */
+  protected boolean isExcluded(Throwable throwable) {
+    Mutes currentMutes = mutes;
+    if (currentMutes != Mutes.NONE) {
+      long now = System.nanoTime();
+      if (currentMutes.earliestDeadline - now <= 0) {
+        currentMutes = removeExpiredMutes(currentMutes);
+      }
+      if (currentMutes.isMuted(throwable, now)) {
+        return true;
+      }
+    }
+
+    Rules current = rules;
+    if (current.decisions.get(throwable.getClass()).excluded) {
+      return true;
+    }
+    if (current.compiledRules.matches(throwable)) {
+      return true;
+    }
+    if (!current.causeChain) {
+      return false;
+    }
+
+    Throwable cause = throwable.getCause();
+    for (int depth = 0; cause != null && cause != throwable && depth < MAX_CAUSE_DEPTH; depth++) {
+      if (current.decisions.get(cause.getClass()).excludedAsCause) {
+        return true;
+      }
+      cause = cause.getCause();
+    }
+    return false;
+  }
+
+  private synchronized Mutes removeExpiredMutes(Mutes expiredMutes) {
+    if (mutes == expiredMutes) {
+      mutes =
+          Mutes.of(
+              new HashMap<>(expiredMutes.exceptionTypes), new HashMap<>(expiredMutes.fingerprints));
+    }
+    return mutes;
+  }
+
+  /** A decision memoized for a concrete class. */
+  private static final class Decision {
+    private static final Decision INCLUDED = new Decision(false, false);
+    private static final Decision EXCLUDED = new Decision(true, false);
+    private static final Decision EXCLUDED_AS_CAUSE = new Decision(true, true);
+
+    private final boolean excluded;
+    private final boolean excludedAsCause;
+
+    private Decision(boolean excluded, boolean excludedAsCause) {
+      this.excluded = excluded;
+      this.excludedAsCause = excludedAsCause;
+    }
+  }
+
+  /** An immutable snapshot of the mutes with their {@link System#nanoTime()} deadlines. */
+  private static final class Mutes {
+    private static final Mutes NONE = new Mutes(Map.of(), Map.of());
+
+    private final Map<String, Long> exceptionTypes;
+    private final Map<Long, Long> fingerprints;
+    private final long earliestDeadline;
+
+    private Mutes(Map<String, Long> exceptionTypes, Map<Long, Long> fingerprints) {
+      this.exceptionTypes = exceptionTypes;
+      this.fingerprints = fingerprints;
+      this.earliestDeadline = earliestDeadline(exceptionTypes, fingerprints);
+    }
+
+    private static long earliestDeadline(
+        Map<String, Long> exceptionTypes, Map<Long, Long> fingerprints) {
+      long now = System.nanoTime();
+      long earliest = Long.MAX_VALUE;
+      for (long deadline : exceptionTypes.values()) {
+        earliest = deadline - now < earliest ? deadline - now : earliest;
+      }
+      for (long deadline : fingerprints.values()) {
+        earliest = deadline - now < earliest ? deadline - now : earliest;
+      }
+      return now + earliest;
+    }
+
+    /** Returns a snapshot of the mutes not expired yet. */
+    private static Mutes of(Map<String, Long> exceptionTypes, Map<Long, Long> fingerprints) {
+      long now = System.nanoTime();
+      exceptionTypes.values().removeIf(deadline -> deadline - now <= 0);
+      fingerprints.values().removeIf(deadline -> deadline - now <= 0);
+      if (exceptionTypes.isEmpty() && fingerprints.isEmpty()) {
+        return NONE;
+      }
+      return new Mutes(exceptionTypes, fingerprints);
+    }
+
+    private boolean isMuted(Throwable throwable, long now) {
+      if (!exceptionTypes.isEmpty()) {
+        for (Class<?> type = throwable.getClass(); type != null; type = type.getSuperclass()) {
+          Long deadline = exceptionTypes.get(type.getName());
+          if (deadline != null && deadline - now > 0) {
+            return true;
+          }
+        }
+      }
+      if (!fingerprints.isEmpty()) {
+        Long deadline = fingerprints.get(MUTE_FINGERPRINTER.fingerprint(throwable));
+        return deadline != null && deadline - now > 0;
+      }
+      return false;
+    }
+  }
+
+  /** An immutable snapshot of the registered types with its memoized decisions. */
+  private static final class Rules {
+    private final Map<Class<?>, RaygunExceptionExcludeMode> exceptionTypes;
+    private final List<RaygunExcludeRule> excludeRules;
+    private final List<RaygunExcludeRule> configuredRules;
+    private final RaygunExcludeRules compiledRules;
+    private final boolean causeChain;
+    private final ClassValue<Decision> decisions =
+        new ClassValue<>() {
+          @Override
+          protected Decision computeValue(Class<?> type) {
+            return decide(type);
+          }
+        };
+
+    private Rules(
+        Map<Class<?>, RaygunExceptionExcludeMode> exceptionTypes,
+        List<RaygunExcludeRule> excludeRules,
+        List<RaygunExcludeRule> configuredRules) {
+      this.exceptionTypes = exceptionTypes;
+      this.excludeRules = excludeRules;
+      this.configuredRules = configuredRules;
+
+      List<RaygunExcludeRule> allRules = new ArrayList<>(excludeRules);
+      allRules.addAll(configuredRules);
+      this.compiledRules = new RaygunExcludeRules(allRules);
+      this.causeChain = exceptionTypes.containsValue(RaygunExceptionExcludeMode.CAUSE_CHAIN);
+    }
+
+    private Decision decide(Class<?> type) {
+      Decision decision = Decision.INCLUDED;
+      for (Class<?> superType = type; superType != null; superType = superType.getSuperclass()) {
+        RaygunExceptionExcludeMode mode = exceptionTypes.get(superType);
+        if (mode == RaygunExceptionExcludeMode.CAUSE_CHAIN) {
+          return Decision.EXCLUDED_AS_CAUSE;
+        }
+        if (mode == RaygunExceptionExcludeMode.SUBTYPE
+            || mode == RaygunExceptionExcludeMode.EXACT && superType == type) {
+          decision = Decision.EXCLUDED;
+        }
+      }
+      return decision;
+    }
   }
 }
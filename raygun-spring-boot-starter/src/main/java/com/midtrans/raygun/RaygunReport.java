@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun;
+
+import com.midtrans.raygun.dispatch.RaygunPriority;
+
+import org.springframework.util.Assert;
+
+import java.util.Map;
+
+/**
+ * An immutable descriptor of the custom tags, data and priority of the reports sent from a call
+ * site.
+ *
+ * <p>A descriptor is meant to be created once, for example in a {@code static final} field, and
+ * reused by every {@link RaygunTemplate#send(Exception, RaygunReport)} of its call site, so that
+ * sending allocates nothing until the report is actually sent.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunReport {
+  /** A descriptor without tags and data. */
+  public static final RaygunReport NONE =
+      new RaygunReport(RaygunTags.NONE, Map.of(), RaygunPriority.NORMAL);
+
+  /** A descriptor without tags and data of the critical reports. */
+  public static final RaygunReport CRITICAL = NONE.withPriority(RaygunPriority.CRITICAL);
+
+  private final RaygunTags tags;
+  private final Map<String, String> data;
+  private final RaygunPriority priority;
+
+  private RaygunReport(RaygunTags tags, Map<String, String> data, RaygunPriority priority) {
+    this.tags = tags;
+    this.data = data;
+    this.priority = priority;
+  }
+
+  /**
+   * Returns a descriptor with the given tags and without data.
+   *
+   * @param tags the tags
+   * @return the descriptor
+   * @throws IllegalArgumentException if tags is null
+   */
+  public static RaygunReport of(RaygunTags tags) {
+    return of(tags, Map.of());
+  }
+
+  /**
+   * Returns a descriptor with the given tags and data.
+   *
+   * @param tags the tags
+   * @param data the data, without {@code null} keys and values
+   * @return the descriptor
+   * @throws IllegalArgumentException if tags or data is null
+   * @throws NullPointerException if data has a {@code null} key or value
+   */
+  public static RaygunReport of(RaygunTags tags, Map<String, String> data) {
+    Assert.notNull(tags, "The tags must not be null");
+    Assert.notNull(data, "The data must not be null");
+    return new RaygunReport(tags, Map.copyOf(data), RaygunPriority.NORMAL);
+  }
+
+  /**
+   * Returns a descriptor with the same tags and data and the given priority.
+   *
+   * @param priority the priority
+   * @return the descriptor
+   * @throws IllegalArgumentException if priority is null
+   */
+  public RaygunReport withPriority(RaygunPriority priority) {
+    Assert.notNull(priority, "The priority must not be null");
+    return new RaygunReport(tags, data, priority);
+  }
+
+  public RaygunTags getTags() {
+    return tags;
+  }
+
+  /**
+   * Returns the custom data as an unmodifiable map.
+   *
+   * @return the custom data
+   */
+  public Map<String, String> getData() {
+    return data;
+  }
+
+  /**
+   * Returns the priority of the reports, {@link RaygunPriority#NORMAL} unless set.
+   *
+   * @return the priority
+   */
+  public RaygunPriority getPriority() {
+    return priority;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun;
+
+import com.midtrans.raygun.dedup.RaygunOccurrences;
+
+/**
+ * A recorder of what {@link RaygunTemplate} does with every exception it is given to send, for
+ * example to count them per outcome and per exception type.
+ *
+ * <p>It is called in the sending thread for every exception, so implementations must be
+ * thread-safe, must not block and should not allocate.
+ *
+ * @author Raydhitya Yoseph
+ */
+@FunctionalInterface
+public interface RaygunReportRecorder {
+
+  /** Outcomes of the exceptions given to {@link RaygunTemplate}. */
+  enum Outcome {
+
+    /** Excluded by the registered exceptions or the exclusion rules. */
+    EXCLUDED,
+
+    /** Throttled by the rate limiter. */
+    THROTTLED,
+
+    /** Suppressed by the deduplicator. */
+    DUPLICATE,
+
+    /** Sampled out by the sampler. */
+    SAMPLED_OUT,
+
+    /** Handed to the {@code TaskExecutor} to be sent. */
+    QUEUED,
+
+    /** Rejected by the {@code TaskExecutor}. */
+    OVERFLOW
+  }
+
+  /**
+   * Records the outcome of an exception.
+   *
+   * @param throwable the exception
+   * @param outcome the outcome
+   */
+  void record(Throwable throwable, Outcome outcome);
+
+  /**
+   * Records the outcome of the report of the occurrences of a duplicate exception, queued when its
+   * window closes. Its occurrences were already recorded as duplicates, so it does nothing by
+   * default.
+   *
+   * @param raygunOccurrences the occurrences
+   * @param outcome the outcome, either {@link Outcome#QUEUED} or {@link Outcome#OVERFLOW}
+   */
+  default void record(RaygunOccurrences raygunOccurrences, Outcome outcome) {}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable set of Raygun custom tags.
+ *
+ * <p>Tags known in advance can be created once per call site, for example in a {@code static final}
+ * field, so sending them allocates nothing. Equal tags created at many call sites can be shared
+ * through {@link #intern()}.
+ *
+ * @author Raydhitya Yoseph
+ * @see RaygunReport
+ */
+public final class RaygunTags {
+  /** No tags. */
+  public static final RaygunTags NONE = new RaygunTags(Set.of());
+
+  private static final int MAX_INTERNED = 1024;
+  private static final ConcurrentMap<Set<String>, RaygunTags> INTERNED = new ConcurrentHashMap<>();
+
+  private final Set<String> tags;
+
+  private RaygunTags(Set<String> tags) {
+    this.tags = tags;
+  }
+
+  /**
+   * Returns the given tags. The {@code null} tags are ignored.
+   *
+   * @param tags the tags
+   * @return the tags
+   */
+  public static RaygunTags of(String... tags) {
+    return tags == null ? NONE : of(Arrays.asList(tags));
+  }
+
+  /**
+   * Returns the given tags. The {@code null} tags are ignored.
+   *
+   * @param tags the tags
+   * @return the tags
+   * @throws IllegalArgumentException if tags is null
+   */
+  public static RaygunTags of(Collection<String> tags) {
+    Assert.notNull(tags, "The tags must not be null");
+
+    Set<String> nonNullTags =
+        tags.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    return nonNullTags.isEmpty() ? NONE : new RaygunTags(nonNullTags);
+  }
+
+  /**
+   * Returns a canonical instance of equal tags. At most 1024 distinct tags are interned, and the
+   * tags beyond are returned as is.
+   *
+   * @return the canonical tags
+   */
+  public RaygunTags intern() {
+    RaygunTags interned = INTERNED.get(tags);
+    if (interned != null) {
+      return interned;
+    }
+    if (INTERNED.size() >= MAX_INTERNED) {
+      return this;
+    }
+    interned = INTERNED.putIfAbsent(tags, this);
+    return interned == null ? this : interned;
+  }
+
+  /**
+   * Returns the tags as an unmodifiable set.
+   *
+   * @return the tags
+   */
+  public Set<String> asSet() {
+    return tags;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return this == other || other instanceof RaygunTags && tags.equals(((RaygunTags) other).tags);
+  }
+
+  @Override
+  public int hashCode() {
+    return tags.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return tags.toString();
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2024 authors.
+ * Copyright 2022-2026 authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,15 +16,33 @@
 
 package com.midtrans.raygun;
 
+import com.midtrans.raygun.dedup.RaygunDeduplicator;
+import com.midtrans.raygun.dedup.RaygunOccurrences;
+import com.midtrans.raygun.dispatch.RaygunDispatchRejectedException;
+import com.midtrans.raygun.dispatch.RaygunDroppableTask;
+import com.midtrans.raygun.dispatch.RaygunPrioritizedTask;
+import com.midtrans.raygun.dispatch.RaygunPriority;
+import com.midtrans.raygun.ratelimit.RaygunRateLimiter;
+import com.midtrans.raygun.sampling.RaygunSampler;
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshot;
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshotter;
+import com.midtrans.raygun.transport.RaygunTransportException;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+import com.midtrans.raygun.transport.TransportRaygunClient;
 import com.mindscapehq.raygun4java.core.RaygunClient;
 import com.mindscapehq.raygun4java.core.RaygunClientFactory;
 
 import org.springframework.core.task.TaskExecutor;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +50,40 @@ import java.util.stream.Collectors;
  *
  * <p>Some methods allow to send custom data and tags.
  *
+ * <p>Sending never throws an exception to the caller. Messages rejected by the {@code TaskExecutor}
+ * are dropped and counted in {@link #getRejectedCount()}.
+ *
+ * <p>When a {@link RaygunRateLimiter} is set, the messages beyond its limits are throttled in the
+ * calling thread before anything is allocated.
+ *
+ * <p>When a {@link RaygunDeduplicator} is set, duplicate messages are suppressed in the calling
+ * thread before reaching the {@code TaskExecutor}, and a single report of their occurrences is sent
+ * when their window closes.
+ *
+ * <p>When a {@link RaygunSampler} is set, the remaining messages are sampled and the sent reports
+ * carry their sample rate in custom data.
+ *
+ * <p>The tags and custom data known in advance can be created once per call site as {@link
+ * RaygunTags} or {@link RaygunReport}. Sending them allocates nothing unless the message is sent:
+ * an excluded, throttled or sampled out message only reads the immutable settings and updates
+ * primitive counters. Excluding by a message pattern allocates its matcher.
+ *
+ * <p>A {@link RaygunReport} also carries the {@link RaygunPriority} of its messages. A {@link
+ * com.midtrans.raygun.dispatch.RaygunDispatcher} queues them in the lane of their priority, so that
+ * the critical messages keep their reserved capacity while the low priority messages are shed.
+ *
+ * <p>When a {@link RaygunThrowableSnapshotter} is set, the exceptions are converted into immutable
+ * snapshots in the calling thread and only the snapshots are queued, so the exceptions and the
+ * objects they reference can be collected at once. An exception whose snapshot would exceed the
+ * maximum queued size is dropped as an overflow. The deduplicator also keeps a snapshot of the
+ * second occurrence of a fingerprint during its window instead of the exceptions, reserved in the
+ * maximum queued size only when its report is queued.
+ *
+ * <p>The {@code sendAsync} methods return the {@link RaygunDeliveryResult outcome} of the message,
+ * completed by the thread handling the outcome: the calling thread for a dropped message, the
+ * sending thread or the transport thread otherwise. No thread is added to complete them, so the
+ * dependent stages should not block.
+ *
  * @apiNote This class defines both methods to send an {@code Exception} and a {@code Throwable}s
  *     even if it can have only the {@code Exception} methods because this class is intended to send
  *     application exceptions defined by users not {@code Error}s or {@code Throwable}s which should
@@ -39,23 +91,37 @@ import java.util.stream.Collectors;
  *     code written on top of it is also using {@code Throwable}s as parameters even if users only
  *     send {@code Exception}s. The methods using a {@code Throwable}s as its parameter are defined
  *     to allow easier migration to this class.
- * @implNote This implementation instantiates a new {@code RaygunClient} per request thread as
- *     suggested in <a
+ * @implNote A {@code RaygunClient} is not thread-safe so <a
  *     href="https://raygun.com/documentation/language-guides/java/crash-reporting/installation/#going-further">
- *     Raygun Java documentation</a>.
+ *     Raygun Java documentation</a> suggests a new client per request thread. This implementation
+ *     borrows a client from a {@link RaygunClientPool} on the thread sending the message instead,
+ *     so the number of retained clients is bounded by the number of sending threads. A {@link
+ *     TransportRaygunClient} is released as soon as the message is handed to its transport, without
+ *     waiting for the response.
  * @author Raydhitya Yoseph
  * @see <a
  *     href="https://raygun.com/documentation/product-guides/crash-reporting/custom-data-tags/">Custom
  *     data and tags</a>
  */
 public class RaygunTemplate extends RaygunExceptionExcludeRegistry {
-  private static ThreadLocal<RaygunClient> client = new ThreadLocal<RaygunClient>();
+  /** The default maximum number of idle clients retained by the pool. */
+  public static final int DEFAULT_MAX_IDLE_CLIENTS = 8;
 
-  private final RaygunClientFactory raygunClientFactory;
+  private final RaygunClientPool raygunClientPool;
   private final TaskExecutor taskExecutor;
+  private final LongAdder rejectedCount = new LongAdder();
+  private RaygunRateLimiter raygunRateLimiter;
+  private RaygunDeduplicator raygunDeduplicator;
+  private RaygunSampler raygunSampler;
+  private RaygunReportRecorder raygunReportRecorder;
+  private RaygunThrowableSnapshotter raygunThrowableSnapshotter;
 
   public RaygunTemplate(RaygunClientFactory raygunClientFactory, TaskExecutor taskExecutor) {
-    this.raygunClientFactory = raygunClientFactory;
+    this(new RaygunClientPool(raygunClientFactory, DEFAULT_MAX_IDLE_CLIENTS), taskExecutor);
+  }
+
+  public RaygunTemplate(RaygunClientPool raygunClientPool, TaskExecutor taskExecutor) {
+    this.raygunClientPool = raygunClientPool;
     this.taskExecutor = taskExecutor;
   }
 
@@ -65,7 +131,7 @@ public class RaygunTemplate extends RaygunExceptionExcludeRegistry {
    * @param exception the exception
    */
   public void send(Exception exception) {
-    send(exception, Set.of(), Map.of());
+    send((Throwable) exception, Set.of(), Map.of());
   }
 
   /**
@@ -75,7 +141,7 @@ public class RaygunTemplate extends RaygunExceptionExcludeRegistry {
    * @param tags custom tags
    */
   public void send(Exception exception, String... tags) {
-    send(exception, toSet(tags), Map.of());
+    send((Throwable) exception, tags);
   }
 
   /**
@@ -85,7 +151,7 @@ public class RaygunTemplate extends RaygunExceptionExcludeRegistry {
    * @param tags custom tags
    */
   public void send(Exception exception, Set<String> tags) {
-    send(exception, tags, Map.of());
+    send((Throwable) exception, tags, Map.of());
   }
 
   /**
@@ -93,18 +159,30 @@ public class RaygunTemplate extends RaygunExceptionExcludeRegistry {
    *
    * @param exception the exception
    * @param tags custom tags
-   * @param data custom data
    */
-  public void send(Exception exception, Set<String> tags, Map<String, String> data) {
-    if (shouldSend(exception)) {
-      RaygunClient raygunClient = getRaygunClientPerRequestThread();
+  public void send(Exception exception, RaygunTags tags) {
+    send((Throwable) exception, tags.asSet(), Map.of());
+  }
 
-      taskExecutor.execute(() -> raygunClient.send(exception, tags, data));
-    }
+  /**
+   * Send an {@code Exception} to Raygun.
+   *
+   * @param exception the exception
+   * @param report custom tags and data
+   */
+  public void send(Exception exception, RaygunReport report) {
+    send((Throwable) exception, report);
   }
 
-  private boolean shouldSend(Exception exception) {
-    return !contains(exception.getClass());
+  /**
+   * Send an {@code Exception} to Raygun.
+   *
+   * @param exception the exception
+   * @param tags custom tags
+   * @param data custom data
+   */
+  public void send(Exception exception, Set<String> tags, Map<String, String> data) {
+    send((Throwable) exception, tags, data);
   }
 
   /**
@@ -123,7 +201,7 @@ public class RaygunTemplate extends RaygunExceptionExcludeRegistry {
    * @param tags custom tags
    */
   public void send(Throwable throwable, String... tags) {
-    send(throwable, toSet(tags), Map.of());
+    submit(throwable, null, tags, Map.of(), RaygunPriority.NORMAL, null, 0);
   }
 
   /**
@@ -136,6 +214,27 @@ public class RaygunTemplate extends RaygunExceptionExcludeRegistry {
     send(throwable, tags, Map.of());
   }
 
+  /**
+   * Send a {@code Throwable} to Raygun.
+   *
+   * @param throwable the throwable
+   * @param tags custom tags
+   */
+  public void send(Throwable throwable, RaygunTags tags) {
+    send(throwable, tags.asSet(), Map.of());
+  }
+
+  /**
+   * Send a {@code Throwable} to Raygun.
+   *
+   * @param throwable the throwable
+   * @param report custom tags and data
+   */
+  public void send(Throwable throwable, RaygunReport report) {
+    submit(
+        throwable, report.getTags().asSet(), null, report.getData(), report.getPriority(), null, 0);
+  }
+
   /**
    * Send a {@code Throwable} to Raygun.
    *
@@ -144,28 +243,443 @@ public class RaygunTemplate extends RaygunExceptionExcludeRegistry {
    * @param data custom data
    */
   public void send(Throwable throwable, Set<String> tags, Map<String, String> data) {
-    if (shouldSend(throwable)) {
-      RaygunClient raygunClient = getRaygunClientPerRequestThread();
+    submit(throwable, tags, null, data, RaygunPriority.NORMAL, null, 0);
+  }
+
+  /**
+   * Send an {@code Exception} to Raygun and return its outcome.
+   *
+   * @param exception the exception
+   * @return the outcome of the message
+   */
+  public CompletionStage<RaygunDeliveryResult> sendAsync(Exception exception) {
+    return sendAsync((Throwable) exception, Set.of(), Map.of());
+  }
+
+  /**
+   * Send an {@code Exception} to Raygun and return its outcome.
+   *
+   * @param exception the exception
+   * @param report custom tags and data
+   * @return the outcome of the message
+   */
+  public CompletionStage<RaygunDeliveryResult> sendAsync(Exception exception, RaygunReport report) {
+    return sendAsync((Throwable) exception, report);
+  }
+
+  /**
+   * Send an {@code Exception} to Raygun and return its outcome.
+   *
+   * @param exception the exception
+   * @param tags custom tags
+   * @param data custom data
+   * @return the outcome of the message
+   */
+  public CompletionStage<RaygunDeliveryResult> sendAsync(
+      Exception exception, Set<String> tags, Map<String, String> data) {
+    return sendAsync((Throwable) exception, tags, data);
+  }
+
+  /**
+   * Send a {@code Throwable} to Raygun and return its outcome.
+   *
+   * @param throwable the throwable
+   * @return the outcome of the message
+   */
+  public CompletionStage<RaygunDeliveryResult> sendAsync(Throwable throwable) {
+    return sendAsync(throwable, Set.of(), Map.of());
+  }
+
+  /**
+   * Send a {@code Throwable} to Raygun and return its outcome.
+   *
+   * @param throwable the throwable
+   * @param report custom tags and data
+   * @return the outcome of the message
+   */
+  public CompletionStage<RaygunDeliveryResult> sendAsync(Throwable throwable, RaygunReport report) {
+    return sendAsync(throwable, report.getTags().asSet(), report.getData(), report.getPriority());
+  }
+
+  /**
+   * Send a {@code Throwable} to Raygun and return its outcome.
+   *
+   * @param throwable the throwable
+   * @param tags custom tags
+   * @param data custom data
+   * @return the outcome of the message
+   */
+  public CompletionStage<RaygunDeliveryResult> sendAsync(
+      Throwable throwable, Set<String> tags, Map<String, String> data) {
+    return sendAsync(throwable, tags, data, RaygunPriority.NORMAL);
+  }
+
+  private CompletionStage<RaygunDeliveryResult> sendAsync(
+      Throwable throwable, Set<String> tags, Map<String, String> data, RaygunPriority priority) {
+    long startNanos = System.nanoTime();
+    CompletableFuture<RaygunDeliveryResult> result = new CompletableFuture<>();
+    submit(throwable, tags, null, data, priority, result, startNanos);
+    return result.minimalCompletionStage();
+  }
+
+  /**
+   * Passes a message through the exclusion, throttling, deduplication, sampling and snapshot stages
+   * in the calling thread, then queues it. The result, if not {@code null}, is completed with the
+   * outcome of the message, so that a dropped message allocates nothing when no result is awaited.
+   * The tags are given either as a set or as the array of a varargs call, which is only turned into
+   * a set once the message is kept by the deduplicator or queued.
+   */
+  private void submit(
+      Throwable throwable,
+      Set<String> tags,
+      String[] tagArray,
+      Map<String, String> data,
+      RaygunPriority priority,
+      CompletableFuture<RaygunDeliveryResult> result,
+      long startNanos) {
+    if (isExcluded(throwable)) {
+      drop(
+          throwable,
+          RaygunReportRecorder.Outcome.EXCLUDED,
+          RaygunDeliveryResult.DropReason.EXCLUDED,
+          result,
+          startNanos);
+      return;
+    }
+    if (!isNotThrottled(throwable)) {
+      drop(
+          throwable,
+          RaygunReportRecorder.Outcome.THROTTLED,
+          RaygunDeliveryResult.DropReason.THROTTLED,
+          result,
+          startNanos);
+      return;
+    }
+    Set<String> tagSet = tags;
+    if (raygunDeduplicator != null) {
+      tagSet = toSet(tags, tagArray);
+    }
+    if (!isNotDuplicate(throwable, tagSet, data)) {
+      drop(
+          throwable,
+          RaygunReportRecorder.Outcome.DUPLICATE,
+          RaygunDeliveryResult.DropReason.DUPLICATE,
+          result,
+          startNanos);
+      return;
+    }
+
+    Map<String, String> sampledData = data;
+    if (raygunSampler != null) {
+      double sampleRate = raygunSampler.sample(throwable);
+      if (sampleRate == 0) {
+        drop(
+            throwable,
+            RaygunReportRecorder.Outcome.SAMPLED_OUT,
+            RaygunDeliveryResult.DropReason.SAMPLED_OUT,
+            result,
+            startNanos);
+        return;
+      }
+      sampledData = RaygunSampler.withSampleRate(data, sampleRate);
+    }
+
+    RaygunThrowableSnapshot snapshot = null;
+    if (raygunThrowableSnapshotter != null) {
+      snapshot = raygunThrowableSnapshotter.capture(throwable);
+      if (snapshot == null) {
+        drop(
+            throwable,
+            RaygunReportRecorder.Outcome.OVERFLOW,
+            RaygunDeliveryResult.DropReason.OVERFLOW,
+            result,
+            startNanos);
+        return;
+      }
+    }
+
+    queue(
+        throwable,
+        new DeliveryTask(
+            snapshot == null ? throwable : null,
+            snapshot,
+            toSet(tagSet, tagArray),
+            sampledData,
+            priority,
+            result,
+            startNanos));
+  }
+
+  private void drop(
+      Throwable throwable,
+      RaygunReportRecorder.Outcome outcome,
+      RaygunDeliveryResult.DropReason dropReason,
+      CompletableFuture<RaygunDeliveryResult> result,
+      long startNanos) {
+    record(throwable, outcome);
+    if (result != null) {
+      result.complete(RaygunDeliveryResult.dropped(dropReason, elapsed(startNanos)));
+    }
+  }
 
-      taskExecutor.execute(() -> raygunClient.send(throwable, tags, data));
+  private void record(Throwable throwable, RaygunReportRecorder.Outcome outcome) {
+    if (raygunReportRecorder != null) {
+      raygunReportRecorder.record(throwable, outcome);
     }
   }
 
-  private boolean shouldSend(Throwable throwable) {
-    return !(throwable instanceof Exception)
-        || throwable instanceof Exception && !contains(((Exception) throwable).getClass());
+  /** Executes a message sending task and records whether it was queued. */
+  private void queue(Throwable throwable, Runnable task) {
+    record(
+        throwable,
+        execute(task)
+            ? RaygunReportRecorder.Outcome.QUEUED
+            : RaygunReportRecorder.Outcome.OVERFLOW);
   }
 
-  private Set<String> toSet(String... tags) {
-    return Arrays.stream(tags).filter(Objects::nonNull).collect(Collectors.toSet());
+  private static Duration elapsed(long startNanos) {
+    return Duration.ofNanos(System.nanoTime() - startNanos);
   }
 
-  private RaygunClient getRaygunClientPerRequestThread() {
-    RaygunClient raygunClient = client.get();
-    if (Objects.isNull(raygunClient)) {
-      raygunClient = raygunClientFactory.newClient();
-      client.set(raygunClient);
+  private boolean isNotThrottled(Throwable throwable) {
+    return raygunRateLimiter == null || raygunRateLimiter.tryAcquire(throwable);
+  }
+
+  private boolean isNotDuplicate(Throwable throwable, Set<String> tags, Map<String, String> data) {
+    return raygunDeduplicator == null || raygunDeduplicator.offer(throwable, tags, data);
+  }
+
+  /**
+   * Queues the report of the occurrences of a duplicate exception in the normal lane, reserving its
+   * snapshot first.
+   */
+  private void send(RaygunOccurrences raygunOccurrences) {
+    RaygunThrowableSnapshot snapshot = raygunOccurrences.getSnapshot();
+    boolean queued =
+        (snapshot == null || raygunThrowableSnapshotter.reserve(snapshot))
+            && execute(
+                new DeliveryTask(
+                    raygunOccurrences.getThrowable(),
+                    snapshot,
+                    raygunOccurrences.getTags(),
+                    raygunOccurrences.getData(),
+                    RaygunPriority.NORMAL,
+                    null,
+                    0));
+    if (raygunReportRecorder != null) {
+      raygunReportRecorder.record(
+          raygunOccurrences,
+          queued ? RaygunReportRecorder.Outcome.QUEUED : RaygunReportRecorder.Outcome.OVERFLOW);
+    }
+  }
+
+  private boolean execute(Runnable task) {
+    try {
+      taskExecutor.execute(task);
+      return true;
+    } catch (RejectedExecutionException ex) {
+      rejectedCount.increment();
+      if (task instanceof RaygunDroppableTask && !(ex instanceof RaygunDispatchRejectedException)) {
+        ((RaygunDroppableTask) task).onDropped();
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Returns the number of messages dropped because the {@code TaskExecutor} rejected them.
+   *
+   * @return the number of rejected messages
+   */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  private static Set<String> toSet(Set<String> tags, String... tagArray) {
+    if (tags != null) {
+      return tags;
+    }
+    return Arrays.stream(tagArray).filter(Objects::nonNull).collect(Collectors.toSet());
+  }
+
+  /**
+   * A message sending task holding its exception, or a snapshot of it, until it is run or dropped,
+   * and completing the outcome of the message if it is awaited.
+   */
+  private final class DeliveryTask implements RaygunDroppableTask, RaygunPrioritizedTask {
+    private final Throwable throwable;
+    private final RaygunThrowableSnapshot snapshot;
+    private final Set<String> tags;
+    private final Map<String, String> data;
+    private final RaygunPriority priority;
+    private final CompletableFuture<RaygunDeliveryResult> result;
+    private final long startNanos;
+
+    private DeliveryTask(
+        Throwable throwable,
+        RaygunThrowableSnapshot snapshot,
+        Set<String> tags,
+        Map<String, String> data,
+        RaygunPriority priority,
+        CompletableFuture<RaygunDeliveryResult> result,
+        long startNanos) {
+      this.throwable = throwable;
+      this.snapshot = snapshot;
+      this.tags = tags;
+      this.data = data;
+      this.priority = priority;
+      this.result = result;
+      this.startNanos = startNanos;
+    }
+
+    @Override
+    public RaygunPriority getPriority() {
+      return priority;
+    }
+
+    @Override
+    public void run() {
+      if (snapshot != null) {
+        raygunThrowableSnapshotter.release(snapshot);
+      }
+      RaygunClient raygunClient = raygunClientPool.borrow();
+      try {
+        if (raygunClient instanceof TransportRaygunClient) {
+          CompletableFuture<RaygunTransportResponse> response =
+              deliver((TransportRaygunClient) raygunClient);
+          if (result != null) {
+            response.whenComplete(this::complete);
+          }
+        } else {
+          int statusCode = send(raygunClient);
+          if (result != null) {
+            result.complete(RaygunDeliveryResult.of(statusCode, elapsed(startNanos)));
+          }
+        }
+      } catch (RuntimeException ex) {
+        if (result != null) {
+          result.complete(RaygunDeliveryResult.failed(1, elapsed(startNanos)));
+        }
+        throw ex;
+      } finally {
+        raygunClientPool.release(raygunClient);
+      }
+    }
+
+    private CompletableFuture<RaygunTransportResponse> deliver(TransportRaygunClient raygunClient) {
+      return snapshot == null
+          ? raygunClient.deliver(throwable, tags, data)
+          : raygunClient.deliver(snapshot.toRaygunMessage(raygunClient, tags, data));
+    }
+
+    private int send(RaygunClient raygunClient) {
+      return snapshot == null
+          ? raygunClient.send(throwable, tags, data)
+          : raygunClient.send(snapshot.toRaygunMessage(raygunClient, tags, data));
+    }
+
+    private void complete(RaygunTransportResponse raygunTransportResponse, Throwable ex) {
+      result.complete(
+          ex == null
+              ? RaygunDeliveryResult.of(raygunTransportResponse, elapsed(startNanos))
+              : RaygunDeliveryResult.failed(
+                  RaygunTransportException.attempts(ex), elapsed(startNanos)));
     }
-    return raygunClient;
+
+    @Override
+    public void onDropped() {
+      if (snapshot != null) {
+        raygunThrowableSnapshotter.release(snapshot);
+      }
+      if (result != null) {
+        result.complete(
+            RaygunDeliveryResult.dropped(
+                RaygunDeliveryResult.DropReason.OVERFLOW, elapsed(startNanos)));
+      }
+    }
+  }
+
+  /**
+   * Set the rate limiter throttling the messages beyond its limits.
+   *
+   * @param raygunRateLimiter the rate limiter, or {@code null} to send every message
+   */
+  public void setRaygunRateLimiter(RaygunRateLimiter raygunRateLimiter) {
+    this.raygunRateLimiter = raygunRateLimiter;
+  }
+
+  public RaygunRateLimiter getRaygunRateLimiter() {
+    return raygunRateLimiter;
+  }
+
+  /**
+   * Set the deduplicator suppressing duplicate messages. The reports of the occurrences are queued
+   * through this template, and the deduplicator captures its snapshots with the snapshotter of this
+   * template, which reserves them when their reports are queued.
+   *
+   * @param raygunDeduplicator the deduplicator, or {@code null} to send every message
+   */
+  public void setRaygunDeduplicator(RaygunDeduplicator raygunDeduplicator) {
+    this.raygunDeduplicator = raygunDeduplicator;
+    if (raygunDeduplicator != null) {
+      raygunDeduplicator.setOccurrencesConsumer(this::send);
+      raygunDeduplicator.setRaygunThrowableSnapshotter(raygunThrowableSnapshotter);
+    }
+  }
+
+  public RaygunDeduplicator getRaygunDeduplicator() {
+    return raygunDeduplicator;
+  }
+
+  /**
+   * Set the sampler sending a share of the messages.
+   *
+   * @param raygunSampler the sampler, or {@code null} to send every message
+   */
+  public void setRaygunSampler(RaygunSampler raygunSampler) {
+    this.raygunSampler = raygunSampler;
+  }
+
+  public RaygunSampler getRaygunSampler() {
+    return raygunSampler;
+  }
+
+  /**
+   * Set the recorder of the outcome of every exception given to this template.
+   *
+   * @param raygunReportRecorder the recorder, or {@code null} to record nothing
+   */
+  public void setRaygunReportRecorder(RaygunReportRecorder raygunReportRecorder) {
+    this.raygunReportRecorder = raygunReportRecorder;
+  }
+
+  public RaygunReportRecorder getRaygunReportRecorder() {
+    return raygunReportRecorder;
+  }
+
+  /**
+   * Set the snapshotter converting every exception into a snapshot in the calling thread, so the
+   * exception is not retained while its message is queued.
+   *
+   * @param raygunThrowableSnapshotter the snapshotter, or {@code null} to queue the exceptions
+   */
+  public void setRaygunThrowableSnapshotter(RaygunThrowableSnapshotter raygunThrowableSnapshotter) {
+    this.raygunThrowableSnapshotter = raygunThrowableSnapshotter;
+    if (raygunDeduplicator != null) {
+      raygunDeduplicator.setRaygunThrowableSnapshotter(raygunThrowableSnapshotter);
+    }
+  }
+
+  public RaygunThrowableSnapshotter getRaygunThrowableSnapshotter() {
+    return raygunThrowableSnapshotter;
+  }
+
+  /**
+   * Returns the pool of clients used to send messages.
+   *
+   * @return the Raygun client pool
+   */
+  public RaygunClientPool getRaygunClientPool() {
+    return raygunClientPool;
   }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.actuate;
+
+import com.midtrans.raygun.RaygunReportRecorder;
+import com.midtrans.raygun.dedup.RaygunFingerprinter;
+import com.midtrans.raygun.sampling.RaygunDecayingCounts;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link RaygunReportRecorder} keeping the recent throughput and the noisiest fingerprints of the
+ * exceptions given to {@link com.midtrans.raygun.RaygunTemplate}.
+ *
+ * <p>The throughput is counted in one-second buckets over the last minute with lock-free counters,
+ * so it is approximate when a bucket is reused while being counted. The rate of every fingerprint
+ * is estimated with the {@link RaygunDecayingCounts} of the adaptive sampling, a fixed array
+ * indexed by the fingerprint hash and locked by stripes. The fingerprints hash the exception type
+ * and the message with its digits masked, so they can be muted through {@link
+ * com.midtrans.raygun.RaygunExceptionExcludeRegistry#muteFingerprint(long, java.time.Duration)}.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunActivity implements RaygunReportRecorder {
+  private static final int BUCKETS = 60;
+  private static final int SLOTS = 1024;
+  private static final int STRIPES = 64;
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final double DECAY_PER_NANO = Math.log(2) / TimeUnit.MINUTES.toNanos(1);
+
+  private final RaygunFingerprinter raygunFingerprinter = new RaygunFingerprinter(0);
+  private final long originNanos = System.nanoTime();
+
+  private final AtomicLongArray bucketSeconds = new AtomicLongArray(BUCKETS);
+  private final AtomicLongArray receivedCounts = new AtomicLongArray(BUCKETS);
+  private final AtomicLongArray queuedCounts = new AtomicLongArray(BUCKETS);
+
+  private final RaygunDecayingCounts fingerprintCounts = new RaygunDecayingCounts(SLOTS, STRIPES);
+
+  /** Creates an activity recorder. */
+  public RaygunActivity() {
+    for (int index = 0; index < BUCKETS; index++) {
+      bucketSeconds.set(index, -1);
+    }
+  }
+
+  @Override
+  public void record(Throwable throwable, Outcome outcome) {
+    record(throwable, outcome, System.nanoTime() - originNanos);
+  }
+
+  void record(Throwable throwable, Outcome outcome, long now) {
+    int bucket = bucket(now / NANOS_PER_SECOND);
+    receivedCounts.incrementAndGet(bucket);
+    if (outcome == Outcome.QUEUED) {
+      queuedCounts.incrementAndGet(bucket);
+    }
+
+    fingerprintCounts.increment(
+        raygunFingerprinter.fingerprint(throwable),
+        throwable.getClass().getName(),
+        now,
+        DECAY_PER_NANO);
+  }
+
+  /** Returns the bucket of a second, resetting it if it still counts a previous minute. */
+  private int bucket(long second) {
+    int bucket = (int) (second % BUCKETS);
+    long bucketSecond = bucketSeconds.get(bucket);
+    if (bucketSecond != second && bucketSeconds.compareAndSet(bucket, bucketSecond, second)) {
+      receivedCounts.set(bucket, 0);
+      queuedCounts.set(bucket, 0);
+    }
+    return bucket;
+  }
+
+  /**
+   * Returns the average number of exceptions given per second over the last minute.
+   *
+   * @return the received rate
+   */
+  public double getReceivedRate() {
+    return rate(receivedCounts, System.nanoTime() - originNanos);
+  }
+
+  /**
+   * Returns the average number of exceptions queued to be sent per second over the last minute.
+   *
+   * @return the queued rate
+   */
+  public double getQueuedRate() {
+    return rate(queuedCounts, System.nanoTime() - originNanos);
+  }
+
+  double rate(AtomicLongArray bucketCounts, long now) {
+    long second = now / NANOS_PER_SECOND;
+    long count = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      long bucketSecond = bucketSeconds.get(bucket);
+      if (bucketSecond >= 0 && second - bucketSecond < BUCKETS) {
+        count += bucketCounts.get(bucket);
+      }
+    }
+    return (double) count / BUCKETS;
+  }
+
+  /**
+   * Returns the fingerprints with the highest rates, from the highest.
+   *
+   * @param limit the maximum number of fingerprints
+   * @return the noisiest fingerprints
+   */
+  public List<Fingerprint> getNoisiestFingerprints(int limit) {
+    return getNoisiestFingerprints(limit, System.nanoTime() - originNanos);
+  }
+
+  List<Fingerprint> getNoisiestFingerprints(int limit, long now) {
+    List<Fingerprint> noisiest = new ArrayList<>();
+    fingerprintCounts.forEachActive(
+        now,
+        DECAY_PER_NANO,
+        (fingerprint, exceptionType, count) ->
+            noisiest.add(
+                new Fingerprint(
+                    fingerprint, exceptionType, count * DECAY_PER_NANO * NANOS_PER_SECOND)));
+    noisiest.sort(Comparator.comparingDouble(Fingerprint::getRate).reversed());
+    return noisiest.size() > limit ? new ArrayList<>(noisiest.subList(0, limit)) : noisiest;
+  }
+
+  /** The estimated rate of a fingerprint. */
+  public static final class Fingerprint {
+    private final long fingerprint;
+    private final String exceptionType;
+    private final double rate;
+
+    Fingerprint(long fingerprint, String exceptionType, double rate) {
+      this.fingerprint = fingerprint;
+      this.exceptionType = exceptionType;
+      this.rate = rate;
+    }
+
+    public long getFingerprint() {
+      return fingerprint;
+    }
+
+    /**
+     * Returns the fully qualified name of the exception type of the fingerprint.
+     *
+     * @return the exception type
+     */
+    public String getExceptionType() {
+      return exceptionType;
+    }
+
+    /**
+     * Returns the estimated number of occurrences per second.
+     *
+     * @return the rate
+     */
+    public double getRate() {
+      return rate;
+    }
+  }
+}
@@ -0,0 +1,486 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.actuate;
+
+import com.midtrans.raygun.RaygunExceptionExcludeMode;
+import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.dispatch.RaygunPriority;
+import com.midtrans.raygun.retry.RaygunCircuitBreaker;
+import com.midtrans.raygun.retry.RaygunRetrier;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * {@link Endpoint @Endpoint} exposing the live state of the Raygun reporting and controlling it
+ * without a restart.
+ *
+ * <p>Reading the endpoint returns the queue depths, the recent throughput, the circuit breaker
+ * state, the noisiest fingerprints, the exclusions and the mutes. Writing to {@code
+ * /actuator/raygun/{action}} flushes the queued messages, pauses or resumes their delivery, and
+ * mutes or unmutes an exception type or a fingerprint, then returns the new state. The state
+ * returned by a flush also tells whether every queued message was sent before the flush timeout.
+ *
+ * @author Raydhitya Yoseph
+ */
+@Endpoint(id = "raygun")
+public class RaygunEndpoint {
+  private static final Pattern FINGERPRINT = Pattern.compile("[0-9a-fA-F]{1,16}");
+
+  private final RaygunTemplate raygunTemplate;
+  private final RaygunActivity raygunActivity;
+  private RaygunDispatcher raygunDispatcher;
+  private RaygunRetrier raygunRetrier;
+  private int noisiestFingerprints = 10;
+  private Duration flushTimeout = Duration.ofSeconds(10);
+
+  /** Actions of the endpoint. */
+  public enum Action {
+
+    /** Sends the queued messages and waits for them up to the flush timeout. */
+    FLUSH,
+
+    /** Stops sending the queued messages. */
+    PAUSE,
+
+    /** Sends the messages queued while paused and the next ones. */
+    RESUME,
+
+    /** Mutes an exception type or a fingerprint for a duration. */
+    MUTE,
+
+    /** Unmutes an exception type or a fingerprint. */
+    UNMUTE
+  }
+
+  /**
+   * Create the endpoint.
+   *
+   * @param raygunTemplate the template, holding the exclusions and the mutes
+   * @param raygunActivity the recorder of the throughput and the fingerprints
+   */
+  public RaygunEndpoint(RaygunTemplate raygunTemplate, RaygunActivity raygunActivity) {
+    this.raygunTemplate = raygunTemplate;
+    this.raygunActivity = raygunActivity;
+  }
+
+  /**
+   * Set the dispatcher queueing the messages.
+   *
+   * @param raygunDispatcher the dispatcher, or {@code null} if there is none
+   */
+  public void setRaygunDispatcher(RaygunDispatcher raygunDispatcher) {
+    this.raygunDispatcher = raygunDispatcher;
+  }
+
+  /**
+   * Set the retrier holding the circuit breaker.
+   *
+   * @param raygunRetrier the retrier, or {@code null} if there is none
+   */
+  public void setRaygunRetrier(RaygunRetrier raygunRetrier) {
+    this.raygunRetrier = raygunRetrier;
+  }
+
+  /**
+   * Set the number of noisiest fingerprints returned. Default is 10.
+   *
+   * @param noisiestFingerprints the number of fingerprints
+   */
+  public void setNoisiestFingerprints(int noisiestFingerprints) {
+    this.noisiestFingerprints = noisiestFingerprints;
+  }
+
+  /**
+   * Set the maximum time to wait for the queued messages to be sent when flushing. Default is 10
+   * seconds.
+   *
+   * @param flushTimeout the flush timeout
+   */
+  public void setFlushTimeout(Duration flushTimeout) {
+    this.flushTimeout = flushTimeout;
+  }
+
+  /**
+   * Returns the state of the Raygun reporting.
+   *
+   * @return the state
+   */
+  @ReadOperation
+  public RaygunDescriptor raygun() {
+    return raygun(null);
+  }
+
+  private RaygunDescriptor raygun(Boolean flushed) {
+    return new RaygunDescriptor(
+        raygunDispatcher != null ? raygunDispatcher.isPaused() : null,
+        flushed,
+        queues(),
+        new ThroughputDescriptor(raygunActivity.getReceivedRate(), raygunActivity.getQueuedRate()),
+        circuitBreakerState(),
+        fingerprints(),
+        new ExclusionsDescriptor(
+            raygunTemplate.getExcludedExceptions(), raygunTemplate.getExcludeRules()),
+        new MutesDescriptor(mutedExceptions(), mutedFingerprints()));
+  }
+
+  /**
+   * Runs an action and returns the new state of the Raygun reporting.
+   *
+   * @param action the action
+   * @param exceptionType the fully qualified name of the exception type to mute or unmute
+   * @param fingerprint the hexadecimal fingerprint to mute or unmute
+   * @param duration the duration of the mute
+   * @return the new state
+   */
+  @WriteOperation
+  public RaygunDescriptor control(
+      @Selector Action action,
+      @Nullable String exceptionType,
+      @Nullable String fingerprint,
+      @Nullable Duration duration) {
+    Boolean flushed = null;
+    switch (action) {
+      case FLUSH:
+        flushed = flush();
+        break;
+      case PAUSE:
+        dispatcher().pause();
+        break;
+      case RESUME:
+        dispatcher().resume();
+        break;
+      case MUTE:
+        mute(exceptionType, fingerprint, duration);
+        break;
+      default:
+        unmute(exceptionType, fingerprint);
+        break;
+    }
+    return raygun(flushed);
+  }
+
+  /** Returns whether every queued message was sent, {@code false} if timed out or interrupted. */
+  private boolean flush() {
+    try {
+      return dispatcher().flush(flushTimeout);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private RaygunDispatcher dispatcher() {
+    if (raygunDispatcher == null) {
+      throw new InvalidEndpointRequestException(
+          "The Raygun dispatcher is not enabled", "Raygun dispatcher not enabled");
+    }
+    return raygunDispatcher;
+  }
+
+  private void mute(String exceptionType, String fingerprint, Duration duration) {
+    if (duration == null || duration.isNegative() || duration.isZero()) {
+      throw new InvalidEndpointRequestException(
+          "The mute duration must be positive", "Invalid mute duration");
+    }
+    if (exceptionType != null) {
+      raygunTemplate.muteException(exceptionType, duration);
+    } else {
+      raygunTemplate.muteFingerprint(fingerprint(fingerprint), duration);
+    }
+  }
+
+  private void unmute(String exceptionType, String fingerprint) {
+    if (exceptionType != null) {
+      raygunTemplate.unmuteException(exceptionType);
+    } else {
+      raygunTemplate.unmuteFingerprint(fingerprint(fingerprint));
+    }
+  }
+
+  private static long fingerprint(String fingerprint) {
+    if (fingerprint == null || !FINGERPRINT.matcher(fingerprint).matches()) {
+      throw new InvalidEndpointRequestException(
+          "An exception type or a hexadecimal fingerprint must be given", "Invalid fingerprint");
+    }
+    return Long.parseUnsignedLong(fingerprint, 16);
+  }
+
+  private Map<String, QueueDescriptor> queues() {
+    if (raygunDispatcher == null) {
+      return null;
+    }
+    Map<String, QueueDescriptor> queues = new LinkedHashMap<>();
+    for (RaygunPriority priority : RaygunPriority.values()) {
+      queues.put(
+          priority.name().toLowerCase(Locale.ROOT),
+          new QueueDescriptor(
+              raygunDispatcher.getQueueSize(priority),
+              raygunDispatcher.getQueueCapacity(priority),
+              raygunDispatcher.getDroppedCount(priority)));
+    }
+    return queues;
+  }
+
+  private RaygunCircuitBreaker.State circuitBreakerState() {
+    if (raygunRetrier == null || raygunRetrier.getCircuitBreaker() == null) {
+      return null;
+    }
+    return raygunRetrier.getCircuitBreaker().getState();
+  }
+
+  private List<FingerprintDescriptor> fingerprints() {
+    List<FingerprintDescriptor> fingerprints = new ArrayList<>();
+    for (RaygunActivity.Fingerprint fingerprint :
+        raygunActivity.getNoisiestFingerprints(noisiestFingerprints)) {
+      fingerprints.add(
+          new FingerprintDescriptor(
+              Long.toHexString(fingerprint.getFingerprint()),
+              fingerprint.getExceptionType(),
+              fingerprint.getRate()));
+    }
+    return fingerprints;
+  }
+
+  private Map<String, String> mutedExceptions() {
+    Map<String, String> mutedExceptions = new LinkedHashMap<>();
+    raygunTemplate
+        .getMutedExceptions()
+        .forEach((type, remaining) -> mutedExceptions.put(type, format(remaining)));
+    return mutedExceptions;
+  }
+
+  private Map<String, String> mutedFingerprints() {
+    Map<String, String> mutedFingerprints = new LinkedHashMap<>();
+    raygunTemplate
+        .getMutedFingerprints()
+        .forEach(
+            (fingerprint, remaining) ->
+                mutedFingerprints.put(Long.toHexString(fingerprint), format(remaining)));
+    return mutedFingerprints;
+  }
+
+  private static String format(Duration remaining) {
+    return remaining.truncatedTo(ChronoUnit.SECONDS).toString();
+  }
+
+  /** The state of the Raygun reporting. */
+  public static final class RaygunDescriptor {
+    private final Boolean paused;
+    private final Boolean flushed;
+    private final Map<String, QueueDescriptor> queues;
+    private final ThroughputDescriptor throughput;
+    private final RaygunCircuitBreaker.State circuitBreaker;
+    private final List<FingerprintDescriptor> noisiestFingerprints;
+    private final ExclusionsDescriptor exclusions;
+    private final MutesDescriptor mutes;
+
+    RaygunDescriptor(
+        Boolean paused,
+        Boolean flushed,
+        Map<String, QueueDescriptor> queues,
+        ThroughputDescriptor throughput,
+        RaygunCircuitBreaker.State circuitBreaker,
+        List<FingerprintDescriptor> noisiestFingerprints,
+        ExclusionsDescriptor exclusions,
+        MutesDescriptor mutes) {
+      this.paused = paused;
+      this.flushed = flushed;
+      this.queues = queues;
+      this.throughput = throughput;
+      this.circuitBreaker = circuitBreaker;
+      this.noisiestFingerprints = noisiestFingerprints;
+      this.exclusions = exclusions;
+      this.mutes = mutes;
+    }
+
+    /**
+     * Returns whether the delivery is paused.
+     *
+     * @return whether the delivery is paused, or {@code null} if there is no dispatcher
+     */
+    public Boolean getPaused() {
+      return paused;
+    }
+
+    /**
+     * Returns whether every queued message was sent before the flush timeout.
+     *
+     * @return whether the queue was flushed, {@code false} if the flush timed out or was
+     *     interrupted, or {@code null} if the state is not returned by a flush
+     */
+    public Boolean getFlushed() {
+      return flushed;
+    }
+
+    /**
+     * Returns the dispatcher lanes by priority.
+     *
+     * @return the lanes, or {@code null} if there is no dispatcher
+     */
+    public Map<String, QueueDescriptor> getQueues() {
+      return queues;
+    }
+
+    public ThroughputDescriptor getThroughput() {
+      return throughput;
+    }
+
+    /**
+     * Returns the state of the circuit breaker.
+     *
+     * @return the state, or {@code null} if the retry is not enabled
+     */
+    public RaygunCircuitBreaker.State getCircuitBreaker() {
+      return circuitBreaker;
+    }
+
+    public List<FingerprintDescriptor> getNoisiestFingerprints() {
+      return noisiestFingerprints;
+    }
+
+    public ExclusionsDescriptor getExclusions() {
+      return exclusions;
+    }
+
+    public MutesDescriptor getMutes() {
+      return mutes;
+    }
+  }
+
+  /** The state of a dispatcher lane. */
+  public static final class QueueDescriptor {
+    private final int size;
+    private final int capacity;
+    private final long dropped;
+
+    QueueDescriptor(int size, int capacity, long dropped) {
+      this.size = size;
+      this.capacity = capacity;
+      this.dropped = dropped;
+    }
+
+    public int getSize() {
+      return size;
+    }
+
+    public int getCapacity() {
+      return capacity;
+    }
+
+    public long getDropped() {
+      return dropped;
+    }
+  }
+
+  /** The average numbers of exceptions per second over the last minute. */
+  public static final class ThroughputDescriptor {
+    private final double received;
+    private final double queued;
+
+    ThroughputDescriptor(double received, double queued) {
+      this.received = received;
+      this.queued = queued;
+    }
+
+    public double getReceived() {
+      return received;
+    }
+
+    public double getQueued() {
+      return queued;
+    }
+  }
+
+  /** The estimated rate of a fingerprint. */
+  public static final class FingerprintDescriptor {
+    private final String fingerprint;
+    private final String exceptionType;
+    private final double rate;
+
+    FingerprintDescriptor(String fingerprint, String exceptionType, double rate) {
+      this.fingerprint = fingerprint;
+      this.exceptionType = exceptionType;
+      this.rate = rate;
+    }
+
+    public String getFingerprint() {
+      return fingerprint;
+    }
+
+    public String getExceptionType() {
+      return exceptionType;
+    }
+
+    public double getRate() {
+      return rate;
+    }
+  }
+
+  /** The exception types and the rules excluded from sending. */
+  public static final class ExclusionsDescriptor {
+    private final Map<String, RaygunExceptionExcludeMode> exceptionTypes;
+    private final List<String> rules;
+
+    ExclusionsDescriptor(
+        Map<String, RaygunExceptionExcludeMode> exceptionTypes, List<String> rules) {
+      this.exceptionTypes = exceptionTypes;
+      this.rules = rules;
+    }
+
+    public Map<String, RaygunExceptionExcludeMode> getExceptionTypes() {
+      return exceptionTypes;
+    }
+
+    public List<String> getRules() {
+      return rules;
+    }
+  }
+
+  /** The muted exception types and fingerprints with the remaining durations of their mutes. */
+  public static final class MutesDescriptor {
+    private final Map<String, String> exceptionTypes;
+    private final Map<String, String> fingerprints;
+
+    MutesDescriptor(Map<String, String> exceptionTypes, Map<String, String> fingerprints) {
+      this.exceptionTypes = exceptionTypes;
+      this.fingerprints = fingerprints;
+    }
+
+    public Map<String, String> getExceptionTypes() {
+      return exceptionTypes;
+    }
+
+    public Map<String, String> getFingerprints() {
+      return fingerprints;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.actuate;
+
+import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.autoconfigure.RaygunProperties;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.retry.RaygunRetrier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link Configuration} for the Raygun Spring Boot Actuator endpoint, only applied when the
+ * endpoint is enabled and exposed so that the activity is not recorded otherwise.
+ *
+ * @author Raydhitya Yoseph
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({Endpoint.class, ConditionalOnAvailableEndpoint.class})
+@ConditionalOnAvailableEndpoint(endpoint = RaygunEndpoint.class)
+public class RaygunEndpointConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunActivity.class)
+  RaygunActivity raygunActivity() {
+    return new RaygunActivity();
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunEndpoint.class)
+  RaygunEndpoint raygunEndpoint(
+      RaygunTemplate raygunTemplate,
+      RaygunActivity raygunActivity,
+      ObjectProvider<RaygunDispatcher> raygunDispatcher,
+      ObjectProvider<RaygunRetrier> raygunRetrier,
+      RaygunProperties raygunProperties) {
+    RaygunProperties.Endpoint endpoint = raygunProperties.getEndpoint();
+
+    RaygunEndpoint raygunEndpoint = new RaygunEndpoint(raygunTemplate, raygunActivity);
+    raygunEndpoint.setRaygunDispatcher(raygunDispatcher.getIfAvailable());
+    raygunEndpoint.setRaygunRetrier(raygunRetrier.getIfAvailable());
+    raygunEndpoint.setNoisiestFingerprints(endpoint.getNoisiestFingerprints());
+    raygunEndpoint.setFlushTimeout(endpoint.getFlushTimeout());
+
+    return raygunEndpoint;
+  }
+}
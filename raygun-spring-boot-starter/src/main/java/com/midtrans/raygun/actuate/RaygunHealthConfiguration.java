@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.actuate;
+
+import com.midtrans.raygun.autoconfigure.RaygunProperties;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.retry.RaygunRetrier;
+import com.midtrans.raygun.spool.RaygunSpool;
+import com.midtrans.raygun.transport.HttpClientRaygunTransport;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link Configuration} for the Raygun Spring Boot Actuator health indicator, only applied when the
+ * {@code raygun} health indicator is enabled.
+ *
+ * @author Raydhitya Yoseph
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({HealthIndicator.class, ConditionalOnEnabledHealthIndicator.class})
+@ConditionalOnEnabledHealthIndicator("raygun")
+public class RaygunHealthConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean(name = "raygunHealthIndicator")
+  RaygunHealthIndicator raygunHealthIndicator(
+      ObjectProvider<RaygunDispatcher> raygunDispatcher,
+      ObjectProvider<RaygunRetrier> raygunRetrier,
+      ObjectProvider<RaygunSpool> raygunSpool,
+      ObjectProvider<HttpClientRaygunTransport> raygunTransport,
+      RaygunProperties raygunProperties) {
+    RaygunProperties.Health health = raygunProperties.getHealth();
+
+    RaygunHealthIndicator raygunHealthIndicator = new RaygunHealthIndicator();
+    raygunHealthIndicator.setRaygunDispatcher(raygunDispatcher.getIfAvailable());
+    raygunHealthIndicator.setRaygunRetrier(raygunRetrier.getIfAvailable());
+    raygunHealthIndicator.setRaygunSpool(raygunSpool.getIfAvailable());
+    raygunHealthIndicator.setRaygunTransport(raygunTransport.getIfAvailable());
+    raygunHealthIndicator.setQueueSaturationThreshold(health.getQueueSaturationThreshold());
+    raygunHealthIndicator.setSpoolUsageThreshold(health.getSpoolUsageThreshold());
+
+    return raygunHealthIndicator;
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.actuate;
+
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.dispatch.RaygunPriority;
+import com.midtrans.raygun.retry.RaygunCircuitBreaker;
+import com.midtrans.raygun.retry.RaygunRetrier;
+import com.midtrans.raygun.spool.RaygunSpool;
+import com.midtrans.raygun.transport.HttpClientRaygunTransport;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@link HealthIndicator} reporting whether the Raygun messages are delivered.
+ *
+ * <p>The health is {@link #DEGRADED} when a dispatcher lane is saturated beyond its threshold, the
+ * spool uses more of its maximum size than its threshold, or the circuit breaker is open. The state
+ * is read from the counters of the dispatcher, the spool, the retrier and the {@link
+ * HttpClientRaygunTransport}, never from a request to the Raygun API, so that frequent health
+ * checks stay cheap.
+ *
+ * <p>{@code DEGRADED} is mapped to HTTP 200 by default, so a degraded Raygun reporting does not
+ * fail the health checks of the application. It can be ranked with {@code
+ * management.endpoint.health.status.order}.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunHealthIndicator implements HealthIndicator {
+
+  /** The Raygun messages may not be delivered or may be delayed. */
+  public static final Status DEGRADED =
+      new Status("DEGRADED", "The Raygun messages may not be delivered");
+
+  private RaygunDispatcher raygunDispatcher;
+  private RaygunRetrier raygunRetrier;
+  private RaygunSpool raygunSpool;
+  private HttpClientRaygunTransport raygunTransport;
+  private double queueSaturationThreshold = 0.8;
+  private double spoolUsageThreshold = 0.5;
+
+  @Override
+  public Health health() {
+    Map<String, Object> details = new LinkedHashMap<>();
+    boolean degraded = false;
+
+    if (raygunDispatcher != null) {
+      Map<String, Double> queues = new LinkedHashMap<>();
+      for (RaygunPriority priority : RaygunPriority.values()) {
+        double saturation =
+            ratio(
+                raygunDispatcher.getQueueSize(priority),
+                raygunDispatcher.getQueueCapacity(priority));
+        degraded |= saturation >= queueSaturationThreshold;
+        queues.put(priority.name().toLowerCase(Locale.ROOT), saturation);
+      }
+      details.put("queues", queues);
+      details.put("paused", raygunDispatcher.isPaused());
+    }
+
+    if (raygunSpool != null) {
+      double usage = ratio(raygunSpool.getSegmentCount(), raygunSpool.getMaxSegmentCount());
+      degraded |= usage >= spoolUsageThreshold;
+      details.put("spool", usage);
+    }
+
+    if (raygunRetrier != null) {
+      RaygunCircuitBreaker.State state = raygunRetrier.getCircuitBreaker().getState();
+      degraded |= state == RaygunCircuitBreaker.State.OPEN;
+      details.put("circuitBreaker", state);
+    }
+
+    if (raygunTransport != null) {
+      Instant lastDelivered = raygunTransport.getLastDelivered();
+      if (lastDelivered != null) {
+        details.put("lastDelivered", lastDelivered.toString());
+      }
+    }
+
+    return Health.status(degraded ? DEGRADED : Status.UP).withDetails(details).build();
+  }
+
+  private static double ratio(int value, int max) {
+    return max <= 0 ? 0 : (double) value / max;
+  }
+
+  public void setRaygunDispatcher(RaygunDispatcher raygunDispatcher) {
+    this.raygunDispatcher = raygunDispatcher;
+  }
+
+  public void setRaygunRetrier(RaygunRetrier raygunRetrier) {
+    this.raygunRetrier = raygunRetrier;
+  }
+
+  public void setRaygunSpool(RaygunSpool raygunSpool) {
+    this.raygunSpool = raygunSpool;
+  }
+
+  public void setRaygunTransport(HttpClientRaygunTransport raygunTransport) {
+    this.raygunTransport = raygunTransport;
+  }
+
+  /**
+   * Set the saturation of a dispatcher lane, from 0 to 1, from which the health is degraded.
+   *
+   * @param queueSaturationThreshold the queue saturation threshold
+   */
+  public void setQueueSaturationThreshold(double queueSaturationThreshold) {
+    Assert.isTrue(
+        queueSaturationThreshold > 0 && queueSaturationThreshold <= 1,
+        "The queue saturation threshold must be greater than 0 and at most 1");
+    this.queueSaturationThreshold = queueSaturationThreshold;
+  }
+
+  /**
+   * Set the part of the maximum spool size used, from 0 to 1, from which the health is degraded.
+   *
+   * @param spoolUsageThreshold the spool usage threshold
+   */
+  public void setSpoolUsageThreshold(double spoolUsageThreshold) {
+    Assert.isTrue(
+        spoolUsageThreshold > 0 && spoolUsageThreshold <= 1,
+        "The spool usage threshold must be greater than 0 and at most 1");
+    this.spoolUsageThreshold = spoolUsageThreshold;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2024 authors.
+ * Copyright 2022-2026 authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,59 +17,142 @@
 package com.midtrans.raygun.autoconfigure;
 
 import com.midtrans.raygun.DefaultRaygunExceptionExcludeRegistrar;
+import com.midtrans.raygun.RaygunClientPool;
 import com.midtrans.raygun.RaygunExceptionExcludeRegistrar;
+import com.midtrans.raygun.RaygunReportRecorder;
 import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.actuate.RaygunEndpointConfiguration;
+import com.midtrans.raygun.actuate.RaygunHealthConfiguration;
+import com.midtrans.raygun.dedup.RaygunDeduplicator;
+import com.midtrans.raygun.dedup.RaygunOccurrences;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.metrics.RaygunMetricsConfiguration;
+import com.midtrans.raygun.ratelimit.RaygunRateLimiter;
+import com.midtrans.raygun.retry.RaygunRetrier;
+import com.midtrans.raygun.retry.RetryingRaygunTransport;
+import com.midtrans.raygun.sampling.RaygunSampler;
+import com.midtrans.raygun.shutdown.RaygunGracefulShutdown;
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshotter;
+import com.midtrans.raygun.spool.RaygunSpool;
+import com.midtrans.raygun.spool.RaygunSpoolReplayer;
+import com.midtrans.raygun.spool.SpoolingRaygunTransport;
+import com.midtrans.raygun.transport.GzipPayloadEncoder;
+import com.midtrans.raygun.transport.HttpClientRaygunTransport;
+import com.midtrans.raygun.transport.RaygunCompression;
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportDecorator;
+import com.midtrans.raygun.transport.TransportRaygunClientFactory;
 import com.midtrans.raygun.web.RaygunWebMvcConfiguration;
 import com.midtrans.raygun.ws.RaygunWebServicesConfiguration;
 import com.mindscapehq.raygun4java.core.RaygunClient;
 import com.mindscapehq.raygun4java.core.RaygunClientFactory;
 import com.mindscapehq.raygun4java.core.RaygunSettings;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.Environment;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.Assert;
 
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * {@link EnableAutoConfiguration Auto-configuration} for Raygun.
  *
  * @author Raydhitya Yoseph
  */
-@AutoConfiguration
+@AutoConfiguration(
+    afterName = {
+      "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+      "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+    })
 @ConditionalOnClass(RaygunClient.class)
 @EnableConfigurationProperties(RaygunProperties.class)
-@Import({RaygunWebMvcConfiguration.class, RaygunWebServicesConfiguration.class})
+@Import({
+  RaygunWebMvcConfiguration.class,
+  RaygunWebServicesConfiguration.class,
+  RaygunMetricsConfiguration.class,
+  RaygunEndpointConfiguration.class,
+  RaygunHealthConfiguration.class
+})
 public class RaygunAutoConfiguration {
+  private static final Log logger = LogFactory.getLog(RaygunAutoConfiguration.class);
+
   private static final String RAYGUN_TASK_EXECUTOR_BEAN_NAME = "raygunTaskExecutor";
 
   @Bean
   @ConditionalOnMissingBean(RaygunTemplate.class)
   public RaygunTemplate raygunTemplate(
+      RaygunProperties raygunProperties,
       RaygunClientFactory raygunClientFactory,
       Map<String, TaskExecutor> taskExecutors,
+      ObjectProvider<RaygunDispatcher> raygunDispatcher,
+      ObjectProvider<RaygunRateLimiter> raygunRateLimiter,
+      ObjectProvider<RaygunDeduplicator> raygunDeduplicator,
+      ObjectProvider<RaygunSampler> raygunSampler,
+      ObjectProvider<RaygunReportRecorder> raygunReportRecorders,
+      ObjectProvider<RaygunThrowableSnapshotter> raygunThrowableSnapshotter,
       RaygunExceptionExcludeRegistrar raygunExceptionExcludeRegistrar) {
     RaygunTemplate raygunTemplate =
-        new RaygunTemplate(raygunClientFactory, taskExecutor(taskExecutors));
+        new RaygunTemplate(
+            new RaygunClientPool(
+                raygunClientFactory, raygunProperties.getClientPool().getMaxIdle()),
+            taskExecutor(taskExecutors, raygunDispatcher.getIfAvailable()));
+    raygunTemplate.setRaygunRateLimiter(raygunRateLimiter.getIfAvailable());
+    raygunTemplate.setRaygunDeduplicator(raygunDeduplicator.getIfAvailable());
+    raygunTemplate.setRaygunSampler(raygunSampler.getIfAvailable());
+    raygunTemplate.setRaygunReportRecorder(raygunReportRecorder(raygunReportRecorders));
+    raygunTemplate.setRaygunThrowableSnapshotter(raygunThrowableSnapshotter.getIfAvailable());
 
     raygunExceptionExcludeRegistrar.registerExceptions(raygunTemplate);
+    raygunTemplate.setConfiguredRules(raygunProperties.getExclude().getRules());
 
     return raygunTemplate;
   }
 
+  private RaygunReportRecorder raygunReportRecorder(
+      ObjectProvider<RaygunReportRecorder> raygunReportRecorders) {
+    RaygunReportRecorder[] recorders =
+        raygunReportRecorders.orderedStream().toArray(RaygunReportRecorder[]::new);
+    if (recorders.length <= 1) {
+      return recorders.length == 0 ? null : recorders[0];
+    }
+    return new CompositeRaygunReportRecorder(recorders);
+  }
+
   @Bean
   @ConditionalOnMissingBean(RaygunClientFactory.class)
-  public RaygunClientFactory raygunClientFactory(RaygunProperties raygunProperties) {
+  public RaygunClientFactory raygunClientFactory(
+      RaygunProperties raygunProperties,
+      ObjectProvider<RaygunTransport> raygunTransport,
+      ObjectProvider<RaygunTransportDecorator> raygunTransportDecorators,
+      ObjectProvider<RaygunRetrier> raygunRetrier,
+      ObjectProvider<RaygunSpool> raygunSpool) {
     configure(RaygunSettings.getSettings(), raygunProperties);
 
     RaygunClientFactory raygunClientFactory =
-        new RaygunClientFactory(raygunProperties.getApiKey())
+        raygunClientFactory(
+                raygunProperties.getApiKey(),
+                raygunTransport(
+                    decorate(raygunTransport.getIfAvailable(), raygunTransportDecorators),
+                    raygunRetrier.getIfAvailable(),
+                    raygunSpool.getIfAvailable(),
+                    raygunProperties))
             .withVersion(raygunProperties.getVersion());
 
     raygunClientFactory.setTags(raygunProperties.getTags());
@@ -77,6 +160,43 @@ public class RaygunAutoConfiguration {
     return raygunClientFactory;
   }
 
+  private RaygunTransport decorate(
+      RaygunTransport raygunTransport,
+      ObjectProvider<RaygunTransportDecorator> raygunTransportDecorators) {
+    RaygunTransport decoratedTransport = raygunTransport;
+    if (decoratedTransport != null) {
+      for (RaygunTransportDecorator raygunTransportDecorator :
+          raygunTransportDecorators.orderedStream().collect(Collectors.toList())) {
+        decoratedTransport = raygunTransportDecorator.decorate(decoratedTransport);
+      }
+    }
+    return decoratedTransport;
+  }
+
+  private RaygunTransport raygunTransport(
+      RaygunTransport raygunTransport,
+      RaygunRetrier raygunRetrier,
+      RaygunSpool raygunSpool,
+      RaygunProperties raygunProperties) {
+    RaygunTransport deliveryTransport = raygunTransport;
+    if (deliveryTransport != null && raygunRetrier != null) {
+      deliveryTransport = new RetryingRaygunTransport(deliveryTransport, raygunRetrier);
+    }
+    if (deliveryTransport != null && raygunSpool != null) {
+      deliveryTransport =
+          new SpoolingRaygunTransport(
+              deliveryTransport, raygunSpool, raygunProperties.getSpool().getMaxInFlight());
+    }
+    return deliveryTransport;
+  }
+
+  private RaygunClientFactory raygunClientFactory(String apiKey, RaygunTransport raygunTransport) {
+    if (raygunTransport != null) {
+      return new TransportRaygunClientFactory(apiKey, raygunTransport);
+    }
+    return new RaygunClientFactory(apiKey);
+  }
+
   private void configure(RaygunSettings raygunSettings, RaygunProperties raygunProperties) {
     if (raygunProperties.isProxyConfigured()) {
       raygunSettings.setHttpProxy(
@@ -86,17 +206,223 @@ public class RaygunAutoConfiguration {
     raygunSettings.setConnectTimeout(raygunProperties.getConnectTimeout());
   }
 
-  private TaskExecutor taskExecutor(Map<String, TaskExecutor> taskExecutors) {
-    if (taskExecutors.isEmpty()) {
-      return new SyncTaskExecutor();
+  private TaskExecutor taskExecutor(
+      Map<String, TaskExecutor> taskExecutors, RaygunDispatcher raygunDispatcher) {
+    if (taskExecutors.containsKey(RAYGUN_TASK_EXECUTOR_BEAN_NAME)) {
+      return taskExecutors.get(RAYGUN_TASK_EXECUTOR_BEAN_NAME);
+    }
+    if (raygunDispatcher != null) {
+      return raygunDispatcher.asTaskExecutor();
     }
     if (taskExecutors.size() == 1) {
       return taskExecutors.values().iterator().next();
     }
-    if (!taskExecutors.containsKey(RAYGUN_TASK_EXECUTOR_BEAN_NAME)) {
-      return new SyncTaskExecutor();
+    logger.warn(
+        "Raygun messages are sent synchronously in the calling threads, enable the Raygun"
+            + " dispatcher or configure a TaskExecutor bean named "
+            + RAYGUN_TASK_EXECUTOR_BEAN_NAME);
+    return new SyncTaskExecutor();
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(value = RaygunDispatcher.class, name = RAYGUN_TASK_EXECUTOR_BEAN_NAME)
+  @ConditionalOnProperty(
+      prefix = "raygun.async",
+      name = "enabled",
+      havingValue = "true",
+      matchIfMissing = true)
+  public RaygunDispatcher raygunDispatcher(RaygunProperties raygunProperties) {
+    RaygunProperties.Async async = raygunProperties.getAsync();
+
+    RaygunDispatcher raygunDispatcher = new RaygunDispatcher();
+    raygunDispatcher.setCriticalQueueCapacity(async.getCriticalQueueCapacity());
+    raygunDispatcher.setQueueCapacity(async.getQueueCapacity());
+    raygunDispatcher.setLowQueueCapacity(async.getLowQueueCapacity());
+    raygunDispatcher.setCoreSize(async.getCoreSize());
+    raygunDispatcher.setOverflowPolicy(async.getOverflowPolicy());
+    raygunDispatcher.setBlockTimeout(async.getBlockTimeout());
+    raygunDispatcher.setKeepAlive(async.getKeepAlive());
+
+    return raygunDispatcher;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(
+      value = RaygunGracefulShutdown.class,
+      name = RAYGUN_TASK_EXECUTOR_BEAN_NAME)
+  @ConditionalOnProperty(
+      prefix = "raygun",
+      name = {"async.enabled", "shutdown.enabled"},
+      havingValue = "true",
+      matchIfMissing = true)
+  public RaygunGracefulShutdown raygunGracefulShutdown(
+      RaygunDispatcher raygunDispatcher,
+      RaygunClientFactory raygunClientFactory,
+      RaygunProperties raygunProperties) {
+    RaygunGracefulShutdown raygunGracefulShutdown =
+        new RaygunGracefulShutdown(raygunDispatcher, spoolingRaygunTransport(raygunClientFactory));
+    raygunGracefulShutdown.setTimeout(raygunProperties.getShutdown().getTimeout());
+
+    return raygunGracefulShutdown;
+  }
+
+  private SpoolingRaygunTransport spoolingRaygunTransport(RaygunClientFactory raygunClientFactory) {
+    if (raygunClientFactory instanceof TransportRaygunClientFactory
+        && ((TransportRaygunClientFactory) raygunClientFactory).getRaygunTransport()
+            instanceof SpoolingRaygunTransport) {
+      return (SpoolingRaygunTransport)
+          ((TransportRaygunClientFactory) raygunClientFactory).getRaygunTransport();
     }
-    return taskExecutors.get(RAYGUN_TASK_EXECUTOR_BEAN_NAME);
+    return null;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunRateLimiter.class)
+  @ConditionalOnProperty(prefix = "raygun.rate-limit", name = "enabled", havingValue = "true")
+  public RaygunRateLimiter raygunRateLimiter(RaygunProperties raygunProperties) {
+    RaygunProperties.RateLimit rateLimit = raygunProperties.getRateLimit();
+
+    RaygunRateLimiter raygunRateLimiter = new RaygunRateLimiter();
+    raygunRateLimiter.setPerFingerprint(rateLimit.getPerFingerprint());
+    raygunRateLimiter.setGlobal(rateLimit.getGlobal());
+    raygunRateLimiter.setStackFrames(rateLimit.getStackFrames());
+
+    return raygunRateLimiter;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunDeduplicator.class)
+  @ConditionalOnProperty(prefix = "raygun.dedup", name = "enabled", havingValue = "true")
+  public RaygunDeduplicator raygunDeduplicator(RaygunProperties raygunProperties) {
+    RaygunProperties.Dedup dedup = raygunProperties.getDedup();
+
+    RaygunDeduplicator raygunDeduplicator = new RaygunDeduplicator();
+    raygunDeduplicator.setWindow(dedup.getWindow());
+    raygunDeduplicator.setStackFrames(dedup.getStackFrames());
+    raygunDeduplicator.setMaxFingerprints(dedup.getMaxFingerprints());
+
+    return raygunDeduplicator;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunSampler.class)
+  @ConditionalOnProperty(prefix = "raygun.sampling", name = "enabled", havingValue = "true")
+  public RaygunSampler raygunSampler(RaygunProperties raygunProperties) {
+    RaygunProperties.Sampling sampling = raygunProperties.getSampling();
+
+    RaygunSampler raygunSampler = new RaygunSampler();
+    raygunSampler.setTargetRate(sampling.getTargetRate());
+    raygunSampler.setHalfLife(sampling.getHalfLife());
+    raygunSampler.setStackFrames(sampling.getStackFrames());
+
+    return raygunSampler;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunThrowableSnapshotter.class)
+  @ConditionalOnProperty(prefix = "raygun.snapshot", name = "enabled", havingValue = "true")
+  public RaygunThrowableSnapshotter raygunThrowableSnapshotter(RaygunProperties raygunProperties) {
+    RaygunProperties.Snapshot snapshot = raygunProperties.getSnapshot();
+
+    RaygunThrowableSnapshotter raygunThrowableSnapshotter = new RaygunThrowableSnapshotter();
+    raygunThrowableSnapshotter.setMaxQueuedSize(snapshot.getMaxQueuedSize());
+    raygunThrowableSnapshotter.setMaxInternedFrames(snapshot.getMaxInternedFrames());
+
+    return raygunThrowableSnapshotter;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunSettingsReloader.class)
+  @ConditionalOnProperty(prefix = "raygun.reload", name = "enabled", havingValue = "true")
+  public RaygunSettingsReloader raygunSettingsReloader(
+      Environment environment, RaygunTemplate raygunTemplate) {
+    return new RaygunSettingsReloader(environment, raygunTemplate);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunTransport.class)
+  @ConditionalOnProperty(prefix = "raygun.transport", name = "type", havingValue = "http-client")
+  public HttpClientRaygunTransport raygunTransport(RaygunProperties raygunProperties) {
+    HttpClient.Builder httpClientBuilder =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(raygunProperties.getConnectTimeout()));
+
+    if (raygunProperties.isProxyConfigured()) {
+      httpClientBuilder.proxy(
+          ProxySelector.of(
+              new InetSocketAddress(
+                  raygunProperties.getProxy().getHost(), raygunProperties.getProxy().getPort())));
+    }
+
+    RaygunProperties.Transport transport = raygunProperties.getTransport();
+
+    return new HttpClientRaygunTransport(
+        httpClientBuilder.build(),
+        transport.getEndpoint(),
+        transport.getRequestTimeout(),
+        raygunProperties.getCompression() == RaygunCompression.GZIP
+            ? new GzipPayloadEncoder()
+            : null);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunRetrier.class)
+  @ConditionalOnProperty(prefix = "raygun.retry", name = "enabled", havingValue = "true")
+  public RaygunRetrier raygunRetrier(
+      ObjectProvider<RaygunTransport> raygunTransport, RaygunProperties raygunProperties) {
+    Assert.state(
+        raygunTransport.getIfAvailable() != null,
+        "The Raygun retry requires a RaygunTransport, set raygun.transport.type to http-client");
+
+    RaygunProperties.Retry retry = raygunProperties.getRetry();
+
+    RaygunRetrier raygunRetrier = new RaygunRetrier();
+    raygunRetrier.setMaxAttempts(retry.getMaxAttempts());
+    raygunRetrier.setInitialBackoff(retry.getInitialBackoff());
+    raygunRetrier.setMaxBackoff(retry.getMaxBackoff());
+    raygunRetrier.setMaxRetryAfter(retry.getMaxRetryAfter());
+    raygunRetrier.setFailureThreshold(retry.getFailureThreshold());
+    raygunRetrier.setOpenDuration(retry.getOpenDuration());
+
+    return raygunRetrier;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunSpool.class)
+  @ConditionalOnProperty(prefix = "raygun.spool", name = "enabled", havingValue = "true")
+  public RaygunSpool raygunSpool(RaygunProperties raygunProperties) {
+    RaygunProperties.Spool spool = raygunProperties.getSpool();
+
+    RaygunSpool raygunSpool = new RaygunSpool();
+    raygunSpool.setDirectory(spool.getDirectory());
+    raygunSpool.setSegmentSize(spool.getSegmentSize());
+    raygunSpool.setMaxSize(spool.getMaxSize());
+
+    return raygunSpool;
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunSpoolReplayer.class)
+  @ConditionalOnProperty(prefix = "raygun.spool", name = "enabled", havingValue = "true")
+  public RaygunSpoolReplayer raygunSpoolReplayer(
+      RaygunSpool raygunSpool,
+      ObjectProvider<RaygunTransport> raygunTransport,
+      RaygunProperties raygunProperties) {
+    Assert.state(
+        raygunTransport.getIfAvailable() != null,
+        "The Raygun spool requires a RaygunTransport, set raygun.transport.type to http-client");
+
+    RaygunProperties.Spool spool = raygunProperties.getSpool();
+
+    RaygunSpoolReplayer raygunSpoolReplayer =
+        new RaygunSpoolReplayer(
+            raygunSpool, raygunTransport.getIfAvailable(), raygunProperties.getApiKey());
+    raygunSpoolReplayer.setReplayRate(spool.getReplayRate());
+    raygunSpoolReplayer.setReplayInterval(spool.getReplayInterval());
+    raygunSpoolReplayer.setRequestTimeout(raygunProperties.getTransport().getRequestTimeout());
+
+    return raygunSpoolReplayer;
   }
 
   @Bean
@@ -104,4 +430,27 @@ public class RaygunAutoConfiguration {
   public RaygunExceptionExcludeRegistrar defaultRaygunExceptionExcludeRegistrar() {
     return new DefaultRaygunExceptionExcludeRegistrar();
   }
+
+  /** Records the outcomes into every recorder, in order. */
+  private static final class CompositeRaygunReportRecorder implements RaygunReportRecorder {
+    private final RaygunReportRecorder[] recorders;
+
+    private CompositeRaygunReportRecorder(RaygunReportRecorder... recorders) {
+      this.recorders = recorders;
+    }
+
+    @Override
+    public void record(Throwable throwable, Outcome outcome) {
+      for (RaygunReportRecorder recorder : recorders) {
+        recorder.record(throwable, outcome);
+      }
+    }
+
+    @Override
+    public void record(RaygunOccurrences raygunOccurrences, Outcome outcome) {
+      for (RaygunReportRecorder recorder : recorders) {
+        recorder.record(raygunOccurrences, outcome);
+      }
+    }
+  }
 }
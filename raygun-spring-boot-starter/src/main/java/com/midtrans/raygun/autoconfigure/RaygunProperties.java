@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2024 authors.
+ * Copyright 2022-2026 authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,20 @@
 
 package com.midtrans.raygun.autoconfigure;
 
+import com.midtrans.raygun.dispatch.RaygunOverflowPolicy;
+import com.midtrans.raygun.transport.RaygunCompression;
+import com.midtrans.raygun.transport.RaygunTransportType;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -45,6 +56,54 @@ public class RaygunProperties {
   /** Common tags that are applied to every request. */
   private Set<String> tags = new HashSet<>();
 
+  /** Asynchronous messages sending. */
+  private final Async async = new Async();
+
+  /** Pool of Raygun clients shared by the sending threads. */
+  private final ClientPool clientPool = new ClientPool();
+
+  /** Rate limiting of the messages. */
+  private final RateLimit rateLimit = new RateLimit();
+
+  /** Suppression of duplicate messages. */
+  private final Dedup dedup = new Dedup();
+
+  /** Adaptive sampling of the messages. */
+  private final Sampling sampling = new Sampling();
+
+  /** Transport sending the messages to Raygun. */
+  private final Transport transport = new Transport();
+
+  /** Encoding of the messages sent by the HTTP client transport. */
+  private RaygunCompression compression = RaygunCompression.NONE;
+
+  /** Retry of the messages which could not be sent. */
+  private final Retry retry = new Retry();
+
+  /** Spool of the messages which could not be sent. */
+  private final Spool spool = new Spool();
+
+  /** Exclusion of the exceptions to be sent. */
+  private final Exclude exclude = new Exclude();
+
+  /** Reloading of the settings on environment changes. */
+  private final Reload reload = new Reload();
+
+  /** Graceful shutdown of the Raygun dispatcher. */
+  private final Shutdown shutdown = new Shutdown();
+
+  /** Micrometer metrics of the Raygun reporting. */
+  private final Metrics metrics = new Metrics();
+
+  /** Spring Boot Actuator endpoint of the Raygun reporting. */
+  private final Endpoint endpoint = new Endpoint();
+
+  /** Spring Boot Actuator health indicator of the Raygun reporting. */
+  private final Health health = new Health();
+
+  /** Snapshots of the exceptions taken before queueing their messages. */
+  private final Snapshot snapshot = new Snapshot();
+
   public String getApiKey() {
     return this.apiKey;
   }
@@ -91,6 +150,74 @@ public class RaygunProperties {
     this.tags = tags;
   }
 
+  public Async getAsync() {
+    return async;
+  }
+
+  public ClientPool getClientPool() {
+    return clientPool;
+  }
+
+  public RateLimit getRateLimit() {
+    return rateLimit;
+  }
+
+  public Dedup getDedup() {
+    return dedup;
+  }
+
+  public Sampling getSampling() {
+    return sampling;
+  }
+
+  public Transport getTransport() {
+    return transport;
+  }
+
+  public RaygunCompression getCompression() {
+    return compression;
+  }
+
+  public void setCompression(RaygunCompression compression) {
+    this.compression = compression;
+  }
+
+  public Retry getRetry() {
+    return retry;
+  }
+
+  public Spool getSpool() {
+    return spool;
+  }
+
+  public Exclude getExclude() {
+    return exclude;
+  }
+
+  public Reload getReload() {
+    return reload;
+  }
+
+  public Shutdown getShutdown() {
+    return shutdown;
+  }
+
+  public Metrics getMetrics() {
+    return metrics;
+  }
+
+  public Endpoint getEndpoint() {
+    return endpoint;
+  }
+
+  public Health getHealth() {
+    return health;
+  }
+
+  public Snapshot getSnapshot() {
+    return snapshot;
+  }
+
   /** Proxy for Raygun. */
   public static class Proxy {
 
@@ -116,4 +243,654 @@ public class RaygunProperties {
       this.port = port;
     }
   }
+
+  /** Asynchronous messages sending through the Raygun dispatcher. */
+  public static class Async {
+
+    /** Whether to send messages through the Raygun dispatcher. */
+    private boolean enabled = true;
+
+    /**
+     * Minimum number of critical messages the critical lane can hold, rounded up to the next power
+     * of two.
+     */
+    private int criticalQueueCapacity = 256;
+
+    /** Minimum number of messages the queue can hold, rounded up to the next power of two. */
+    private int queueCapacity = 1024;
+
+    /**
+     * Minimum number of low priority messages the low lane can hold, rounded up to the next power
+     * of two.
+     */
+    private int lowQueueCapacity = 256;
+
+    /** Number of sender threads draining the queue. */
+    private int coreSize = 2;
+
+    /** Policy applied when the queue is full. */
+    private RaygunOverflowPolicy overflowPolicy = RaygunOverflowPolicy.DROP_NEWEST;
+
+    /** How long the block overflow policy waits for room in the queue. */
+    private Duration blockTimeout = Duration.ofMillis(10);
+
+    /** How long an idle sender thread waits for messages before exiting. */
+    private Duration keepAlive = Duration.ofSeconds(60);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getCriticalQueueCapacity() {
+      return criticalQueueCapacity;
+    }
+
+    public void setCriticalQueueCapacity(int criticalQueueCapacity) {
+      this.criticalQueueCapacity = criticalQueueCapacity;
+    }
+
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+    }
+
+    public int getLowQueueCapacity() {
+      return lowQueueCapacity;
+    }
+
+    public void setLowQueueCapacity(int lowQueueCapacity) {
+      this.lowQueueCapacity = lowQueueCapacity;
+    }
+
+    public int getCoreSize() {
+      return coreSize;
+    }
+
+    public void setCoreSize(int coreSize) {
+      this.coreSize = coreSize;
+    }
+
+    public RaygunOverflowPolicy getOverflowPolicy() {
+      return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(RaygunOverflowPolicy overflowPolicy) {
+      this.overflowPolicy = overflowPolicy;
+    }
+
+    public Duration getBlockTimeout() {
+      return blockTimeout;
+    }
+
+    public void setBlockTimeout(Duration blockTimeout) {
+      this.blockTimeout = blockTimeout;
+    }
+
+    public Duration getKeepAlive() {
+      return keepAlive;
+    }
+
+    public void setKeepAlive(Duration keepAlive) {
+      this.keepAlive = keepAlive;
+    }
+  }
+
+  /** Pool of Raygun clients shared by the sending threads. */
+  public static class ClientPool {
+
+    /** Maximum number of idle Raygun clients retained by the pool. */
+    private int maxIdle = 8;
+
+    public int getMaxIdle() {
+      return maxIdle;
+    }
+
+    public void setMaxIdle(int maxIdle) {
+      this.maxIdle = maxIdle;
+    }
+  }
+
+  /** Rate limiting of the messages. */
+  public static class RateLimit {
+
+    /** Whether to throttle the messages beyond the rate limits. */
+    private boolean enabled;
+
+    /** Maximum number of messages per second per fingerprint. */
+    private int perFingerprint = 10;
+
+    /** Maximum number of messages per second. */
+    private int global = 100;
+
+    /**
+     * Number of top stack frames hashed in a fingerprint, hashing stack frames copies the stack
+     * trace.
+     */
+    private int stackFrames;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getPerFingerprint() {
+      return perFingerprint;
+    }
+
+    public void setPerFingerprint(int perFingerprint) {
+      this.perFingerprint = perFingerprint;
+    }
+
+    public int getGlobal() {
+      return global;
+    }
+
+    public void setGlobal(int global) {
+      this.global = global;
+    }
+
+    public int getStackFrames() {
+      return stackFrames;
+    }
+
+    public void setStackFrames(int stackFrames) {
+      this.stackFrames = stackFrames;
+    }
+  }
+
+  /** Suppression of duplicate messages. */
+  public static class Dedup {
+
+    /** Whether to suppress the duplicate messages and report their occurrences instead. */
+    private boolean enabled;
+
+    /** Window during which the later occurrences of a fingerprint are suppressed. */
+    private Duration window = Duration.ofSeconds(60);
+
+    /** Number of top stack frames hashed in a fingerprint. */
+    private int stackFrames = 5;
+
+    /** Maximum number of fingerprints tracked, the messages of other fingerprints are sent. */
+    private int maxFingerprints = 4096;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Duration getWindow() {
+      return window;
+    }
+
+    public void setWindow(Duration window) {
+      this.window = window;
+    }
+
+    public int getStackFrames() {
+      return stackFrames;
+    }
+
+    public void setStackFrames(int stackFrames) {
+      this.stackFrames = stackFrames;
+    }
+
+    public int getMaxFingerprints() {
+      return maxFingerprints;
+    }
+
+    public void setMaxFingerprints(int maxFingerprints) {
+      this.maxFingerprints = maxFingerprints;
+    }
+  }
+
+  /** Adaptive sampling of the messages. */
+  public static class Sampling {
+
+    /**
+     * Whether to sample the messages adaptively to keep the report rate close to the target rate.
+     */
+    private boolean enabled;
+
+    /** Target number of reports per second. */
+    private double targetRate = 10;
+
+    /** Time after which an occurrence weighs half in the rate estimates. */
+    private Duration halfLife = Duration.ofSeconds(10);
+
+    /**
+     * Number of top stack frames hashed in a fingerprint, hashing stack frames copies the stack
+     * trace.
+     */
+    private int stackFrames;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public double getTargetRate() {
+      return targetRate;
+    }
+
+    public void setTargetRate(double targetRate) {
+      this.targetRate = targetRate;
+    }
+
+    public Duration getHalfLife() {
+      return halfLife;
+    }
+
+    public void setHalfLife(Duration halfLife) {
+      this.halfLife = halfLife;
+    }
+
+    public int getStackFrames() {
+      return stackFrames;
+    }
+
+    public void setStackFrames(int stackFrames) {
+      this.stackFrames = stackFrames;
+    }
+  }
+
+  /** Transport sending the messages to Raygun. */
+  public static class Transport {
+
+    /** Transport used by the Raygun clients. */
+    private RaygunTransportType type = RaygunTransportType.URL_CONNECTION;
+
+    /** Raygun API endpoint used by the HTTP client transport. */
+    private URI endpoint = URI.create("https://api.raygun.io/entries");
+
+    /** How long the HTTP client transport waits for a response. */
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    public RaygunTransportType getType() {
+      return type;
+    }
+
+    public void setType(RaygunTransportType type) {
+      this.type = type;
+    }
+
+    public URI getEndpoint() {
+      return endpoint;
+    }
+
+    public void setEndpoint(URI endpoint) {
+      this.endpoint = endpoint;
+    }
+
+    public Duration getRequestTimeout() {
+      return requestTimeout;
+    }
+
+    public void setRequestTimeout(Duration requestTimeout) {
+      this.requestTimeout = requestTimeout;
+    }
+  }
+
+  /** Retry of the messages which could not be sent. */
+  public static class Retry {
+
+    /** Whether to retry the messages which could not be sent by the HTTP client transport. */
+    private boolean enabled;
+
+    /** Maximum number of attempts to send a message, including the first one. */
+    private int maxAttempts = 3;
+
+    /** Backoff before the first retry, doubled for every following retry. */
+    private Duration initialBackoff = Duration.ofMillis(200);
+
+    /** Maximum backoff between retries. */
+    private Duration maxBackoff = Duration.ofSeconds(10);
+
+    /** Maximum delay honored from a Retry-After response header. */
+    private Duration maxRetryAfter = Duration.ofSeconds(60);
+
+    /** Number of consecutive failures opening the circuit breaker. */
+    private int failureThreshold = 5;
+
+    /** How long the circuit breaker stays open before probing the Raygun API. */
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getMaxAttempts() {
+      return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+      return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+      this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+      return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+      this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getMaxRetryAfter() {
+      return maxRetryAfter;
+    }
+
+    public void setMaxRetryAfter(Duration maxRetryAfter) {
+      this.maxRetryAfter = maxRetryAfter;
+    }
+
+    public int getFailureThreshold() {
+      return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+      this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+      return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+      this.openDuration = openDuration;
+    }
+  }
+
+  /** Spool of the messages which could not be sent. */
+  public static class Spool {
+
+    /** Whether to spool the messages which could not be sent by the HTTP client transport. */
+    private boolean enabled;
+
+    /** Directory of the spool segment files. */
+    private Path directory = Paths.get(System.getProperty("java.io.tmpdir"), "raygun-spool");
+
+    /** Size of a spool segment file, which is also the maximum size of a message. */
+    private DataSize segmentSize = DataSize.ofMegabytes(1);
+
+    /** Maximum size of all spool segment files, the oldest messages are dropped beyond it. */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /** Maximum number of messages waiting for a response before spooling the messages. */
+    private int maxInFlight = 256;
+
+    /** Maximum number of spooled messages sent again per second. */
+    private int replayRate = 10;
+
+    /** Interval between attempts to send the spooled messages again. */
+    private Duration replayInterval = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+      return directory;
+    }
+
+    public void setDirectory(Path directory) {
+      this.directory = directory;
+    }
+
+    public DataSize getSegmentSize() {
+      return segmentSize;
+    }
+
+    public void setSegmentSize(DataSize segmentSize) {
+      this.segmentSize = segmentSize;
+    }
+
+    public DataSize getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public int getMaxInFlight() {
+      return maxInFlight;
+    }
+
+    public void setMaxInFlight(int maxInFlight) {
+      this.maxInFlight = maxInFlight;
+    }
+
+    public int getReplayRate() {
+      return replayRate;
+    }
+
+    public void setReplayRate(int replayRate) {
+      this.replayRate = replayRate;
+    }
+
+    public Duration getReplayInterval() {
+      return replayInterval;
+    }
+
+    public void setReplayInterval(Duration replayInterval) {
+      this.replayInterval = replayInterval;
+    }
+  }
+
+  /** Exclusion of the exceptions to be sent. */
+  public static class Exclude {
+
+    /**
+     * Rules excluding the matching exceptions, each written as key=value terms separated by ';'
+     * with the keys type, root-cause, package, origin and message.
+     */
+    private List<String> rules = new ArrayList<>();
+
+    public List<String> getRules() {
+      return rules;
+    }
+
+    public void setRules(List<String> rules) {
+      this.rules = rules;
+    }
+  }
+
+  /** Reloading of the settings on environment changes. */
+  public static class Reload {
+
+    /**
+     * Whether to reload the exclusion rules, the tags, the rate limits and the sampling on
+     * environment changes.
+     */
+    private boolean enabled;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+  }
+
+  /** Graceful shutdown of the Raygun dispatcher. */
+  public static class Shutdown {
+
+    /**
+     * Whether to send the queued messages when the application context is closed, spooling the ones
+     * which cannot be sent in time.
+     */
+    private boolean enabled = true;
+
+    /** Maximum time to send the queued messages before spooling the remaining ones. */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+      this.timeout = timeout;
+    }
+  }
+
+  /** Micrometer metrics of the Raygun reporting. */
+  public static class Metrics {
+
+    /** Whether to record the Raygun metrics when a MeterRegistry bean is present. */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of exception types counted with their own tag, the other ones are counted
+     * together with the Other tag.
+     */
+    private int maxExceptionTypes = 50;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getMaxExceptionTypes() {
+      return maxExceptionTypes;
+    }
+
+    public void setMaxExceptionTypes(int maxExceptionTypes) {
+      this.maxExceptionTypes = maxExceptionTypes;
+    }
+  }
+
+  /** Spring Boot Actuator endpoint of the Raygun reporting. */
+  public static class Endpoint {
+
+    /** Number of noisiest fingerprints returned by the endpoint. */
+    private int noisiestFingerprints = 10;
+
+    /** Maximum time to wait for the queued messages to be sent when flushing. */
+    private Duration flushTimeout = Duration.ofSeconds(10);
+
+    public int getNoisiestFingerprints() {
+      return noisiestFingerprints;
+    }
+
+    public void setNoisiestFingerprints(int noisiestFingerprints) {
+      this.noisiestFingerprints = noisiestFingerprints;
+    }
+
+    public Duration getFlushTimeout() {
+      return flushTimeout;
+    }
+
+    public void setFlushTimeout(Duration flushTimeout) {
+      this.flushTimeout = flushTimeout;
+    }
+  }
+
+  /** Spring Boot Actuator health indicator of the Raygun reporting. */
+  public static class Health {
+
+    /** Saturation of a dispatcher lane, from 0 to 1, from which the health is DEGRADED. */
+    private double queueSaturationThreshold = 0.8;
+
+    /** Part of the maximum spool size used, from 0 to 1, from which the health is DEGRADED. */
+    private double spoolUsageThreshold = 0.5;
+
+    public double getQueueSaturationThreshold() {
+      return queueSaturationThreshold;
+    }
+
+    public void setQueueSaturationThreshold(double queueSaturationThreshold) {
+      this.queueSaturationThreshold = queueSaturationThreshold;
+    }
+
+    public double getSpoolUsageThreshold() {
+      return spoolUsageThreshold;
+    }
+
+    public void setSpoolUsageThreshold(double spoolUsageThreshold) {
+      this.spoolUsageThreshold = spoolUsageThreshold;
+    }
+  }
+
+  /** Snapshots of the exceptions taken before queueing their messages. */
+  public static class Snapshot {
+
+    /**
+     * Whether to convert the exceptions into immutable snapshots in the calling thread, so the
+     * exceptions are not retained while their messages are queued.
+     */
+    private boolean enabled;
+
+    /** Maximum estimated size of the queued snapshots, beyond which the exceptions are dropped. */
+    private DataSize maxQueuedSize = DataSize.ofMegabytes(16);
+
+    /** Maximum number of stack frames interned and shared by the snapshots. */
+    private int maxInternedFrames = 4096;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public DataSize getMaxQueuedSize() {
+      return maxQueuedSize;
+    }
+
+    public void setMaxQueuedSize(DataSize maxQueuedSize) {
+      this.maxQueuedSize = maxQueuedSize;
+    }
+
+    public int getMaxInternedFrames() {
+      return maxInternedFrames;
+    }
+
+    public void setMaxInternedFrames(int maxInternedFrames) {
+      this.maxInternedFrames = maxInternedFrames;
+    }
+  }
 }
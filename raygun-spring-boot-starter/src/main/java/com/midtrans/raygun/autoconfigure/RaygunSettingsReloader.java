@@ -0,0 +1,175 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.autoconfigure;
+
+import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.ratelimit.RaygunRateLimiter;
+import com.midtrans.raygun.sampling.RaygunSampler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reloads the Raygun settings which can be changed without a restart from the {@link Environment}.
+ *
+ * <p>The reloadable settings are the configured exclusion rules, the tags, and the settings of the
+ * rate limiter and of the sampler when they are enabled. Every component publishes its new settings
+ * as an immutable snapshot, so the messages being sent read either the previous or the new
+ * settings, never a mix of them. Every group of settings is bound on its own, so a group failing to
+ * bind or failing validation keeps its previous settings and does not prevent the other groups from
+ * being reloaded.
+ *
+ * <p>The settings are reloaded on an {@code EnvironmentChangeEvent} when Spring Cloud Context is
+ * present, or by calling {@link #reload()}.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunSettingsReloader implements GenericApplicationListener {
+  static final String ENVIRONMENT_CHANGE_EVENT_CLASS_NAME =
+      "org.springframework.cloud.context.environment.EnvironmentChangeEvent";
+
+  private static final Log logger = LogFactory.getLog(RaygunSettingsReloader.class);
+
+  private final Environment environment;
+  private final RaygunTemplate raygunTemplate;
+  private final Class<?> environmentChangeEventClass;
+  private final LongAdder reloadedCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+
+  /**
+   * Creates a reloader of the settings of a Raygun template and its components.
+   *
+   * @param environment the environment the settings are bound from
+   * @param raygunTemplate the Raygun template
+   */
+  public RaygunSettingsReloader(Environment environment, RaygunTemplate raygunTemplate) {
+    this(environment, raygunTemplate, ENVIRONMENT_CHANGE_EVENT_CLASS_NAME);
+  }
+
+  RaygunSettingsReloader(
+      Environment environment, RaygunTemplate raygunTemplate, String environmentChangeEventName) {
+    this.environment = environment;
+    this.raygunTemplate = raygunTemplate;
+    ClassLoader classLoader = RaygunSettingsReloader.class.getClassLoader();
+    this.environmentChangeEventClass =
+        ClassUtils.isPresent(environmentChangeEventName, classLoader)
+            ? ClassUtils.resolveClassName(environmentChangeEventName, classLoader)
+            : null;
+  }
+
+  @Override
+  public boolean supportsEventType(ResolvableType eventType) {
+    return environmentChangeEventClass != null
+        && environmentChangeEventClass.isAssignableFrom(eventType.toClass());
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationEvent event) {
+    reload();
+  }
+
+  /** Binds the Raygun properties from the environment and publishes the reloadable settings. */
+  public synchronized void reload() {
+    Binder binder = Binder.get(environment);
+
+    reload("exclusion rules", () -> reloadExclusionRules(binder));
+    reload("tags", () -> reloadTags(binder));
+    RaygunRateLimiter raygunRateLimiter = raygunTemplate.getRaygunRateLimiter();
+    if (raygunRateLimiter != null) {
+      reload("rate limits", () -> reloadRateLimits(raygunRateLimiter, binder));
+    }
+    RaygunSampler raygunSampler = raygunTemplate.getRaygunSampler();
+    if (raygunSampler != null) {
+      reload("sampling", () -> reloadSampling(raygunSampler, binder));
+    }
+  }
+
+  private void reload(String settings, Runnable reloading) {
+    try {
+      reloading.run();
+      reloadedCount.increment();
+    } catch (BindException | IllegalArgumentException ex) {
+      failedCount.increment();
+      if (logger.isWarnEnabled()) {
+        logger.warn("Raygun " + settings + " reloading failed, keeping the previous settings", ex);
+      }
+    }
+  }
+
+  private void reloadExclusionRules(Binder binder) {
+    RaygunProperties.Exclude exclude =
+        binder.bindOrCreate("raygun.exclude", RaygunProperties.Exclude.class);
+
+    raygunTemplate.setConfiguredRules(exclude.getRules());
+  }
+
+  private void reloadTags(Binder binder) {
+    Set<String> tags = binder.bind("raygun.tags", Bindable.setOf(String.class)).orElse(Set.of());
+
+    raygunTemplate.getRaygunClientPool().setTags(tags);
+  }
+
+  private void reloadRateLimits(RaygunRateLimiter raygunRateLimiter, Binder binder) {
+    RaygunProperties.RateLimit rateLimit =
+        binder.bindOrCreate("raygun.rate-limit", RaygunProperties.RateLimit.class);
+
+    raygunRateLimiter.setPerFingerprint(rateLimit.getPerFingerprint());
+    raygunRateLimiter.setGlobal(rateLimit.getGlobal());
+    raygunRateLimiter.setStackFrames(rateLimit.getStackFrames());
+    raygunRateLimiter.afterPropertiesSet();
+  }
+
+  private void reloadSampling(RaygunSampler raygunSampler, Binder binder) {
+    RaygunProperties.Sampling sampling =
+        binder.bindOrCreate("raygun.sampling", RaygunProperties.Sampling.class);
+
+    raygunSampler.setTargetRate(sampling.getTargetRate());
+    raygunSampler.setHalfLife(sampling.getHalfLife());
+    raygunSampler.setStackFrames(sampling.getStackFrames());
+    raygunSampler.afterPropertiesSet();
+  }
+
+  /**
+   * Returns the number of groups of settings reloaded.
+   *
+   * @return the number of reloaded groups
+   */
+  public long getReloadedCount() {
+    return reloadedCount.sum();
+  }
+
+  /**
+   * Returns the number of groups of settings which failed to bind or failed validation while
+   * reloading.
+   *
+   * @return the number of failed groups
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+}
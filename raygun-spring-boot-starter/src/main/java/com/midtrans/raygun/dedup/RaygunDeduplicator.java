@@ -0,0 +1,327 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dedup;
+
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshotter;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Suppresses duplicate Raygun messages, sending the first occurrence of a fingerprint in a window
+ * and folding the later ones into a count.
+ *
+ * <p>The occurrences are tracked in a table split into stripes locked independently, so that
+ * threads reporting different fingerprints rarely contend. Every stripe is an open addressing table
+ * of primitive fingerprints, so tracking an occurrence does not allocate once its fingerprint is in
+ * the table.
+ *
+ * <p>When the window of a fingerprint closes, a single report of the {@link RaygunOccurrences} is
+ * passed to the occurrences consumer if the fingerprint occurred more than once. Fingerprints
+ * beyond {@code maxFingerprints} are not tracked and their messages are always sent.
+ *
+ * <p>When a {@link RaygunThrowableSnapshotter} is set, the exceptions are not kept: a snapshot of
+ * the second occurrence is captured when the fingerprint occurs again in its window, so a window
+ * whose fingerprint occurs once holds nothing. The snapshots of the open windows are bounded by
+ * {@code maxFingerprints} and are not reserved in the maximum queued size of the snapshotter, so
+ * the occurrences consumer is responsible for reserving a snapshot before queueing it.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunDeduplicator implements InitializingBean, DisposableBean {
+  private static final int STRIPES = 16;
+  private static final long MIN_EXPIRE_INTERVAL_MILLIS = 10;
+
+  private Duration window = Duration.ofSeconds(60);
+  private int stackFrames = 5;
+  private int maxFingerprints = 4096;
+  private volatile Consumer<RaygunOccurrences> occurrencesConsumer = occurrences -> {};
+  private volatile RaygunThrowableSnapshotter raygunThrowableSnapshotter;
+
+  private final LongAdder suppressedCount = new LongAdder();
+
+  private RaygunFingerprinter raygunFingerprinter;
+  private Stripe[] stripes;
+  private ScheduledExecutorService scheduledExecutorService;
+
+  /**
+   * Set the window during which the later occurrences of a fingerprint are suppressed. Default is
+   * 60 seconds.
+   *
+   * @param window the window
+   */
+  public void setWindow(Duration window) {
+    this.window = window;
+  }
+
+  /**
+   * Set the number of top stack frames hashed in a fingerprint. Default is 5.
+   *
+   * @param stackFrames the number of stack frames
+   */
+  public void setStackFrames(int stackFrames) {
+    this.stackFrames = stackFrames;
+  }
+
+  /**
+   * Set the maximum number of fingerprints tracked. Default is 4096.
+   *
+   * @param maxFingerprints the maximum number of fingerprints
+   */
+  public void setMaxFingerprints(int maxFingerprints) {
+    this.maxFingerprints = maxFingerprints;
+  }
+
+  /**
+   * Set the consumer of the occurrences reported when a window closes.
+   *
+   * @param occurrencesConsumer the occurrences consumer
+   */
+  public void setOccurrencesConsumer(Consumer<RaygunOccurrences> occurrencesConsumer) {
+    this.occurrencesConsumer = occurrencesConsumer;
+  }
+
+  /**
+   * Set the snapshotter capturing the first occurrence of a fingerprint when its window opens.
+   *
+   * @param raygunThrowableSnapshotter the snapshotter, or {@code null} to keep the exceptions
+   */
+  public void setRaygunThrowableSnapshotter(RaygunThrowableSnapshotter raygunThrowableSnapshotter) {
+    this.raygunThrowableSnapshotter = raygunThrowableSnapshotter;
+  }
+
+  public RaygunThrowableSnapshotter getRaygunThrowableSnapshotter() {
+    return raygunThrowableSnapshotter;
+  }
+
+  /**
+   * Allocates the table and starts closing the windows in a background thread.
+   *
+   * @throws IllegalArgumentException if a property is invalid
+   */
+  @Override
+  public void afterPropertiesSet() {
+    Assert.isTrue(
+        window != null && !window.isNegative() && !window.isZero(), "The window must be positive");
+    Assert.isTrue(
+        maxFingerprints >= STRIPES, "The maximum fingerprints must not be less than " + STRIPES);
+    Assert.notNull(occurrencesConsumer, "The occurrences consumer must not be null");
+
+    raygunFingerprinter = new RaygunFingerprinter(stackFrames);
+    stripes = new Stripe[STRIPES];
+    for (int index = 0; index < STRIPES; index++) {
+      stripes[index] = new Stripe(maxFingerprints / STRIPES);
+    }
+
+    long expireIntervalMillis = Math.max(MIN_EXPIRE_INTERVAL_MILLIS, window.toMillis() / 4);
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("raygun-dedup-");
+    threadFactory.setDaemon(true);
+    scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    scheduledExecutorService.scheduleWithFixedDelay(
+        () -> expire(System.currentTimeMillis()),
+        expireIntervalMillis,
+        expireIntervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Records an occurrence of a throwable.
+   *
+   * @param throwable the throwable
+   * @param tags custom tags
+   * @param data custom data
+   * @return {@code true} if the message should be sent, {@code false} if it is a duplicate
+   */
+  public boolean offer(Throwable throwable, Set<String> tags, Map<String, String> data) {
+    return offer(throwable, tags, data, System.currentTimeMillis());
+  }
+
+  boolean offer(Throwable throwable, Set<String> tags, Map<String, String> data, long now) {
+    long fingerprint = raygunFingerprinter.fingerprint(throwable);
+    Stripe stripe = stripes[(int) (mix(fingerprint) >>> 32) & (STRIPES - 1)];
+    synchronized (stripe) {
+      RaygunOccurrences occurrences = stripe.get(fingerprint);
+      if (occurrences == null) {
+        open(stripe, fingerprint, throwable, tags, data, now);
+        return true;
+      }
+      RaygunThrowableSnapshotter snapshotter = raygunThrowableSnapshotter;
+      if (snapshotter != null && occurrences.getSnapshot() == null) {
+        occurrences.snapshot(snapshotter.captureUnreserved(throwable));
+      }
+      occurrences.occur(throwable, tags, data, now);
+    }
+    suppressedCount.increment();
+    return false;
+  }
+
+  private void open(
+      Stripe stripe,
+      long fingerprint,
+      Throwable throwable,
+      Set<String> tags,
+      Map<String, String> data,
+      long now) {
+    if (!stripe.isFull()) {
+      stripe.put(
+          new RaygunOccurrences(
+              fingerprint, raygunThrowableSnapshotter == null ? throwable : null, tags, data, now));
+    }
+  }
+
+  /**
+   * Closes the windows which started before {@code now - window}.
+   *
+   * @param now the current time in milliseconds
+   */
+  void expire(long now) {
+    List<RaygunOccurrences> expired = new ArrayList<>();
+    long windowStart = now - window.toMillis();
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        stripe.removeIf(windowStart, expired);
+      }
+    }
+    report(expired);
+  }
+
+  private void report(List<RaygunOccurrences> expired) {
+    for (RaygunOccurrences occurrences : expired) {
+      if (occurrences.getCount() > 1) {
+        occurrencesConsumer.accept(occurrences);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of duplicate messages suppressed.
+   *
+   * @return the number of suppressed messages
+   */
+  public long getSuppressedCount() {
+    return suppressedCount.sum();
+  }
+
+  /**
+   * Returns the number of fingerprints in an open window.
+   *
+   * @return the number of tracked fingerprints
+   */
+  public int getFingerprintCount() {
+    int count = 0;
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        count += stripe.size;
+      }
+    }
+    return count;
+  }
+
+  /** Stops closing the windows and reports the occurrences of the open windows. */
+  @Override
+  public void destroy() {
+    if (scheduledExecutorService != null) {
+      scheduledExecutorService.shutdownNow();
+      expire(Long.MAX_VALUE);
+    }
+  }
+
+  private static long mix(long fingerprint) {
+    long hash = (fingerprint ^ (fingerprint >>> 33)) * 0xff51afd7ed558ccdL;
+    return hash ^ (hash >>> 33);
+  }
+
+  /** An open addressing table with linear probing, at most half full. */
+  private static final class Stripe {
+    private final int maxSize;
+    private final int mask;
+    private final long[] fingerprints;
+    private final RaygunOccurrences[] occurrences;
+    private int size;
+
+    Stripe(int maxSize) {
+      this.maxSize = maxSize;
+      int capacity = Integer.highestOneBit(Math.max(2, maxSize * 2 - 1)) << 1;
+      this.mask = capacity - 1;
+      this.fingerprints = new long[capacity];
+      this.occurrences = new RaygunOccurrences[capacity];
+    }
+
+    RaygunOccurrences get(long fingerprint) {
+      for (int index = (int) mix(fingerprint) & mask;
+          occurrences[index] != null;
+          index = (index + 1) & mask) {
+        if (fingerprints[index] == fingerprint) {
+          return occurrences[index];
+        }
+      }
+      return null;
+    }
+
+    boolean isFull() {
+      return size >= maxSize;
+    }
+
+    void put(RaygunOccurrences raygunOccurrences) {
+      if (isFull()) {
+        return;
+      }
+      int index = (int) mix(raygunOccurrences.getFingerprint()) & mask;
+      while (occurrences[index] != null) {
+        index = (index + 1) & mask;
+      }
+      fingerprints[index] = raygunOccurrences.getFingerprint();
+      occurrences[index] = raygunOccurrences;
+      size++;
+    }
+
+    void removeIf(long windowStart, List<RaygunOccurrences> expired) {
+      int expiredSize = expired.size();
+      for (RaygunOccurrences raygunOccurrences : occurrences) {
+        if (raygunOccurrences != null && raygunOccurrences.getFirstTimestamp() <= windowStart) {
+          expired.add(raygunOccurrences);
+        }
+      }
+      if (expired.size() == expiredSize) {
+        return;
+      }
+
+      RaygunOccurrences[] remaining = occurrences.clone();
+      Arrays.fill(occurrences, null);
+      size = 0;
+      for (RaygunOccurrences raygunOccurrences : remaining) {
+        if (raygunOccurrences != null && raygunOccurrences.getFirstTimestamp() > windowStart) {
+          put(raygunOccurrences);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dedup;
+
+import org.springframework.util.Assert;
+
+/**
+ * Computes a 64-bit fingerprint of a {@code Throwable} from its type, its message template and its
+ * top stack frames.
+ *
+ * <p>The message template is the message with every run of digits folded into a single placeholder,
+ * so that messages differing only by identifiers, amounts or durations share a fingerprint. The
+ * fingerprint is an FNV-1a hash computed without allocating.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunFingerprinter {
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final char SEPARATOR = '\u0000';
+  private static final char DIGITS = '#';
+  private static final char NO_MESSAGE = '\u0001';
+
+  private final int stackFrames;
+
+  /**
+   * Creates a fingerprinter hashing the given number of top stack frames.
+   *
+   * @param stackFrames the number of top stack frames
+   * @throws IllegalArgumentException if stackFrames is negative
+   */
+  public RaygunFingerprinter(int stackFrames) {
+    Assert.isTrue(stackFrames >= 0, "The stack frames must not be negative");
+    this.stackFrames = stackFrames;
+  }
+
+  /**
+   * Returns the fingerprint of the given throwable.
+   *
+   * @param throwable the throwable
+   * @return the fingerprint
+   */
+  public long fingerprint(Throwable throwable) {
+    long hash = hash(FNV_OFFSET_BASIS, throwable.getClass().getName());
+    hash = hashTemplate(hash, throwable.getMessage());
+    if (stackFrames == 0) {
+      return hash;
+    }
+
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    int frames = Math.min(stackFrames, stackTrace.length);
+    for (int index = 0; index < frames; index++) {
+      StackTraceElement stackTraceElement = stackTrace[index];
+      hash = hash(hash, stackTraceElement.getClassName());
+      hash = hash(hash, stackTraceElement.getMethodName());
+      hash = hash(hash, stackTraceElement.getLineNumber());
+    }
+    return hash;
+  }
+
+  private static long hashTemplate(long hash, String message) {
+    if (message == null) {
+      return hash(hash, NO_MESSAGE);
+    }
+    long result = hash;
+    boolean digits = false;
+    for (int index = 0; index < message.length(); index++) {
+      char character = message.charAt(index);
+      if (character >= '0' && character <= '9') {
+        if (!digits) {
+          result = hash(result, DIGITS);
+        }
+        digits = true;
+      } else {
+        result = hash(result, character);
+        digits = false;
+      }
+    }
+    return hash(result, SEPARATOR);
+  }
+
+  private static long hash(long hash, String value) {
+    long result = hash;
+    for (int index = 0; index < value.length(); index++) {
+      result = hash(result, value.charAt(index));
+    }
+    return hash(result, SEPARATOR);
+  }
+
+  private static long hash(long hash, int value) {
+    long result = hash;
+    for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+      result = (result ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+    }
+    return result;
+  }
+
+  private static long hash(long hash, char value) {
+    return ((hash ^ (value & 0xff)) * FNV_PRIME ^ (value >>> Byte.SIZE)) * FNV_PRIME;
+  }
+
+  public int getStackFrames() {
+    return stackFrames;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dedup;
+
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshot;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The occurrences of a fingerprint during a window, reported once the window closes.
+ *
+ * <p>The last occurrence is kept as the representative throwable, tags and custom data, since the
+ * first occurrence was already sent, and the occurrence count with the first and last timestamps
+ * are added to the custom data of the report.
+ *
+ * <p>When the deduplicator has a snapshotter, no throwable is kept and a snapshot of the second
+ * occurrence is captured instead, so that no exception is retained during the window. The last tags
+ * and custom data are still kept.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunOccurrences {
+  /** Custom data key of the number of occurrences during the window. */
+  public static final String OCCURRENCE_COUNT = "occurrenceCount";
+
+  /** Custom data key of the ISO-8601 timestamp of the first occurrence. */
+  public static final String FIRST_OCCURRENCE = "firstOccurrence";
+
+  /** Custom data key of the ISO-8601 timestamp of the last occurrence. */
+  public static final String LAST_OCCURRENCE = "lastOccurrence";
+
+  private final long fingerprint;
+  private Throwable throwable;
+  private RaygunThrowableSnapshot snapshot;
+  private Set<String> tags;
+  private Map<String, String> data;
+  private final long firstTimestamp;
+  private long lastTimestamp;
+  private long count = 1;
+
+  RaygunOccurrences(
+      long fingerprint,
+      Throwable throwable,
+      Set<String> tags,
+      Map<String, String> data,
+      long timestamp) {
+    this.fingerprint = fingerprint;
+    this.throwable = throwable;
+    this.tags = tags;
+    this.data = data;
+    this.firstTimestamp = timestamp;
+    this.lastTimestamp = timestamp;
+  }
+
+  void snapshot(RaygunThrowableSnapshot snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  void occur(Throwable throwable, Set<String> tags, Map<String, String> data, long timestamp) {
+    if (snapshot == null) {
+      this.throwable = throwable;
+    }
+    this.tags = tags;
+    this.data = data;
+    count++;
+    lastTimestamp = Math.max(lastTimestamp, timestamp);
+  }
+
+  public long getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Returns the throwable of the last occurrence.
+   *
+   * @return the throwable, {@code null} if a snapshot was captured instead
+   */
+  public Throwable getThrowable() {
+    return throwable;
+  }
+
+  /**
+   * Returns the snapshot of the second occurrence, captured when the fingerprint occurred again.
+   *
+   * @return the snapshot, {@code null} if the deduplicator has no snapshotter
+   */
+  public RaygunThrowableSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  public Set<String> getTags() {
+    return tags;
+  }
+
+  /**
+   * Returns the custom data of the last occurrence with the occurrence count and the first and last
+   * timestamps.
+   *
+   * @return the custom data of the report
+   */
+  public Map<String, String> getData() {
+    Map<String, String> reportData = new HashMap<>(data);
+    reportData.put(OCCURRENCE_COUNT, Long.toString(count));
+    reportData.put(FIRST_OCCURRENCE, Instant.ofEpochMilli(firstTimestamp).toString());
+    reportData.put(LAST_OCCURRENCE, Instant.ofEpochMilli(lastTimestamp).toString());
+    return reportData;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getFirstTimestamp() {
+    return firstTimestamp;
+  }
+
+  public long getLastTimestamp() {
+    return lastTimestamp;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dispatch;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown by the {@link RaygunDispatcher#asTaskExecutor() TaskExecutor} of a {@link
+ * RaygunDispatcher} when a message sending task is dropped. A dropped {@link RaygunDroppableTask}
+ * has already been notified by the dispatcher.
+ *
+ * <p>The exception carries no stack trace and a single instance is shared, so that dropping a task
+ * never allocates.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunDispatchRejectedException extends RejectedExecutionException {
+  private static final long serialVersionUID = 1L;
+
+  static final RaygunDispatchRejectedException INSTANCE = new RaygunDispatchRejectedException();
+
+  private RaygunDispatchRejectedException() {
+    super("Raygun dispatcher dropped the message");
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
@@ -0,0 +1,628 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dispatch;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A dispatch stage that queues Raygun messages in preallocated lock-free ring buffers drained by a
+ * small set of sender threads.
+ *
+ * <p>Every {@link RaygunPriority} has its own queue, called a lane, with its own capacity. A {@link
+ * RaygunPrioritizedTask} is queued in the lane of its priority and any other task in the {@link
+ * RaygunPriority#NORMAL} lane. The sender threads always drain a higher priority lane first, so
+ * that under pressure the lower priority lanes fill up and shed their messages first while the
+ * messages of a higher priority lane never compete with them for room.
+ *
+ * <p>Dispatching never throws and never allocates on the dispatching thread. When a lane is full,
+ * the configured {@link RaygunOverflowPolicy} decides what happens within that lane and every
+ * message dropped is counted per lane. A dropped {@link RaygunDroppableTask} is notified in the
+ * dispatching thread.
+ *
+ * <p>The sender threads are daemon threads so that they never prevent the application from exiting.
+ * A sender thread idle for longer than the keep-alive exits and is started again by the next
+ * dispatching thread, which is the only case where dispatching allocates.
+ *
+ * <p>Like an {@link java.util.concurrent.ExecutorService}, {@link #shutdown()} stops accepting
+ * messages while every sender thread keeps sending the queued messages, {@link
+ * #awaitTermination(Duration)} waits for them up to a deadline and {@link #shutdownNow()} removes
+ * the messages still queued.
+ *
+ * <p>{@link #pause()} keeps the sender threads from sending while messages are still queued, up to
+ * the lane capacities, until {@link #resume()}. {@link #flush(Duration)} sends the queued messages,
+ * even while paused, and waits for them.
+ *
+ * @apiNote This class intentionally does not implement {@link java.util.concurrent.Executor} so
+ *     that registering it as a bean does not interfere with the application {@code Executor} beans.
+ *     Use {@link #asTaskExecutor()} instead.
+ * @author Raydhitya Yoseph
+ */
+public class RaygunDispatcher implements InitializingBean, DisposableBean {
+  private static final Log logger = LogFactory.getLog(RaygunDispatcher.class);
+
+  private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final long FLUSH_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final int BUSY = 0;
+  private static final int IDLE = 1;
+  private static final int STOPPED = 2;
+
+  private int criticalQueueCapacity = 256;
+  private int queueCapacity = 1024;
+  private int lowQueueCapacity = 256;
+  private int coreSize = 2;
+  private RaygunOverflowPolicy overflowPolicy = RaygunOverflowPolicy.DROP_NEWEST;
+  private Duration blockTimeout = Duration.ofMillis(10);
+  private Duration keepAlive = Duration.ofSeconds(60);
+  private String threadNamePrefix = "raygun-";
+
+  private final LongAdder[] droppedCounts = newDroppedCounts();
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private RingBuffer<Runnable>[] lanes = new RingBuffer[0];
+
+  private AtomicReferenceArray<Thread> senders = new AtomicReferenceArray<>(0);
+  private AtomicIntegerArray senderStates = new AtomicIntegerArray(0);
+  private CustomizableThreadFactory threadFactory;
+  private long keepAliveNanos;
+  private volatile boolean running;
+  private volatile boolean paused;
+  private final AtomicInteger flushing = new AtomicInteger();
+
+  /**
+   * Set the minimum number of messages the {@link RaygunPriority#CRITICAL} lane can hold, rounded
+   * up to the next power of two. Default is 256.
+   *
+   * @param criticalQueueCapacity the critical lane capacity
+   */
+  public void setCriticalQueueCapacity(int criticalQueueCapacity) {
+    this.criticalQueueCapacity = criticalQueueCapacity;
+  }
+
+  /**
+   * Set the minimum number of messages the {@link RaygunPriority#NORMAL} lane can hold, rounded up
+   * to the next power of two. Default is 1024.
+   *
+   * @param queueCapacity the normal lane capacity
+   */
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  /**
+   * Set the minimum number of messages the {@link RaygunPriority#LOW} lane can hold, rounded up to
+   * the next power of two. Default is 256.
+   *
+   * @param lowQueueCapacity the low lane capacity
+   */
+  public void setLowQueueCapacity(int lowQueueCapacity) {
+    this.lowQueueCapacity = lowQueueCapacity;
+  }
+
+  /**
+   * Set the number of sender threads draining the queue. Default is 2.
+   *
+   * @param coreSize the number of sender threads
+   */
+  public void setCoreSize(int coreSize) {
+    this.coreSize = coreSize;
+  }
+
+  /**
+   * Set the policy applied when the queue is full. Default is {@link
+   * RaygunOverflowPolicy#DROP_NEWEST}.
+   *
+   * @param overflowPolicy the overflow policy
+   */
+  public void setOverflowPolicy(RaygunOverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Set how long {@link RaygunOverflowPolicy#BLOCK} waits for room in the queue. Default is 10
+   * milliseconds.
+   *
+   * @param blockTimeout the block timeout
+   */
+  public void setBlockTimeout(Duration blockTimeout) {
+    this.blockTimeout = blockTimeout;
+  }
+
+  /**
+   * Set how long an idle sender thread waits for messages before exiting. Default is 60 seconds.
+   *
+   * @param keepAlive the keep-alive
+   */
+  public void setKeepAlive(Duration keepAlive) {
+    this.keepAlive = keepAlive;
+  }
+
+  /**
+   * Set the prefix of the sender threads names. Default is {@code raygun-}.
+   *
+   * @param threadNamePrefix the thread name prefix
+   */
+  public void setThreadNamePrefix(String threadNamePrefix) {
+    this.threadNamePrefix = threadNamePrefix;
+  }
+
+  /**
+   * Creates the lanes and starts the sender threads.
+   *
+   * @throws IllegalArgumentException if a property is invalid
+   */
+  @Override
+  public void afterPropertiesSet() {
+    Assert.isTrue(coreSize > 0, "The core size must be greater than 0");
+    Assert.notNull(overflowPolicy, "The overflow policy must not be null");
+    Assert.isTrue(
+        blockTimeout != null && !blockTimeout.isNegative(),
+        "The block timeout must not be null or negative");
+    Assert.isTrue(
+        keepAlive != null && !keepAlive.isNegative() && !keepAlive.isZero(),
+        "The keep-alive must be positive");
+
+    lanes = newLanes(criticalQueueCapacity, queueCapacity, lowQueueCapacity);
+    senders = new AtomicReferenceArray<>(coreSize);
+    senderStates = new AtomicIntegerArray(coreSize);
+    keepAliveNanos = keepAlive.toNanos();
+    running = true;
+
+    threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+    threadFactory.setDaemon(true);
+    for (int index = 0; index < coreSize; index++) {
+      start(index);
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static RingBuffer<Runnable>[] newLanes(int... capacities) {
+    RingBuffer<Runnable>[] lanes = new RingBuffer[capacities.length];
+    for (int index = 0; index < capacities.length; index++) {
+      lanes[index] = new RingBuffer<>(capacities[index]);
+    }
+    return lanes;
+  }
+
+  private static LongAdder[] newDroppedCounts() {
+    LongAdder[] droppedCounts = new LongAdder[RaygunPriority.values().length];
+    for (int index = 0; index < droppedCounts.length; index++) {
+      droppedCounts[index] = new LongAdder();
+    }
+    return droppedCounts;
+  }
+
+  private void start(int senderIndex) {
+    Thread sender = threadFactory.newThread(() -> drain(senderIndex));
+    senders.set(senderIndex, sender);
+    sender.start();
+  }
+
+  /**
+   * Dispatches a message sending task to the sender threads.
+   *
+   * @param task the message sending task
+   * @return {@code true} if the task was queued or run, {@code false} if the task was dropped
+   */
+  public boolean dispatch(Runnable task) {
+    int lane = lane(task);
+    if (!running) {
+      drop(task, lane);
+      return false;
+    }
+    if (lanes[lane].offer(task)) {
+      signalIdleSender();
+      return true;
+    }
+    return overflow(task, lane);
+  }
+
+  /**
+   * Returns a {@link TaskExecutor} dispatching the tasks to this dispatcher and throwing a {@link
+   * RaygunDispatchRejectedException} when a task is dropped.
+   *
+   * @return the task executor
+   */
+  public TaskExecutor asTaskExecutor() {
+    return task -> {
+      if (!dispatch(task)) {
+        throw RaygunDispatchRejectedException.INSTANCE;
+      }
+    };
+  }
+
+  private static int lane(Runnable task) {
+    return task instanceof RaygunPrioritizedTask
+        ? ((RaygunPrioritizedTask) task).getPriority().ordinal()
+        : RaygunPriority.NORMAL.ordinal();
+  }
+
+  private boolean overflow(Runnable task, int lane) {
+    switch (overflowPolicy) {
+      case DROP_OLDEST:
+        return dispatchDroppingOldest(task, lane);
+      case BLOCK:
+        return dispatchBlocking(task, lane);
+      case CALLER_RUNS:
+        run(task);
+        return true;
+      default:
+        drop(task, lane);
+        return false;
+    }
+  }
+
+  private boolean dispatchDroppingOldest(Runnable task, int lane) {
+    RingBuffer<Runnable> ringBuffer = lanes[lane];
+    for (int attempt = 0; attempt < ringBuffer.capacity(); attempt++) {
+      Runnable oldestTask = ringBuffer.poll();
+      if (oldestTask != null) {
+        drop(oldestTask, lane);
+      }
+      if (ringBuffer.offer(task)) {
+        signalIdleSender();
+        return true;
+      }
+    }
+    drop(task, lane);
+    return false;
+  }
+
+  private boolean dispatchBlocking(Runnable task, int lane) {
+    long deadline = System.nanoTime() + blockTimeout.toNanos();
+    do {
+      signalIdleSender();
+      LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+      if (lanes[lane].offer(task)) {
+        signalIdleSender();
+        return true;
+      }
+    } while (running && System.nanoTime() - deadline < 0);
+    drop(task, lane);
+    return false;
+  }
+
+  private void drop(Runnable task, int lane) {
+    droppedCounts[lane].increment();
+    if (task instanceof RaygunDroppableTask) {
+      try {
+        ((RaygunDroppableTask) task).onDropped();
+      } catch (RuntimeException ex) {
+        logger.warn("Raygun dropped message notification failed", ex);
+      }
+    }
+  }
+
+  private void drain(int senderIndex) {
+    long idleSince = System.nanoTime();
+    while (true) {
+      Runnable task = isSending() ? poll() : null;
+      if (task != null) {
+        run(task);
+        idleSince = System.nanoTime();
+      } else if (!running) {
+        senderStates.set(senderIndex, STOPPED);
+        return;
+      } else if (System.nanoTime() - idleSince < keepAliveNanos) {
+        idle(senderIndex, keepAliveNanos - (System.nanoTime() - idleSince));
+      } else if (stop(senderIndex)) {
+        return;
+      } else {
+        idleSince = System.nanoTime();
+      }
+    }
+  }
+
+  private boolean isSending() {
+    return !paused || !running || flushing.get() > 0;
+  }
+
+  /** Polls the oldest message of the highest priority lane which is not empty. */
+  private Runnable poll() {
+    for (RingBuffer<Runnable> lane : lanes) {
+      Runnable task = lane.poll();
+      if (task != null) {
+        return task;
+      }
+    }
+    return null;
+  }
+
+  private boolean isEmpty() {
+    for (RingBuffer<Runnable> lane : lanes) {
+      if (!lane.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void idle(int senderIndex, long remainingNanos) {
+    senderStates.set(senderIndex, IDLE);
+    if (running && (isEmpty() || !isSending())) {
+      LockSupport.parkNanos(this, Math.min(remainingNanos, IDLE_PARK_NANOS));
+    }
+    senderStates.set(senderIndex, BUSY);
+  }
+
+  /** Returns {@code false} if messages were dispatched while stopping and the sender must stay. */
+  private boolean stop(int senderIndex) {
+    senderStates.set(senderIndex, STOPPED);
+    return !running || isEmpty() || !senderStates.compareAndSet(senderIndex, STOPPED, BUSY);
+  }
+
+  private void signalIdleSender() {
+    int stoppedIndex = -1;
+    for (int index = 0; index < senderStates.length(); index++) {
+      int senderState = senderStates.get(index);
+      if (senderState == IDLE) {
+        LockSupport.unpark(senders.get(index));
+        return;
+      }
+      if (senderState == STOPPED && stoppedIndex < 0) {
+        stoppedIndex = index;
+      }
+    }
+    if (stoppedIndex >= 0 && senderStates.compareAndSet(stoppedIndex, STOPPED, BUSY)) {
+      start(stoppedIndex);
+    }
+  }
+
+  private void run(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException ex) {
+      logger.warn("Raygun message sending failed", ex);
+    }
+  }
+
+  /**
+   * Returns the number of messages dropped by the overflow policy or after this dispatcher was
+   * destroyed.
+   *
+   * @return the number of dropped messages
+   */
+  public long getDroppedCount() {
+    long droppedCount = 0;
+    for (LongAdder laneDroppedCount : droppedCounts) {
+      droppedCount += laneDroppedCount.sum();
+    }
+    return droppedCount;
+  }
+
+  /**
+   * Returns the number of messages of a lane dropped by the overflow policy or after this
+   * dispatcher was destroyed.
+   *
+   * @param priority the priority of the lane
+   * @return the number of dropped messages of the lane
+   */
+  public long getDroppedCount(RaygunPriority priority) {
+    return droppedCounts[priority.ordinal()].sum();
+  }
+
+  /**
+   * Returns an estimate of the number of queued messages in every lane.
+   *
+   * @return the number of queued messages
+   */
+  public int getQueueSize() {
+    int queueSize = 0;
+    for (RingBuffer<Runnable> lane : lanes) {
+      queueSize += lane.size();
+    }
+    return queueSize;
+  }
+
+  /**
+   * Returns an estimate of the number of queued messages in a lane.
+   *
+   * @param priority the priority of the lane
+   * @return the number of queued messages of the lane
+   */
+  public int getQueueSize(RaygunPriority priority) {
+    return lanes[priority.ordinal()].size();
+  }
+
+  /**
+   * Returns the number of sender threads which have not exited after being idle.
+   *
+   * @return the number of live sender threads
+   */
+  public int getSenderCount() {
+    int senderCount = 0;
+    for (int index = 0; index < senderStates.length(); index++) {
+      if (senderStates.get(index) != STOPPED) {
+        senderCount++;
+      }
+    }
+    return senderCount;
+  }
+
+  /**
+   * Returns the number of messages the {@link RaygunPriority#NORMAL} lane can hold.
+   *
+   * @return the normal lane capacity
+   */
+  public int getQueueCapacity() {
+    return getQueueCapacity(RaygunPriority.NORMAL);
+  }
+
+  /**
+   * Returns the number of messages a lane can hold.
+   *
+   * @param priority the priority of the lane
+   * @return the lane capacity
+   */
+  public int getQueueCapacity(RaygunPriority priority) {
+    return lanes[priority.ordinal()].capacity();
+  }
+
+  /**
+   * Stops sending the queued messages until {@link #resume()}. Messages are still queued, and
+   * dropped by the overflow policy once their lane is full.
+   */
+  public void pause() {
+    paused = true;
+  }
+
+  /** Sends the messages queued while paused and the next ones. */
+  public void resume() {
+    paused = false;
+    wakeSenders();
+  }
+
+  /**
+   * Returns whether this dispatcher is paused.
+   *
+   * @return {@code true} between {@link #pause()} and {@link #resume()}
+   */
+  public boolean isPaused() {
+    return paused;
+  }
+
+  /**
+   * Sends the queued messages, even while paused, and waits until they are sent.
+   *
+   * @param timeout the maximum time to wait
+   * @return {@code true} if every queued message was sent, {@code false} if the timeout elapsed
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean flush(Duration timeout) throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    flushing.incrementAndGet();
+    try {
+      wakeSenders();
+      while (!isEmpty() || hasSender(BUSY)) {
+        if (System.nanoTime() - deadline >= 0) {
+          return false;
+        }
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        LockSupport.parkNanos(this, FLUSH_PARK_NANOS);
+      }
+      return true;
+    } finally {
+      flushing.decrementAndGet();
+    }
+  }
+
+  private boolean hasSender(int senderState) {
+    for (int index = 0; index < senderStates.length(); index++) {
+      if (senderStates.get(index) == senderState) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Wakes every sender thread, and starts again the ones which exited if messages are queued. */
+  private void wakeSenders() {
+    for (int index = 0; index < senders.length(); index++) {
+      if (!isEmpty() && senderStates.compareAndSet(index, STOPPED, BUSY)) {
+        start(index);
+      } else {
+        LockSupport.unpark(senders.get(index));
+      }
+    }
+  }
+
+  /**
+   * Stops accepting messages. Every sender thread, including the ones which exited after being
+   * idle, sends the already queued messages in parallel and exits, even while paused.
+   */
+  public void shutdown() {
+    running = false;
+    wakeSenders();
+  }
+
+  /**
+   * Waits until the sender threads have sent the queued messages and exited after {@link
+   * #shutdown()}.
+   *
+   * @param timeout the maximum time to wait
+   * @return {@code true} if every queued message was sent, {@code false} if the timeout elapsed
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean awaitTermination(Duration timeout) throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    for (int index = 0; index < senders.length(); index++) {
+      Thread sender = senders.get(index);
+      long remainingNanos = deadline - System.nanoTime();
+      if (sender != null && remainingNanos > 0) {
+        TimeUnit.NANOSECONDS.timedJoin(sender, remainingNanos);
+      }
+      if (sender != null && sender.isAlive()) {
+        return false;
+      }
+    }
+    return isEmpty();
+  }
+
+  /**
+   * Stops accepting messages and removes the queued messages which were not sent yet. The removed
+   * messages are not counted as dropped.
+   *
+   * @return the removed message sending tasks, from the highest priority lane
+   */
+  public List<Runnable> shutdownNow() {
+    running = false;
+    List<Runnable> tasks = new ArrayList<>();
+    for (Runnable task = poll(); task != null; task = poll()) {
+      tasks.add(task);
+    }
+    for (int index = 0; index < senders.length(); index++) {
+      LockSupport.unpark(senders.get(index));
+    }
+    return tasks;
+  }
+
+  /**
+   * Returns whether this dispatcher accepts messages.
+   *
+   * @return {@code true} until this dispatcher is shut down
+   */
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Stops accepting messages. The sender threads exit after sending the already queued messages.
+   */
+  @Override
+  public void destroy() {
+    shutdown();
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dispatch;
+
+/**
+ * A message sending task notified when it is dropped instead of being run, so that whoever awaits
+ * its outcome is not left waiting.
+ *
+ * @author Raydhitya Yoseph
+ */
+public interface RaygunDroppableTask extends Runnable {
+
+  /** Called instead of {@link #run()} when the task is dropped. */
+  void onDropped();
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dispatch;
+
+/**
+ * Policies applied by {@link RaygunDispatcher} when a message is dispatched while its queue is
+ * full.
+ *
+ * @author Raydhitya Yoseph
+ */
+public enum RaygunOverflowPolicy {
+
+  /** Drops the message being dispatched. */
+  DROP_NEWEST,
+
+  /** Drops the oldest queued message to make room for the message being dispatched. */
+  DROP_OLDEST,
+
+  /**
+   * Waits for the queue to have room up to the block timeout and drops the message being dispatched
+   * when the timeout elapses.
+   */
+  BLOCK,
+
+  /** Sends the message in the dispatching thread. */
+  CALLER_RUNS
+}
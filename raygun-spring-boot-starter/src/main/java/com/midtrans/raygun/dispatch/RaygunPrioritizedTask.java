@@ -0,0 +1,33 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dispatch;
+
+/**
+ * A message sending task queued in the lane of its {@link RaygunPriority}. A task not implementing
+ * this interface is queued in the {@link RaygunPriority#NORMAL} lane.
+ *
+ * @author Raydhitya Yoseph
+ */
+public interface RaygunPrioritizedTask extends Runnable {
+
+  /**
+   * Returns the priority of this task.
+   *
+   * @return the priority, never {@code null}
+   */
+  RaygunPriority getPriority();
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dispatch;
+
+/**
+ * Priorities of the Raygun messages, each queued in its own lane of {@link RaygunDispatcher}.
+ *
+ * <p>The sender threads always drain a higher priority lane before a lower one, so that under
+ * pressure the lower priority lanes fill up and shed their messages first while the higher priority
+ * lanes keep their reserved capacity.
+ *
+ * @author Raydhitya Yoseph
+ */
+public enum RaygunPriority {
+
+  /** Uncaught exceptions reported by the exception resolvers and explicitly critical messages. */
+  CRITICAL,
+
+  /** Messages sent without a priority. */
+  NORMAL,
+
+  /** Messages which may be shed first. */
+  LOW
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dispatch;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded multi-producer multi-consumer queue backed by preallocated arrays.
+ *
+ * <p>Every slot carries a sequence which tells producers whether the slot is free and consumers
+ * whether the slot is published, so offering and polling never take a lock and never allocate.
+ *
+ * @param <E> the type of elements held in this queue
+ * @author Raydhitya Yoseph
+ * @see <a href="https://www.1024cores.net/home/lock-free-algorithms/queues/bounded-mpmc-queue">
+ *     Bounded MPMC queue</a>
+ */
+final class RingBuffer<E> {
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  /**
+   * Creates a ring buffer holding at least the given number of elements.
+   *
+   * @param capacity the minimum capacity, rounded up to the next power of two and at least 2 so
+   *     that a free slot sequence is never mistaken for a published one
+   * @throws IllegalArgumentException if capacity is not positive or too large
+   */
+  RingBuffer(int capacity) {
+    Assert.isTrue(capacity > 0, "The capacity must be greater than 0");
+    Assert.isTrue(capacity <= MAXIMUM_CAPACITY, "The capacity must not be greater than 2^30");
+
+    int size = 2;
+    while (size < capacity) {
+      size <<= 1;
+    }
+
+    this.mask = size - 1;
+    this.elements = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for (int index = 0; index < size; index++) {
+      sequences.set(index, index);
+    }
+  }
+
+  /**
+   * Inserts the element if there is room.
+   *
+   * @param element the element
+   * @return {@code true} if the element was inserted, {@code false} if the buffer is full
+   */
+  boolean offer(E element) {
+    long position = tail.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          elements.lazySet(index, element);
+          sequences.set(index, position + 1);
+          return true;
+        }
+        position = tail.get();
+      } else if (difference < 0) {
+        return false;
+      } else {
+        position = tail.get();
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest published element.
+   *
+   * @return the element or {@code null} if the buffer is empty
+   */
+  E poll() {
+    long position = head.get();
+    while (true) {
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          E element = elements.get(index);
+          elements.lazySet(index, null);
+          sequences.set(index, position + mask + 1);
+          return element;
+        }
+        position = head.get();
+      } else if (difference < 0) {
+        return null;
+      } else {
+        position = head.get();
+      }
+    }
+  }
+
+  /**
+   * Returns an estimate of the number of elements, which may be stale under concurrent access.
+   *
+   * @return the number of elements
+   */
+  int size() {
+    long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+}
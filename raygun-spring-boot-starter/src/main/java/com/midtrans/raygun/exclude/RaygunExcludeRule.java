@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.exclude;
+
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A declarative rule excluding the matching exceptions from Raygun sending.
+ *
+ * <p>A rule is written as {@code key=value} terms separated by {@code ;}, and matches an exception
+ * only if all of its terms match:
+ *
+ * <ul>
+ *   <li>{@code type}, the exception is an instance of the named type,
+ *   <li>{@code root-cause}, the deepest cause of the exception, or the exception itself if it has
+ *       no cause, is an instance of the named type,
+ *   <li>{@code package}, the top stack frame is in the named package or its subpackages,
+ *   <li>{@code origin}, the top stack frame is in the named class, or in the named method when
+ *       written as {@code class#method},
+ *   <li>{@code message}, the regular expression is found in the exception message.
+ * </ul>
+ *
+ * <p>A {@code ;} preceded by a backslash does not separate the terms and is kept with its
+ * backslash, so a message pattern matches a {@code ;} when it is written as {@code \;}.
+ *
+ * <p>Types are matched by name, so a rule can name a type which is not on the classpath.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunExcludeRule {
+  static final String TYPE = "type";
+  static final String ROOT_CAUSE = "root-cause";
+  static final String PACKAGE = "package";
+  static final String ORIGIN = "origin";
+  static final String MESSAGE = "message";
+
+  private static final List<String> KEYS = List.of(TYPE, ROOT_CAUSE, PACKAGE, ORIGIN, MESSAGE);
+  private static final char METHOD_SEPARATOR = '#';
+  private static final char TERM_SEPARATOR = ';';
+  private static final char ESCAPE = '\\';
+
+  private final String source;
+  private final String type;
+  private final String rootCause;
+  private final String packagePrefix;
+  private final String originClass;
+  private final String originMethod;
+  private final Pattern message;
+
+  private RaygunExcludeRule(String source, Map<String, String> terms) {
+    this.source = source;
+    this.type = terms.get(TYPE);
+    this.rootCause = terms.get(ROOT_CAUSE);
+    this.packagePrefix = terms.containsKey(PACKAGE) ? terms.get(PACKAGE) + '.' : null;
+
+    String origin = terms.get(ORIGIN);
+    int separator = origin == null ? -1 : origin.indexOf(METHOD_SEPARATOR);
+    this.originClass = separator < 0 ? origin : origin.substring(0, separator);
+    this.originMethod = separator < 0 ? null : origin.substring(separator + 1);
+
+    this.message = terms.containsKey(MESSAGE) ? Pattern.compile(terms.get(MESSAGE)) : null;
+  }
+
+  /**
+   * Parse a rule written as {@code key=value} terms separated by {@code ;} not preceded by a
+   * backslash.
+   *
+   * @param rule the rule
+   * @return the parsed rule
+   * @throws IllegalArgumentException if the rule is empty, has an unknown or repeated key, has an
+   *     empty value, or has an invalid message pattern
+   */
+  public static RaygunExcludeRule parse(String rule) {
+    Assert.hasText(rule, "The exclude rule must not be empty");
+
+    Map<String, String> terms = new LinkedHashMap<>();
+    for (String term : terms(rule)) {
+      if (term.isBlank()) {
+        continue;
+      }
+
+      int separator = term.indexOf('=');
+      Assert.isTrue(
+          separator > 0,
+          () -> "The exclude rule term must be written as key=value: " + term.trim());
+      String key = term.substring(0, separator).trim();
+      String value = term.substring(separator + 1).trim();
+      Assert.isTrue(
+          KEYS.contains(key), () -> "The exclude rule key must be one of " + KEYS + ": " + key);
+      Assert.hasText(value, () -> "The exclude rule value must not be empty: " + key);
+      Assert.isNull(
+          terms.put(key, value), () -> "The exclude rule key must not be repeated: " + key);
+    }
+    Assert.notEmpty(terms, "The exclude rule must not be empty");
+    if (terms.containsKey(ORIGIN)) {
+      String origin = terms.get(ORIGIN);
+      int separator = origin.indexOf(METHOD_SEPARATOR);
+      Assert.isTrue(
+          separator != 0 && separator != origin.length() - 1,
+          () -> "The exclude rule origin must be written as class or class#method: " + origin);
+    }
+
+    return new RaygunExcludeRule(rule.trim(), terms);
+  }
+
+  /** Splits a rule on the separators which are not escaped by a backslash. */
+  private static List<String> terms(String rule) {
+    List<String> terms = new ArrayList<>();
+    int start = 0;
+    boolean escaped = false;
+    for (int index = 0; index < rule.length(); index++) {
+      char c = rule.charAt(index);
+      if (escaped) {
+        escaped = false;
+      } else if (c == ESCAPE) {
+        escaped = true;
+      } else if (c == TERM_SEPARATOR) {
+        terms.add(rule.substring(start, index));
+        start = index + 1;
+      }
+    }
+    terms.add(rule.substring(start));
+    return terms;
+  }
+
+  boolean matchesType(Set<String> typeNames) {
+    return type == null || typeNames.contains(type);
+  }
+
+  boolean hasRootCause() {
+    return rootCause != null;
+  }
+
+  boolean matchesRootCause(Set<String> rootCauseTypeNames) {
+    return rootCauseTypeNames.contains(rootCause);
+  }
+
+  boolean hasTopFrame() {
+    return packagePrefix != null || originClass != null;
+  }
+
+  boolean matchesTopFrame(StackTraceElement topFrame) {
+    if (topFrame == null) {
+      return false;
+    }
+
+    String className = topFrame.getClassName();
+    return (packagePrefix == null || className.startsWith(packagePrefix))
+        && (originClass == null || originClass.equals(className))
+        && (originMethod == null || originMethod.equals(topFrame.getMethodName()));
+  }
+
+  boolean hasMessage() {
+    return message != null;
+  }
+
+  boolean matchesMessage(String exceptionMessage) {
+    return exceptionMessage != null && message.matcher(exceptionMessage).find();
+  }
+
+  /**
+   * Returns the relative cost of the checks of this rule which cannot be decided by the exception
+   * type alone, so that the cheaper rules are evaluated first.
+   */
+  int cost() {
+    return (hasRootCause() ? 1 : 0) + (hasTopFrame() ? 2 : 0) + (hasMessage() ? 4 : 0);
+  }
+
+  @Override
+  public String toString() {
+    return source;
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.exclude;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A set of {@link RaygunExcludeRule} compiled into a decision per exception type.
+ *
+ * <p>The rules whose {@code type} matches a concrete exception class are selected once per class
+ * and memoized in a {@link ClassValue}, ordered from the cheapest to the most expensive, so an
+ * exception no rule can match is decided by its class alone. The remaining checks are evaluated
+ * from the cheapest: the root cause type, then the top stack frame, then the message pattern. The
+ * root cause and the top stack frame are resolved at most once per exception, and a message pattern
+ * is only evaluated when all the other checks of its rule match.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunExcludeRules {
+  private static final int MAX_CAUSE_DEPTH = 32;
+  private static final RaygunExcludeRule[] NO_RULES = {};
+
+  private final RaygunExcludeRule[] rules;
+
+  private final ClassValue<Set<String>> typeNames =
+      new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+          return typeNames(type);
+        }
+      };
+
+  private final ClassValue<RaygunExcludeRule[]> candidates =
+      new ClassValue<>() {
+        @Override
+        protected RaygunExcludeRule[] computeValue(Class<?> type) {
+          return selectCandidates(type);
+        }
+      };
+
+  /**
+   * Compile the rules.
+   *
+   * @param rules the rules
+   */
+  public RaygunExcludeRules(List<RaygunExcludeRule> rules) {
+    this.rules =
+        rules.stream()
+            .sorted(Comparator.comparingInt(RaygunExcludeRule::cost))
+            .toArray(RaygunExcludeRule[]::new);
+  }
+
+  /**
+   * Returns whether a throwable is matched by any of the rules.
+   *
+   * @param throwable the throwable
+   * @return {@code true} if the throwable is matched
+   */
+  public boolean matches(Throwable throwable) {
+    if (rules.length == 0) {
+      return false;
+    }
+
+    Throwable rootCause = null;
+    StackTraceElement topFrame = null;
+    boolean topFrameResolved = false;
+    for (RaygunExcludeRule rule : candidates.get(throwable.getClass())) {
+      if (rule.hasRootCause()) {
+        if (rootCause == null) {
+          rootCause = rootCause(throwable);
+        }
+        if (!rule.matchesRootCause(typeNames.get(rootCause.getClass()))) {
+          continue;
+        }
+      }
+      if (rule.hasTopFrame()) {
+        if (!topFrameResolved) {
+          topFrame = topFrame(throwable);
+          topFrameResolved = true;
+        }
+        if (!rule.matchesTopFrame(topFrame)) {
+          continue;
+        }
+      }
+      if (!rule.hasMessage() || rule.matchesMessage(throwable.getMessage())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private RaygunExcludeRule[] selectCandidates(Class<?> type) {
+    Set<String> names = typeNames.get(type);
+    RaygunExcludeRule[] matched =
+        Arrays.stream(rules)
+            .filter(rule -> rule.matchesType(names))
+            .toArray(RaygunExcludeRule[]::new);
+    return matched.length == 0 ? NO_RULES : matched;
+  }
+
+  private static Set<String> typeNames(Class<?> type) {
+    Set<String> names = new HashSet<>();
+    Deque<Class<?>> types = new ArrayDeque<>();
+    types.add(type);
+    while (!types.isEmpty()) {
+      Class<?> current = types.poll();
+      if (names.add(current.getName())) {
+        if (current.getSuperclass() != null) {
+          types.add(current.getSuperclass());
+        }
+        types.addAll(List.of(current.getInterfaces()));
+      }
+    }
+    return Set.copyOf(names);
+  }
+
+  private static Throwable rootCause(Throwable throwable) {
+    Throwable rootCause = throwable;
+    for (int depth = 0;
+        rootCause.getCause() != null
+            && rootCause.getCause() != rootCause
+            && depth < MAX_CAUSE_DEPTH;
+        depth++) {
+      rootCause = rootCause.getCause();
+    }
+    return rootCause;
+  }
+
+  private static StackTraceElement topFrame(Throwable throwable) {
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    return stackTrace.length == 0 ? null : stackTrace[0];
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.metrics;
+
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link RaygunTransport} measuring the requests sent by another one.
+ *
+ * <p>It times every request per outcome, gauges the requests in flight and summarizes the size of
+ * the messages in bytes, before compression. The meters are registered once, so measuring a request
+ * only updates lock-free meters.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class MeteredRaygunTransport implements RaygunTransport {
+  /** The name of the request timers. */
+  public static final String REQUESTS_METRIC_NAME = "raygun.transport.requests";
+
+  /** The name of the in-flight requests gauge. */
+  public static final String IN_FLIGHT_METRIC_NAME = "raygun.transport.in-flight";
+
+  /** The name of the message size summary. */
+  public static final String PAYLOAD_METRIC_NAME = "raygun.transport.payload";
+
+  private final RaygunTransport raygunTransport;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Timer successTimer;
+  private final Timer clientErrorTimer;
+  private final Timer serverErrorTimer;
+  private final Timer unknownTimer;
+  private final DistributionSummary payloadSummary;
+
+  /**
+   * Create the transport.
+   *
+   * @param raygunTransport the transport sending the requests
+   * @param meterRegistry the registry of the meters
+   */
+  public MeteredRaygunTransport(RaygunTransport raygunTransport, MeterRegistry meterRegistry) {
+    this.raygunTransport = raygunTransport;
+    this.successTimer = timer(meterRegistry, "SUCCESS");
+    this.clientErrorTimer = timer(meterRegistry, "CLIENT_ERROR");
+    this.serverErrorTimer = timer(meterRegistry, "SERVER_ERROR");
+    this.unknownTimer = timer(meterRegistry, "UNKNOWN");
+    this.payloadSummary =
+        DistributionSummary.builder(PAYLOAD_METRIC_NAME)
+            .description("Size of the Raygun messages sent")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    Gauge.builder(IN_FLIGHT_METRIC_NAME, inFlight, AtomicInteger::get)
+        .description("Requests to the Raygun API in flight")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public CompletableFuture<RaygunTransportResponse> send(String apiKey, String payload) {
+    payloadSummary.record(utf8Length(payload));
+    inFlight.incrementAndGet();
+    long startNanos = System.nanoTime();
+    CompletableFuture<RaygunTransportResponse> response;
+    try {
+      response = raygunTransport.send(apiKey, payload);
+    } catch (RuntimeException ex) {
+      inFlight.decrementAndGet();
+      unknownTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      throw ex;
+    }
+    response.whenComplete(
+        (transportResponse, ex) -> {
+          inFlight.decrementAndGet();
+          timer(transportResponse).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        });
+    return response;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private Timer timer(RaygunTransportResponse transportResponse) {
+    if (transportResponse == null) {
+      return unknownTimer;
+    }
+    int statusCode = transportResponse.getStatusCode();
+    if (statusCode >= 200 && statusCode < 300) {
+      return successTimer;
+    }
+    if (statusCode >= 400 && statusCode < 500) {
+      return clientErrorTimer;
+    }
+    if (statusCode >= 500) {
+      return serverErrorTimer;
+    }
+    return unknownTimer;
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder(REQUESTS_METRIC_NAME)
+        .description("Requests to the Raygun API")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  /** Returns the number of bytes of a string encoded in UTF-8 without encoding it. */
+  static int utf8Length(String payload) {
+    int length = payload.length();
+    for (int index = 0; index < payload.length(); index++) {
+      char character = payload.charAt(index);
+      if (character >= 0x800) {
+        length += Character.isSurrogate(character) ? 1 : 2;
+      } else if (character >= 0x80) {
+        length++;
+      }
+    }
+    return length;
+  }
+}
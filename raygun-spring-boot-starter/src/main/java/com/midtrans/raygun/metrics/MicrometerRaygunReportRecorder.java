@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.metrics;
+
+import com.midtrans.raygun.RaygunReportRecorder;
+import com.midtrans.raygun.dedup.RaygunOccurrences;
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link RaygunReportRecorder} counting the exceptions in a {@link MeterRegistry} per outcome and
+ * per exception type.
+ *
+ * <p>The counters of an exception type are registered the first time it is recorded and memoized in
+ * a {@link ClassValue}, so recording is a lock-free increment. Only the first {@code
+ * maxExceptionTypes} exception types get their own counters, the other ones are counted with the
+ * {@value #OTHER} exception tag to bound the cardinality.
+ *
+ * <p>The reports of the occurrences of a duplicate exception are counted as well, under the type of
+ * the exception or of its snapshot, so the queued or overflowed reports of an incident suppressed
+ * by the deduplicator show up.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class MicrometerRaygunReportRecorder implements RaygunReportRecorder {
+  /** The name of the counters. */
+  public static final String METRIC_NAME = "raygun.reports";
+
+  /** The exception tag of the exception types beyond the maximum. */
+  public static final String OTHER = "Other";
+
+  private static final Outcome[] OUTCOMES = Outcome.values();
+
+  private final MeterRegistry meterRegistry;
+  private final int maxExceptionTypes;
+  private final AtomicInteger exceptionTypeCount = new AtomicInteger();
+  private final ConcurrentMap<String, Counter[]> countersByName = new ConcurrentHashMap<>();
+
+  private final ClassValue<Counter[]> counters =
+      new ClassValue<>() {
+        @Override
+        protected Counter[] computeValue(Class<?> type) {
+          String canonicalName = type.getCanonicalName();
+          return counters(canonicalName == null ? type.getName() : canonicalName, exception(type));
+        }
+      };
+
+  /**
+   * Create the recorder.
+   *
+   * @param meterRegistry the registry of the counters
+   * @param maxExceptionTypes the maximum number of exception types with their own counters
+   * @throws IllegalArgumentException if the maximum number of exception types is negative
+   */
+  public MicrometerRaygunReportRecorder(MeterRegistry meterRegistry, int maxExceptionTypes) {
+    Assert.isTrue(maxExceptionTypes >= 0, "The maximum exception types must not be negative");
+    this.meterRegistry = meterRegistry;
+    this.maxExceptionTypes = maxExceptionTypes;
+  }
+
+  @Override
+  public void record(Throwable throwable, Outcome outcome) {
+    counters.get(throwable.getClass())[outcome.ordinal()].increment();
+  }
+
+  @Override
+  public void record(RaygunOccurrences raygunOccurrences, Outcome outcome) {
+    Throwable throwable = raygunOccurrences.getThrowable();
+    if (throwable != null) {
+      record(throwable, outcome);
+      return;
+    }
+    RaygunThrowableSnapshot snapshot = raygunOccurrences.getSnapshot();
+    String className = snapshot == null ? null : snapshot.getClassName();
+    Counter[] exceptionCounters =
+        className == null
+            ? counters(OTHER, OTHER)
+            : counters(className, className.substring(className.lastIndexOf('.') + 1));
+    exceptionCounters[outcome.ordinal()].increment();
+  }
+
+  private static String exception(Class<?> type) {
+    String simpleName = type.getSimpleName();
+    return simpleName.isEmpty() ? type.getName() : simpleName;
+  }
+
+  /** Returns the counters of a class name, registering them the first time it is recorded. */
+  private Counter[] counters(String className, String exception) {
+    return countersByName.computeIfAbsent(
+        className,
+        name ->
+            counters(exceptionTypeCount.incrementAndGet() > maxExceptionTypes ? OTHER : exception));
+  }
+
+  private Counter[] counters(String exception) {
+    Counter[] exceptionCounters = new Counter[OUTCOMES.length];
+    for (Outcome outcome : OUTCOMES) {
+      exceptionCounters[outcome.ordinal()] =
+          Counter.builder(METRIC_NAME)
+              .description("Exceptions given to the Raygun template")
+              .tag("exception", exception)
+              .tag("outcome", outcome.name())
+              .register(meterRegistry);
+    }
+    return exceptionCounters;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.metrics;
+
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.dispatch.RaygunPriority;
+import com.midtrans.raygun.retry.RaygunRetrier;
+import com.midtrans.raygun.spool.RaygunSpool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Locale;
+
+/**
+ * A {@link MeterBinder} of the counters and queue depths kept by the {@link RaygunDispatcher}, the
+ * {@link RaygunRetrier} and the {@link RaygunSpool}. They are only read when the meters are
+ * published.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunMeterBinder implements MeterBinder {
+  private final RaygunDispatcher raygunDispatcher;
+  private final RaygunRetrier raygunRetrier;
+  private final RaygunSpool raygunSpool;
+
+  /**
+   * Create the binder.
+   *
+   * @param raygunDispatcher the dispatcher, or {@code null} if there is none
+   * @param raygunRetrier the retrier, or {@code null} if there is none
+   * @param raygunSpool the spool, or {@code null} if there is none
+   */
+  public RaygunMeterBinder(
+      RaygunDispatcher raygunDispatcher, RaygunRetrier raygunRetrier, RaygunSpool raygunSpool) {
+    this.raygunDispatcher = raygunDispatcher;
+    this.raygunRetrier = raygunRetrier;
+    this.raygunSpool = raygunSpool;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry meterRegistry) {
+    if (raygunDispatcher != null) {
+      bindDispatcher(meterRegistry);
+    }
+    if (raygunRetrier != null) {
+      FunctionCounter.builder("raygun.retry.retried", raygunRetrier, RaygunRetrier::getRetriedCount)
+          .description("Retries of the Raygun messages scheduled")
+          .register(meterRegistry);
+      FunctionCounter.builder(
+              "raygun.retry.short-circuited", raygunRetrier, RaygunRetrier::getShortCircuitedCount)
+          .description("Raygun messages failed immediately while the circuit was open")
+          .register(meterRegistry);
+    }
+    if (raygunSpool != null) {
+      Gauge.builder("raygun.spool.pending", raygunSpool, RaygunSpool::getPendingCount)
+          .description("Raygun messages pending in the spool")
+          .register(meterRegistry);
+      FunctionCounter.builder("raygun.spool.dropped", raygunSpool, RaygunSpool::getDroppedCount)
+          .description("Raygun messages dropped by the spool")
+          .register(meterRegistry);
+    }
+  }
+
+  private void bindDispatcher(MeterRegistry meterRegistry) {
+    for (RaygunPriority priority : RaygunPriority.values()) {
+      String lane = priority.name().toLowerCase(Locale.ROOT);
+      Gauge.builder(
+              "raygun.dispatcher.queue.size",
+              raygunDispatcher,
+              dispatcher -> dispatcher.getQueueSize(priority))
+          .description("Raygun messages queued in the dispatcher")
+          .tag("priority", lane)
+          .register(meterRegistry);
+      FunctionCounter.builder(
+              "raygun.dispatcher.dropped",
+              raygunDispatcher,
+              dispatcher -> dispatcher.getDroppedCount(priority))
+          .description("Raygun messages dropped by the dispatcher")
+          .tag("priority", lane)
+          .register(meterRegistry);
+    }
+    Gauge.builder("raygun.dispatcher.senders", raygunDispatcher, RaygunDispatcher::getSenderCount)
+        .description("Live Raygun dispatcher sender threads")
+        .register(meterRegistry);
+  }
+}
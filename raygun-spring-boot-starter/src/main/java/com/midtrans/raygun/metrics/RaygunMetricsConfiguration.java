@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.metrics;
+
+import com.midtrans.raygun.autoconfigure.RaygunProperties;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.retry.RaygunRetrier;
+import com.midtrans.raygun.spool.RaygunSpool;
+import com.midtrans.raygun.transport.RaygunTransportDecorator;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link Configuration} for Raygun Micrometer integration.
+ *
+ * <p>The {@link RaygunMeterBinder} is bound by the Spring Boot Actuator metrics auto-configuration
+ * like any other {@code MeterBinder} bean.
+ *
+ * @author Raydhitya Yoseph
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(
+    prefix = "raygun.metrics",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class RaygunMetricsConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean(MicrometerRaygunReportRecorder.class)
+  MicrometerRaygunReportRecorder raygunReportRecorder(
+      MeterRegistry meterRegistry, RaygunProperties raygunProperties) {
+    return new MicrometerRaygunReportRecorder(
+        meterRegistry, raygunProperties.getMetrics().getMaxExceptionTypes());
+  }
+
+  @Bean
+  RaygunTransportDecorator meteredRaygunTransportDecorator(MeterRegistry meterRegistry) {
+    return raygunTransport -> new MeteredRaygunTransport(raygunTransport, meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnMissingBean(RaygunMeterBinder.class)
+  RaygunMeterBinder raygunMeterBinder(
+      ObjectProvider<RaygunDispatcher> raygunDispatcher,
+      ObjectProvider<RaygunRetrier> raygunRetrier,
+      ObjectProvider<RaygunSpool> raygunSpool) {
+    return new RaygunMeterBinder(
+        raygunDispatcher.getIfAvailable(),
+        raygunRetrier.getIfAvailable(),
+        raygunSpool.getIfAvailable());
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.ratelimit;
+
+import com.midtrans.raygun.dedup.RaygunFingerprinter;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the rate of Raygun messages per fingerprint and per application instance.
+ *
+ * <p>Every limit is a lock-free token bucket holding up to one second of tokens, implemented as the
+ * theoretical arrival time of the next message in an {@link AtomicLongArray}, so checking a limit
+ * never blocks and never allocates. The fingerprint buckets are a fixed array indexed by the
+ * fingerprint hash, so that fingerprints sharing a bucket also share their limit instead of
+ * allocating a bucket per fingerprint.
+ *
+ * <p>The fingerprint limit is checked before the global limit, so that a noisy fingerprint does not
+ * consume the tokens of the others. By default the fingerprint is computed from the exception type
+ * and message template only, because hashing stack frames copies the stack trace.
+ *
+ * <p>The limits are published by {@link #afterPropertiesSet()} as an immutable snapshot read once
+ * per message, so they can be changed at runtime by calling the setters and {@code
+ * afterPropertiesSet()} again. The buckets are kept across the changes.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunRateLimiter implements InitializingBean {
+  private static final int FINGERPRINT_BUCKETS = 4096;
+  private static final int GLOBAL_BUCKET = FINGERPRINT_BUCKETS;
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private int perFingerprint = 10;
+  private int global = 100;
+  private int stackFrames;
+
+  private final long originNanos = System.nanoTime();
+  private final AtomicLongArray arrivalTimes = new AtomicLongArray(FINGERPRINT_BUCKETS + 1);
+  private final LongAdder fingerprintThrottledCount = new LongAdder();
+  private final LongAdder globalThrottledCount = new LongAdder();
+
+  private volatile Limits limits;
+
+  /**
+   * Set the maximum number of messages per second per fingerprint. Default is 10.
+   *
+   * @param perFingerprint the fingerprint rate
+   */
+  public void setPerFingerprint(int perFingerprint) {
+    this.perFingerprint = perFingerprint;
+  }
+
+  /**
+   * Set the maximum number of messages per second. Default is 100.
+   *
+   * @param global the global rate
+   */
+  public void setGlobal(int global) {
+    this.global = global;
+  }
+
+  /**
+   * Set the number of top stack frames hashed in a fingerprint. Default is 0.
+   *
+   * @param stackFrames the number of stack frames
+   */
+  public void setStackFrames(int stackFrames) {
+    this.stackFrames = stackFrames;
+  }
+
+  /**
+   * Computes the token intervals and publishes them. The previous limits are kept if a property is
+   * invalid.
+   *
+   * @throws IllegalArgumentException if a property is invalid
+   */
+  @Override
+  public void afterPropertiesSet() {
+    Assert.isTrue(perFingerprint > 0, "The rate per fingerprint must be greater than 0");
+    Assert.isTrue(global > 0, "The global rate must be greater than 0");
+
+    limits =
+        new Limits(
+            new RaygunFingerprinter(stackFrames),
+            NANOS_PER_SECOND / perFingerprint,
+            NANOS_PER_SECOND / global);
+  }
+
+  /**
+   * Takes a token for a throwable from its fingerprint bucket and from the global bucket.
+   *
+   * @param throwable the throwable
+   * @return {@code true} if the message may be sent, {@code false} if it is throttled
+   */
+  public boolean tryAcquire(Throwable throwable) {
+    return tryAcquire(throwable, System.nanoTime() - originNanos);
+  }
+
+  boolean tryAcquire(Throwable throwable, long now) {
+    Limits current = limits;
+    long fingerprint = current.raygunFingerprinter.fingerprint(throwable);
+    int bucket = (int) (fingerprint ^ (fingerprint >>> 32)) & (FINGERPRINT_BUCKETS - 1);
+    if (!tryAcquire(bucket, now, current.fingerprintIntervalNanos)) {
+      fingerprintThrottledCount.increment();
+      return false;
+    }
+    if (!tryAcquire(GLOBAL_BUCKET, now, current.globalIntervalNanos)) {
+      globalThrottledCount.increment();
+      return false;
+    }
+    return true;
+  }
+
+  private boolean tryAcquire(int bucket, long now, long intervalNanos) {
+    while (true) {
+      long arrivalTime = arrivalTimes.get(bucket);
+      long nextArrivalTime = Math.max(arrivalTime, now) + intervalNanos;
+      if (nextArrivalTime - now > NANOS_PER_SECOND) {
+        return false;
+      }
+      if (arrivalTimes.compareAndSet(bucket, arrivalTime, nextArrivalTime)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Returns the number of messages throttled by any limit.
+   *
+   * @return the number of throttled messages
+   */
+  public long getThrottledCount() {
+    return fingerprintThrottledCount.sum() + globalThrottledCount.sum();
+  }
+
+  /**
+   * Returns the number of messages throttled by the limit per fingerprint.
+   *
+   * @return the number of messages throttled per fingerprint
+   */
+  public long getFingerprintThrottledCount() {
+    return fingerprintThrottledCount.sum();
+  }
+
+  /**
+   * Returns the number of messages throttled by the global limit.
+   *
+   * @return the number of messages throttled globally
+   */
+  public long getGlobalThrottledCount() {
+    return globalThrottledCount.sum();
+  }
+
+  /** An immutable snapshot of the limits. */
+  private static final class Limits {
+    private final RaygunFingerprinter raygunFingerprinter;
+    private final long fingerprintIntervalNanos;
+    private final long globalIntervalNanos;
+
+    private Limits(
+        RaygunFingerprinter raygunFingerprinter,
+        long fingerprintIntervalNanos,
+        long globalIntervalNanos) {
+      this.raygunFingerprinter = raygunFingerprinter;
+      this.fingerprintIntervalNanos = fingerprintIntervalNanos;
+      this.globalIntervalNanos = globalIntervalNanos;
+    }
+  }
+}
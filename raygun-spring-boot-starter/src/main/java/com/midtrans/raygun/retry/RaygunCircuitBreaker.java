@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * A circuit breaker short-circuiting the messages sending while the Raygun API is failing.
+ *
+ * <p>The circuit opens after {@code failureThreshold} consecutive failures and rejects every
+ * message for {@code openDuration}. A single message is then let through to probe the Raygun API,
+ * closing the circuit if it succeeds or opening it again if it fails.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunCircuitBreaker {
+
+  /** States of a {@link RaygunCircuitBreaker}. */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private static final int CLOSED = 0;
+  private static final int OPEN = 1;
+  private static final int HALF_OPEN = 2;
+
+  private final int failureThreshold;
+  private final long openNanos;
+  private final LongSupplier nanoTime;
+
+  private final AtomicInteger state = new AtomicInteger(CLOSED);
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile long openedAt;
+
+  /**
+   * Creates a closed circuit breaker.
+   *
+   * @param failureThreshold the number of consecutive failures opening the circuit
+   * @param openDuration how long the circuit stays open before probing the Raygun API
+   */
+  public RaygunCircuitBreaker(int failureThreshold, Duration openDuration) {
+    this(failureThreshold, openDuration, System::nanoTime);
+  }
+
+  RaygunCircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoTime) {
+    this.failureThreshold = failureThreshold;
+    this.openNanos = openDuration.toNanos();
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Returns whether a message may be sent, letting a single probe through once the circuit has been
+   * open for long enough.
+   *
+   * @return {@code true} if the message may be sent
+   */
+  public boolean tryAcquire() {
+    int current = state.get();
+    if (current == CLOSED) {
+      return true;
+    }
+    return current == OPEN
+        && nanoTime.getAsLong() - openedAt >= openNanos
+        && state.compareAndSet(OPEN, HALF_OPEN);
+  }
+
+  /** Records a message accepted or rejected for a non-transient reason by the Raygun API. */
+  public void onSuccess() {
+    consecutiveFailures.set(0);
+    state.set(CLOSED);
+  }
+
+  /** Records a message which could not be sent or which the Raygun API asked to retry later. */
+  public void onFailure() {
+    if (state.get() == HALF_OPEN
+        || consecutiveFailures.incrementAndGet() >= failureThreshold && state.get() == CLOSED) {
+      open();
+    }
+  }
+
+  private void open() {
+    openedAt = nanoTime.getAsLong();
+    state.set(OPEN);
+  }
+
+  public State getState() {
+    return State.values()[state.get()];
+  }
+}
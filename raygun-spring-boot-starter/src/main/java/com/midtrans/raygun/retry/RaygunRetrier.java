@@ -0,0 +1,317 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.retry;
+
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportException;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends Raygun messages again when sending fails or the Raygun API asks to retry later.
+ *
+ * <p>A retry is scheduled on a single timer thread after an exponential backoff with jitter, or
+ * after the delay of the {@code Retry-After} response header, so that no thread is blocked while
+ * waiting. A message is not retried anymore once {@code maxAttempts} attempts are made or the
+ * {@link RaygunCircuitBreaker} opens, and completes with the last response or failure.
+ *
+ * <p>While the circuit is open, the messages fail immediately without reaching the Raygun API. A
+ * retry acquires the circuit again when it fires, so a retry whose circuit opened during its
+ * backoff is short-circuited as well, and a retry in the half-open state only reaches the Raygun
+ * API as the probe.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunRetrier implements InitializingBean, DisposableBean {
+  private int maxAttempts = 3;
+  private Duration initialBackoff = Duration.ofMillis(200);
+  private Duration maxBackoff = Duration.ofSeconds(10);
+  private Duration maxRetryAfter = Duration.ofSeconds(60);
+  private int failureThreshold = 5;
+  private Duration openDuration = Duration.ofSeconds(30);
+
+  private final LongAdder retriedCount = new LongAdder();
+  private final LongAdder shortCircuitedCount = new LongAdder();
+
+  private RaygunCircuitBreaker circuitBreaker;
+  private ScheduledThreadPoolExecutor scheduledExecutorService;
+
+  /**
+   * Set the maximum number of attempts to send a message, including the first one. Default is 3.
+   *
+   * @param maxAttempts the maximum number of attempts
+   */
+  public void setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+  }
+
+  /**
+   * Set the backoff before the first retry, doubled for every following retry. Default is 200
+   * milliseconds.
+   *
+   * @param initialBackoff the initial backoff
+   */
+  public void setInitialBackoff(Duration initialBackoff) {
+    this.initialBackoff = initialBackoff;
+  }
+
+  /**
+   * Set the maximum backoff between retries. Default is 10 seconds.
+   *
+   * @param maxBackoff the maximum backoff
+   */
+  public void setMaxBackoff(Duration maxBackoff) {
+    this.maxBackoff = maxBackoff;
+  }
+
+  /**
+   * Set the maximum delay honored from a {@code Retry-After} response header. Default is 60
+   * seconds.
+   *
+   * @param maxRetryAfter the maximum {@code Retry-After} delay
+   */
+  public void setMaxRetryAfter(Duration maxRetryAfter) {
+    this.maxRetryAfter = maxRetryAfter;
+  }
+
+  /**
+   * Set the number of consecutive failures opening the circuit. Default is 5.
+   *
+   * @param failureThreshold the failure threshold
+   */
+  public void setFailureThreshold(int failureThreshold) {
+    this.failureThreshold = failureThreshold;
+  }
+
+  /**
+   * Set how long the circuit stays open before probing the Raygun API. Default is 30 seconds.
+   *
+   * @param openDuration the open duration
+   */
+  public void setOpenDuration(Duration openDuration) {
+    this.openDuration = openDuration;
+  }
+
+  /**
+   * Starts the timer thread.
+   *
+   * @throws IllegalArgumentException if a property is invalid
+   */
+  @Override
+  public void afterPropertiesSet() {
+    Assert.isTrue(maxAttempts > 0, "The maximum attempts must be greater than 0");
+    Assert.isTrue(
+        initialBackoff != null && !initialBackoff.isNegative(),
+        "The initial backoff must not be negative");
+    Assert.isTrue(
+        maxBackoff != null && maxBackoff.compareTo(initialBackoff) >= 0,
+        "The maximum backoff must not be less than the initial backoff");
+    Assert.isTrue(
+        maxRetryAfter != null && !maxRetryAfter.isNegative(),
+        "The maximum retry after must not be negative");
+    Assert.isTrue(failureThreshold > 0, "The failure threshold must be greater than 0");
+    Assert.isTrue(
+        openDuration != null && !openDuration.isNegative() && !openDuration.isZero(),
+        "The open duration must be positive");
+
+    circuitBreaker = new RaygunCircuitBreaker(failureThreshold, openDuration);
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("raygun-retry-");
+    threadFactory.setDaemon(true);
+    scheduledExecutorService = new ScheduledThreadPoolExecutor(1, threadFactory);
+    scheduledExecutorService.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Sends a message through the given transport, retrying transient failures.
+   *
+   * @param raygunTransport the transport sending the message
+   * @param apiKey the Raygun API key
+   * @param payload the JSON Raygun message
+   * @return the last response, or the last failure
+   */
+  public CompletableFuture<RaygunTransportResponse> send(
+      RaygunTransport raygunTransport, String apiKey, String payload) {
+    if (!circuitBreaker.tryAcquire()) {
+      shortCircuitedCount.increment();
+      return CompletableFuture.failedFuture(circuitOpen());
+    }
+
+    CompletableFuture<RaygunTransportResponse> result = new CompletableFuture<>();
+    attempt(raygunTransport, apiKey, payload, 1, result);
+    return result;
+  }
+
+  private void attempt(
+      RaygunTransport raygunTransport,
+      String apiKey,
+      String payload,
+      int attempt,
+      CompletableFuture<RaygunTransportResponse> result) {
+    CompletableFuture<RaygunTransportResponse> response;
+    try {
+      response = raygunTransport.send(apiKey, payload);
+    } catch (RuntimeException ex) {
+      response = CompletableFuture.failedFuture(ex);
+    }
+    response.whenComplete(
+        (raygunTransportResponse, ex) -> {
+          if (ex == null && !raygunTransportResponse.isRetryable()) {
+            circuitBreaker.onSuccess();
+            result.complete(raygunTransportResponse.withAttempts(attempt));
+            return;
+          }
+          circuitBreaker.onFailure();
+          if (attempt >= maxAttempts
+              || circuitBreaker.getState() != RaygunCircuitBreaker.State.CLOSED
+              || !schedule(
+                  () -> retry(raygunTransport, apiKey, payload, attempt + 1, result),
+                  delayMillis(attempt, raygunTransportResponse))) {
+            complete(result, raygunTransportResponse, ex, attempt);
+          }
+        });
+  }
+
+  private void retry(
+      RaygunTransport raygunTransport,
+      String apiKey,
+      String payload,
+      int attempt,
+      CompletableFuture<RaygunTransportResponse> result) {
+    if (!circuitBreaker.tryAcquire()) {
+      shortCircuitedCount.increment();
+      complete(result, null, circuitOpen(), attempt - 1);
+      return;
+    }
+    attempt(raygunTransport, apiKey, payload, attempt, result);
+  }
+
+  private static IOException circuitOpen() {
+    return new IOException("Raygun circuit breaker is open");
+  }
+
+  private boolean schedule(Runnable retry, long delayMillis) {
+    try {
+      scheduledExecutorService.schedule(retry, delayMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException ex) {
+      return false;
+    }
+    retriedCount.increment();
+    return true;
+  }
+
+  private static void complete(
+      CompletableFuture<RaygunTransportResponse> result,
+      RaygunTransportResponse raygunTransportResponse,
+      Throwable ex,
+      int attempts) {
+    if (ex == null) {
+      result.complete(raygunTransportResponse.withAttempts(attempts));
+    } else {
+      result.completeExceptionally(
+          new RaygunTransportException(
+              "Raygun message could not be sent after " + attempts + " attempts", ex, attempts));
+    }
+  }
+
+  /**
+   * Returns the delay before retrying, from the {@code Retry-After} response header if any, or an
+   * exponential backoff with equal jitter.
+   */
+  long delayMillis(int attempt, RaygunTransportResponse raygunTransportResponse) {
+    Optional<Duration> retryAfter =
+        raygunTransportResponse == null ? Optional.empty() : retryAfter(raygunTransportResponse);
+    if (retryAfter.isPresent()) {
+      Duration delay = retryAfter.get();
+      return delay.isNegative() ? 0 : Math.min(delay.toMillis(), maxRetryAfter.toMillis());
+    }
+
+    long backoff =
+        Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 30));
+    long half = backoff / 2;
+    return half + ThreadLocalRandom.current().nextLong(backoff - half + 1);
+  }
+
+  private static Optional<Duration> retryAfter(RaygunTransportResponse raygunTransportResponse) {
+    return raygunTransportResponse
+        .getHeaders()
+        .firstValue("Retry-After")
+        .flatMap(RaygunRetrier::parseRetryAfter);
+  }
+
+  private static Optional<Duration> parseRetryAfter(String value) {
+    try {
+      return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+    } catch (NumberFormatException ex) {
+      try {
+        return Optional.of(
+            Duration.between(
+                ZonedDateTime.now(),
+                ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)));
+      } catch (DateTimeParseException parseEx) {
+        return Optional.empty();
+      }
+    }
+  }
+
+  public RaygunCircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /**
+   * Returns the number of retries scheduled.
+   *
+   * @return the number of retries
+   */
+  public long getRetriedCount() {
+    return retriedCount.sum();
+  }
+
+  /**
+   * Returns the number of messages failed immediately while the circuit was open.
+   *
+   * @return the number of short-circuited messages
+   */
+  public long getShortCircuitedCount() {
+    return shortCircuitedCount.sum();
+  }
+
+  /** Stops the timer thread. The pending retries are not sent. */
+  @Override
+  public void destroy() {
+    if (scheduledExecutorService != null) {
+      scheduledExecutorService.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.retry;
+
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link RaygunTransport} retrying the messages through a {@link RaygunRetrier}.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RetryingRaygunTransport implements RaygunTransport {
+  private final RaygunTransport raygunTransport;
+  private final RaygunRetrier raygunRetrier;
+
+  /**
+   * Creates a transport retrying the messages the given transport cannot send.
+   *
+   * @param raygunTransport the transport sending the messages
+   * @param raygunRetrier the retrier
+   */
+  public RetryingRaygunTransport(RaygunTransport raygunTransport, RaygunRetrier raygunRetrier) {
+    this.raygunTransport = raygunTransport;
+    this.raygunRetrier = raygunRetrier;
+  }
+
+  @Override
+  public CompletableFuture<RaygunTransportResponse> send(String apiKey, String payload) {
+    return raygunRetrier.send(raygunTransport, apiKey, payload);
+  }
+}
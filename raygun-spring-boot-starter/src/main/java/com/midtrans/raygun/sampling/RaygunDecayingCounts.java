@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.sampling;
+
+import org.springframework.util.Assert;
+
+/**
+ * Exponentially decaying counts of fingerprints, used to estimate their rates.
+ *
+ * <p>The counts are held in primitive arrays indexed by the fingerprint hash and locked by stripes,
+ * so counting an occurrence does not allocate and threads counting different fingerprints rarely
+ * contend. A fingerprint whose count decayed below one half gives its slot to the next fingerprint
+ * hashed to it, otherwise the fingerprints hashed to the same slot share their count.
+ *
+ * <p>The decay is given on every call, so the owner can change it while counting.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunDecayingCounts {
+  private static final double INACTIVE_COUNT = 0.5;
+
+  private final int slotMask;
+  private final int stripeMask;
+  private final long[] fingerprints;
+  private final double[] counts;
+  private final long[] updatedAt;
+  private final String[] labels;
+  private final Object[] locks;
+
+  /**
+   * Creates the counts.
+   *
+   * @param slots the number of slots, a power of two
+   * @param stripes the number of locks, a power of two not greater than the number of slots
+   * @throws IllegalArgumentException if a number is not a power of two
+   */
+  public RaygunDecayingCounts(int slots, int stripes) {
+    Assert.isTrue(Integer.bitCount(slots) == 1, "The slots must be a power of two");
+    Assert.isTrue(
+        Integer.bitCount(stripes) == 1 && stripes <= slots,
+        "The stripes must be a power of two not greater than the slots");
+    this.slotMask = slots - 1;
+    this.stripeMask = stripes - 1;
+    this.fingerprints = new long[slots];
+    this.counts = new double[slots];
+    this.updatedAt = new long[slots];
+    this.labels = new String[slots];
+    this.locks = new Object[stripes];
+    for (int index = 0; index < stripes; index++) {
+      locks[index] = new Object();
+    }
+  }
+
+  /**
+   * Counts an occurrence of a fingerprint.
+   *
+   * @param fingerprint the fingerprint
+   * @param label the label kept with the fingerprint when it takes its slot, may be {@code null}
+   * @param now the current time in nanoseconds
+   * @param decayPerNano the decay of the counts per nanosecond
+   * @return the decayed count before the occurrence, {@code 0} if the fingerprint took its slot
+   */
+  public double increment(long fingerprint, String label, long now, double decayPerNano) {
+    int slot = (int) (fingerprint ^ (fingerprint >>> 32)) & slotMask;
+    synchronized (locks[slot & stripeMask]) {
+      double count = decay(counts[slot], now - updatedAt[slot], decayPerNano);
+      updatedAt[slot] = now;
+      if (fingerprints[slot] != fingerprint && count < INACTIVE_COUNT || count == 0) {
+        fingerprints[slot] = fingerprint;
+        labels[slot] = label;
+        count = 0;
+      }
+      counts[slot] = count + 1;
+      return count;
+    }
+  }
+
+  /**
+   * Passes every fingerprint whose count did not decay below one half to a consumer.
+   *
+   * @param now the current time in nanoseconds
+   * @param decayPerNano the decay of the counts per nanosecond
+   * @param consumer the consumer of the fingerprints and their decayed counts
+   */
+  public void forEachActive(long now, double decayPerNano, CountConsumer consumer) {
+    for (int slot = 0; slot <= slotMask; slot++) {
+      long fingerprint;
+      String label;
+      double count;
+      synchronized (locks[slot & stripeMask]) {
+        fingerprint = fingerprints[slot];
+        label = labels[slot];
+        count = decay(counts[slot], now - updatedAt[slot], decayPerNano);
+      }
+      if (count >= INACTIVE_COUNT) {
+        consumer.accept(fingerprint, label, count);
+      }
+    }
+  }
+
+  /**
+   * Returns a count decayed over an elapsed time.
+   *
+   * @param count the count
+   * @param elapsedNanos the elapsed time in nanoseconds
+   * @param decayPerNano the decay per nanosecond
+   * @return the decayed count
+   */
+  public static double decay(double count, long elapsedNanos, double decayPerNano) {
+    return count * Math.exp(-decayPerNano * elapsedNanos);
+  }
+
+  /** A consumer of a fingerprint with its label and decayed count. */
+  @FunctionalInterface
+  public interface CountConsumer {
+
+    /**
+     * Consumes a fingerprint.
+     *
+     * @param fingerprint the fingerprint
+     * @param label the label of the fingerprint, may be {@code null}
+     * @param count the decayed count
+     */
+    void accept(long fingerprint, String label, double count);
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.sampling;
+
+import com.midtrans.raygun.dedup.RaygunFingerprinter;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Samples Raygun messages adaptively to keep the report rate close to a target budget.
+ *
+ * <p>The rate of every fingerprint and the rate of all messages are estimated with exponentially
+ * decaying counts held in primitive arrays. Every message is sent while all messages occur at most
+ * at the target rate. Above it, the target rate is shared among the active fingerprints by water
+ * filling: a fingerprint occurring less than its fair share is fully sent and leaves the rest of
+ * its share to the others, and the fingerprints above the resulting level {@code L} are sent with
+ * the probability {@code L / r}, so the reports of all fingerprints add up to the target rate and
+ * rare fingerprints are always sent. The first occurrence of a new fingerprint is always sent.
+ *
+ * <p>The level is computed from the active fingerprints at most every {@value #REFRESH_MILLIS}
+ * milliseconds by the sampling thread that finds it outdated, into an array allocated once.
+ *
+ * <p>The fingerprint estimates are {@link RaygunDecayingCounts}, a fixed array indexed by the
+ * fingerprint hash and locked by stripes. An inactive fingerprint gives its slot to the next
+ * fingerprint hashed to it. The estimate of all messages is a lock-free sum of the occurrences
+ * scaled up from a base time, which moves forward before the sum overflows.
+ *
+ * <p>{@link #afterPropertiesSet()} publishes the target rate and the decay as one immutable
+ * snapshot, and may be called again after changing them through the setters while messages are
+ * being sampled. The rate estimates are kept across the changes.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunSampler implements InitializingBean {
+  /** Custom data key of the probability with which a report was sent. */
+  public static final String SAMPLE_RATE = "sampleRate";
+
+  private static final int SLOTS = 4096;
+  private static final int STRIPES = 64;
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private static final long REFRESH_MILLIS = 100;
+  private static final long REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(REFRESH_MILLIS);
+
+  private double targetRate = 10;
+  private Duration halfLife = Duration.ofSeconds(10);
+  private int stackFrames;
+
+  private final long originNanos = System.nanoTime();
+  private final RaygunDecayingCounts fingerprintCounts = new RaygunDecayingCounts(SLOTS, STRIPES);
+  private final AtomicReference<GlobalCount> globalCount = new AtomicReference<>();
+  private final double[] activeRates = new double[SLOTS];
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private int activeCount;
+
+  private volatile WaterLevel waterLevel;
+
+  private final LongAdder sampledOutCount = new LongAdder();
+
+  private volatile Settings settings;
+
+  /**
+   * Set the target number of reports per second. Default is 10.
+   *
+   * @param targetRate the target rate
+   */
+  public void setTargetRate(double targetRate) {
+    this.targetRate = targetRate;
+  }
+
+  /**
+   * Set the time after which an occurrence weighs half in the rate estimates. Default is 10
+   * seconds.
+   *
+   * @param halfLife the half-life
+   */
+  public void setHalfLife(Duration halfLife) {
+    this.halfLife = halfLife;
+  }
+
+  /**
+   * Set the number of top stack frames hashed in a fingerprint. Default is 0.
+   *
+   * @param stackFrames the number of stack frames
+   */
+  public void setStackFrames(int stackFrames) {
+    this.stackFrames = stackFrames;
+  }
+
+  /**
+   * Computes the decay of the rate estimates and publishes it with the target rate. The previous
+   * settings are kept if a property is invalid.
+   *
+   * @throws IllegalArgumentException if a property is invalid
+   */
+  @Override
+  public void afterPropertiesSet() {
+    Assert.isTrue(targetRate > 0, "The target rate must be greater than 0");
+    Assert.isTrue(
+        halfLife != null && !halfLife.isNegative() && !halfLife.isZero(),
+        "The half-life must be positive");
+
+    double decayPerNano = Math.log(2) / halfLife.toNanos();
+    long now = System.nanoTime() - originNanos;
+    GlobalCount previous = globalCount.get();
+    globalCount.set(new GlobalCount(decayPerNano, now, previous == null ? 0 : previous.count(now)));
+    settings = new Settings(new RaygunFingerprinter(stackFrames), targetRate, decayPerNano);
+    waterLevel = null;
+  }
+
+  /**
+   * Decides whether to send a throwable.
+   *
+   * @param throwable the throwable
+   * @return the probability with which the throwable is sent, or {@code 0} if it is not sent
+   */
+  public double sample(Throwable throwable) {
+    return sample(
+        throwable, System.nanoTime() - originNanos, ThreadLocalRandom.current().nextDouble());
+  }
+
+  double sample(Throwable throwable, long now, double random) {
+    Settings current = settings;
+    double globalRate = globalCount(now).increment(now);
+
+    long fingerprint = current.raygunFingerprinter.fingerprint(throwable);
+    double count = fingerprintCounts.increment(fingerprint, null, now, current.decayPerNano);
+    if (count == 0) {
+      return 1;
+    }
+    if (globalRate <= current.targetRate) {
+      return 1;
+    }
+
+    double sampleRate = Math.min(1, waterLevel(current, now) / current.rate(count + 1));
+    if (random < sampleRate) {
+      return sampleRate;
+    }
+    sampledOutCount.increment();
+    return 0;
+  }
+
+  /** Returns the global count, moving its base forward first if its sum could overflow. */
+  private GlobalCount globalCount(long now) {
+    GlobalCount current = globalCount.get();
+    if (!current.isExpired(now)) {
+      return current;
+    }
+    GlobalCount rebased = new GlobalCount(current.decayPerNano, now, current.count(now));
+    return globalCount.compareAndSet(current, rebased) ? rebased : globalCount.get();
+  }
+
+  /**
+   * Returns the rate up to which every fingerprint is fully sent, computing it again first if it is
+   * outdated and no other thread is computing it.
+   */
+  private double waterLevel(Settings current, long now) {
+    WaterLevel level = waterLevel;
+    if ((level == null || now - level.computedAt >= REFRESH_NANOS)
+        && refreshing.compareAndSet(false, true)) {
+      try {
+        level = new WaterLevel(fill(current, now), now);
+        waterLevel = level;
+      } finally {
+        refreshing.set(false);
+      }
+    }
+    return level == null ? current.targetRate : level.rate;
+  }
+
+  /**
+   * Shares the target rate among the active fingerprints from the least frequent one. While the
+   * target rate is not reached, the level is where the most frequent fingerprint could rise to
+   * before reaching it.
+   */
+  private double fill(Settings current, long now) {
+    activeCount = 0;
+    fingerprintCounts.forEachActive(
+        now,
+        current.decayPerNano,
+        (fingerprint, label, count) -> activeRates[activeCount++] = current.rate(count));
+    Arrays.sort(activeRates, 0, activeCount);
+
+    double remainingRate = current.targetRate;
+    for (int index = 0; index < activeCount; index++) {
+      double share = remainingRate / (activeCount - index);
+      if (activeRates[index] > share) {
+        return share;
+      }
+      remainingRate -= activeRates[index];
+    }
+    return activeCount == 0 ? remainingRate : activeRates[activeCount - 1] + remainingRate;
+  }
+
+  /**
+   * Returns the custom data of a report with its sample rate.
+   *
+   * @param data the custom data
+   * @param sampleRate the probability with which the report was sent
+   * @return the custom data with the {@value #SAMPLE_RATE} key
+   */
+  public static Map<String, String> withSampleRate(Map<String, String> data, double sampleRate) {
+    Map<String, String> sampledData = new HashMap<>(data);
+    sampledData.put(SAMPLE_RATE, Double.toString(sampleRate));
+    return sampledData;
+  }
+
+  /**
+   * Returns the number of messages not sent by sampling.
+   *
+   * @return the number of sampled out messages
+   */
+  public long getSampledOutCount() {
+    return sampledOutCount.sum();
+  }
+
+  /** An immutable snapshot of the settings. */
+  private static final class Settings {
+    private final RaygunFingerprinter raygunFingerprinter;
+    private final double targetRate;
+    private final double decayPerNano;
+
+    private Settings(
+        RaygunFingerprinter raygunFingerprinter, double targetRate, double decayPerNano) {
+      this.raygunFingerprinter = raygunFingerprinter;
+      this.targetRate = targetRate;
+      this.decayPerNano = decayPerNano;
+    }
+
+    private double rate(double count) {
+      return count * decayPerNano * NANOS_PER_SECOND;
+    }
+  }
+
+  /** The rate up to which every fingerprint is fully sent, and when it was computed. */
+  private static final class WaterLevel {
+    private final double rate;
+    private final long computedAt;
+
+    private WaterLevel(double rate, long computedAt) {
+      this.rate = rate;
+      this.computedAt = computedAt;
+    }
+  }
+
+  /**
+   * The decaying count of all messages, kept as the sum of the occurrences scaled up by {@code
+   * exp(decayPerNano * (time - base))} so that an occurrence is added without a lock. The
+   * occurrences added while the base is moved forward are lost, which the estimate tolerates.
+   */
+  private static final class GlobalCount {
+    private static final double MAX_EXPONENT = 64;
+
+    private final double decayPerNano;
+    private final long baseNanos;
+    private final DoubleAdder scaledCount = new DoubleAdder();
+
+    private GlobalCount(double decayPerNano, long baseNanos, double count) {
+      this.decayPerNano = decayPerNano;
+      this.baseNanos = baseNanos;
+      scaledCount.add(count);
+    }
+
+    private boolean isExpired(long now) {
+      return decayPerNano * (now - baseNanos) > MAX_EXPONENT;
+    }
+
+    private double count(long now) {
+      return RaygunDecayingCounts.decay(scaledCount.sum(), now - baseNanos, decayPerNano);
+    }
+
+    /** Adds an occurrence and returns the rate per second including it. */
+    private double increment(long now) {
+      double scale = Math.exp(decayPerNano * (now - baseNanos));
+      scaledCount.add(scale);
+      return scaledCount.sum() / scale * decayPerNano * NANOS_PER_SECOND;
+    }
+  }
+}
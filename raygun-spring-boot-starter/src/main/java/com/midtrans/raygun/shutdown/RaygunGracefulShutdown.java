@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.shutdown;
+
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.dispatch.RaygunDroppableTask;
+import com.midtrans.raygun.spool.SpoolingRaygunTransport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link SmartLifecycle} sending the messages queued in a {@link RaygunDispatcher} when the
+ * application context is closed, so that the errors reported right before a shutdown are not lost.
+ *
+ * <p>On stop, the dispatcher stops accepting messages and all its sender threads send the queued
+ * messages in parallel until the timeout elapses. The messages still queued at the timeout are
+ * spooled through the {@link SpoolingRaygunTransport}, if any, and dropped otherwise. The numbers
+ * of sent, spooled and dropped messages are logged.
+ *
+ * <p>It stops in a phase after the web server, so that the exceptions of the requests handled
+ * during the web server graceful shutdown are still sent.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunGracefulShutdown implements SmartLifecycle, InitializingBean {
+  private static final Log logger = LogFactory.getLog(RaygunGracefulShutdown.class);
+
+  /** The phase of this lifecycle, stopped after the lifecycles of the default phase. */
+  public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 1024;
+
+  private static final long IN_FLIGHT_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final RaygunDispatcher raygunDispatcher;
+  private final SpoolingRaygunTransport spoolingRaygunTransport;
+
+  private Duration timeout = Duration.ofSeconds(10);
+
+  private final LongAdder sentCount = new LongAdder();
+  private final LongAdder spooledCount = new LongAdder();
+  private final LongAdder droppedCount = new LongAdder();
+  private volatile boolean running;
+
+  /**
+   * Creates a graceful shutdown of the given dispatcher.
+   *
+   * @param raygunDispatcher the dispatcher
+   * @param spoolingRaygunTransport the transport spooling the messages which cannot be sent in
+   *     time, or {@code null} to drop them
+   */
+  public RaygunGracefulShutdown(
+      RaygunDispatcher raygunDispatcher, SpoolingRaygunTransport spoolingRaygunTransport) {
+    this.raygunDispatcher = raygunDispatcher;
+    this.spoolingRaygunTransport = spoolingRaygunTransport;
+  }
+
+  /**
+   * Set the maximum time to send the queued messages before spooling the remaining ones. Default is
+   * 10 seconds.
+   *
+   * @param timeout the timeout
+   */
+  public void setTimeout(Duration timeout) {
+    this.timeout = timeout;
+  }
+
+  /**
+   * Validates the properties.
+   *
+   * @throws IllegalArgumentException if a property is invalid
+   */
+  @Override
+  public void afterPropertiesSet() {
+    Assert.isTrue(
+        timeout != null && !timeout.isNegative(), "The timeout must not be null or negative");
+  }
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  /** Sends the queued messages until the timeout elapses, then spools or drops the remaining. */
+  @Override
+  public void stop() {
+    running = false;
+    long startNanos = System.nanoTime();
+    long deadline = startNanos + timeout.toNanos();
+    int queued = raygunDispatcher.getQueueSize();
+    long dispatcherDropped = raygunDispatcher.getDroppedCount();
+
+    raygunDispatcher.shutdown();
+    awaitTermination(deadline);
+    List<Runnable> remaining = raygunDispatcher.shutdownNow();
+    long spooled = spool(remaining);
+
+    sentCount.add(Math.max(0, queued - remaining.size()));
+    spooledCount.add(spooled);
+    droppedCount.add(
+        remaining.size() - spooled + raygunDispatcher.getDroppedCount() - dispatcherDropped);
+
+    if (logger.isInfoEnabled()) {
+      logger.info(
+          "Raygun shutdown sent "
+              + sentCount.sum()
+              + ", spooled "
+              + spooledCount.sum()
+              + " and dropped "
+              + droppedCount.sum()
+              + " queued messages in "
+              + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+              + " ms");
+    }
+  }
+
+  private void awaitTermination(long deadline) {
+    try {
+      if (raygunDispatcher.awaitTermination(Duration.ofNanos(deadline - System.nanoTime()))) {
+        awaitInFlight(deadline);
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void awaitInFlight(long deadline) {
+    while (spoolingRaygunTransport != null
+        && spoolingRaygunTransport.getInFlight() > 0
+        && System.nanoTime() - deadline < 0
+        && !Thread.currentThread().isInterrupted()) {
+      LockSupport.parkNanos(this, IN_FLIGHT_PARK_NANOS);
+    }
+  }
+
+  private long spool(List<Runnable> tasks) {
+    if (spoolingRaygunTransport == null) {
+      tasks.forEach(RaygunGracefulShutdown::drop);
+      return 0;
+    }
+
+    spoolingRaygunTransport.spoolAll();
+    long appended = spoolingRaygunTransport.getRaygunSpool().getAppendedCount();
+    for (Runnable task : tasks) {
+      try {
+        task.run();
+      } catch (RuntimeException ex) {
+        logger.warn("Raygun message spooling failed", ex);
+      }
+    }
+    return Math.min(
+        tasks.size(), spoolingRaygunTransport.getRaygunSpool().getAppendedCount() - appended);
+  }
+
+  private static void drop(Runnable task) {
+    if (task instanceof RaygunDroppableTask) {
+      ((RaygunDroppableTask) task).onDropped();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  /**
+   * Returns the number of queued messages sent before the timeout elapsed.
+   *
+   * @return the number of sent messages
+   */
+  public long getSentCount() {
+    return sentCount.sum();
+  }
+
+  /**
+   * Returns the number of queued messages spooled because the timeout elapsed.
+   *
+   * @return the number of spooled messages
+   */
+  public long getSpooledCount() {
+    return spooledCount.sum();
+  }
+
+  /**
+   * Returns the number of messages dropped during the shutdown, either because they could not be
+   * spooled or because they were sent after the dispatcher stopped accepting messages.
+   *
+   * @return the number of dropped messages
+   */
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.snapshot;
+
+import com.mindscapehq.raygun4java.core.RaygunClient;
+import com.mindscapehq.raygun4java.core.messages.RaygunErrorMessage;
+import com.mindscapehq.raygun4java.core.messages.RaygunErrorStackTraceLineMessage;
+import com.mindscapehq.raygun4java.core.messages.RaygunMessage;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable copy of what a Raygun message reads from a {@code Throwable}: its class name, its
+ * message, its stack frames and its cause chain, without any reference to the {@code Throwable}
+ * itself.
+ *
+ * <p>The class name and the message are formatted as the Raygun client formats them, so a message
+ * built from a snapshot is sent as if it was built from the {@code Throwable}, except that {@link
+ * RaygunErrorMessage#getThrowable()} returns {@code null}.
+ *
+ * @author Raydhitya Yoseph
+ * @see RaygunThrowableSnapshotter
+ */
+public final class RaygunThrowableSnapshot {
+  private final String className;
+  private final String message;
+  private final List<StackTraceElement> stackTrace;
+  private final RaygunThrowableSnapshot cause;
+  private final long size;
+
+  RaygunThrowableSnapshot(
+      String className,
+      String message,
+      List<StackTraceElement> stackTrace,
+      RaygunThrowableSnapshot cause,
+      long size) {
+    this.className = className;
+    this.message = message;
+    this.stackTrace = stackTrace;
+    this.cause = cause;
+    this.size = size;
+  }
+
+  /**
+   * Returns the canonical name of the class of the {@code Throwable}.
+   *
+   * @return the class name, {@code null} for a local or anonymous class
+   */
+  public String getClassName() {
+    return className;
+  }
+
+  /**
+   * Returns the simple name of the class of the {@code Throwable}, followed by its message if any.
+   *
+   * @return the message
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Returns the stack frames of the {@code Throwable}.
+   *
+   * @return the unmodifiable stack frames
+   */
+  public List<StackTraceElement> getStackTrace() {
+    return stackTrace;
+  }
+
+  /**
+   * Returns the snapshot of the cause of the {@code Throwable}.
+   *
+   * @return the cause, {@code null} if none
+   */
+  public RaygunThrowableSnapshot getCause() {
+    return cause;
+  }
+
+  /**
+   * Returns the estimated number of bytes retained by this snapshot and its causes, excluding the
+   * interned stack frames.
+   *
+   * @return the estimated size in bytes
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Builds the error of a Raygun message from this snapshot.
+   *
+   * @return the error
+   */
+  public RaygunErrorMessage toRaygunErrorMessage() {
+    RaygunErrorMessage raygunErrorMessage = new RaygunErrorMessage(null);
+    raygunErrorMessage.setClassName(className);
+    raygunErrorMessage.setMessage(message);
+    RaygunErrorStackTraceLineMessage[] lines =
+        new RaygunErrorStackTraceLineMessage[stackTrace.size()];
+    for (int index = 0; index < lines.length; index++) {
+      lines[index] = new RaygunErrorStackTraceLineMessage(stackTrace.get(index));
+    }
+    raygunErrorMessage.setStackTrace(lines);
+    if (cause != null) {
+      raygunErrorMessage.setInnerError(cause.toRaygunErrorMessage());
+    }
+    return raygunErrorMessage;
+  }
+
+  /**
+   * Builds a Raygun message from this snapshot with a client.
+   *
+   * @param raygunClient the client
+   * @param tags custom tags
+   * @param data custom data
+   * @return the message, {@code null} if the client could not build it
+   */
+  public RaygunMessage toRaygunMessage(
+      RaygunClient raygunClient, Set<String> tags, Map<?, ?> data) {
+    RaygunMessage raygunMessage = raygunClient.buildMessage(null, tags, data);
+    if (raygunMessage != null) {
+      raygunMessage.getDetails().setError(toRaygunErrorMessage());
+    }
+    return raygunMessage;
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.snapshot;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Converts a {@code Throwable} into a {@link RaygunThrowableSnapshot} in the calling thread, so the
+ * {@code Throwable}, and everything it references, can be collected while its message is queued.
+ *
+ * <p>The stack frames are interned in a table shared by every snapshot, up to a maximum number of
+ * frames, so the snapshots of the same exception thrown again share their frames. The frames
+ * captured once the table is full are kept by their snapshot only.
+ *
+ * <p>The estimated size of the queued snapshots is bounded: a snapshot is reserved when it is
+ * captured and must be {@link #release(RaygunThrowableSnapshot) released} when its message is taken
+ * from the queue or dropped. A {@code Throwable} is rejected when its snapshot would exceed the
+ * maximum queued size. The size of a snapshot counts its strings, assuming two bytes per character,
+ * and the frames which could not be interned. A snapshot kept outside of the queue can be captured
+ * without reserving its size, and reserved once it is queued.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunThrowableSnapshotter {
+  private static final Log logger = LogFactory.getLog(RaygunThrowableSnapshotter.class);
+
+  private static final int MAX_CAUSE_DEPTH = 32;
+  private static final long SNAPSHOT_BYTES = 40;
+  private static final long STRING_BYTES = 40;
+  private static final long FRAME_BYTES = 48;
+  private static final long REFERENCE_BYTES = 8;
+
+  private long maxQueuedSize = DataSize.ofMegabytes(16).toBytes();
+  private int maxInternedFrames = 4096;
+
+  private final Map<StackTraceElement, StackTraceElement> internedFrames =
+      new ConcurrentHashMap<>();
+  private final AtomicLong queuedSize = new AtomicLong();
+  private final LongAdder rejectedCount = new LongAdder();
+
+  /**
+   * Set the maximum estimated size of the queued snapshots. Default is 16 megabytes.
+   *
+   * @param maxQueuedSize the maximum queued size
+   */
+  public void setMaxQueuedSize(DataSize maxQueuedSize) {
+    Assert.isTrue(maxQueuedSize.toBytes() > 0, "The maximum queued size must be greater than 0");
+    this.maxQueuedSize = maxQueuedSize.toBytes();
+  }
+
+  /**
+   * Set the maximum number of stack frames interned. Default is 4096.
+   *
+   * @param maxInternedFrames the maximum number of interned frames
+   */
+  public void setMaxInternedFrames(int maxInternedFrames) {
+    Assert.isTrue(maxInternedFrames >= 0, "The maximum interned frames must not be negative");
+    this.maxInternedFrames = maxInternedFrames;
+  }
+
+  /**
+   * Captures a snapshot of a {@code Throwable} and reserves its size.
+   *
+   * @param throwable the throwable
+   * @return the snapshot, {@code null} if it would exceed the maximum queued size
+   */
+  public RaygunThrowableSnapshot capture(Throwable throwable) {
+    if (queuedSize.get() >= maxQueuedSize) {
+      rejectedCount.increment();
+      return null;
+    }
+
+    RaygunThrowableSnapshot snapshot = captureUnreserved(throwable);
+    return reserve(snapshot) ? snapshot : null;
+  }
+
+  /**
+   * Captures a snapshot of a {@code Throwable} without reserving its size, for a snapshot kept
+   * outside of the queue. It must be {@link #reserve(RaygunThrowableSnapshot) reserved} before it
+   * is queued.
+   *
+   * @param throwable the throwable
+   * @return the snapshot
+   */
+  public RaygunThrowableSnapshot captureUnreserved(Throwable throwable) {
+    RaygunThrowableSnapshot snapshot = null;
+    List<Throwable> causeChain = causeChain(throwable);
+    for (int index = causeChain.size() - 1; index >= 0; index--) {
+      snapshot = snapshot(causeChain.get(index), snapshot);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Reserves the size of a snapshot before it is queued.
+   *
+   * @param snapshot the snapshot
+   * @return {@code true} if it was reserved, {@code false} if it would exceed the maximum queued
+   *     size
+   */
+  public boolean reserve(RaygunThrowableSnapshot snapshot) {
+    long size = snapshot.getSize();
+    long queued;
+    do {
+      queued = queuedSize.get();
+      if (queued + size > maxQueuedSize) {
+        rejectedCount.increment();
+        return false;
+      }
+    } while (!queuedSize.compareAndSet(queued, queued + size));
+    return true;
+  }
+
+  private static List<Throwable> causeChain(Throwable throwable) {
+    Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    List<Throwable> causeChain = new ArrayList<>();
+    for (Throwable current = throwable;
+        current != null && causeChain.size() < MAX_CAUSE_DEPTH && visited.add(current);
+        current = current.getCause()) {
+      causeChain.add(current);
+    }
+    return causeChain;
+  }
+
+  private RaygunThrowableSnapshot snapshot(Throwable throwable, RaygunThrowableSnapshot cause) {
+    Class<?> type = throwable.getClass();
+    String className = type.getCanonicalName();
+    String message = type.getSimpleName();
+    String throwableMessage = message(throwable);
+    if (throwableMessage != null) {
+      message = message + ": " + throwableMessage;
+    }
+
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    long size =
+        SNAPSHOT_BYTES
+            + size(className)
+            + size(message)
+            + REFERENCE_BYTES * stackTrace.length
+            + (cause == null ? 0 : cause.getSize());
+    for (int index = 0; index < stackTrace.length; index++) {
+      StackTraceElement frame = intern(stackTrace[index]);
+      if (frame == null) {
+        size += size(stackTrace[index]);
+      } else {
+        stackTrace[index] = frame;
+      }
+    }
+    return new RaygunThrowableSnapshot(className, message, List.of(stackTrace), cause, size);
+  }
+
+  private static String message(Throwable throwable) {
+    try {
+      return throwable.getMessage();
+    } catch (RuntimeException ex) {
+      if (logger.isWarnEnabled()) {
+        logger.warn("Couldn't read the message of " + throwable.getClass().getName(), ex);
+      }
+      return null;
+    }
+  }
+
+  /** Returns the interned frame, {@code null} if the table is full. */
+  private StackTraceElement intern(StackTraceElement frame) {
+    StackTraceElement internedFrame = internedFrames.get(frame);
+    if (internedFrame != null || internedFrames.size() >= maxInternedFrames) {
+      return internedFrame;
+    }
+    internedFrame = internedFrames.putIfAbsent(frame, frame);
+    return internedFrame == null ? frame : internedFrame;
+  }
+
+  private static long size(StackTraceElement frame) {
+    return FRAME_BYTES
+        + size(frame.getClassName())
+        + size(frame.getMethodName())
+        + size(frame.getFileName());
+  }
+
+  private static long size(String string) {
+    return string == null ? 0 : STRING_BYTES + 2L * string.length();
+  }
+
+  /**
+   * Releases the size of a snapshot taken from the queue or dropped.
+   *
+   * @param snapshot the snapshot
+   */
+  public void release(RaygunThrowableSnapshot snapshot) {
+    queuedSize.addAndGet(-snapshot.getSize());
+  }
+
+  /**
+   * Returns the estimated size of the queued snapshots.
+   *
+   * @return the queued size in bytes
+   */
+  public long getQueuedSize() {
+    return queuedSize.get();
+  }
+
+  /**
+   * Returns the number of interned stack frames.
+   *
+   * @return the number of interned frames
+   */
+  public int getInternedFrameCount() {
+    return internedFrames.size();
+  }
+
+  /**
+   * Returns the number of {@code Throwable}s rejected because their snapshot would exceed the
+   * maximum queued size.
+   *
+   * @return the number of rejected throwables
+   */
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.spool;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A durable spool of Raygun messages which could not be sent, stored in an append-only journal of
+ * memory-mapped segment files.
+ *
+ * <p>Every record is checked with a CRC32 so that a record torn by a crash is detected when the
+ * spool is recovered at startup; the records written before it are kept and new records are
+ * appended to a new segment. A new segment is started when a record does not fit in the current
+ * one, and the oldest segments are unmapped and deleted, dropping their pending records, to keep
+ * the spool within its maximum size.
+ *
+ * <p>The records are written to the memory-mapped files without being forced to the storage device,
+ * so they survive a crash of the application but not of the operating system.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunSpool implements InitializingBean, DisposableBean {
+  private static final Log logger = LogFactory.getLog(RaygunSpool.class);
+
+  private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("raygun-(\\d{16})\\.spool");
+
+  private Path directory;
+  private DataSize segmentSize = DataSize.ofMegabytes(1);
+  private DataSize maxSize = DataSize.ofMegabytes(64);
+
+  private final Deque<SpoolSegment> segments = new ArrayDeque<>();
+  private long nextSegmentId;
+
+  private final LongAdder appendedCount = new LongAdder();
+  private final LongAdder droppedCount = new LongAdder();
+
+  /**
+   * Set the directory of the segment files.
+   *
+   * @param directory the spool directory
+   */
+  public void setDirectory(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Set the size of a segment file, which is also the maximum size of a record. Default is 1
+   * megabyte.
+   *
+   * @param segmentSize the segment size
+   */
+  public void setSegmentSize(DataSize segmentSize) {
+    this.segmentSize = segmentSize;
+  }
+
+  /**
+   * Set the maximum size of all segment files. Default is 64 megabytes.
+   *
+   * @param maxSize the maximum spool size
+   */
+  public void setMaxSize(DataSize maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Recovers the pending records from the segment files in the directory.
+   *
+   * @throws IllegalArgumentException if a property is invalid
+   * @throws IOException if the directory or the segment files cannot be read
+   */
+  @Override
+  public void afterPropertiesSet() throws IOException {
+    Assert.notNull(directory, "The directory must not be null");
+    Assert.isTrue(
+        segmentSize != null
+            && segmentSize.toBytes() > SpoolSegment.HEADER_LENGTH
+            && segmentSize.toBytes() <= Integer.MAX_VALUE,
+        "The segment size must be greater than 8 bytes and less than 2 gigabytes");
+    Assert.isTrue(
+        maxSize != null && maxSize.toBytes() >= segmentSize.toBytes(),
+        "The maximum size must not be less than the segment size");
+
+    Files.createDirectories(directory);
+    synchronized (this) {
+      for (Path path : segmentPaths()) {
+        recover(path);
+      }
+    }
+  }
+
+  private List<Path> segmentPaths() throws IOException {
+    try (Stream<Path> paths = Files.list(directory)) {
+      return paths
+          .filter(path -> SEGMENT_FILE_NAME.matcher(path.getFileName().toString()).matches())
+          .sorted()
+          .collect(Collectors.toList());
+    }
+  }
+
+  private void recover(Path path) throws IOException {
+    Matcher matcher = SEGMENT_FILE_NAME.matcher(path.getFileName().toString());
+    matcher.matches();
+    long id = Long.parseLong(matcher.group(1));
+
+    SpoolSegment segment = SpoolSegment.recover(id, path);
+    nextSegmentId = Math.max(nextSegmentId, id + 1);
+    if (segment.getPendingCount() == 0) {
+      segment.delete();
+    } else {
+      segments.addLast(segment);
+      if (logger.isInfoEnabled()) {
+        logger.info(
+            "Recovered " + segment.getPendingCount() + " spooled Raygun messages from " + path);
+      }
+    }
+  }
+
+  /**
+   * Appends a message to the spool, deleting the oldest segments when the spool is full.
+   *
+   * @param payload the JSON Raygun message
+   * @return {@code true} if the message was spooled, {@code false} if it was dropped
+   */
+  public boolean append(String payload) {
+    byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+    if (SpoolSegment.HEADER_LENGTH + bytes.length > segmentSize.toBytes()) {
+      droppedCount.increment();
+      return false;
+    }
+    synchronized (this) {
+      try {
+        SpoolSegment segment = segments.peekLast();
+        if (segment == null || !segment.fits(bytes.length)) {
+          segment = rotate();
+        }
+        segment.append(bytes);
+      } catch (IOException | UncheckedIOException ex) {
+        logger.warn("Raygun message spooling failed", ex);
+        droppedCount.increment();
+        return false;
+      }
+    }
+    appendedCount.increment();
+    return true;
+  }
+
+  private SpoolSegment rotate() throws IOException {
+    int maxSegments = getMaxSegmentCount();
+    while (!segments.isEmpty() && segments.size() >= maxSegments) {
+      SpoolSegment oldest = segments.removeFirst();
+      droppedCount.add(oldest.getPendingCount());
+      oldest.delete();
+    }
+    long id = nextSegmentId++;
+    SpoolSegment segment =
+        SpoolSegment.create(
+            id,
+            directory.resolve(String.format("raygun-%016d.spool", id)),
+            (int) segmentSize.toBytes());
+    segments.addLast(segment);
+    return segment;
+  }
+
+  /**
+   * Returns the oldest pending message without removing it.
+   *
+   * @return the oldest pending message, or {@code null} if the spool is empty
+   */
+  public synchronized RaygunSpoolRecord peek() {
+    SpoolSegment segment = segments.peekFirst();
+    while (segment != null && segment.getPendingCount() == 0 && segments.size() > 1) {
+      delete(segments.removeFirst());
+      segment = segments.peekFirst();
+    }
+    return segment == null ? null : segment.peek();
+  }
+
+  /**
+   * Removes a pending message, after it is sent. A message whose segment was deleted to keep the
+   * spool within its maximum size is already counted as dropped and is skipped.
+   *
+   * @param record the message returned by {@link #peek()}
+   * @return {@code true} if the message was removed, {@code false} if it was no longer pending
+   */
+  public synchronized boolean remove(RaygunSpoolRecord record) {
+    for (SpoolSegment segment : segments) {
+      if (segment.getId() == record.getSegmentId()) {
+        return segment.remove(record.getPosition());
+      }
+    }
+    return false;
+  }
+
+  private void delete(SpoolSegment segment) {
+    try {
+      segment.delete();
+    } catch (IOException ex) {
+      logger.warn("Raygun spool segment deletion failed", ex);
+    }
+  }
+
+  /**
+   * Returns the number of pending messages.
+   *
+   * @return the number of pending messages
+   */
+  public synchronized int getPendingCount() {
+    int pendingCount = 0;
+    for (SpoolSegment segment : segments) {
+      pendingCount += segment.getPendingCount();
+    }
+    return pendingCount;
+  }
+
+  /**
+   * Returns the number of segment files.
+   *
+   * @return the number of segment files
+   */
+  public synchronized int getSegmentCount() {
+    return segments.size();
+  }
+
+  /**
+   * Returns the maximum number of segment files kept within the maximum spool size.
+   *
+   * @return the maximum number of segment files
+   */
+  public int getMaxSegmentCount() {
+    return (int) Math.min(Integer.MAX_VALUE, maxSize.toBytes() / segmentSize.toBytes());
+  }
+
+  /**
+   * Returns the number of messages appended to the spool.
+   *
+   * @return the number of appended messages
+   */
+  public long getAppendedCount() {
+    return appendedCount.sum();
+  }
+
+  /**
+   * Returns the number of messages dropped because they are larger than a segment, could not be
+   * written, or were deleted to keep the spool within its maximum size.
+   *
+   * @return the number of dropped messages
+   */
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  /** Forces the pending records to the storage device. */
+  @Override
+  public synchronized void destroy() {
+    for (SpoolSegment segment : segments) {
+      segment.force();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.spool;
+
+/**
+ * A pending message of a {@link RaygunSpool}, identifying its record so that it is removed only if
+ * it is still in the spool.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunSpoolRecord {
+  private final long segmentId;
+  private final int position;
+  private final String payload;
+
+  RaygunSpoolRecord(long segmentId, int position, String payload) {
+    this.segmentId = segmentId;
+    this.position = position;
+    this.payload = payload;
+  }
+
+  long getSegmentId() {
+    return segmentId;
+  }
+
+  int getPosition() {
+    return position;
+  }
+
+  /**
+   * Returns the JSON Raygun message.
+   *
+   * @return the payload
+   */
+  public String getPayload() {
+    return payload;
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.spool;
+
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends the spooled Raygun messages again in a background thread, at most {@code replayRate}
+ * messages per second.
+ *
+ * <p>Replaying stops until the next interval as soon as a message cannot be sent or the Raygun API
+ * asks to retry later, so that the spool is drained only once delivery recovers. A message rejected
+ * by the Raygun API for another reason is discarded.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunSpoolReplayer implements InitializingBean, DisposableBean {
+  private final RaygunSpool raygunSpool;
+  private final RaygunTransport raygunTransport;
+  private final String apiKey;
+
+  private int replayRate = 10;
+  private Duration replayInterval = Duration.ofSeconds(1);
+  private Duration requestTimeout = Duration.ofSeconds(10);
+
+  private final LongAdder replayedCount = new LongAdder();
+  private final LongAdder discardedCount = new LongAdder();
+
+  private ScheduledExecutorService scheduledExecutorService;
+
+  public RaygunSpoolReplayer(
+      RaygunSpool raygunSpool, RaygunTransport raygunTransport, String apiKey) {
+    this.raygunSpool = raygunSpool;
+    this.raygunTransport = raygunTransport;
+    this.apiKey = apiKey;
+  }
+
+  /**
+   * Set the maximum number of messages replayed per second. Default is 10.
+   *
+   * @param replayRate the replay rate
+   */
+  public void setReplayRate(int replayRate) {
+    this.replayRate = replayRate;
+  }
+
+  /**
+   * Set the interval between replays. Default is 1 second.
+   *
+   * @param replayInterval the replay interval
+   */
+  public void setReplayInterval(Duration replayInterval) {
+    this.replayInterval = replayInterval;
+  }
+
+  /**
+   * Set how long to wait for the response of a replayed message. Default is 10 seconds.
+   *
+   * @param requestTimeout the request timeout
+   */
+  public void setRequestTimeout(Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+  }
+
+  /**
+   * Starts replaying in a background thread.
+   *
+   * @throws IllegalArgumentException if a property is invalid
+   */
+  @Override
+  public void afterPropertiesSet() {
+    Assert.isTrue(replayRate > 0, "The replay rate must be greater than 0");
+    Assert.isTrue(
+        replayInterval != null && !replayInterval.isNegative() && !replayInterval.isZero(),
+        "The replay interval must be positive");
+    Assert.notNull(requestTimeout, "The request timeout must not be null");
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("raygun-spool-");
+    threadFactory.setDaemon(true);
+    scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    scheduledExecutorService.scheduleWithFixedDelay(
+        this::replay, replayInterval.toMillis(), replayInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Replays the messages allowed by the replay rate during one interval.
+   *
+   * @return the number of replayed messages
+   */
+  public int replay() {
+    long permits = Math.max(1, replayRate * replayInterval.toMillis() / 1000);
+    int replayed = 0;
+    for (long permit = 0; permit < permits; permit++) {
+      RaygunSpoolRecord record = raygunSpool.peek();
+      if (record == null || !replay(record)) {
+        break;
+      }
+      replayed++;
+    }
+    return replayed;
+  }
+
+  private boolean replay(RaygunSpoolRecord record) {
+    RaygunTransportResponse raygunTransportResponse;
+    try {
+      raygunTransportResponse =
+          raygunTransport
+              .send(apiKey, record.getPayload())
+              .get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException | TimeoutException | RuntimeException ex) {
+      return false;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    if (raygunTransportResponse.isRetryable()) {
+      return false;
+    }
+    if (raygunTransportResponse.isSuccessful()) {
+      replayedCount.increment();
+    } else {
+      discardedCount.increment();
+    }
+    raygunSpool.remove(record);
+    return true;
+  }
+
+  /**
+   * Returns the number of spooled messages sent.
+   *
+   * @return the number of replayed messages
+   */
+  public long getReplayedCount() {
+    return replayedCount.sum();
+  }
+
+  /**
+   * Returns the number of spooled messages rejected by the Raygun API and discarded.
+   *
+   * @return the number of discarded messages
+   */
+  public long getDiscardedCount() {
+    return discardedCount.sum();
+  }
+
+  /** Stops replaying. The pending messages stay in the spool. */
+  @Override
+  public void destroy() {
+    if (scheduledExecutorService != null) {
+      scheduledExecutorService.shutdownNow();
+    }
+  }
+}
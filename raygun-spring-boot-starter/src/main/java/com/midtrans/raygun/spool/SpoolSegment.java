@@ -0,0 +1,225 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.spool;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * A fixed size memory-mapped file holding a sequence of records.
+ *
+ * <p>A record is a 4 bytes length, a 4 bytes CRC32 of the payload, and the UTF-8 payload. The
+ * length is written last so that a zero length marks the end of the records. A consumed record has
+ * its length negated in place.
+ *
+ * <p>A deleted segment is unmapped at once, so that its disk space is freed without waiting for the
+ * garbage collection of its buffer. A segment must not be used once deleted.
+ *
+ * @author Raydhitya Yoseph
+ */
+final class SpoolSegment {
+  private static final Log logger = LogFactory.getLog(SpoolSegment.class);
+
+  static final int HEADER_LENGTH = 8;
+
+  private static final Object UNSAFE;
+  private static final Method INVOKE_CLEANER;
+
+  static {
+    Object unsafe = null;
+    Method invokeCleaner = null;
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      unsafe = theUnsafe.get(null);
+      invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      logger.debug("Raygun spool segments are unmapped by the garbage collector", ex);
+    }
+    UNSAFE = unsafe;
+    INVOKE_CLEANER = invokeCleaner;
+  }
+
+  private final long id;
+  private final Path path;
+  private final MappedByteBuffer buffer;
+  private int writePosition;
+  private int readPosition;
+  private int pendingCount;
+  private boolean corrupted;
+
+  private SpoolSegment(long id, Path path, MappedByteBuffer buffer) {
+    this.id = id;
+    this.path = path;
+    this.buffer = buffer;
+  }
+
+  static SpoolSegment create(long id, Path path, int size) throws IOException {
+    return new SpoolSegment(id, path, map(path, size, StandardOpenOption.CREATE_NEW));
+  }
+
+  static SpoolSegment recover(long id, Path path) throws IOException {
+    SpoolSegment segment =
+        new SpoolSegment(id, path, map(path, (int) Files.size(path), StandardOpenOption.READ));
+    segment.scan();
+    return segment;
+  }
+
+  private static MappedByteBuffer map(Path path, int size, StandardOpenOption openOption)
+      throws IOException {
+    try (FileChannel fileChannel =
+        FileChannel.open(path, openOption, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      return fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+  }
+
+  /** Finds the pending records and the end of the valid records. */
+  private void scan() {
+    int position = 0;
+    readPosition = -1;
+    while (position + HEADER_LENGTH <= buffer.capacity()) {
+      int length = buffer.getInt(position);
+      if (length == 0) {
+        break;
+      }
+      int payloadLength = Math.abs(length);
+      if (payloadLength > buffer.capacity() - position - HEADER_LENGTH
+          || buffer.getInt(position + 4) != crc(position + HEADER_LENGTH, payloadLength)) {
+        corrupted = true;
+        break;
+      }
+      if (length > 0) {
+        pendingCount++;
+        if (readPosition < 0) {
+          readPosition = position;
+        }
+      }
+      position += HEADER_LENGTH + payloadLength;
+    }
+    writePosition = position;
+    if (readPosition < 0) {
+      readPosition = position;
+    }
+  }
+
+  private int crc(int offset, int length) {
+    CRC32 crc = new CRC32();
+    crc.update(buffer.duplicate().position(offset).limit(offset + length));
+    return (int) crc.getValue();
+  }
+
+  /**
+   * Returns whether a record of the given payload length fits. A segment with corrupted records is
+   * never appended to.
+   */
+  boolean fits(int payloadLength) {
+    return !corrupted && HEADER_LENGTH + payloadLength <= buffer.capacity() - writePosition;
+  }
+
+  void append(byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(payload);
+    buffer.duplicate().position(writePosition + HEADER_LENGTH).put(payload);
+    buffer.putInt(writePosition + 4, (int) crc.getValue());
+    buffer.putInt(writePosition, payload.length);
+    writePosition += HEADER_LENGTH + payload.length;
+    pendingCount++;
+  }
+
+  /** Returns the oldest pending record, or {@code null} if every record is consumed. */
+  RaygunSpoolRecord peek() {
+    skipConsumed();
+    if (pendingCount == 0) {
+      return null;
+    }
+    int length = buffer.getInt(readPosition);
+    byte[] payload = new byte[length];
+    buffer.duplicate().position(readPosition + HEADER_LENGTH).get(payload);
+    return new RaygunSpoolRecord(id, readPosition, new String(payload, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Marks the record at the given position as consumed.
+   *
+   * @return {@code true} if the record was pending, {@code false} if it was already consumed
+   */
+  boolean remove(int position) {
+    if (position < 0 || position >= writePosition || buffer.getInt(position) <= 0) {
+      return false;
+    }
+    buffer.putInt(position, -buffer.getInt(position));
+    pendingCount--;
+    skipConsumed();
+    return true;
+  }
+
+  private void skipConsumed() {
+    while (pendingCount > 0 && buffer.getInt(readPosition) < 0) {
+      readPosition += HEADER_LENGTH - buffer.getInt(readPosition);
+    }
+  }
+
+  void force() {
+    buffer.force();
+  }
+
+  /** Unmaps and deletes the file. */
+  void delete() throws IOException {
+    unmap();
+    Files.deleteIfExists(path);
+  }
+
+  private void unmap() {
+    if (INVOKE_CLEANER == null) {
+      return;
+    }
+    try {
+      INVOKE_CLEANER.invoke(UNSAFE, buffer);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      logger.debug("Raygun spool segment could not be unmapped", ex);
+    }
+  }
+
+  long getId() {
+    return id;
+  }
+
+  Path getPath() {
+    return path;
+  }
+
+  int getPendingCount() {
+    return pendingCount;
+  }
+
+  int getWritePosition() {
+    return writePosition;
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.spool;
+
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportException;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link RaygunTransport} spooling the messages which cannot be sent.
+ *
+ * <p>A message is spooled instead of being sent when {@code maxInFlight} messages are already
+ * waiting for a response, so that a slow Raygun API does not pile up messages on the heap. A
+ * message is also spooled when sending it fails or the Raygun API asks to retry later. A spooled
+ * message completes with {@link RaygunTransportResponse#spooled()}.
+ *
+ * <p>Once {@link #spoolAll()} is called, typically when the application shuts down, every message
+ * is spooled without being sent.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class SpoolingRaygunTransport implements RaygunTransport {
+  private final RaygunTransport raygunTransport;
+  private final RaygunSpool raygunSpool;
+  private final int maxInFlight;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile boolean spoolingAll;
+
+  /**
+   * Creates a transport spooling the messages the given transport cannot send.
+   *
+   * @param raygunTransport the transport sending the messages
+   * @param raygunSpool the spool
+   * @param maxInFlight the maximum number of messages waiting for a response
+   */
+  public SpoolingRaygunTransport(
+      RaygunTransport raygunTransport, RaygunSpool raygunSpool, int maxInFlight) {
+    this.raygunTransport = raygunTransport;
+    this.raygunSpool = raygunSpool;
+    this.maxInFlight = maxInFlight;
+  }
+
+  @Override
+  public CompletableFuture<RaygunTransportResponse> send(String apiKey, String payload) {
+    if (spoolingAll) {
+      return spool(payload, null, 0);
+    }
+    if (inFlight.incrementAndGet() > maxInFlight) {
+      inFlight.decrementAndGet();
+      return spool(payload, null, 0);
+    }
+
+    CompletableFuture<RaygunTransportResponse> response;
+    try {
+      response = raygunTransport.send(apiKey, payload);
+    } catch (RuntimeException ex) {
+      inFlight.decrementAndGet();
+      return spool(payload, ex, 1);
+    }
+    return response
+        .handle(
+            (raygunTransportResponse, ex) -> {
+              inFlight.decrementAndGet();
+              if (ex == null && !raygunTransportResponse.isRetryable()) {
+                return CompletableFuture.completedFuture(raygunTransportResponse);
+              }
+              return spool(
+                  payload,
+                  ex,
+                  ex == null
+                      ? raygunTransportResponse.getAttempts()
+                      : RaygunTransportException.attempts(ex));
+            })
+        .thenCompose(future -> future);
+  }
+
+  private CompletableFuture<RaygunTransportResponse> spool(
+      String payload, Throwable cause, int attempts) {
+    if (raygunSpool.append(payload)) {
+      return CompletableFuture.completedFuture(
+          RaygunTransportResponse.spooled().withAttempts(attempts));
+    }
+    return CompletableFuture.failedFuture(
+        new IOException("Raygun message could not be sent nor spooled", cause));
+  }
+
+  /** Spools every message from now on without sending it. */
+  public void spoolAll() {
+    spoolingAll = true;
+  }
+
+  /**
+   * Returns the spool of this transport.
+   *
+   * @return the spool
+   */
+  public RaygunSpool getRaygunSpool() {
+    return raygunSpool;
+  }
+
+  /**
+   * Returns the number of messages waiting for a response.
+   *
+   * @return the number of in-flight messages
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+}
@@ -19,28 +19,70 @@ package com.midtrans.raygun.test;
 import com.mindscapehq.raygun4java.core.RaygunClient;
 import com.mindscapehq.raygun4java.core.messages.RaygunMessage;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import java.io.IOException;
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
- * Mock implementation of the {@link RaygunClient} for testing purposes.
+ * Mock implementation of the {@link RaygunClient} for testing purposes, recording the messages in a
+ * {@link MockRaygunRecorder} instead of sending them.
+ *
+ * <p>The messages are only serialized to JSON, and passed to {@link #send(String)}, when the
+ * serialization of the recorder is enabled.
  *
  * @author Raydhitya Yoseph
  */
 public class MockRaygunClient extends RaygunClient {
-  private final List<RaygunMessage> raygunMessages;
+  private static final Log logger = LogFactory.getLog(MockRaygunClient.class);
+
+  private static final int NOT_SENT = -1;
+
+  private final MockRaygunRecorder mockRaygunRecorder;
 
   public MockRaygunClient() {
+    this(new MockRaygunRecorder());
+  }
+
+  public MockRaygunClient(MockRaygunRecorder mockRaygunRecorder) {
     super("apiKey");
-    this.raygunMessages = new ArrayList<>();
+    this.mockRaygunRecorder = mockRaygunRecorder;
   }
 
+  /**
+   * Records a message and counts the send as completed in the recorder, even if it fails.
+   *
+   * @param raygunMessage the message
+   * @return the response status code, {@code -1} if the message was not sent
+   */
   @Override
   public int send(RaygunMessage raygunMessage) {
-    raygunMessages.add(raygunMessage);
-    return super.send(raygunMessage);
+    try {
+      RaygunMessage sentMessage =
+          onBeforeSend == null ? raygunMessage : onBeforeSend.onBeforeSend(this, raygunMessage);
+      if (sentMessage == null) {
+        return NOT_SENT;
+      }
+
+      int statusCode = HttpURLConnection.HTTP_OK;
+      String payload = null;
+      if (mockRaygunRecorder.isSerializationEnabled()) {
+        payload = toJson(sentMessage);
+        statusCode = send(payload);
+      }
+      mockRaygunRecorder.record(sentMessage, payload);
+
+      if (onAfterSend != null) {
+        onAfterSend.onAfterSend(this, sentMessage);
+      }
+      return statusCode;
+    } catch (IOException | RuntimeException ex) {
+      logger.warn("Couldn't send exception", ex);
+      return NOT_SENT;
+    } finally {
+      mockRaygunRecorder.complete();
+    }
   }
 
   @Override
@@ -48,7 +90,16 @@ public class MockRaygunClient extends RaygunClient {
     return HttpURLConnection.HTTP_OK;
   }
 
+  /**
+   * Returns the recorder of the messages.
+   *
+   * @return the recorder
+   */
+  public MockRaygunRecorder getRecorder() {
+    return mockRaygunRecorder;
+  }
+
   public int count() {
-    return raygunMessages.size();
+    return mockRaygunRecorder.count();
   }
 }
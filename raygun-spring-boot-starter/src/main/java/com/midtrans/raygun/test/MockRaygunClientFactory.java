@@ -16,23 +16,89 @@
 
 package com.midtrans.raygun.test;
 
-import com.mindscapehq.raygun4java.core.RaygunClient;
+import com.midtrans.raygun.RaygunReportRecorder;
+import com.midtrans.raygun.dedup.RaygunOccurrences;
 import com.mindscapehq.raygun4java.core.RaygunClientFactory;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
- * {@link RaygunClientFactory} for {@link MockRaygunClient}s. This class is intentionally public to
- * test {@link RaygunContextCustomizer} loading.
+ * {@link RaygunClientFactory} for {@link MockRaygunClient}s recording into a shared {@link
+ * MockRaygunRecorder}. This class is intentionally public to test {@link RaygunContextCustomizer}
+ * loading.
+ *
+ * <p>As a {@link RaygunReportRecorder}, it counts the exceptions and the reports of occurrences
+ * submitted to the {@code TaskExecutor}, while its clients count the exceptions they have sent, so
+ * {@link #flush(Duration)} can wait for the asynchronous sending to catch up.
  *
  * @author Raydhitya Yoseph
  */
-public class MockRaygunClientFactory extends RaygunClientFactory {
+public class MockRaygunClientFactory extends RaygunClientFactory implements RaygunReportRecorder {
+  private final MockRaygunRecorder mockRaygunRecorder;
+  private final AtomicLong submittedSequence = new AtomicLong();
 
   public MockRaygunClientFactory() {
+    this(new MockRaygunRecorder());
+  }
+
+  public MockRaygunClientFactory(MockRaygunRecorder mockRaygunRecorder) {
     super("apiKey");
+    this.mockRaygunRecorder = mockRaygunRecorder;
+  }
+
+  @Override
+  public MockRaygunClient newClient() {
+    return new MockRaygunClient(mockRaygunRecorder);
   }
 
+  /**
+   * Counts the exceptions queued by a {@link com.midtrans.raygun.RaygunTemplate} using this factory
+   * as submitted.
+   *
+   * @param throwable the exception
+   * @param outcome the outcome
+   */
   @Override
-  public RaygunClient newClient() {
-    return new MockRaygunClient();
+  public void record(Throwable throwable, Outcome outcome) {
+    if (outcome == Outcome.QUEUED) {
+      submittedSequence.incrementAndGet();
+    }
+  }
+
+  /**
+   * Counts the reports of occurrences queued by a {@link com.midtrans.raygun.RaygunTemplate} using
+   * this factory as submitted.
+   *
+   * @param raygunOccurrences the occurrences
+   * @param outcome the outcome
+   */
+  @Override
+  public void record(RaygunOccurrences raygunOccurrences, Outcome outcome) {
+    if (outcome == Outcome.QUEUED) {
+      submittedSequence.incrementAndGet();
+    }
+  }
+
+  /**
+   * Waits until every exception submitted so far has been taken from the {@code TaskExecutor} and
+   * sent by a client, without polling.
+   *
+   * @param timeout the maximum time to wait
+   * @return {@code true} if every submitted exception was sent, {@code false} if the timeout
+   *     elapsed
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean flush(Duration timeout) throws InterruptedException {
+    return mockRaygunRecorder.awaitCompleted(submittedSequence.get(), timeout);
+  }
+
+  /**
+   * Returns the recorder shared by the clients.
+   *
+   * @return the recorder
+   */
+  public MockRaygunRecorder getRecorder() {
+    return mockRaygunRecorder;
   }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.test;
+
+import com.mindscapehq.raygun4java.core.messages.RaygunErrorMessage;
+import com.mindscapehq.raygun4java.core.messages.RaygunMessage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe log of the messages sent by {@link MockRaygunClient}s, indexed by exception type
+ * and by tag.
+ *
+ * <p>The messages are appended without locking, so they can be sent from any number of threads and
+ * queried while they are sent. The messages are not serialized to JSON unless {@link
+ * #setSerializationEnabled(boolean) serialization is enabled}, which also records their payloads.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class MockRaygunRecorder {
+  private final Queue<RaygunMessage> raygunMessages = new ConcurrentLinkedQueue<>();
+  private final Map<String, Queue<RaygunMessage>> raygunMessagesByType = new ConcurrentHashMap<>();
+  private final Map<String, Queue<RaygunMessage>> raygunMessagesByTag = new ConcurrentHashMap<>();
+  private final Queue<String> payloads = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger count = new AtomicInteger();
+  private final AtomicLong completedSequence = new AtomicLong();
+  private final AtomicInteger waiterCount = new AtomicInteger();
+  private final Lock completionLock = new ReentrantLock();
+  private final Condition completion = completionLock.newCondition();
+
+  private volatile boolean serializationEnabled;
+
+  /**
+   * Returns whether the messages are serialized to JSON before being recorded.
+   *
+   * @return {@code true} if the messages are serialized
+   */
+  public boolean isSerializationEnabled() {
+    return serializationEnabled;
+  }
+
+  /**
+   * Set whether the messages are serialized to JSON before being recorded, to assert on {@link
+   * #getPayloads() their payloads}. Disabled by default.
+   *
+   * @param serializationEnabled {@code true} to serialize the messages
+   */
+  public void setSerializationEnabled(boolean serializationEnabled) {
+    this.serializationEnabled = serializationEnabled;
+  }
+
+  /**
+   * Records a sent message.
+   *
+   * @param raygunMessage the message
+   * @param payload the JSON message, {@code null} if it was not serialized
+   */
+  void record(RaygunMessage raygunMessage, String payload) {
+    raygunMessages.add(raygunMessage);
+    RaygunErrorMessage raygunErrorMessage = raygunMessage.getDetails().getError();
+    if (raygunErrorMessage != null && raygunErrorMessage.getClassName() != null) {
+      index(raygunMessagesByType, raygunErrorMessage.getClassName(), raygunMessage);
+    }
+    Set<String> tags = raygunMessage.getDetails().getTags();
+    if (tags != null) {
+      for (String tag : tags) {
+        index(raygunMessagesByTag, tag, raygunMessage);
+      }
+    }
+    if (payload != null) {
+      payloads.add(payload);
+    }
+    count.incrementAndGet();
+  }
+
+  /** Counts a send of a message by a client as completed, whether it was recorded or not. */
+  void complete() {
+    completedSequence.incrementAndGet();
+    if (waiterCount.get() > 0) {
+      completionLock.lock();
+      try {
+        completion.signalAll();
+      } finally {
+        completionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Waits until a number of sends have completed since this recorder was created.
+   *
+   * @param sequence the number of sends
+   * @param timeout the maximum time to wait
+   * @return {@code true} if the sends have completed, {@code false} if the timeout elapsed
+   * @throws InterruptedException if interrupted while waiting
+   */
+  boolean awaitCompleted(long sequence, Duration timeout) throws InterruptedException {
+    long remainingNanos = timeout.toNanos();
+    waiterCount.incrementAndGet();
+    completionLock.lock();
+    try {
+      while (completedSequence.get() < sequence) {
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        remainingNanos = completion.awaitNanos(remainingNanos);
+      }
+      return true;
+    } finally {
+      completionLock.unlock();
+      waiterCount.decrementAndGet();
+    }
+  }
+
+  private static void index(
+      Map<String, Queue<RaygunMessage>> index, String key, RaygunMessage raygunMessage) {
+    index.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(raygunMessage);
+  }
+
+  /**
+   * Returns the number of messages recorded.
+   *
+   * @return the number of messages
+   */
+  public int count() {
+    return count.get();
+  }
+
+  /**
+   * Returns the messages recorded, in the order they were sent.
+   *
+   * @return the messages
+   */
+  public List<RaygunMessage> getMessages() {
+    return List.copyOf(raygunMessages);
+  }
+
+  /**
+   * Returns the messages recorded for an exception type, excluding its subtypes.
+   *
+   * @param type the exception type
+   * @return the messages
+   */
+  public List<RaygunMessage> getMessages(Class<? extends Throwable> type) {
+    return snapshot(raygunMessagesByType.get(type.getName()));
+  }
+
+  /**
+   * Returns the messages recorded with a tag.
+   *
+   * @param tag the tag
+   * @return the messages
+   */
+  public List<RaygunMessage> getMessagesTagged(String tag) {
+    return snapshot(raygunMessagesByTag.get(tag));
+  }
+
+  private static List<RaygunMessage> snapshot(Queue<RaygunMessage> raygunMessages) {
+    return raygunMessages == null ? List.of() : List.copyOf(raygunMessages);
+  }
+
+  /**
+   * Returns the JSON payloads of the messages recorded while serialization was enabled.
+   *
+   * @return the JSON payloads
+   */
+  public List<String> getPayloads() {
+    return List.copyOf(payloads);
+  }
+
+  /**
+   * Removes the recorded messages, while no message is being sent. The completed sends are still
+   * counted.
+   */
+  public void clear() {
+    raygunMessages.clear();
+    raygunMessagesByType.clear();
+    raygunMessagesByTag.clear();
+    payloads.clear();
+    count.set(0);
+  }
+}
@@ -23,7 +23,8 @@ import org.springframework.test.context.ContextCustomizer;
 import org.springframework.test.context.MergedContextConfiguration;
 
 /**
- * {@link ContextCustomizer} to add a {@link MockRaygunClientFactory} bean.
+ * {@link ContextCustomizer} to add a {@link MockRaygunClientFactory} bean and its {@link
+ * MockRaygunRecorder} bean.
  *
  * @author Raydhitya Yoseph
  */
@@ -32,9 +33,14 @@ class RaygunContextCustomizer implements ContextCustomizer {
   @Override
   public void customizeContext(
       ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+    MockRaygunRecorder mockRaygunRecorder = new MockRaygunRecorder();
     context
         .getBeanFactory()
-        .registerSingleton(RaygunClientFactory.class.getName(), new MockRaygunClientFactory());
+        .registerSingleton(MockRaygunRecorder.class.getName(), mockRaygunRecorder);
+    context
+        .getBeanFactory()
+        .registerSingleton(
+            RaygunClientFactory.class.getName(), new MockRaygunClientFactory(mockRaygunRecorder));
   }
 
   @Override
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Encodes Raygun messages in the gzip format with pooled {@link Deflater}s, and records the
+ * compression ratio and time of every encoded message.
+ *
+ * <p>The pool holds at most one {@code Deflater} per available processor. A {@code Deflater}
+ * created beyond it, when more threads encode at once, is ended after its message, so the native
+ * memory of the {@code Deflater}s stays bounded whatever the threads encoding messages.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class GzipPayloadEncoder {
+  private static final byte[] GZIP_HEADER = {
+    0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+  };
+  private static final int GZIP_TRAILER_LENGTH = 8;
+  private static final int BUFFER_LENGTH = 8192;
+
+  private final int level;
+  private final BlockingQueue<PooledDeflater> pool =
+      new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+  private final LongAdder payloadCount = new LongAdder();
+  private final LongAdder uncompressedBytes = new LongAdder();
+  private final LongAdder compressedBytes = new LongAdder();
+  private final LongAdder compressionNanos = new LongAdder();
+
+  public GzipPayloadEncoder() {
+    this(Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * Creates an encoder compressing with the given level.
+   *
+   * @param level the compression level from 0 to 9, or -1 for the default level
+   */
+  public GzipPayloadEncoder(int level) {
+    this.level = level;
+  }
+
+  /**
+   * Encodes a message in the gzip format.
+   *
+   * @param payload the JSON Raygun message
+   * @return the gzip-encoded message
+   */
+  public byte[] encode(String payload) {
+    long start = System.nanoTime();
+    byte[] input = payload.getBytes(StandardCharsets.UTF_8);
+
+    PooledDeflater pooledDeflater = pool.poll();
+    if (pooledDeflater == null) {
+      pooledDeflater = new PooledDeflater(level);
+    }
+    Deflater deflater = pooledDeflater.deflater;
+    byte[] buffer = pooledDeflater.buffer;
+    ByteArrayOutputStream output =
+        new ByteArrayOutputStream(GZIP_HEADER.length + input.length / 4 + GZIP_TRAILER_LENGTH);
+    output.write(GZIP_HEADER, 0, GZIP_HEADER.length);
+    try {
+      deflater.setInput(input);
+      deflater.finish();
+      while (!deflater.finished()) {
+        output.write(buffer, 0, deflater.deflate(buffer));
+      }
+    } finally {
+      release(pooledDeflater);
+    }
+    CRC32 crc = new CRC32();
+    crc.update(input);
+    writeInt(output, (int) crc.getValue());
+    writeInt(output, input.length);
+    byte[] encoded = output.toByteArray();
+
+    record(input.length, encoded.length, System.nanoTime() - start);
+    return encoded;
+  }
+
+  private void release(PooledDeflater pooledDeflater) {
+    pooledDeflater.deflater.reset();
+    if (!pool.offer(pooledDeflater)) {
+      pooledDeflater.deflater.end();
+    }
+  }
+
+  /**
+   * Ends the pooled {@code Deflater}s, releasing their native memory. The encoder can still be used
+   * afterwards.
+   */
+  public void close() {
+    for (PooledDeflater pooledDeflater = pool.poll();
+        pooledDeflater != null;
+        pooledDeflater = pool.poll()) {
+      pooledDeflater.deflater.end();
+    }
+  }
+
+  /**
+   * Returns the number of {@code Deflater}s waiting in the pool.
+   *
+   * @return the number of pooled {@code Deflater}s
+   */
+  public int getPooledCount() {
+    return pool.size();
+  }
+
+  private static void writeInt(ByteArrayOutputStream output, int value) {
+    output.write(value);
+    output.write(value >>> 8);
+    output.write(value >>> 16);
+    output.write(value >>> 24);
+  }
+
+  private void record(int uncompressedLength, int compressedLength, long nanos) {
+    payloadCount.increment();
+    uncompressedBytes.add(uncompressedLength);
+    compressedBytes.add(compressedLength);
+    compressionNanos.add(nanos);
+  }
+
+  /**
+   * Returns the number of encoded messages.
+   *
+   * @return the number of encoded messages
+   */
+  public long getPayloadCount() {
+    return payloadCount.sum();
+  }
+
+  /**
+   * Returns the number of bytes of the messages before being encoded.
+   *
+   * @return the number of uncompressed bytes
+   */
+  public long getUncompressedBytes() {
+    return uncompressedBytes.sum();
+  }
+
+  /**
+   * Returns the number of bytes of the encoded messages.
+   *
+   * @return the number of compressed bytes
+   */
+  public long getCompressedBytes() {
+    return compressedBytes.sum();
+  }
+
+  /**
+   * Returns the ratio of the compressed bytes to the uncompressed bytes, lower is better.
+   *
+   * @return the compression ratio, {@code 1.0} if no message was encoded
+   */
+  public double getCompressionRatio() {
+    long uncompressed = getUncompressedBytes();
+    return uncompressed == 0 ? 1.0 : (double) getCompressedBytes() / uncompressed;
+  }
+
+  /**
+   * Returns the total time spent encoding the messages.
+   *
+   * @return the total compression time
+   */
+  public Duration getCompressionTime() {
+    return Duration.ofNanos(compressionNanos.sum());
+  }
+
+  /**
+   * Returns the average time spent encoding a message.
+   *
+   * @return the average compression time, zero if no message was encoded
+   */
+  public Duration getAverageCompressionTime() {
+    long count = getPayloadCount();
+    return count == 0 ? Duration.ZERO : Duration.ofNanos(compressionNanos.sum() / count);
+  }
+
+  /** A {@code Deflater} with its output buffer. */
+  private static final class PooledDeflater {
+    private final Deflater deflater;
+    private final byte[] buffer = new byte[BUFFER_LENGTH];
+
+    private PooledDeflater(int level) {
+      this.deflater = new Deflater(level, true);
+    }
+  }
+}
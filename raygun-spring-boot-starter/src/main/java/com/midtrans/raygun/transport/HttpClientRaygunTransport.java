@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link RaygunTransport} sending messages asynchronously through a shared {@link HttpClient}.
+ *
+ * <p>The {@code HttpClient} keeps the connections alive and reuses them across messages, and
+ * multiplexes the messages over a single connection when the Raygun API negotiates HTTP/2, so a few
+ * threads can carry many messages in flight.
+ *
+ * <p>When a {@link GzipPayloadEncoder} is configured, the messages are sent gzip-encoded, and its
+ * pooled {@code Deflater}s are ended when the transport is destroyed.
+ *
+ * <p>The time of the last message accepted by the Raygun API is kept with a single volatile write,
+ * so that it can be read without sending a request.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class HttpClientRaygunTransport implements RaygunTransport, DisposableBean {
+  private static final long NEVER = Long.MIN_VALUE;
+
+  private final HttpClient httpClient;
+  private final URI endpoint;
+  private final Duration requestTimeout;
+  private final GzipPayloadEncoder payloadEncoder;
+  private volatile long lastDelivered = NEVER;
+
+  /**
+   * Creates a transport sending to the given endpoint.
+   *
+   * @param httpClient the shared HTTP client
+   * @param endpoint the Raygun API endpoint
+   * @param requestTimeout how long to wait for a response
+   */
+  public HttpClientRaygunTransport(HttpClient httpClient, URI endpoint, Duration requestTimeout) {
+    this(httpClient, endpoint, requestTimeout, null);
+  }
+
+  /**
+   * Creates a transport sending gzip-encoded messages to the given endpoint.
+   *
+   * @param httpClient the shared HTTP client
+   * @param endpoint the Raygun API endpoint
+   * @param requestTimeout how long to wait for a response
+   * @param payloadEncoder the gzip encoder, or {@code null} to send the messages as is
+   */
+  public HttpClientRaygunTransport(
+      HttpClient httpClient,
+      URI endpoint,
+      Duration requestTimeout,
+      GzipPayloadEncoder payloadEncoder) {
+    this.httpClient = httpClient;
+    this.endpoint = endpoint;
+    this.requestTimeout = requestTimeout;
+    this.payloadEncoder = payloadEncoder;
+  }
+
+  /** Ends the pooled {@code Deflater}s of the gzip encoder. */
+  @Override
+  public void destroy() {
+    if (payloadEncoder != null) {
+      payloadEncoder.close();
+    }
+  }
+
+  @Override
+  public CompletableFuture<RaygunTransportResponse> send(String apiKey, String payload) {
+    HttpRequest.Builder httpRequestBuilder =
+        HttpRequest.newBuilder(endpoint)
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json; charset=utf-8")
+            .header("X-ApiKey", apiKey);
+
+    if (payloadEncoder != null) {
+      httpRequestBuilder
+          .header("Content-Encoding", "gzip")
+          .POST(BodyPublishers.ofByteArray(payloadEncoder.encode(payload)));
+    } else {
+      httpRequestBuilder.POST(BodyPublishers.ofString(payload, StandardCharsets.UTF_8));
+    }
+    HttpRequest httpRequest = httpRequestBuilder.build();
+
+    return httpClient
+        .sendAsync(httpRequest, BodyHandlers.discarding())
+        .thenApply(
+            httpResponse -> {
+              RaygunTransportResponse raygunTransportResponse =
+                  new RaygunTransportResponse(httpResponse.statusCode(), httpResponse.headers());
+              if (raygunTransportResponse.isSuccessful()) {
+                lastDelivered = System.currentTimeMillis();
+              }
+              return raygunTransportResponse;
+            });
+  }
+
+  public HttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  /**
+   * Returns the gzip encoder recording the compression ratio and time.
+   *
+   * @return the gzip encoder, or {@code null} if the messages are sent as is
+   */
+  public GzipPayloadEncoder getPayloadEncoder() {
+    return payloadEncoder;
+  }
+
+  /**
+   * Returns the time of the last message accepted by the Raygun API.
+   *
+   * @return the time of the last delivery, or {@code null} if no message was delivered yet
+   */
+  public Instant getLastDelivered() {
+    long millis = lastDelivered;
+    return millis == NEVER ? null : Instant.ofEpochMilli(millis);
+  }
+}
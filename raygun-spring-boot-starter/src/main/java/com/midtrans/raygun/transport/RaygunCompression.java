@@ -0,0 +1,31 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+/**
+ * Encodings of the messages sent by the HTTP client transport.
+ *
+ * @author Raydhitya Yoseph
+ */
+public enum RaygunCompression {
+
+  /** Sends the messages as is. */
+  NONE,
+
+  /** Sends the messages gzip-encoded. */
+  GZIP
+}
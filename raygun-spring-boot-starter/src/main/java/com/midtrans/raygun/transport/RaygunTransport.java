@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A transport sending serialized Raygun messages to the Raygun API.
+ *
+ * <p>Implementations must be thread-safe and must not block the calling thread.
+ *
+ * @author Raydhitya Yoseph
+ */
+@FunctionalInterface
+public interface RaygunTransport {
+
+  /**
+   * Sends a serialized Raygun message.
+   *
+   * @param apiKey the Raygun API key
+   * @param payload the JSON Raygun message
+   * @return the future response, completed exceptionally if no response is received
+   */
+  CompletableFuture<RaygunTransportResponse> send(String apiKey, String payload);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+/**
+ * A decorator of the {@link RaygunTransport} bean applied by the auto-configuration before the
+ * retries and the spool, so that it sees every request sent to the Raygun API.
+ *
+ * @author Raydhitya Yoseph
+ */
+@FunctionalInterface
+public interface RaygunTransportDecorator {
+
+  /**
+   * Decorates a transport.
+   *
+   * @param raygunTransport the transport
+   * @return the decorated transport
+   */
+  RaygunTransport decorate(RaygunTransport raygunTransport);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Thrown when a Raygun message could not be sent after one or more attempts.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class RaygunTransportException extends IOException {
+  private static final long serialVersionUID = 1L;
+
+  private final int attempts;
+
+  /**
+   * Creates an exception of a message which could not be sent.
+   *
+   * @param message the detail message
+   * @param cause the failure of the last attempt
+   * @param attempts the number of attempts
+   */
+  public RaygunTransportException(String message, Throwable cause, int attempts) {
+    super(message, cause);
+    this.attempts = attempts;
+  }
+
+  /**
+   * Returns the number of attempts made before a failure, {@code 1} unless the failure is a {@code
+   * RaygunTransportException} possibly wrapped in a {@link CompletionException}.
+   *
+   * @param failure the failure
+   * @return the number of attempts
+   */
+  public static int attempts(Throwable failure) {
+    Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+    return cause instanceof RaygunTransportException
+        ? ((RaygunTransportException) cause).getAttempts()
+        : 1;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import java.net.http.HttpHeaders;
+import java.util.Map;
+
+/**
+ * A response of the Raygun API to a sent message.
+ *
+ * @author Raydhitya Yoseph
+ */
+public final class RaygunTransportResponse {
+  private static final HttpHeaders NO_HEADERS = HttpHeaders.of(Map.of(), (name, value) -> true);
+
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private static final RaygunTransportResponse SPOOLED =
+      new RaygunTransportResponse(-1, NO_HEADERS, true, 0);
+
+  private static final RaygunTransportResponse NOT_SENT =
+      new RaygunTransportResponse(-1, NO_HEADERS, false, 0);
+
+  private final int statusCode;
+  private final HttpHeaders headers;
+  private final boolean spooled;
+  private final int attempts;
+
+  public RaygunTransportResponse(int statusCode) {
+    this(statusCode, NO_HEADERS);
+  }
+
+  public RaygunTransportResponse(int statusCode, HttpHeaders headers) {
+    this(statusCode, headers, false, 1);
+  }
+
+  private RaygunTransportResponse(
+      int statusCode, HttpHeaders headers, boolean spooled, int attempts) {
+    this.statusCode = statusCode;
+    this.headers = headers;
+    this.spooled = spooled;
+    this.attempts = attempts;
+  }
+
+  /**
+   * Returns the response of a message spooled to be sent later, with a {@code -1} status code.
+   *
+   * @return the spooled response
+   */
+  public static RaygunTransportResponse spooled() {
+    return SPOOLED;
+  }
+
+  /**
+   * Returns the response of a message which was not handed to a transport, with a {@code -1} status
+   * code and no attempts.
+   *
+   * @return the not sent response
+   */
+  public static RaygunTransportResponse notSent() {
+    return NOT_SENT;
+  }
+
+  /**
+   * Returns this response received after the given number of sending attempts.
+   *
+   * @param attempts the number of attempts
+   * @return the response with the number of attempts
+   */
+  public RaygunTransportResponse withAttempts(int attempts) {
+    return attempts == this.attempts
+        ? this
+        : new RaygunTransportResponse(statusCode, headers, spooled, attempts);
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  public HttpHeaders getHeaders() {
+    return headers;
+  }
+
+  public boolean isSpooled() {
+    return spooled;
+  }
+
+  /**
+   * Returns the number of attempts to send the message, {@code 0} if the message was not handed to
+   * a transport or was spooled before any attempt.
+   *
+   * @return the number of attempts
+   */
+  public int getAttempts() {
+    return attempts;
+  }
+
+  /**
+   * Returns whether the Raygun API accepted the message.
+   *
+   * @return {@code true} if the status code is 2xx
+   */
+  public boolean isSuccessful() {
+    return statusCode >= 200 && statusCode < 300;
+  }
+
+  /**
+   * Returns whether sending the message again may succeed.
+   *
+   * @return {@code true} if the status code is 429 or 5xx
+   */
+  public boolean isRetryable() {
+    return statusCode == TOO_MANY_REQUESTS || statusCode >= 500;
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+/**
+ * Transports used by the Raygun clients to send the messages.
+ *
+ * @author Raydhitya Yoseph
+ */
+public enum RaygunTransportType {
+
+  /** Sends a message per {@link java.net.HttpURLConnection} as the Raygun client does. */
+  URL_CONNECTION,
+
+  /** Sends messages asynchronously through a shared {@link java.net.http.HttpClient}. */
+  HTTP_CLIENT
+}
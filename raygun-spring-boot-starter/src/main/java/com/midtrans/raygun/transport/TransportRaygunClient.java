@@ -0,0 +1,172 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import com.mindscapehq.raygun4java.core.RaygunClient;
+import com.mindscapehq.raygun4java.core.messages.RaygunMessage;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A {@link RaygunClient} sending messages through a {@link RaygunTransport} instead of a {@link
+ * java.net.HttpURLConnection} per message.
+ *
+ * <p>{@link #sendAsync(Throwable, Set, Map)} builds and serializes the message in the calling
+ * thread and returns without waiting for the response, so the client can be reused as soon as it
+ * returns. The on after send and on failed send handlers are called when the response is received,
+ * possibly while the client is used by another thread.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class TransportRaygunClient extends RaygunClient {
+  private static final Log logger = LogFactory.getLog(TransportRaygunClient.class);
+
+  private static final Integer NOT_SENT = -1;
+
+  private final RaygunTransport raygunTransport;
+
+  public TransportRaygunClient(String apiKey, RaygunTransport raygunTransport) {
+    super(apiKey);
+    this.raygunTransport = raygunTransport;
+  }
+
+  /**
+   * Sends a {@code Throwable} to Raygun without waiting for the response.
+   *
+   * @param throwable the throwable
+   * @param tags custom tags
+   * @param data custom data
+   * @return the future response status code, {@code -1} if the message was not sent
+   */
+  public CompletableFuture<Integer> sendAsync(
+      Throwable throwable, Set<String> tags, Map<?, ?> data) {
+    return deliver(throwable, tags, data)
+        .handle(
+            (raygunTransportResponse, ex) ->
+                ex == null ? raygunTransportResponse.getStatusCode() : NOT_SENT);
+  }
+
+  /**
+   * Sends a {@code Throwable} to Raygun without waiting for the response, and returns the response
+   * itself.
+   *
+   * @param throwable the throwable
+   * @param tags custom tags
+   * @param data custom data
+   * @return the future response, {@link RaygunTransportResponse#notSent()} if the message was not
+   *     handed to the transport, completed exceptionally if no response is received
+   */
+  public CompletableFuture<RaygunTransportResponse> deliver(
+      Throwable throwable, Set<String> tags, Map<?, ?> data) {
+    return deliver(throwable, tags, data, null);
+  }
+
+  /**
+   * Sends an already built message to Raygun without waiting for the response, and returns the
+   * response itself.
+   *
+   * @param raygunMessage the message
+   * @return the future response, {@link RaygunTransportResponse#notSent()} if the message was not
+   *     handed to the transport, completed exceptionally if no response is received
+   */
+  public CompletableFuture<RaygunTransportResponse> deliver(RaygunMessage raygunMessage) {
+    if (raygunMessage == null) {
+      return CompletableFuture.completedFuture(RaygunTransportResponse.notSent());
+    }
+    return deliver(null, null, null, raygunMessage);
+  }
+
+  private CompletableFuture<RaygunTransportResponse> deliver(
+      Throwable throwable, Set<String> tags, Map<?, ?> data, RaygunMessage builtMessage) {
+    RaygunMessage raygunMessage;
+    String payload;
+    try {
+      if (!validateApiKey()) {
+        return CompletableFuture.completedFuture(RaygunTransportResponse.notSent());
+      }
+      raygunMessage = builtMessage == null ? buildMessage(throwable, tags, data) : builtMessage;
+      if (onBeforeSend != null) {
+        raygunMessage = onBeforeSend.onBeforeSend(this, raygunMessage);
+        if (raygunMessage == null) {
+          return CompletableFuture.completedFuture(RaygunTransportResponse.notSent());
+        }
+      }
+      payload = toJson(raygunMessage);
+    } catch (Exception ex) {
+      logger.warn("Couldn't send exception", ex);
+      return CompletableFuture.completedFuture(RaygunTransportResponse.notSent());
+    }
+
+    RaygunMessage sentMessage = raygunMessage;
+    return raygunTransport
+        .send(apiKey, payload)
+        .whenComplete(
+            (raygunTransportResponse, ex) -> {
+              if (ex == null) {
+                afterSend(sentMessage);
+              } else {
+                failedSend(payload);
+              }
+            });
+  }
+
+  private void afterSend(RaygunMessage raygunMessage) {
+    try {
+      if (onAfterSend != null) {
+        onAfterSend.onAfterSend(this, raygunMessage);
+      }
+    } catch (RuntimeException ex) {
+      logger.warn("Exception processing on after send", ex);
+    }
+  }
+
+  private void failedSend(String payload) {
+    try {
+      if (onFailedSend != null) {
+        onFailedSend.onFailedSend(this, payload);
+      }
+    } catch (RuntimeException ex) {
+      logger.warn("Exception processing on failed send", ex);
+    }
+  }
+
+  /**
+   * Sends a serialized message through the transport and waits for the response.
+   *
+   * @param payload the JSON Raygun message
+   * @return the response status code
+   * @throws IOException if no response is received
+   */
+  @Override
+  public int send(String payload) throws IOException {
+    try {
+      return raygunTransport.send(apiKey, payload).get().getStatusCode();
+    } catch (ExecutionException ex) {
+      throw new IOException("Couldn't send exception", ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException(ex);
+    }
+  }
+}
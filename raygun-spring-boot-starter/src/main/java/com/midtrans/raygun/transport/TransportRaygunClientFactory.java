@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import com.mindscapehq.raygun4java.core.RaygunClient;
+import com.mindscapehq.raygun4java.core.RaygunClientFactory;
+
+/**
+ * A {@link RaygunClientFactory} creating {@link TransportRaygunClient}s sharing a {@link
+ * RaygunTransport}.
+ *
+ * @author Raydhitya Yoseph
+ */
+public class TransportRaygunClientFactory extends RaygunClientFactory {
+  private final RaygunTransport raygunTransport;
+
+  public TransportRaygunClientFactory(String apiKey, RaygunTransport raygunTransport) {
+    super(apiKey);
+    this.raygunTransport = raygunTransport;
+  }
+
+  @Override
+  public RaygunClient newClient() {
+    return buildClient(new TransportRaygunClient(apiKey, raygunTransport));
+  }
+
+  public RaygunTransport getRaygunTransport() {
+    return raygunTransport;
+  }
+}
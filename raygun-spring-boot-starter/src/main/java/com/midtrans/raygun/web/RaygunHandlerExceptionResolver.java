@@ -16,6 +16,7 @@
 
 package com.midtrans.raygun.web;
 
+import com.midtrans.raygun.RaygunReport;
 import com.midtrans.raygun.RaygunTemplate;
 
 import org.springframework.web.servlet.HandlerExceptionResolver;
@@ -26,7 +27,8 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 /**
- * A {@link HandlerExceptionResolver} implementation that sends exceptions to Raygun.
+ * A {@link HandlerExceptionResolver} implementation that sends exceptions to Raygun as critical
+ * messages.
  *
  * @author Raydhitya Yoseph
  */
@@ -43,7 +45,7 @@ public class RaygunHandlerExceptionResolver extends AbstractHandlerExceptionReso
       HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
     logger.error("Exception thrown during handler execution", ex);
 
-    raygunTemplate.send(ex);
+    raygunTemplate.send(ex, RaygunReport.CRITICAL);
 
     return null;
   }
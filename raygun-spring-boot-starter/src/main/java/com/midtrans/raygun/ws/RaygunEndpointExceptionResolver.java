@@ -16,6 +16,7 @@
 
 package com.midtrans.raygun.ws;
 
+import com.midtrans.raygun.RaygunReport;
 import com.midtrans.raygun.RaygunTemplate;
 
 import org.springframework.ws.context.MessageContext;
@@ -23,7 +24,8 @@ import org.springframework.ws.server.EndpointExceptionResolver;
 import org.springframework.ws.server.endpoint.AbstractEndpointExceptionResolver;
 
 /**
- * An {@link EndpointExceptionResolver} implementation that sends exceptions to Raygun.
+ * An {@link EndpointExceptionResolver} implementation that sends exceptions to Raygun as critical
+ * messages.
  *
  * @author Raydhitya Yoseph
  */
@@ -40,7 +42,7 @@ public class RaygunEndpointExceptionResolver extends AbstractEndpointExceptionRe
       MessageContext messageContext, Object endpoint, Exception ex) {
     logger.error("Exception thrown during endpoint execution", ex);
 
-    raygunTemplate.send(ex);
+    raygunTemplate.send(ex, RaygunReport.CRITICAL);
 
     return false;
   }
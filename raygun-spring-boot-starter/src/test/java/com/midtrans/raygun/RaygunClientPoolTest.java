@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.midtrans.raygun.test.MockRaygunClientFactory;
+import com.mindscapehq.raygun4java.core.RaygunClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+/**
+ * Test for {@link RaygunClientPool}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunClientPoolTest {
+  RaygunClientPool raygunClientPool;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunClientPool = new RaygunClientPool(new MockRaygunClientFactory(), 1);
+  }
+
+  @Nested
+  class Create {
+
+    @Test
+    void notPositiveMaxIdleShouldThrowException() {
+      assertThatThrownBy(() -> new RaygunClientPool(new MockRaygunClientFactory(), 0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The maximum idle clients must be greater than 0");
+    }
+  }
+
+  @Nested
+  class Borrow {
+
+    @Test
+    void emptyPoolShouldCreateClient() {
+      raygunClientPool.borrow();
+
+      assertThat(raygunClientPool.getCreatedCount()).isOne();
+    }
+
+    @Test
+    void releasedClientShouldBeReused() {
+      RaygunClient raygunClient = raygunClientPool.borrow();
+      raygunClientPool.release(raygunClient);
+
+      assertThat(raygunClientPool.borrow()).isSameAs(raygunClient);
+    }
+
+    @Test
+    void borrowedClientShouldNotBeBorrowedAgain() {
+      RaygunClient raygunClient = raygunClientPool.borrow();
+
+      assertThat(raygunClientPool.borrow()).isNotSameAs(raygunClient);
+    }
+  }
+
+  @Nested
+  class SetTags {
+
+    @Test
+    void nullShouldThrowException() {
+      assertThatThrownBy(() -> raygunClientPool.setTags(null))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The tags must not be null");
+    }
+
+    @Test
+    void newClientShouldBeTagged() {
+      raygunClientPool.setTags(Set.of("poppinparty"));
+
+      assertThat(raygunClientPool.borrow().getTags()).isEqualTo(Set.of("poppinparty"));
+    }
+
+    @Test
+    void idleClientShouldBeTagged() {
+      raygunClientPool.release(raygunClientPool.borrow());
+      raygunClientPool.setTags(Set.of("roselia"));
+
+      assertThat(raygunClientPool.borrow().getTags()).isEqualTo(Set.of("roselia"));
+    }
+  }
+
+  @Nested
+  class Release {
+
+    @Test
+    void clientShouldBeIdle() {
+      raygunClientPool.release(raygunClientPool.borrow());
+
+      assertThat(raygunClientPool.getIdleCount()).isOne();
+    }
+
+    @Test
+    void clientsMoreThanMaxIdleShouldBeDiscarded() {
+      RaygunClient raygunClient1 = raygunClientPool.borrow();
+      RaygunClient raygunClient2 = raygunClientPool.borrow();
+      raygunClientPool.release(raygunClient1);
+      raygunClientPool.release(raygunClient2);
+
+      assertThat(raygunClientPool.getIdleCount()).isOne();
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.midtrans.raygun.dispatch.RaygunPriority;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test for {@link RaygunTags} and {@link RaygunReport}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunTagsTest {
+
+  @Nested
+  class Of {
+
+    @Test
+    void nullTagsShouldBeIgnored() {
+      assertThat(RaygunTags.of("poppinparty", null).asSet()).isEqualTo(Set.of("poppinparty"));
+    }
+
+    @Test
+    void nullArrayShouldBeNone() {
+      assertThat(RaygunTags.of((String[]) null)).isSameAs(RaygunTags.NONE);
+    }
+
+    @Test
+    void emptyShouldBeNone() {
+      assertThat(RaygunTags.of()).isSameAs(RaygunTags.NONE);
+    }
+
+    @Test
+    void nullCollectionShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunTags.of((Set<String>) null))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The tags must not be null");
+    }
+
+    @Test
+    void equalTagsShouldBeEqual() {
+      assertThat(RaygunTags.of("roselia", "morfonica"))
+          .isEqualTo(RaygunTags.of(Arrays.asList("morfonica", "roselia")));
+    }
+
+    @Test
+    void tagsShouldBeUnmodifiable() {
+      assertThatCode(() -> RaygunTags.of("roselia").asSet().add("morfonica"))
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+  }
+
+  @Nested
+  class Intern {
+
+    @Test
+    void equalTagsShouldBeSame() {
+      assertThat(RaygunTags.of("afterglow").intern()).isSameAs(RaygunTags.of("afterglow").intern());
+    }
+  }
+
+  @Nested
+  class Report {
+
+    @Test
+    void nullTagsShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunReport.of(null))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The tags must not be null");
+    }
+
+    @Test
+    void nullDataShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunReport.of(RaygunTags.NONE, null))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The data must not be null");
+    }
+
+    @Test
+    void dataShouldBeCopied() {
+      Map<String, String> data = new HashMap<>(Map.of("vocal", "ran"));
+      RaygunReport report = RaygunReport.of(RaygunTags.NONE, data);
+      data.clear();
+
+      assertThat(report.getData()).isEqualTo(Map.of("vocal", "ran"));
+    }
+
+    @Test
+    void priorityShouldBeNormal() {
+      assertThat(RaygunReport.of(RaygunTags.NONE).getPriority()).isEqualTo(RaygunPriority.NORMAL);
+    }
+
+    @Test
+    void withPriorityShouldKeepData() {
+      assertThat(
+              RaygunReport.of(RaygunTags.NONE, Map.of("vocal", "ran"))
+                  .withPriority(RaygunPriority.LOW)
+                  .getData())
+          .isEqualTo(Map.of("vocal", "ran"));
+    }
+
+    @Test
+    void criticalShouldBeCritical() {
+      assertThat(RaygunReport.CRITICAL.getPriority()).isEqualTo(RaygunPriority.CRITICAL);
+    }
+
+    @Test
+    void nullPriorityShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunReport.NONE.withPriority(null))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The priority must not be null");
+    }
+
+    @Test
+    void tagsShouldBeKept() {
+      assertThat(RaygunReport.of(RaygunTags.of("afterglow")).getTags())
+          .isEqualTo(RaygunTags.of("afterglow"));
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2023 authors.
+ * Copyright 2022-2026 authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,21 +16,46 @@
 
 package com.midtrans.raygun;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.midtrans.raygun.dedup.RaygunDeduplicator;
+import com.midtrans.raygun.dedup.RaygunOccurrences;
+import com.midtrans.raygun.dedup.RaygunFingerprinter;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.dispatch.RaygunPrioritizedTask;
+import com.midtrans.raygun.dispatch.RaygunPriority;
+import com.midtrans.raygun.ratelimit.RaygunRateLimiter;
+import com.midtrans.raygun.sampling.RaygunSampler;
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshotter;
 import com.midtrans.raygun.test.MockRaygunClientFactory;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+import com.midtrans.raygun.transport.TransportRaygunClientFactory;
 import com.mindscapehq.raygun4java.core.RaygunClientFactory;
+import com.sun.management.ThreadMXBean;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.util.unit.DataSize;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Test for {@link RaygunTemplate}.
@@ -48,6 +73,15 @@ class RaygunTemplateTest {
     raygunTemplate = new RaygunTemplate(raygunClientFactory, new SyncTaskExecutor());
   }
 
+  /** Returns a paused dispatcher, dropping the messages beyond its queue capacity. */
+  static RaygunDispatcher pausedRaygunDispatcher() {
+    RaygunDispatcher raygunDispatcher = new RaygunDispatcher();
+    raygunDispatcher.setQueueCapacity(1);
+    raygunDispatcher.afterPropertiesSet();
+    raygunDispatcher.pause();
+    return raygunDispatcher;
+  }
+
   @Nested
   class SendException {
 
@@ -66,13 +100,14 @@ class RaygunTemplateTest {
     }
 
     @Test
-    void sendTwoTimesInTwoThreadsShouldCreateTwoRaygunClients() throws InterruptedException {
+    void sendInTwoThreadsOneAfterAnotherShouldReuseOneRaygunClient() throws InterruptedException {
       Thread raygunThread1 =
           new Thread(
               () -> {
                 raygunTemplate.send(new RuntimeException());
               });
       raygunThread1.start();
+      raygunThread1.join();
 
       Thread raygunThread2 =
           new Thread(
@@ -80,11 +115,9 @@ class RaygunTemplateTest {
                 raygunTemplate.send(new RuntimeException());
               });
       raygunThread2.start();
-
-      raygunThread1.join();
       raygunThread2.join();
 
-      verify(raygunClientFactory, times(2)).newClient();
+      verify(raygunClientFactory, times(1)).newClient();
     }
   }
 
@@ -180,6 +213,113 @@ class RaygunTemplateTest {
 
       verify(raygunClientFactory, times(1)).newClient();
     }
+
+    @Test
+    void parentTypeRegisteredAsSubtypeChildInstancesShouldNotBeSent() throws InterruptedException {
+      raygunTemplate.registerException(RuntimeException.class, RaygunExceptionExcludeMode.SUBTYPE);
+
+      Thread raygunThread =
+          new Thread(
+              () -> {
+                raygunTemplate.send(new IndexOutOfBoundsException());
+              });
+      raygunThread.start();
+      raygunThread.join();
+
+      verify(raygunClientFactory, times(0)).newClient();
+    }
+
+    @Test
+    void causeTypeRegisteredAsSubtypeWrapperShouldBeSent() throws InterruptedException {
+      raygunTemplate.registerException(
+          IllegalStateException.class, RaygunExceptionExcludeMode.SUBTYPE);
+
+      Thread raygunThread =
+          new Thread(
+              () -> {
+                raygunTemplate.send(new RuntimeException(new IllegalStateException()));
+              });
+      raygunThread.start();
+      raygunThread.join();
+
+      verify(raygunClientFactory, times(1)).newClient();
+    }
+
+    @Test
+    void causeTypeRegisteredAsCauseChainWrapperShouldNotBeSent() throws InterruptedException {
+      raygunTemplate.registerException(
+          IllegalStateException.class, RaygunExceptionExcludeMode.CAUSE_CHAIN);
+
+      Thread raygunThread =
+          new Thread(
+              () -> {
+                raygunTemplate.send(new Error(new RuntimeException(new CancellationException())));
+                raygunTemplate.send(new RuntimeException(new IllegalArgumentException()));
+              });
+      raygunThread.start();
+      raygunThread.join();
+
+      verify(raygunClientFactory, times(1)).newClient();
+    }
+
+    @Test
+    void typeRegisteredAfterSendingShouldNotBeSent() throws InterruptedException {
+      Thread raygunThread =
+          new Thread(
+              () -> {
+                raygunTemplate.send(new IndexOutOfBoundsException());
+                raygunTemplate.registerException(
+                    RuntimeException.class, RaygunExceptionExcludeMode.SUBTYPE);
+                raygunTemplate.send(new IndexOutOfBoundsException());
+              });
+      raygunThread.start();
+      raygunThread.join();
+
+      verify(raygunClientFactory, times(1)).newClient();
+    }
+
+    @Test
+    void typeRegisteredWithNarrowerModeShouldKeepWiderMode() throws InterruptedException {
+      raygunTemplate.registerException(RuntimeException.class, RaygunExceptionExcludeMode.SUBTYPE);
+      raygunTemplate.registerException(RuntimeException.class);
+
+      Thread raygunThread =
+          new Thread(
+              () -> {
+                raygunTemplate.send(new IndexOutOfBoundsException());
+              });
+      raygunThread.start();
+      raygunThread.join();
+
+      verify(raygunClientFactory, times(0)).newClient();
+    }
+  }
+
+  @Nested
+  class SendRuleExcludedException {
+
+    @Test
+    void matchingExceptionShouldNotBeSent() throws InterruptedException {
+      raygunTemplate.registerRule("type=java.io.IOException; message=Broken pipe");
+
+      Thread raygunThread =
+          new Thread(
+              () -> {
+                raygunTemplate.send(new UncheckedIOException(new IOException("Broken pipe")));
+                raygunTemplate.send(new IOException("Broken pipe"));
+              });
+      raygunThread.start();
+      raygunThread.join();
+
+      verify(raygunClientFactory, times(1)).newClient();
+    }
+
+    @Test
+    void invalidRuleShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> raygunTemplate.registerRule("type"))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The exclude rule term must be written as key=value: type");
+    }
   }
 
   @Nested
@@ -277,6 +417,952 @@ class RaygunTemplateTest {
     }
   }
 
+  @Nested
+  class SendThrottled {
+
+    @Test
+    void shouldNotBeSent() {
+      RaygunRateLimiter raygunRateLimiter = new RaygunRateLimiter();
+      raygunRateLimiter.setPerFingerprint(1);
+      raygunRateLimiter.afterPropertiesSet();
+      raygunTemplate.setRaygunRateLimiter(raygunRateLimiter);
+
+      for (int index = 0; index < 3; index++) {
+        raygunTemplate.send(new RuntimeException());
+      }
+
+      assertThat(raygunRateLimiter.getThrottledCount()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class SendDuplicate {
+    List<String> payloads;
+    RaygunDeduplicator raygunDeduplicator;
+
+    @BeforeEach
+    void beforeEach() {
+      payloads = new CopyOnWriteArrayList<>();
+      raygunTemplate =
+          new RaygunTemplate(
+              new TransportRaygunClientFactory(
+                  "apiKey",
+                  (apiKey, payload) -> {
+                    payloads.add(payload);
+                    return CompletableFuture.completedFuture(new RaygunTransportResponse(202));
+                  }),
+              new SyncTaskExecutor());
+      raygunDeduplicator = new RaygunDeduplicator();
+      raygunDeduplicator.afterPropertiesSet();
+      raygunTemplate.setRaygunDeduplicator(raygunDeduplicator);
+
+      for (int index = 0; index < 3; index++) {
+        raygunTemplate.send(new RuntimeException("Order " + index + " failed"));
+      }
+    }
+
+    @AfterEach
+    void afterEach() {
+      raygunDeduplicator.destroy();
+    }
+
+    @Test
+    void shouldBeSentOnce() {
+      assertThat(payloads).hasSize(1);
+    }
+
+    @Test
+    void occurrencesShouldBeSentWhenWindowCloses() {
+      raygunDeduplicator.destroy();
+
+      assertThat(payloads.get(1)).contains("\"occurrenceCount\":\"3\"");
+    }
+  }
+
+  @Nested
+  class SendSampled {
+
+    @Test
+    void shouldContainSampleRate() {
+      List<String> payloads = new CopyOnWriteArrayList<>();
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(
+              new TransportRaygunClientFactory(
+                  "apiKey",
+                  (apiKey, payload) -> {
+                    payloads.add(payload);
+                    return CompletableFuture.completedFuture(new RaygunTransportResponse(202));
+                  }),
+              new SyncTaskExecutor());
+      RaygunSampler raygunSampler = new RaygunSampler();
+      raygunSampler.afterPropertiesSet();
+      raygunTemplate.setRaygunSampler(raygunSampler);
+
+      raygunTemplate.send(new RuntimeException());
+
+      assertThat(payloads.get(0)).contains("\"sampleRate\":\"1.0\"");
+    }
+  }
+
+  @Nested
+  class SendReport {
+    List<String> payloads;
+
+    @BeforeEach
+    void beforeEach() {
+      payloads = new CopyOnWriteArrayList<>();
+      raygunTemplate =
+          new RaygunTemplate(
+              new TransportRaygunClientFactory(
+                  "apiKey",
+                  (apiKey, payload) -> {
+                    payloads.add(payload);
+                    return CompletableFuture.completedFuture(new RaygunTransportResponse(202));
+                  }),
+              new SyncTaskExecutor());
+    }
+
+    @Test
+    void exceptionShouldContainTags() {
+      raygunTemplate.send(new RuntimeException(), RaygunTags.of("poppinparty"));
+
+      assertThat(payloads.get(0)).contains("\"poppinparty\"");
+    }
+
+    @Test
+    void exceptionShouldContainData() {
+      raygunTemplate.send(
+          new RuntimeException(),
+          RaygunReport.of(RaygunTags.of("poppinparty"), Map.of("vocal", "kasumi")));
+
+      assertThat(payloads.get(0)).contains("\"vocal\":\"kasumi\"");
+    }
+
+    @Test
+    void throwableShouldContainTags() {
+      raygunTemplate.send(new Error(), RaygunTags.of("morfonica"));
+
+      assertThat(payloads.get(0)).contains("\"morfonica\"");
+    }
+
+    @Test
+    void throwableShouldContainData() {
+      raygunTemplate.send(
+          new Error(), RaygunReport.of(RaygunTags.NONE, Map.of("vocal", "mashiro")));
+
+      assertThat(payloads.get(0)).contains("\"vocal\":\"mashiro\"");
+    }
+  }
+
+  @Nested
+  class SendPrioritized {
+    List<Runnable> tasks;
+
+    @BeforeEach
+    void beforeEach() {
+      tasks = new CopyOnWriteArrayList<>();
+      raygunTemplate = new RaygunTemplate(raygunClientFactory, tasks::add);
+    }
+
+    RaygunPriority priority(Runnable task) {
+      return task instanceof RaygunPrioritizedTask
+          ? ((RaygunPrioritizedTask) task).getPriority()
+          : RaygunPriority.NORMAL;
+    }
+
+    @Test
+    void reportShouldBeDispatchedWithPriority() {
+      raygunTemplate.send(new RuntimeException(), RaygunReport.CRITICAL);
+
+      assertThat(priority(tasks.get(0))).isEqualTo(RaygunPriority.CRITICAL);
+    }
+
+    @Test
+    void asyncReportShouldBeDispatchedWithPriority() {
+      raygunTemplate.sendAsync(
+          new RuntimeException(), RaygunReport.NONE.withPriority(RaygunPriority.LOW));
+
+      assertThat(priority(tasks.get(0))).isEqualTo(RaygunPriority.LOW);
+    }
+
+    @Test
+    void withoutReportShouldBeDispatchedNormal() {
+      raygunTemplate.send(new RuntimeException());
+
+      assertThat(priority(tasks.get(0))).isEqualTo(RaygunPriority.NORMAL);
+    }
+
+    @Test
+    void prioritizedShouldBeSent() {
+      raygunTemplate.send(new RuntimeException(), RaygunReport.CRITICAL);
+      tasks.get(0).run();
+
+      verify(raygunClientFactory, times(1)).newClient();
+    }
+  }
+
+  @Nested
+  class SendWithoutAllocation {
+    static final int WARM_UP_SENDS = 100_000;
+    static final int MEASURED_SENDS = 10_000;
+    final RaygunReport report =
+        RaygunReport.of(RaygunTags.of("poppinparty"), Map.of("vocal", "kasumi"));
+    final String[] tags = {"roselia"};
+
+    ThreadMXBean threadMxBean;
+
+    @BeforeEach
+    void beforeEach() {
+      assumeTrue(
+          ManagementFactory.getThreadMXBean() instanceof ThreadMXBean,
+          "Thread allocation measurement is not supported");
+      threadMxBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+      assumeTrue(
+          threadMxBean.isThreadAllocatedMemorySupported(),
+          "Thread allocation measurement is not supported");
+      threadMxBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    long allocatedBytesPerSend(Exception exception) {
+      return allocatedBytesPerSend(() -> raygunTemplate.send(exception, report));
+    }
+
+    long allocatedBytesPerSendWithTags(Exception exception) {
+      return allocatedBytesPerSend(() -> raygunTemplate.send(exception, tags));
+    }
+
+    long allocatedBytesPerSend(Runnable send) {
+      for (int index = 0; index < WARM_UP_SENDS; index++) {
+        send.run();
+      }
+
+      long threadId = Thread.currentThread().getId();
+      long allocatedBytes = threadMxBean.getThreadAllocatedBytes(threadId);
+      for (int index = 0; index < MEASURED_SENDS; index++) {
+        send.run();
+      }
+      return (threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBytes) / MEASURED_SENDS;
+    }
+
+    @Test
+    void excludedShouldNotAllocate() {
+      raygunTemplate.registerException(IllegalStateException.class);
+
+      assertThat(allocatedBytesPerSend(new IllegalStateException())).isZero();
+    }
+
+    @Test
+    void throttledShouldNotAllocate() {
+      RaygunRateLimiter raygunRateLimiter = new RaygunRateLimiter();
+      raygunRateLimiter.setPerFingerprint(1);
+      raygunRateLimiter.afterPropertiesSet();
+      raygunTemplate.setRaygunRateLimiter(raygunRateLimiter);
+
+      assertThat(allocatedBytesPerSend(new IllegalStateException("Order 1 failed"))).isZero();
+    }
+
+    @Test
+    void sampledOutShouldNotAllocate() {
+      RaygunSampler raygunSampler = new RaygunSampler();
+      raygunSampler.setTargetRate(Double.MIN_VALUE);
+      raygunSampler.afterPropertiesSet();
+      raygunTemplate.setRaygunSampler(raygunSampler);
+      raygunTemplate.send(new IllegalStateException());
+
+      assertThat(allocatedBytesPerSend(new IllegalStateException())).isZero();
+    }
+
+    @Test
+    void excludedWithTagsShouldNotAllocate() {
+      raygunTemplate.registerException(IllegalStateException.class);
+
+      assertThat(allocatedBytesPerSendWithTags(new IllegalStateException())).isZero();
+    }
+
+    @Test
+    void throttledWithTagsShouldNotAllocate() {
+      RaygunRateLimiter raygunRateLimiter = new RaygunRateLimiter();
+      raygunRateLimiter.setPerFingerprint(1);
+      raygunRateLimiter.afterPropertiesSet();
+      raygunTemplate.setRaygunRateLimiter(raygunRateLimiter);
+
+      assertThat(allocatedBytesPerSendWithTags(new IllegalStateException("Order 1 failed")))
+          .isZero();
+    }
+
+    @Test
+    void sampledOutWithTagsShouldNotAllocate() {
+      RaygunSampler raygunSampler = new RaygunSampler();
+      raygunSampler.setTargetRate(Double.MIN_VALUE);
+      raygunSampler.afterPropertiesSet();
+      raygunTemplate.setRaygunSampler(raygunSampler);
+      raygunTemplate.send(new IllegalStateException());
+
+      assertThat(allocatedBytesPerSendWithTags(new IllegalStateException())).isZero();
+    }
+  }
+
+  @Nested
+  class SendAsync {
+    CompletableFuture<RaygunTransportResponse> response;
+
+    @BeforeEach
+    void beforeEach() {
+      response = CompletableFuture.completedFuture(new RaygunTransportResponse(202));
+      raygunTemplate =
+          new RaygunTemplate(
+              new TransportRaygunClientFactory("apiKey", (apiKey, payload) -> response),
+              new SyncTaskExecutor());
+    }
+
+    RaygunDeliveryResult sendAsync(Throwable throwable) {
+      return raygunTemplate.sendAsync(throwable).toCompletableFuture().join();
+    }
+
+    @Test
+    void acceptedShouldBeDelivered() {
+      assertThat(sendAsync(new RuntimeException()).getStatus())
+          .isEqualTo(RaygunDeliveryResult.Status.DELIVERED);
+    }
+
+    @Test
+    void acceptedShouldContainStatusCode() {
+      assertThat(sendAsync(new RuntimeException()).getStatusCode()).isEqualTo(202);
+    }
+
+    @Test
+    void acceptedShouldContainAttempts() {
+      assertThat(sendAsync(new RuntimeException()).getAttempts()).isOne();
+    }
+
+    @Test
+    void retriedShouldContainAttempts() {
+      response =
+          CompletableFuture.completedFuture(new RaygunTransportResponse(202).withAttempts(3));
+
+      assertThat(sendAsync(new RuntimeException()).getAttempts()).isEqualTo(3);
+    }
+
+    @Test
+    void badRequestShouldBeRejected() {
+      response = CompletableFuture.completedFuture(new RaygunTransportResponse(400));
+
+      assertThat(sendAsync(new RuntimeException()).getStatus())
+          .isEqualTo(RaygunDeliveryResult.Status.REJECTED);
+    }
+
+    @Test
+    void transportFailureShouldFail() {
+      response = CompletableFuture.failedFuture(new IOException("Connection refused"));
+
+      assertThat(sendAsync(new RuntimeException()).getStatus())
+          .isEqualTo(RaygunDeliveryResult.Status.FAILED);
+    }
+
+    @Test
+    void spooledShouldBeSpooled() {
+      response = CompletableFuture.completedFuture(RaygunTransportResponse.spooled());
+
+      assertThat(sendAsync(new RuntimeException()).getStatus())
+          .isEqualTo(RaygunDeliveryResult.Status.SPOOLED);
+    }
+
+    @Test
+    void shouldNotCompleteBeforeResponse() {
+      response = new CompletableFuture<>();
+
+      assertThat(raygunTemplate.sendAsync(new RuntimeException()).toCompletableFuture())
+          .isNotDone();
+    }
+
+    @Test
+    void shouldCompleteWithResponse() {
+      response = new CompletableFuture<>();
+      CompletableFuture<RaygunDeliveryResult> result =
+          raygunTemplate.sendAsync(new RuntimeException()).toCompletableFuture();
+      response.complete(new RaygunTransportResponse(202));
+
+      assertThat(result.join().isDelivered()).isTrue();
+    }
+
+    @Test
+    void excludedShouldBeDropped() {
+      raygunTemplate.registerException(IllegalStateException.class);
+
+      assertThat(sendAsync(new IllegalStateException()).getDropReason())
+          .isEqualTo(RaygunDeliveryResult.DropReason.EXCLUDED);
+    }
+
+    @Test
+    void throttledShouldBeDropped() {
+      RaygunRateLimiter raygunRateLimiter = new RaygunRateLimiter();
+      raygunRateLimiter.setPerFingerprint(1);
+      raygunRateLimiter.afterPropertiesSet();
+      raygunTemplate.setRaygunRateLimiter(raygunRateLimiter);
+      sendAsync(new RuntimeException());
+
+      assertThat(sendAsync(new RuntimeException()).getDropReason())
+          .isEqualTo(RaygunDeliveryResult.DropReason.THROTTLED);
+    }
+
+    @Test
+    void duplicateShouldBeDropped() {
+      RaygunDeduplicator raygunDeduplicator = new RaygunDeduplicator();
+      raygunDeduplicator.afterPropertiesSet();
+      raygunTemplate.setRaygunDeduplicator(raygunDeduplicator);
+      RuntimeException exception = new RuntimeException("Order 1 failed");
+      sendAsync(exception);
+
+      try {
+        assertThat(sendAsync(exception).getDropReason())
+            .isEqualTo(RaygunDeliveryResult.DropReason.DUPLICATE);
+      } finally {
+        raygunDeduplicator.destroy();
+      }
+    }
+
+    @Test
+    void sampledOutShouldBeDropped() {
+      RaygunSampler raygunSampler = new RaygunSampler();
+      raygunSampler.setTargetRate(Double.MIN_VALUE);
+      raygunSampler.afterPropertiesSet();
+      raygunTemplate.setRaygunSampler(raygunSampler);
+      sendAsync(new RuntimeException());
+
+      assertThat(sendAsync(new RuntimeException()).getDropReason())
+          .isEqualTo(RaygunDeliveryResult.DropReason.SAMPLED_OUT);
+    }
+
+    @Test
+    void occurrencesShouldBeQueued() {
+      List<RaygunReportRecorder.Outcome> occurrencesOutcomes = new CopyOnWriteArrayList<>();
+      raygunTemplate.setRaygunReportRecorder(
+          new RaygunReportRecorder() {
+            @Override
+            public void record(Throwable throwable, Outcome outcome) {
+              // only the occurrences are asserted
+            }
+
+            @Override
+            public void record(RaygunOccurrences raygunOccurrences, Outcome outcome) {
+              occurrencesOutcomes.add(outcome);
+            }
+          });
+      RaygunDeduplicator raygunDeduplicator = new RaygunDeduplicator();
+      raygunDeduplicator.afterPropertiesSet();
+      raygunTemplate.setRaygunDeduplicator(raygunDeduplicator);
+
+      try {
+        for (int index = 0; index < 2; index++) {
+          raygunTemplate.send(new RuntimeException());
+        }
+      } finally {
+        raygunDeduplicator.destroy();
+      }
+
+      assertThat(occurrencesOutcomes).isEqualTo(List.of(RaygunReportRecorder.Outcome.QUEUED));
+    }
+
+    @Test
+    void rejectedByExecutorShouldOverflow() {
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(
+              raygunClientFactory,
+              task -> {
+                throw new RejectedExecutionException();
+              });
+
+      assertThat(
+              raygunTemplate
+                  .sendAsync(new RuntimeException())
+                  .toCompletableFuture()
+                  .join()
+                  .getDropReason())
+          .isEqualTo(RaygunDeliveryResult.DropReason.OVERFLOW);
+    }
+
+    @Test
+    void clientShouldBeDelivered() {
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(raygunClientFactory, new SyncTaskExecutor());
+
+      assertThat(raygunTemplate.sendAsync(new RuntimeException()).toCompletableFuture().join())
+          .extracting(RaygunDeliveryResult::getStatusCode)
+          .isEqualTo(200);
+    }
+
+    @Test
+    void latencyShouldNotBeNegative() {
+      assertThat(sendAsync(new RuntimeException()).getLatency().isNegative()).isFalse();
+    }
+  }
+
+  @Nested
+  class SendRecorded {
+    List<RaygunReportRecorder.Outcome> outcomes;
+
+    @BeforeEach
+    void beforeEach() {
+      outcomes = new CopyOnWriteArrayList<>();
+      raygunTemplate.setRaygunReportRecorder((throwable, outcome) -> outcomes.add(outcome));
+    }
+
+    @Test
+    void sentShouldBeQueued() {
+      raygunTemplate.send(new RuntimeException());
+
+      assertThat(outcomes).containsExactly(RaygunReportRecorder.Outcome.QUEUED);
+    }
+
+    @Test
+    void registeredShouldBeExcluded() {
+      raygunTemplate.registerException(IndexOutOfBoundsException.class);
+
+      raygunTemplate.send(new IndexOutOfBoundsException());
+
+      assertThat(outcomes).containsExactly(RaygunReportRecorder.Outcome.EXCLUDED);
+    }
+
+    @Test
+    void throttledShouldBeThrottled() {
+      RaygunRateLimiter raygunRateLimiter = new RaygunRateLimiter();
+      raygunRateLimiter.setPerFingerprint(1);
+      raygunRateLimiter.afterPropertiesSet();
+      raygunTemplate.setRaygunRateLimiter(raygunRateLimiter);
+
+      raygunTemplate.send(new RuntimeException());
+      raygunTemplate.send(new RuntimeException());
+
+      assertThat(outcomes).last().isEqualTo(RaygunReportRecorder.Outcome.THROTTLED);
+    }
+
+    @Test
+    void duplicateShouldBeDuplicate() {
+      RaygunDeduplicator raygunDeduplicator = new RaygunDeduplicator();
+      raygunDeduplicator.afterPropertiesSet();
+      raygunTemplate.setRaygunDeduplicator(raygunDeduplicator);
+
+      try {
+        for (int index = 0; index < 2; index++) {
+          raygunTemplate.send(new RuntimeException());
+        }
+      } finally {
+        raygunDeduplicator.destroy();
+      }
+
+      assertThat(outcomes).last().isEqualTo(RaygunReportRecorder.Outcome.DUPLICATE);
+    }
+
+    @Test
+    void rejectedByExecutorShouldOverflow() {
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(
+              raygunClientFactory,
+              task -> {
+                throw new RejectedExecutionException();
+              });
+      raygunTemplate.setRaygunReportRecorder((throwable, outcome) -> outcomes.add(outcome));
+
+      raygunTemplate.send(new RuntimeException());
+
+      assertThat(outcomes).containsExactly(RaygunReportRecorder.Outcome.OVERFLOW);
+    }
+
+    @Test
+    void droppedByDispatcherShouldOverflow() {
+      RaygunDispatcher raygunDispatcher = pausedRaygunDispatcher();
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(raygunClientFactory, raygunDispatcher.asTaskExecutor());
+      raygunTemplate.setRaygunReportRecorder((throwable, outcome) -> outcomes.add(outcome));
+
+      try {
+        for (int index = 0; index <= raygunDispatcher.getQueueCapacity(); index++) {
+          raygunTemplate.send(new RuntimeException());
+        }
+      } finally {
+        raygunDispatcher.destroy();
+      }
+
+      assertThat(outcomes).last().isEqualTo(RaygunReportRecorder.Outcome.OVERFLOW);
+    }
+
+    @Test
+    void droppedByDispatcherShouldBeRejected() {
+      RaygunDispatcher raygunDispatcher = pausedRaygunDispatcher();
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(raygunClientFactory, raygunDispatcher.asTaskExecutor());
+
+      try {
+        for (int index = 0; index <= raygunDispatcher.getQueueCapacity(); index++) {
+          raygunTemplate.send(new RuntimeException());
+        }
+      } finally {
+        raygunDispatcher.destroy();
+      }
+
+      assertThat(raygunTemplate.getRejectedCount()).isOne();
+    }
+
+    @Test
+    void sentAsyncShouldBeQueued() {
+      raygunTemplate.sendAsync(new RuntimeException());
+
+      assertThat(outcomes).containsExactly(RaygunReportRecorder.Outcome.QUEUED);
+    }
+  }
+
+  @Nested
+  class SendSnapshot {
+    MockRaygunClientFactory mockRaygunClientFactory;
+    RaygunThrowableSnapshotter raygunThrowableSnapshotter;
+    List<RaygunReportRecorder.Outcome> outcomes;
+
+    @BeforeEach
+    void beforeEach() {
+      mockRaygunClientFactory = new MockRaygunClientFactory();
+      raygunThrowableSnapshotter = new RaygunThrowableSnapshotter();
+      outcomes = new CopyOnWriteArrayList<>();
+      raygunTemplate = new RaygunTemplate(mockRaygunClientFactory, new SyncTaskExecutor());
+      raygunTemplate.setRaygunThrowableSnapshotter(raygunThrowableSnapshotter);
+      raygunTemplate.setRaygunReportRecorder((throwable, outcome) -> outcomes.add(outcome));
+    }
+
+    @Test
+    void sentShouldContainClassName() {
+      raygunTemplate.send(new IllegalStateException("poppin party"));
+
+      assertThat(mockRaygunClientFactory.getRecorder().getMessages(IllegalStateException.class))
+          .hasSize(1);
+    }
+
+    @Test
+    void sentShouldContainTags() {
+      raygunTemplate.send(new IllegalStateException(), "roselia");
+
+      assertThat(mockRaygunClientFactory.getRecorder().getMessagesTagged("roselia")).hasSize(1);
+    }
+
+    @Test
+    void sentShouldBeReleased() {
+      raygunTemplate.send(new IllegalStateException());
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+    }
+
+    @Test
+    void sentAsyncShouldBeReleased() {
+      raygunTemplate.sendAsync(new IllegalStateException());
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+    }
+
+    @Test
+    void sentAsyncShouldBeDelivered() {
+      assertThat(raygunTemplate.sendAsync(new RuntimeException()).toCompletableFuture().join())
+          .extracting(RaygunDeliveryResult::getStatusCode)
+          .isEqualTo(200);
+    }
+
+    @Test
+    void sentAsyncThroughTransportShouldBeDelivered() {
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(
+              new TransportRaygunClientFactory(
+                  "apiKey",
+                  (apiKey, payload) ->
+                      CompletableFuture.completedFuture(new RaygunTransportResponse(202))),
+              new SyncTaskExecutor());
+      raygunTemplate.setRaygunThrowableSnapshotter(raygunThrowableSnapshotter);
+
+      assertThat(
+              raygunTemplate
+                  .sendAsync(new RuntimeException())
+                  .toCompletableFuture()
+                  .join()
+                  .getStatus())
+          .isEqualTo(RaygunDeliveryResult.Status.DELIVERED);
+    }
+
+    @Test
+    void exceedingShouldOverflow() {
+      raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(1));
+
+      raygunTemplate.send(new IllegalStateException());
+
+      assertThat(outcomes).containsExactly(RaygunReportRecorder.Outcome.OVERFLOW);
+    }
+
+    @Test
+    void exceedingShouldNotBeSent() {
+      raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(1));
+
+      raygunTemplate.send(new IllegalStateException());
+
+      assertThat(mockRaygunClientFactory.getRecorder().count()).isZero();
+    }
+
+    @Test
+    void exceedingAsyncShouldBeDropped() {
+      raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(1));
+
+      assertThat(
+              raygunTemplate
+                  .sendAsync(new IllegalStateException())
+                  .toCompletableFuture()
+                  .join()
+                  .getDropReason())
+          .isEqualTo(RaygunDeliveryResult.DropReason.OVERFLOW);
+    }
+
+    @Test
+    void droppedByDispatcherShouldBeReleasedOnce() {
+      RaygunDispatcher raygunDispatcher = pausedRaygunDispatcher();
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(mockRaygunClientFactory, raygunDispatcher.asTaskExecutor());
+      raygunTemplate.setRaygunThrowableSnapshotter(raygunThrowableSnapshotter);
+
+      try {
+        for (int index = 0; index < raygunDispatcher.getQueueCapacity(); index++) {
+          raygunTemplate.send(new IllegalStateException());
+        }
+        long queuedSize = raygunThrowableSnapshotter.getQueuedSize();
+        raygunTemplate.send(new IllegalStateException());
+        raygunTemplate.sendAsync(new IllegalStateException());
+
+        assertThat(raygunThrowableSnapshotter.getQueuedSize()).isEqualTo(queuedSize);
+      } finally {
+        raygunDispatcher.destroy();
+      }
+    }
+
+    @Test
+    void occurrencesShouldBeSent() {
+      RaygunDeduplicator raygunDeduplicator = new RaygunDeduplicator();
+      raygunDeduplicator.afterPropertiesSet();
+      raygunTemplate.setRaygunDeduplicator(raygunDeduplicator);
+
+      for (int index = 0; index < 2; index++) {
+        raygunTemplate.send(new IllegalStateException("hello happy world"));
+      }
+      raygunDeduplicator.destroy();
+
+      assertThat(
+              mockRaygunClientFactory
+                  .getRecorder()
+                  .getMessages(IllegalStateException.class)
+                  .get(1)
+                  .getDetails()
+                  .getUserCustomData()
+                  .get(RaygunOccurrences.OCCURRENCE_COUNT))
+          .isEqualTo("2");
+    }
+
+    @Test
+    void occurrencesShouldBeReleased() {
+      RaygunDeduplicator raygunDeduplicator = new RaygunDeduplicator();
+      raygunDeduplicator.afterPropertiesSet();
+      raygunTemplate.setRaygunDeduplicator(raygunDeduplicator);
+
+      for (int index = 0; index < 2; index++) {
+        raygunTemplate.send(new IllegalStateException());
+      }
+      raygunDeduplicator.destroy();
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+    }
+
+    @Test
+    void occurrencesExceedingMaxQueuedSizeShouldNotBeSent() {
+      RaygunDeduplicator raygunDeduplicator = new RaygunDeduplicator();
+      raygunDeduplicator.afterPropertiesSet();
+      raygunTemplate.setRaygunDeduplicator(raygunDeduplicator);
+      raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(1));
+
+      for (int index = 0; index < 2; index++) {
+        raygunTemplate.send(new IllegalStateException("morfonica"));
+      }
+      raygunDeduplicator.destroy();
+
+      assertThat(mockRaygunClientFactory.getRecorder().getMessages(IllegalStateException.class))
+          .isEmpty();
+    }
+
+    @Test
+    void openWindowsShouldNotUseUpMaxQueuedSize() {
+      RaygunDeduplicator raygunDeduplicator = new RaygunDeduplicator();
+      raygunDeduplicator.afterPropertiesSet();
+      raygunTemplate.setRaygunDeduplicator(raygunDeduplicator);
+
+      for (int index = 0; index < 2; index++) {
+        raygunTemplate.send(new IllegalStateException("pastel palettes"));
+        raygunTemplate.send(new IllegalArgumentException("pastel palettes"));
+      }
+
+      try {
+        assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+      } finally {
+        raygunDeduplicator.destroy();
+      }
+    }
+
+    @Test
+    void rejectedByExecutorShouldBeReleased() {
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(
+              mockRaygunClientFactory,
+              task -> {
+                throw new RejectedExecutionException();
+              });
+      raygunTemplate.setRaygunThrowableSnapshotter(raygunThrowableSnapshotter);
+
+      raygunTemplate.send(new IllegalStateException());
+      raygunTemplate.sendAsync(new IllegalStateException());
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+    }
+  }
+
+  @Nested
+  class SendThroughTransport {
+
+    @Test
+    void shouldNotWaitForResponse() {
+      CompletableFuture<RaygunTransportResponse> response = new CompletableFuture<>();
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(
+              new TransportRaygunClientFactory("apiKey", (apiKey, payload) -> response),
+              new SyncTaskExecutor());
+
+      raygunTemplate.send(new RuntimeException());
+
+      assertThat(raygunTemplate.getRaygunClientPool().getIdleCount()).isOne();
+    }
+  }
+
+  @Nested
+  class Mute {
+
+    @Test
+    void subtypeOfMutedTypeShouldNotBeSent() {
+      raygunTemplate.muteException(RuntimeException.class.getName(), Duration.ofMinutes(1));
+
+      raygunTemplate.send(new IllegalStateException());
+
+      verify(raygunClientFactory, times(0)).newClient();
+    }
+
+    @Test
+    void unmutedTypeShouldBeSent() {
+      raygunTemplate.muteException(IllegalStateException.class.getName(), Duration.ofMinutes(1));
+      raygunTemplate.unmuteException(IllegalStateException.class.getName());
+
+      raygunTemplate.send(new IllegalStateException());
+
+      verify(raygunClientFactory, times(1)).newClient();
+    }
+
+    @Test
+    void expiredMuteShouldBeSent() throws InterruptedException {
+      raygunTemplate.muteException(IllegalStateException.class.getName(), Duration.ofMillis(1));
+      Thread.sleep(5);
+
+      raygunTemplate.send(new IllegalStateException());
+
+      verify(raygunClientFactory, times(1)).newClient();
+    }
+
+    @Test
+    void expiredMuteShouldBeRemovedOnLookup() throws InterruptedException {
+      raygunTemplate.muteException(IllegalStateException.class.getName(), Duration.ofMillis(1));
+      Thread.sleep(5);
+
+      raygunTemplate.send(new IllegalArgumentException());
+
+      assertThat(raygunTemplate).extracting("mutes.exceptionTypes").isEqualTo(Map.of());
+    }
+
+    @Test
+    void unexpiredMuteShouldBeKeptOnLookup() throws InterruptedException {
+      raygunTemplate.muteException(IllegalStateException.class.getName(), Duration.ofMinutes(1));
+      raygunTemplate.muteFingerprint(1, Duration.ofMillis(1));
+      Thread.sleep(5);
+
+      raygunTemplate.send(new IllegalArgumentException());
+
+      assertThat(raygunTemplate.getMutedExceptions())
+          .containsOnlyKeys(IllegalStateException.class.getName());
+    }
+
+    @Test
+    void mutedFingerprintShouldNotBeSent() {
+      raygunTemplate.muteFingerprint(
+          new RaygunFingerprinter(0).fingerprint(new IllegalStateException("Order 1 failed")),
+          Duration.ofMinutes(1));
+
+      raygunTemplate.send(new IllegalStateException("Order 2 failed"));
+
+      verify(raygunClientFactory, times(0)).newClient();
+    }
+
+    @Test
+    void otherFingerprintShouldBeSent() {
+      raygunTemplate.muteFingerprint(
+          new RaygunFingerprinter(0).fingerprint(new IllegalStateException("Order 1 failed")),
+          Duration.ofMinutes(1));
+
+      raygunTemplate.send(new IllegalStateException("Payment failed"));
+
+      verify(raygunClientFactory, times(1)).newClient();
+    }
+
+    @Test
+    void mutedTypesShouldHaveRemainingDuration() {
+      raygunTemplate.muteException(IllegalStateException.class.getName(), Duration.ofMinutes(1));
+
+      assertThat(raygunTemplate.getMutedExceptions())
+          .extractingByKey(IllegalStateException.class.getName())
+          .matches(remaining -> remaining.compareTo(Duration.ofMinutes(1)) <= 0);
+    }
+
+    @Test
+    void unmutedFingerprintShouldNotBeListed() {
+      raygunTemplate.muteFingerprint(1, Duration.ofMinutes(1));
+      raygunTemplate.unmuteFingerprint(1);
+
+      assertThat(raygunTemplate.getMutedFingerprints()).isEmpty();
+    }
+
+    @Test
+    void zeroDurationShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> raygunTemplate.muteFingerprint(1, Duration.ZERO))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The mute duration must be positive");
+    }
+  }
+
+  @Nested
+  class Exclusions {
+
+    @Test
+    void registeredTypesShouldBeListed() {
+      raygunTemplate.registerException(
+          IllegalStateException.class, RaygunExceptionExcludeMode.SUBTYPE);
+
+      assertThat(raygunTemplate.getExcludedExceptions())
+          .extractingByKey(IllegalStateException.class.getName())
+          .isEqualTo(RaygunExceptionExcludeMode.SUBTYPE);
+    }
+
+    @Test
+    void rulesShouldBeListedWithConfiguredRulesLast() {
+      raygunTemplate.setConfiguredRules(List.of("type=java.io.IOException"));
+      raygunTemplate.registerRule("type=java.lang.IllegalStateException");
+
+      assertThat(raygunTemplate.getExcludeRules())
+          .isEqualTo(List.of("type=java.lang.IllegalStateException", "type=java.io.IOException"));
+    }
+  }
+
   @Nested
   class RegisterException {
 
@@ -286,5 +1372,12 @@ class RaygunTemplateTest {
           .isExactlyInstanceOf(IllegalArgumentException.class)
           .hasMessage("The exception type must not be null");
     }
+
+    @Test
+    void nullModeShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> raygunTemplate.registerException(RuntimeException.class, null))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The exclude mode must not be null");
+    }
   }
 }
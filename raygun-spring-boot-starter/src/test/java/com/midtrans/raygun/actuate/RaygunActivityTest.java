@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.midtrans.raygun.RaygunReportRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link RaygunActivity}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunActivityTest {
+  static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  RaygunActivity raygunActivity;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunActivity = new RaygunActivity();
+  }
+
+  void record(Throwable throwable, RaygunReportRecorder.Outcome outcome, long now) {
+    raygunActivity.record(throwable, outcome, now);
+  }
+
+  @Nested
+  class Throughput {
+
+    @Test
+    void receivedShouldBeAveragedOverLastMinute() {
+      for (int second = 0; second < 30; second++) {
+        record(new RuntimeException(), RaygunReportRecorder.Outcome.THROTTLED, second * SECOND);
+      }
+
+      assertThat(raygunActivity.getReceivedRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void queuedShouldOnlyCountQueued() {
+      record(new RuntimeException(), RaygunReportRecorder.Outcome.QUEUED, 0);
+      record(new RuntimeException(), RaygunReportRecorder.Outcome.EXCLUDED, 0);
+
+      assertThat(raygunActivity.getQueuedRate()).isEqualTo(1.0 / 60);
+    }
+
+    @Test
+    void previousMinuteShouldNotBeCounted() {
+      record(new RuntimeException(), RaygunReportRecorder.Outcome.QUEUED, 0);
+      record(new RuntimeException(), RaygunReportRecorder.Outcome.QUEUED, 60 * SECOND);
+
+      assertThat(raygunActivity.getQueuedRate()).isEqualTo(1.0 / 60);
+    }
+  }
+
+  @Nested
+  class NoisiestFingerprints {
+
+    @Test
+    void shouldBeSortedByRate() {
+      for (int index = 0; index < 3; index++) {
+        record(new IllegalStateException("Order " + index), RaygunReportRecorder.Outcome.QUEUED, 0);
+      }
+      record(new IllegalArgumentException(), RaygunReportRecorder.Outcome.QUEUED, 0);
+
+      assertThat(raygunActivity.getNoisiestFingerprints(2, 0))
+          .extracting(RaygunActivity.Fingerprint::getExceptionType)
+          .isEqualTo(
+              List.of(
+                  IllegalStateException.class.getName(), IllegalArgumentException.class.getName()));
+    }
+
+    @Test
+    void shouldBeLimited() {
+      record(new IllegalStateException(), RaygunReportRecorder.Outcome.QUEUED, 0);
+      record(new IllegalArgumentException(), RaygunReportRecorder.Outcome.QUEUED, 0);
+
+      assertThat(raygunActivity.getNoisiestFingerprints(1, 0)).hasSize(1);
+    }
+
+    @Test
+    void inactiveShouldNotBeListed() {
+      record(new IllegalStateException(), RaygunReportRecorder.Outcome.QUEUED, 0);
+
+      assertThat(raygunActivity.getNoisiestFingerprints(1, 2 * 60 * SECOND)).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.midtrans.raygun.RaygunReportRecorder;
+import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.retry.RaygunCircuitBreaker;
+import com.midtrans.raygun.retry.RaygunRetrier;
+import com.midtrans.raygun.test.MockRaygunClientFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link RaygunEndpoint}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunEndpointTest {
+  RaygunDispatcher raygunDispatcher;
+  RaygunTemplate raygunTemplate;
+  RaygunActivity raygunActivity;
+  RaygunEndpoint raygunEndpoint;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunDispatcher = new RaygunDispatcher();
+    raygunDispatcher.afterPropertiesSet();
+    raygunTemplate =
+        new RaygunTemplate(new MockRaygunClientFactory(), raygunDispatcher.asTaskExecutor());
+    raygunActivity = new RaygunActivity();
+    raygunTemplate.setRaygunReportRecorder(raygunActivity);
+    raygunEndpoint = new RaygunEndpoint(raygunTemplate, raygunActivity);
+    raygunEndpoint.setRaygunDispatcher(raygunDispatcher);
+  }
+
+  @AfterEach
+  void afterEach() {
+    raygunDispatcher.destroy();
+  }
+
+  /** Occupies a sender thread until released. */
+  void blockSender(CountDownLatch senderReleased) throws InterruptedException {
+    CountDownLatch senderBlocked = new CountDownLatch(1);
+    raygunDispatcher.dispatch(
+        () -> {
+          senderBlocked.countDown();
+          try {
+            senderReleased.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    senderBlocked.await(5, TimeUnit.SECONDS);
+  }
+
+  @Nested
+  class Read {
+
+    @Test
+    void queuesShouldContainEveryLane() {
+      assertThat(raygunEndpoint.raygun().getQueues()).containsOnlyKeys("critical", "normal", "low");
+    }
+
+    @Test
+    void queuesShouldContainCapacity() {
+      assertThat(raygunEndpoint.raygun().getQueues().get("normal").getCapacity())
+          .isEqualTo(raygunDispatcher.getQueueCapacity());
+    }
+
+    @Test
+    void queuesShouldContainDropped() {
+      assertThat(raygunEndpoint.raygun().getQueues().get("low").getDropped()).isZero();
+    }
+
+    @Test
+    void throughputShouldContainReceived() {
+      raygunTemplate.send(new RuntimeException());
+
+      assertThat(raygunEndpoint.raygun().getThroughput().getReceived()).isPositive();
+    }
+
+    @Test
+    void noisiestFingerprintsShouldContainSent() {
+      raygunTemplate.send(new IllegalStateException());
+
+      assertThat(raygunEndpoint.raygun().getNoisiestFingerprints())
+          .extracting(RaygunEndpoint.FingerprintDescriptor::getExceptionType)
+          .isEqualTo(List.of(IllegalStateException.class.getName()));
+    }
+
+    @Test
+    void exclusionsShouldContainRules() {
+      raygunTemplate.registerRule("type=java.io.IOException");
+
+      assertThat(raygunEndpoint.raygun().getExclusions().getRules())
+          .isEqualTo(List.of("type=java.io.IOException"));
+    }
+
+    @Test
+    void circuitBreakerShouldBeClosed() {
+      RaygunRetrier raygunRetrier = new RaygunRetrier();
+      raygunRetrier.afterPropertiesSet();
+      raygunEndpoint.setRaygunRetrier(raygunRetrier);
+
+      try {
+        assertThat(raygunEndpoint.raygun().getCircuitBreaker())
+            .isEqualTo(RaygunCircuitBreaker.State.CLOSED);
+      } finally {
+        raygunRetrier.destroy();
+      }
+    }
+
+    @Test
+    void withoutRetrierCircuitBreakerShouldBeNull() {
+      assertThat(raygunEndpoint.raygun().getCircuitBreaker()).isNull();
+    }
+
+    @Test
+    void withoutDispatcherQueuesShouldBeNull() {
+      raygunEndpoint.setRaygunDispatcher(null);
+
+      assertThat(raygunEndpoint.raygun().getQueues()).isNull();
+    }
+  }
+
+  @Nested
+  class Control {
+
+    @Test
+    void pauseShouldBePaused() {
+      assertThat(raygunEndpoint.control(RaygunEndpoint.Action.PAUSE, null, null, null).getPaused())
+          .isTrue();
+    }
+
+    @Test
+    void resumeShouldNotBePaused() {
+      raygunEndpoint.control(RaygunEndpoint.Action.PAUSE, null, null, null);
+
+      assertThat(raygunEndpoint.control(RaygunEndpoint.Action.RESUME, null, null, null).getPaused())
+          .isFalse();
+    }
+
+    @Test
+    void flushShouldSendQueued() {
+      raygunDispatcher.pause();
+      raygunTemplate.send(new RuntimeException());
+
+      assertThat(
+              raygunEndpoint
+                  .control(RaygunEndpoint.Action.FLUSH, null, null, null)
+                  .getQueues()
+                  .get("normal")
+                  .getSize())
+          .isZero();
+    }
+
+    @Test
+    void flushShouldBeFlushed() {
+      raygunTemplate.send(new RuntimeException());
+
+      assertThat(raygunEndpoint.control(RaygunEndpoint.Action.FLUSH, null, null, null).getFlushed())
+          .isTrue();
+    }
+
+    @Test
+    void flushTimedOutShouldNotBeFlushed() throws InterruptedException {
+      CountDownLatch senderReleased = new CountDownLatch(1);
+      blockSender(senderReleased);
+      raygunEndpoint.setFlushTimeout(Duration.ofMillis(10));
+
+      try {
+        assertThat(
+                raygunEndpoint.control(RaygunEndpoint.Action.FLUSH, null, null, null).getFlushed())
+            .isFalse();
+      } finally {
+        senderReleased.countDown();
+      }
+    }
+
+    @Test
+    void flushInterruptedShouldNotBeFlushed() throws InterruptedException {
+      CountDownLatch senderReleased = new CountDownLatch(1);
+      blockSender(senderReleased);
+      Thread.currentThread().interrupt();
+
+      try {
+        assertThat(
+                raygunEndpoint.control(RaygunEndpoint.Action.FLUSH, null, null, null).getFlushed())
+            .isFalse();
+      } finally {
+        Thread.interrupted();
+        senderReleased.countDown();
+      }
+    }
+
+    @Test
+    void pauseShouldNotBeFlushed() {
+      assertThat(raygunEndpoint.control(RaygunEndpoint.Action.PAUSE, null, null, null).getFlushed())
+          .isNull();
+    }
+
+    @Test
+    void muteExceptionTypeShouldBeListed() {
+      assertThat(
+              raygunEndpoint
+                  .control(
+                      RaygunEndpoint.Action.MUTE,
+                      IllegalStateException.class.getName(),
+                      null,
+                      Duration.ofMinutes(5))
+                  .getMutes()
+                  .getExceptionTypes())
+          .containsOnlyKeys(IllegalStateException.class.getName());
+    }
+
+    @Test
+    void muteFingerprintShouldExcludeIt() {
+      raygunTemplate.send(new IllegalStateException());
+      String fingerprint =
+          raygunEndpoint.raygun().getNoisiestFingerprints().get(0).getFingerprint();
+      raygunEndpoint.control(RaygunEndpoint.Action.MUTE, null, fingerprint, Duration.ofMinutes(5));
+      List<RaygunReportRecorder.Outcome> outcomes = new ArrayList<>();
+      raygunTemplate.setRaygunReportRecorder((throwable, outcome) -> outcomes.add(outcome));
+
+      raygunTemplate.send(new IllegalStateException());
+
+      assertThat(outcomes).containsExactly(RaygunReportRecorder.Outcome.EXCLUDED);
+    }
+
+    @Test
+    void unmuteFingerprintShouldNotBeListed() {
+      raygunEndpoint.control(RaygunEndpoint.Action.MUTE, null, "ff", Duration.ofMinutes(5));
+
+      assertThat(
+              raygunEndpoint
+                  .control(RaygunEndpoint.Action.UNMUTE, null, "ff", null)
+                  .getMutes()
+                  .getFingerprints())
+          .isEmpty();
+    }
+
+    @Test
+    void muteWithoutDurationShouldBeInvalid() {
+      assertThatCode(
+              () ->
+                  raygunEndpoint.control(
+                      RaygunEndpoint.Action.MUTE,
+                      IllegalStateException.class.getName(),
+                      null,
+                      null))
+          .isExactlyInstanceOf(InvalidEndpointRequestException.class)
+          .hasMessage("The mute duration must be positive");
+    }
+
+    @Test
+    void muteWithoutTargetShouldBeInvalid() {
+      assertThatCode(
+              () ->
+                  raygunEndpoint.control(
+                      RaygunEndpoint.Action.MUTE, null, null, Duration.ofMinutes(5)))
+          .isExactlyInstanceOf(InvalidEndpointRequestException.class)
+          .hasMessage("An exception type or a hexadecimal fingerprint must be given");
+    }
+
+    @Test
+    void pauseWithoutDispatcherShouldBeInvalid() {
+      raygunEndpoint.setRaygunDispatcher(null);
+
+      assertThatCode(() -> raygunEndpoint.control(RaygunEndpoint.Action.PAUSE, null, null, null))
+          .isExactlyInstanceOf(InvalidEndpointRequestException.class)
+          .hasMessage("The Raygun dispatcher is not enabled");
+    }
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.retry.RaygunCircuitBreaker;
+import com.midtrans.raygun.retry.RaygunRetrier;
+import com.midtrans.raygun.spool.RaygunSpool;
+import com.midtrans.raygun.transport.HttpClientRaygunTransport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Test for {@link RaygunHealthIndicator}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunHealthIndicatorTest {
+  RaygunHealthIndicator raygunHealthIndicator;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunHealthIndicator = new RaygunHealthIndicator();
+  }
+
+  @Test
+  void withoutCollaboratorsShouldBeUp() {
+    assertThat(raygunHealthIndicator.health().getStatus()).isEqualTo(Status.UP);
+  }
+
+  @Nested
+  class Dispatcher {
+    RaygunDispatcher raygunDispatcher;
+
+    @BeforeEach
+    void beforeEach() {
+      raygunDispatcher = new RaygunDispatcher();
+      raygunDispatcher.setQueueCapacity(4);
+      raygunDispatcher.afterPropertiesSet();
+      raygunDispatcher.pause();
+      raygunHealthIndicator.setRaygunDispatcher(raygunDispatcher);
+    }
+
+    @AfterEach
+    void afterEach() {
+      raygunDispatcher.destroy();
+    }
+
+    @Test
+    void emptyShouldBeUp() {
+      assertThat(raygunHealthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void saturatedShouldBeDegraded() {
+      dispatch(4);
+
+      assertThat(raygunHealthIndicator.health().getStatus())
+          .isEqualTo(RaygunHealthIndicator.DEGRADED);
+    }
+
+    @Test
+    void belowThresholdShouldBeUp() {
+      dispatch(3);
+
+      assertThat(raygunHealthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void belowLoweredThresholdShouldBeDegraded() {
+      raygunHealthIndicator.setQueueSaturationThreshold(0.5);
+      dispatch(2);
+
+      assertThat(raygunHealthIndicator.health().getStatus())
+          .isEqualTo(RaygunHealthIndicator.DEGRADED);
+    }
+
+    @Test
+    void detailsShouldContainSaturation() {
+      dispatch(1);
+
+      assertThat(raygunHealthIndicator.health().getDetails())
+          .extractingByKey("queues")
+          .asString()
+          .contains("normal=0.25");
+    }
+
+    @Test
+    void detailsShouldContainPaused() {
+      assertThat(raygunHealthIndicator.health().getDetails())
+          .extractingByKey("paused")
+          .isEqualTo(true);
+    }
+
+    private void dispatch(int count) {
+      for (int i = 0; i < count; i++) {
+        raygunDispatcher.dispatch(() -> {});
+      }
+    }
+  }
+
+  @Nested
+  class Spool {
+    @TempDir Path directory;
+    RaygunSpool raygunSpool;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+      raygunSpool = new RaygunSpool();
+      raygunSpool.setDirectory(directory);
+      raygunSpool.setSegmentSize(DataSize.ofBytes(64));
+      raygunSpool.setMaxSize(DataSize.ofBytes(256));
+      raygunSpool.afterPropertiesSet();
+      raygunHealthIndicator.setRaygunSpool(raygunSpool);
+    }
+
+    @AfterEach
+    void afterEach() {
+      raygunSpool.destroy();
+    }
+
+    @Test
+    void belowThresholdShouldBeUp() {
+      raygunSpool.append("x".repeat(40));
+
+      assertThat(raygunHealthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void grownShouldBeDegraded() {
+      raygunSpool.append("x".repeat(40));
+      raygunSpool.append("x".repeat(40));
+
+      assertThat(raygunHealthIndicator.health().getStatus())
+          .isEqualTo(RaygunHealthIndicator.DEGRADED);
+    }
+
+    @Test
+    void detailsShouldContainUsage() {
+      raygunSpool.append("x".repeat(40));
+
+      assertThat(raygunHealthIndicator.health().getDetails())
+          .extractingByKey("spool")
+          .isEqualTo(0.25);
+    }
+  }
+
+  @Nested
+  class CircuitBreaker {
+    RaygunRetrier raygunRetrier;
+
+    @BeforeEach
+    void beforeEach() {
+      raygunRetrier = new RaygunRetrier();
+      raygunRetrier.setFailureThreshold(1);
+      raygunRetrier.afterPropertiesSet();
+      raygunHealthIndicator.setRaygunRetrier(raygunRetrier);
+    }
+
+    @AfterEach
+    void afterEach() {
+      raygunRetrier.destroy();
+    }
+
+    @Test
+    void closedShouldBeUp() {
+      assertThat(raygunHealthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void openShouldBeDegraded() {
+      raygunRetrier.getCircuitBreaker().onFailure();
+
+      assertThat(raygunHealthIndicator.health().getStatus())
+          .isEqualTo(RaygunHealthIndicator.DEGRADED);
+    }
+
+    @Test
+    void detailsShouldContainState() {
+      raygunRetrier.getCircuitBreaker().onFailure();
+
+      assertThat(raygunHealthIndicator.health().getDetails())
+          .extractingByKey("circuitBreaker")
+          .isEqualTo(RaygunCircuitBreaker.State.OPEN);
+    }
+  }
+
+  @Nested
+  class LastDelivered {
+    Instant lastDelivered;
+
+    @BeforeEach
+    void beforeEach() {
+      raygunHealthIndicator.setRaygunTransport(
+          new HttpClientRaygunTransport(
+              HttpClient.newHttpClient(),
+              URI.create("http://localhost/entries"),
+              Duration.ofSeconds(1)) {
+            @Override
+            public Instant getLastDelivered() {
+              return lastDelivered;
+            }
+          });
+    }
+
+    @Test
+    void notDeliveredShouldBeAbsent() {
+      assertThat(raygunHealthIndicator.health().getDetails()).doesNotContainKey("lastDelivered");
+    }
+
+    @Test
+    void deliveredShouldBePresent() {
+      lastDelivered = Instant.parse("2026-10-18T03:00:00Z");
+
+      assertThat(raygunHealthIndicator.health().getDetails())
+          .extractingByKey("lastDelivered")
+          .isEqualTo("2026-10-18T03:00:00Z");
+    }
+  }
+
+  @Nested
+  class Thresholds {
+
+    @Test
+    void zeroQueueSaturationThresholdShouldBeRejected() {
+      assertThatCode(() -> raygunHealthIndicator.setQueueSaturationThreshold(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void spoolUsageThresholdAboveOneShouldBeRejected() {
+      assertThatCode(() -> raygunHealthIndicator.setSpoolUsageThreshold(1.5))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2024 authors.
+ * Copyright 2022-2026 authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,13 +22,39 @@ import com.midtrans.raygun.DefaultRaygunExceptionExcludeRegistrar;
 import com.midtrans.raygun.RaygunExceptionExcludeRegistrar;
 import com.midtrans.raygun.RaygunExceptionExcludeRegistry;
 import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.actuate.RaygunActivity;
+import com.midtrans.raygun.actuate.RaygunEndpoint;
+import com.midtrans.raygun.actuate.RaygunHealthIndicator;
+import com.midtrans.raygun.dedup.RaygunDeduplicator;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.dispatch.RaygunPriority;
+import com.midtrans.raygun.metrics.MeteredRaygunTransport;
+import com.midtrans.raygun.metrics.MicrometerRaygunReportRecorder;
+import com.midtrans.raygun.metrics.RaygunMeterBinder;
+import com.midtrans.raygun.ratelimit.RaygunRateLimiter;
+import com.midtrans.raygun.retry.RaygunRetrier;
+import com.midtrans.raygun.retry.RetryingRaygunTransport;
+import com.midtrans.raygun.sampling.RaygunSampler;
+import com.midtrans.raygun.shutdown.RaygunGracefulShutdown;
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshotter;
+import com.midtrans.raygun.spool.RaygunSpool;
+import com.midtrans.raygun.spool.RaygunSpoolReplayer;
+import com.midtrans.raygun.spool.SpoolingRaygunTransport;
+import com.midtrans.raygun.test.MockRaygunClientFactory;
+import com.midtrans.raygun.transport.HttpClientRaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.TransportRaygunClientFactory;
 import com.mindscapehq.raygun4java.core.RaygunClientFactory;
 import com.mindscapehq.raygun4java.core.RaygunSettings;
 import com.mindscapehq.raygun4java.core.messages.RaygunMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.context.annotation.UserConfigurations;
@@ -38,8 +64,13 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
 
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Test for {@link RaygunAutoConfiguration}.
@@ -235,6 +266,7 @@ class RaygunAutoConfigurationTest {
     void notConfigured() {
       new ApplicationContextRunner()
           .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.async.enabled=false")
           .run(
               context -> {
                 assertThat(context)
@@ -250,6 +282,7 @@ class RaygunAutoConfigurationTest {
       new ApplicationContextRunner()
           .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
           .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+          .withPropertyValues("raygun.async.enabled=false")
           .run(
               context -> {
                 assertThat(context)
@@ -265,6 +298,7 @@ class RaygunAutoConfigurationTest {
       new ApplicationContextRunner()
           .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
           .withConfiguration(UserConfigurations.of(MultipleTaskExecutorsConfiguration.class))
+          .withPropertyValues("raygun.async.enabled=false")
           .run(
               context -> {
                 assertThat(context)
@@ -296,6 +330,1114 @@ class RaygunAutoConfigurationTest {
     }
   }
 
+  @Nested
+  class WhenRaygunDispatcher {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .hasSingleBean(RaygunDispatcher.class)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("taskExecutor")
+                    .isNotInstanceOf(ThreadPoolTaskExecutor.class);
+              });
+    }
+
+    @Test
+    void disabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.async.enabled=false")
+          .run(
+              context -> {
+                assertThat(context).doesNotHaveBean(RaygunDispatcher.class);
+              });
+    }
+
+    @Test
+    void enabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.async.enabled=true")
+          .run(
+              context -> {
+                assertThat(context)
+                    .hasSingleBean(RaygunDispatcher.class)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("taskExecutor")
+                    .isNotInstanceOf(SyncTaskExecutor.class);
+              });
+    }
+
+    @Test
+    void enabledAndConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.async.enabled=true", "raygun.async.queue-capacity=100")
+          .run(
+              context -> {
+                assertThat(context.getBean(RaygunDispatcher.class).getQueueCapacity())
+                    .isEqualTo(128);
+              });
+    }
+
+    @Test
+    void laneCapacitiesConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.async.critical-queue-capacity=50", "raygun.async.low-queue-capacity=10")
+          .run(
+              context -> {
+                assertThat(context.getBean(RaygunDispatcher.class))
+                    .extracting(
+                        raygunDispatcher ->
+                            raygunDispatcher.getQueueCapacity(RaygunPriority.CRITICAL)
+                                + raygunDispatcher.getQueueCapacity(RaygunPriority.LOW))
+                    .isEqualTo(64 + 16);
+              });
+    }
+
+    @Test
+    void keepAliveConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.async.keep-alive=5s")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunDispatcher.class)
+                    .extracting("keepAlive")
+                    .isEqualTo(Duration.ofSeconds(5));
+              });
+    }
+
+    @Test
+    void raygunTaskExecutorBeanConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withConfiguration(UserConfigurations.of(RaygunTaskExecutorConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context).doesNotHaveBean(RaygunDispatcher.class);
+              });
+    }
+
+    @Test
+    void enabledAndRaygunTaskExecutorBeanConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withConfiguration(UserConfigurations.of(MultipleTaskExecutorsConfiguration.class))
+          .withConfiguration(UserConfigurations.of(RaygunTaskExecutorConfiguration.class))
+          .withPropertyValues("raygun.async.enabled=true")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("taskExecutor")
+                    .isSameAs(context.getBean("raygunTaskExecutor"));
+              });
+    }
+  }
+
+  @Nested
+  class WhenRateLimit {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .doesNotHaveBean(RaygunRateLimiter.class)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunRateLimiter")
+                    .isNull();
+              });
+    }
+
+    @Test
+    void enabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.rate-limit.enabled=true")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunRateLimiter")
+                    .isSameAs(context.getBean(RaygunRateLimiter.class));
+              });
+    }
+
+    @Test
+    void perFingerprintConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.rate-limit.enabled=true", "raygun.rate-limit.per-fingerprint=1")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunRateLimiter.class)
+                    .extracting("perFingerprint")
+                    .isEqualTo(1);
+              });
+    }
+
+    @Test
+    void globalConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.rate-limit.enabled=true", "raygun.rate-limit.global=1000")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunRateLimiter.class)
+                    .extracting("global")
+                    .isEqualTo(1000);
+              });
+    }
+
+    @Test
+    void stackFramesConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.rate-limit.enabled=true", "raygun.rate-limit.stack-frames=3")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunRateLimiter.class)
+                    .extracting("stackFrames")
+                    .isEqualTo(3);
+              });
+    }
+  }
+
+  @Nested
+  class WhenDedup {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .doesNotHaveBean(RaygunDeduplicator.class)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunDeduplicator")
+                    .isNull();
+              });
+    }
+
+    @Test
+    void enabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.dedup.enabled=true")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunDeduplicator")
+                    .isSameAs(context.getBean(RaygunDeduplicator.class));
+              });
+    }
+
+    @Test
+    void windowConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.dedup.enabled=true", "raygun.dedup.window=5m")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunDeduplicator.class)
+                    .extracting("window")
+                    .isEqualTo(Duration.ofMinutes(5));
+              });
+    }
+
+    @Test
+    void stackFramesConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.dedup.enabled=true", "raygun.dedup.stack-frames=8")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunDeduplicator.class)
+                    .extracting("stackFrames")
+                    .isEqualTo(8);
+              });
+    }
+
+    @Test
+    void maxFingerprintsConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.dedup.enabled=true", "raygun.dedup.max-fingerprints=64")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunDeduplicator.class)
+                    .extracting("maxFingerprints")
+                    .isEqualTo(64);
+              });
+    }
+
+    @Test
+    void occurrencesShouldBeRecordedByEveryRecorder() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withBean(MockRaygunClientFactory.class, MockRaygunClientFactory::new)
+          .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+          .withPropertyValues("raygun.dedup.enabled=true")
+          .run(
+              context -> {
+                RaygunTemplate raygunTemplate = context.getBean(RaygunTemplate.class);
+                for (int index = 0; index < 2; index++) {
+                  raygunTemplate.send(new IllegalStateException("poppinparty"));
+                }
+                context.getBean(RaygunDeduplicator.class).destroy();
+
+                assertThat(context)
+                    .getBean(MockRaygunClientFactory.class)
+                    .extracting("submittedSequence")
+                    .asInstanceOf(InstanceOfAssertFactories.ATOMIC_LONG)
+                    .hasValue(2);
+              });
+    }
+  }
+
+  @Nested
+  class WhenExclude {
+
+    @Test
+    void rulesConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.exclude.rules[0]=type=java.io.IOException; message=Broken pipe",
+              "raygun.exclude.rules[1]=root-cause=java.net.SocketTimeoutException")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("rules.configuredRules")
+                    .asList()
+                    .hasSize(2);
+              });
+    }
+
+    @Test
+    void invalidRuleConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.exclude.rules[0]=cause=java.io.IOException")
+          .run(
+              context -> {
+                assertThat(context).hasFailed();
+              });
+    }
+  }
+
+  @Nested
+  class WhenReload {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context).doesNotHaveBean(RaygunSettingsReloader.class);
+              });
+    }
+
+    @Test
+    void enabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.reload.enabled=true")
+          .run(
+              context -> {
+                assertThat(context).hasSingleBean(RaygunSettingsReloader.class);
+              });
+    }
+  }
+
+  @Nested
+  class WhenShutdown {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunGracefulShutdown.class)
+                    .extracting("timeout")
+                    .isEqualTo(Duration.ofSeconds(10));
+              });
+    }
+
+    @Test
+    void timeoutConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.shutdown.timeout=3s")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunGracefulShutdown.class)
+                    .extracting("timeout")
+                    .isEqualTo(Duration.ofSeconds(3));
+              });
+    }
+
+    @Test
+    void disabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.shutdown.enabled=false")
+          .run(
+              context -> {
+                assertThat(context).doesNotHaveBean(RaygunGracefulShutdown.class);
+              });
+    }
+
+    @Test
+    void asyncDisabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.async.enabled=false")
+          .run(
+              context -> {
+                assertThat(context).doesNotHaveBean(RaygunGracefulShutdown.class);
+              });
+    }
+
+    @Test
+    void raygunTaskExecutorBeanConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withConfiguration(UserConfigurations.of(RaygunTaskExecutorConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context).doesNotHaveBean(RaygunGracefulShutdown.class);
+              });
+    }
+
+    @Test
+    void spoolEnabled(@TempDir Path directory) {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.spool.enabled=true",
+              "raygun.spool.directory=" + directory)
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunGracefulShutdown.class)
+                    .extracting("spoolingRaygunTransport")
+                    .isSameAs(
+                        context.getBean(TransportRaygunClientFactory.class).getRaygunTransport());
+              });
+    }
+  }
+
+  @Nested
+  class WhenMetrics {
+
+    @Test
+    void meterRegistryAbsent() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context.getBean(RaygunTemplate.class).getRaygunReportRecorder())
+                    .isNull();
+              });
+    }
+
+    @Test
+    void meterRegistryPresent() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+          .run(
+              context -> {
+                assertThat(context.getBean(RaygunTemplate.class).getRaygunReportRecorder())
+                    .isInstanceOf(MicrometerRaygunReportRecorder.class);
+              });
+    }
+
+    @Test
+    void meterBinderPresent() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+          .run(
+              context -> {
+                assertThat(context).hasSingleBean(RaygunMeterBinder.class);
+              });
+    }
+
+    @Test
+    void transportShouldBeMetered() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+          .withPropertyValues("raygun.transport.type=http-client")
+          .run(
+              context -> {
+                assertThat(
+                        ((TransportRaygunClientFactory) context.getBean(RaygunClientFactory.class))
+                            .getRaygunTransport())
+                    .isInstanceOf(MeteredRaygunTransport.class);
+              });
+    }
+
+    @Test
+    void maxExceptionTypesConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+          .withPropertyValues("raygun.metrics.max-exception-types=10")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(MicrometerRaygunReportRecorder.class)
+                    .extracting("maxExceptionTypes")
+                    .isEqualTo(10);
+              });
+    }
+
+    @Test
+    void disabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+          .withPropertyValues("raygun.metrics.enabled=false")
+          .run(
+              context -> {
+                assertThat(context.getBean(RaygunTemplate.class).getRaygunReportRecorder())
+                    .isNull();
+              });
+    }
+  }
+
+  @Nested
+  class WhenEndpoint {
+
+    @Test
+    void notExposed() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context).doesNotHaveBean(RaygunEndpoint.class);
+              });
+    }
+
+    @Test
+    void exposed() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("management.endpoints.web.exposure.include=raygun")
+          .run(
+              context -> {
+                assertThat(context.getBean(RaygunTemplate.class).getRaygunReportRecorder())
+                    .isSameAs(context.getBean(RaygunActivity.class));
+              });
+    }
+
+    @Test
+    void exposedWithMetrics() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+          .withPropertyValues("management.endpoints.web.exposure.include=raygun")
+          .run(
+              context -> {
+                RaygunTemplate raygunTemplate = context.getBean(RaygunTemplate.class);
+                raygunTemplate.registerException(IllegalStateException.class);
+                raygunTemplate.send(new IllegalStateException());
+
+                assertThat(
+                        context
+                            .getBean(MeterRegistry.class)
+                            .get(MicrometerRaygunReportRecorder.METRIC_NAME)
+                            .tag("outcome", "EXCLUDED")
+                            .counter()
+                            .count())
+                    .isOne();
+              });
+    }
+
+    @Test
+    void propertiesConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "management.endpoints.web.exposure.include=raygun",
+              "raygun.endpoint.noisiest-fingerprints=3",
+              "raygun.endpoint.flush-timeout=2s")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunEndpoint.class)
+                    .extracting("flushTimeout")
+                    .isEqualTo(Duration.ofSeconds(2));
+              });
+    }
+  }
+
+  @Nested
+  class WhenHealth {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunHealthIndicator.class)
+                    .extracting("raygunDispatcher")
+                    .isSameAs(context.getBean(RaygunDispatcher.class));
+              });
+    }
+
+    @Test
+    void disabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("management.health.raygun.enabled=false")
+          .run(
+              context -> {
+                assertThat(context).doesNotHaveBean(RaygunHealthIndicator.class);
+              });
+    }
+
+    @Test
+    void retryEnabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.transport.type=http-client", "raygun.retry.enabled=true")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunHealthIndicator.class)
+                    .extracting("raygunRetrier")
+                    .isSameAs(context.getBean(RaygunRetrier.class));
+              });
+    }
+
+    @Test
+    void propertiesConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.health.queue-saturation-threshold=0.5",
+              "raygun.health.spool-usage-threshold=0.25")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunHealthIndicator.class)
+                    .extracting("queueSaturationThreshold")
+                    .isEqualTo(0.5);
+              });
+    }
+  }
+
+  @Nested
+  class WhenSampling {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .doesNotHaveBean(RaygunSampler.class)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunSampler")
+                    .isNull();
+              });
+    }
+
+    @Test
+    void enabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.sampling.enabled=true")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunSampler")
+                    .isSameAs(context.getBean(RaygunSampler.class));
+              });
+    }
+
+    @Test
+    void targetRateConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.sampling.enabled=true", "raygun.sampling.target-rate=2.5")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunSampler.class)
+                    .extracting("targetRate")
+                    .isEqualTo(2.5);
+              });
+    }
+
+    @Test
+    void halfLifeConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.sampling.enabled=true", "raygun.sampling.half-life=1m")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunSampler.class)
+                    .extracting("halfLife")
+                    .isEqualTo(Duration.ofMinutes(1));
+              });
+    }
+
+    @Test
+    void stackFramesConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.sampling.enabled=true", "raygun.sampling.stack-frames=2")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunSampler.class)
+                    .extracting("stackFrames")
+                    .isEqualTo(2);
+              });
+    }
+  }
+
+  @Nested
+  class WhenSnapshot {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .doesNotHaveBean(RaygunThrowableSnapshotter.class)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunThrowableSnapshotter")
+                    .isNull();
+              });
+    }
+
+    @Test
+    void enabled() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.snapshot.enabled=true")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunThrowableSnapshotter")
+                    .isSameAs(context.getBean(RaygunThrowableSnapshotter.class));
+              });
+    }
+
+    @Test
+    void maxQueuedSizeConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.snapshot.enabled=true", "raygun.snapshot.max-queued-size=1MB")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunThrowableSnapshotter.class)
+                    .extracting("maxQueuedSize")
+                    .isEqualTo(DataSize.ofMegabytes(1).toBytes());
+              });
+    }
+
+    @Test
+    void maxInternedFramesConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.snapshot.enabled=true", "raygun.snapshot.max-interned-frames=128")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunThrowableSnapshotter.class)
+                    .extracting("maxInternedFrames")
+                    .isEqualTo(128);
+              });
+    }
+  }
+
+  @Nested
+  class WhenTransport {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .doesNotHaveBean(RaygunTransport.class)
+                    .getBean(RaygunClientFactory.class)
+                    .isExactlyInstanceOf(RaygunClientFactory.class);
+              });
+    }
+
+    @Test
+    void httpClientConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.transport.type=http-client")
+          .run(
+              context -> {
+                assertThat(context)
+                    .hasSingleBean(HttpClientRaygunTransport.class)
+                    .getBean(RaygunClientFactory.class)
+                    .isExactlyInstanceOf(TransportRaygunClientFactory.class);
+              });
+    }
+
+    @Test
+    void httpClientAndEndpointConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.transport.endpoint=http://localhost:8080/entries")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(HttpClientRaygunTransport.class)
+                    .extracting("endpoint")
+                    .isEqualTo(URI.create("http://localhost:8080/entries"));
+              });
+    }
+
+    @Test
+    void httpClientAndConnectTimeoutConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.transport.type=http-client", "raygun.connect-timeout=1000")
+          .run(
+              context -> {
+                assertThat(
+                        context
+                            .getBean(HttpClientRaygunTransport.class)
+                            .getHttpClient()
+                            .connectTimeout())
+                    .hasValue(Duration.ofMillis(1000));
+              });
+    }
+
+    @Test
+    void httpClientAndProxyConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.proxy.host=localhost",
+              "raygun.proxy.port=3128")
+          .run(
+              context -> {
+                assertThat(context.getBean(HttpClientRaygunTransport.class).getHttpClient().proxy())
+                    .isPresent();
+              });
+    }
+
+    @Test
+    void httpClientAndCompressionNotConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.transport.type=http-client")
+          .run(
+              context -> {
+                assertThat(context.getBean(HttpClientRaygunTransport.class).getPayloadEncoder())
+                    .isNull();
+              });
+    }
+
+    @Test
+    void httpClientAndGzipCompressionConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.transport.type=http-client", "raygun.compression=gzip")
+          .run(
+              context -> {
+                assertThat(context.getBean(HttpClientRaygunTransport.class).getPayloadEncoder())
+                    .isNotNull();
+              });
+    }
+
+    @Test
+    void userTransportConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withConfiguration(UserConfigurations.of(RaygunTransportConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunClientFactory.class)
+                    .extracting("raygunTransport")
+                    .isSameAs(context.getBean(RaygunTransport.class));
+              });
+    }
+  }
+
+  @Nested
+  class WhenRetry {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.transport.type=http-client")
+          .run(
+              context -> {
+                assertThat(context).doesNotHaveBean(RaygunRetrier.class);
+              });
+    }
+
+    @Test
+    void enabledWithHttpClient() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.transport.type=http-client", "raygun.retry.enabled=true")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunClientFactory.class)
+                    .extracting("raygunTransport")
+                    .isExactlyInstanceOf(RetryingRaygunTransport.class);
+              });
+    }
+
+    @Test
+    void enabledWithoutHttpClient() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.retry.enabled=true")
+          .run(
+              context -> {
+                assertThat(context).hasFailed();
+              });
+    }
+
+    @Test
+    void enabledWithSpool(@TempDir Path directory) {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.retry.enabled=true",
+              "raygun.spool.enabled=true",
+              "raygun.spool.directory=" + directory)
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunClientFactory.class)
+                    .extracting("raygunTransport.raygunTransport")
+                    .isExactlyInstanceOf(RetryingRaygunTransport.class);
+              });
+    }
+
+    @Test
+    void maxAttemptsConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.retry.enabled=true",
+              "raygun.retry.max-attempts=5")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunRetrier.class)
+                    .extracting("maxAttempts")
+                    .isEqualTo(5);
+              });
+    }
+
+    @Test
+    void openDurationConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.retry.enabled=true",
+              "raygun.retry.open-duration=1m")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunRetrier.class)
+                    .extracting("openDuration")
+                    .isEqualTo(Duration.ofMinutes(1));
+              });
+    }
+  }
+
+  @Nested
+  class WhenSpool {
+    @TempDir Path directory;
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.transport.type=http-client")
+          .run(
+              context -> {
+                assertThat(context)
+                    .doesNotHaveBean(RaygunSpool.class)
+                    .getBean(RaygunClientFactory.class)
+                    .extracting("raygunTransport")
+                    .isExactlyInstanceOf(HttpClientRaygunTransport.class);
+              });
+    }
+
+    @Test
+    void enabledWithHttpClient() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.spool.enabled=true",
+              "raygun.spool.directory=" + directory)
+          .run(
+              context -> {
+                assertThat(context)
+                    .hasSingleBean(RaygunSpoolReplayer.class)
+                    .getBean(RaygunClientFactory.class)
+                    .extracting("raygunTransport")
+                    .isExactlyInstanceOf(SpoolingRaygunTransport.class);
+              });
+    }
+
+    @Test
+    void enabledWithoutHttpClient() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.spool.enabled=true", "raygun.spool.directory=" + directory)
+          .run(
+              context -> {
+                assertThat(context).hasFailed();
+              });
+    }
+
+    @Test
+    void maxInFlightConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.spool.enabled=true",
+              "raygun.spool.directory=" + directory,
+              "raygun.spool.max-in-flight=16")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunClientFactory.class)
+                    .extracting("raygunTransport.maxInFlight")
+                    .isEqualTo(16);
+              });
+    }
+
+    @Test
+    void segmentSizeConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.spool.enabled=true",
+              "raygun.spool.directory=" + directory,
+              "raygun.spool.segment-size=64KB")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunSpool.class)
+                    .extracting("segmentSize")
+                    .isEqualTo(DataSize.ofKilobytes(64));
+              });
+    }
+
+    @Test
+    void replayRateConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues(
+              "raygun.transport.type=http-client",
+              "raygun.spool.enabled=true",
+              "raygun.spool.directory=" + directory,
+              "raygun.spool.replay-rate=50")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunSpoolReplayer.class)
+                    .extracting("replayRate")
+                    .isEqualTo(50);
+              });
+    }
+  }
+
+  @Nested
+  class WhenClientPoolMaxIdle {
+
+    @Test
+    void notConfigured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunClientPool.maxIdle")
+                    .isEqualTo(8);
+              });
+    }
+
+    @Test
+    void configured() {
+      new ApplicationContextRunner()
+          .withConfiguration(AutoConfigurations.of(RaygunAutoConfiguration.class))
+          .withPropertyValues("raygun.client-pool.max-idle=2")
+          .run(
+              context -> {
+                assertThat(context)
+                    .getBean(RaygunTemplate.class)
+                    .extracting("raygunClientPool.maxIdle")
+                    .isEqualTo(2);
+              });
+    }
+  }
+
   @Nested
   class WhenRaygunExceptionExcludeRegistrar {
 
@@ -329,7 +1471,16 @@ class RaygunAutoConfigurationTest {
   static class UserRaygunTemplate extends RaygunTemplate {
 
     UserRaygunTemplate() {
-      super(null, null);
+      super((RaygunClientFactory) null, null);
+    }
+  }
+
+  @Configuration
+  static class RaygunTransportConfiguration {
+
+    @Bean
+    RaygunTransport raygunTransport() {
+      return (apiKey, payload) -> new CompletableFuture<>();
     }
   }
 
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.ratelimit.RaygunRateLimiter;
+import com.midtrans.raygun.sampling.RaygunSampler;
+import com.midtrans.raygun.test.MockRaygunClientFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Test for {@link RaygunSettingsReloader}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunSettingsReloaderTest {
+  MockEnvironment environment;
+  RaygunTemplate raygunTemplate;
+  RaygunSettingsReloader raygunSettingsReloader;
+
+  @BeforeEach
+  void beforeEach() {
+    environment = new MockEnvironment();
+    raygunTemplate = new RaygunTemplate(new MockRaygunClientFactory(), new SyncTaskExecutor());
+    raygunSettingsReloader = new RaygunSettingsReloader(environment, raygunTemplate);
+  }
+
+  static class TestEnvironmentChangeEvent extends ApplicationEvent {
+    private static final long serialVersionUID = 1L;
+
+    TestEnvironmentChangeEvent(Object source) {
+      super(source);
+    }
+  }
+
+  @Nested
+  class SupportsEventType {
+
+    @Test
+    void environmentChangeEventShouldBeSupported() {
+      RaygunSettingsReloader reloader =
+          new RaygunSettingsReloader(
+              environment, raygunTemplate, TestEnvironmentChangeEvent.class.getName());
+
+      assertThat(
+              reloader.supportsEventType(ResolvableType.forClass(TestEnvironmentChangeEvent.class)))
+          .isTrue();
+    }
+
+    @Test
+    void otherEventShouldNotBeSupported() {
+      RaygunSettingsReloader reloader =
+          new RaygunSettingsReloader(
+              environment, raygunTemplate, TestEnvironmentChangeEvent.class.getName());
+
+      assertThat(reloader.supportsEventType(ResolvableType.forClass(ApplicationEvent.class)))
+          .isFalse();
+    }
+
+    @Test
+    void eventWithoutSpringCloudShouldNotBeSupported() {
+      assertThat(
+              raygunSettingsReloader.supportsEventType(
+                  ResolvableType.forClass(TestEnvironmentChangeEvent.class)))
+          .isFalse();
+    }
+  }
+
+  @Nested
+  class Reload {
+
+    @Test
+    void exclusionRulesShouldBeReloaded() {
+      environment.setProperty("raygun.exclude.rules[0]", "type=java.io.IOException");
+
+      raygunSettingsReloader.reload();
+
+      assertThat(raygunTemplate).extracting("rules.configuredRules").asList().hasSize(1);
+    }
+
+    @Test
+    void invalidExclusionRulesShouldKeepPreviousRules() {
+      raygunTemplate.setConfiguredRules(List.of("type=java.io.IOException"));
+      environment.setProperty("raygun.exclude.rules[0]", "type");
+
+      raygunSettingsReloader.reload();
+
+      assertThat(raygunTemplate).extracting("rules.configuredRules").asList().hasSize(1);
+    }
+
+    @Test
+    void invalidSettingsShouldBeCounted() {
+      environment.setProperty("raygun.exclude.rules[0]", "type");
+
+      raygunSettingsReloader.reload();
+
+      assertThat(raygunSettingsReloader.getFailedCount()).isOne();
+    }
+
+    @Test
+    void unparsableSettingsShouldBeCounted() {
+      raygunTemplate.setRaygunSampler(new RaygunSampler());
+      environment.setProperty("raygun.sampling.half-life", "soon");
+
+      raygunSettingsReloader.reload();
+
+      assertThat(raygunSettingsReloader.getFailedCount()).isOne();
+    }
+
+    @Test
+    void unparsableSettingsShouldKeepPreviousSettings() {
+      RaygunSampler raygunSampler = new RaygunSampler();
+      raygunSampler.setTargetRate(2.5);
+      raygunSampler.afterPropertiesSet();
+      raygunTemplate.setRaygunSampler(raygunSampler);
+      environment.setProperty("raygun.sampling.target-rate", "5");
+      environment.setProperty("raygun.sampling.half-life", "soon");
+
+      raygunSettingsReloader.reload();
+
+      assertThat(raygunSampler).extracting("settings.targetRate").isEqualTo(2.5);
+    }
+
+    @Test
+    void unparsableSettingsShouldNotPreventOtherGroups() {
+      raygunTemplate.setRaygunSampler(new RaygunSampler());
+      environment.setProperty("raygun.sampling.half-life", "soon");
+      environment.setProperty("raygun.tags", "poppinparty");
+
+      raygunSettingsReloader.reload();
+
+      assertThat(raygunTemplate.getRaygunClientPool().borrow().getTags())
+          .isEqualTo(Set.of("poppinparty"));
+    }
+
+    @Test
+    void tagsShouldBeReloaded() {
+      environment.setProperty("raygun.tags", "poppinparty,roselia");
+
+      raygunSettingsReloader.reload();
+
+      assertThat(raygunTemplate.getRaygunClientPool().borrow().getTags())
+          .isEqualTo(Set.of("poppinparty", "roselia"));
+    }
+
+    @Test
+    void rateLimitsShouldBeReloaded() {
+      RaygunRateLimiter raygunRateLimiter = new RaygunRateLimiter();
+      raygunRateLimiter.afterPropertiesSet();
+      raygunTemplate.setRaygunRateLimiter(raygunRateLimiter);
+      environment.setProperty("raygun.rate-limit.per-fingerprint", "1");
+
+      raygunSettingsReloader.reload();
+      raygunRateLimiter.tryAcquire(new IllegalStateException());
+
+      assertThat(raygunRateLimiter.tryAcquire(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    void samplingShouldBeReloaded() {
+      RaygunSampler raygunSampler = new RaygunSampler();
+      raygunSampler.afterPropertiesSet();
+      raygunTemplate.setRaygunSampler(raygunSampler);
+      environment.setProperty("raygun.sampling.target-rate", "2.5");
+
+      raygunSettingsReloader.reload();
+
+      assertThat(raygunSampler).extracting("settings.targetRate").isEqualTo(2.5);
+    }
+
+    @Test
+    void everyGroupShouldBeCounted() {
+      raygunTemplate.setRaygunRateLimiter(new RaygunRateLimiter());
+      raygunTemplate.setRaygunSampler(new RaygunSampler());
+
+      raygunSettingsReloader.reload();
+
+      assertThat(raygunSettingsReloader.getReloadedCount()).isEqualTo(4);
+    }
+  }
+
+  @Nested
+  class OnApplicationEvent {
+
+    @Test
+    void settingsShouldBeReloaded() {
+      raygunSettingsReloader.onApplicationEvent(new TestEnvironmentChangeEvent(this));
+
+      assertThat(raygunSettingsReloader.getReloadedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void unparsableSettingsShouldNotThrow() {
+      raygunTemplate.setRaygunSampler(new RaygunSampler());
+      environment.setProperty("raygun.sampling.half-life", "soon");
+
+      assertThatCode(
+              () -> raygunSettingsReloader.onApplicationEvent(new TestEnvironmentChangeEvent(this)))
+          .doesNotThrowAnyException();
+    }
+  }
+}
@@ -16,24 +16,27 @@
 
 package com.midtrans.raygun.behavior;
 
+import com.midtrans.raygun.test.MockRaygunClient;
 import com.midtrans.raygun.test.MockRaygunClientFactory;
 import com.mindscapehq.raygun4java.core.RaygunClient;
 import com.mindscapehq.raygun4java.core.RaygunClientFactory;
 
 /**
- * {@link RaygunClientFactory} which caches and returns the supplied {@link RaygunClient}.
+ * {@link RaygunClientFactory} which caches and returns the supplied {@link RaygunClient}, sharing
+ * its recorder.
  *
  * @author Raydhitya Yoseph
  */
 class CacheMockRaygunClientFactory extends MockRaygunClientFactory {
-  private final RaygunClient raygunClient;
+  private final MockRaygunClient raygunClient;
 
-  public CacheMockRaygunClientFactory(RaygunClient raygunClient) {
+  public CacheMockRaygunClientFactory(MockRaygunClient raygunClient) {
+    super(raygunClient.getRecorder());
     this.raygunClient = raygunClient;
   }
 
   @Override
-  public RaygunClient newClient() {
+  public MockRaygunClient newClient() {
     return raygunClient;
   }
 }
@@ -18,7 +18,8 @@ package com.midtrans.raygun.behavior;
 
 import com.midtrans.raygun.test.MockRaygunClient;
 
-import java.io.IOException;
+import com.mindscapehq.raygun4java.core.messages.RaygunMessage;
+
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,12 +35,12 @@ class DelayedMockRaygunClient extends MockRaygunClient {
   }
 
   @Override
-  public int send(String payload) throws IOException {
+  public int send(RaygunMessage raygunMessage) {
     try {
       TimeUnit.MILLISECONDS.sleep(delayMilliseconds);
     } catch (InterruptedException e) {
 
     }
-    return super.send(payload);
+    return super.send(raygunMessage);
   }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.behavior;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.test.MockRaygunClient;
+import com.mindscapehq.raygun4java.core.RaygunClient;
+import com.mindscapehq.raygun4java.core.RaygunClientFactory;
+import com.mindscapehq.raygun4java.core.messages.RaygunMessage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This test sends messages from many request threads through a few sending threads sharing a {@link
+ * com.midtrans.raygun.RaygunClientPool}.
+ *
+ * <p>A client per request thread retains as many clients as request threads for as long as the
+ * threads live. The pool retains at most as many clients as sending threads.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunTemplateClientsSharingTest {
+  private static final int REQUEST_THREADS = 64;
+  private static final int SENDING_THREADS = 4;
+  private static final int MESSAGES_PER_REQUEST_THREAD = 50;
+
+  ExclusiveMockRaygunClientFactory raygunClientFactory;
+  ThreadPoolTaskExecutor threadPoolTaskExecutor;
+  RaygunTemplate raygunTemplate;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunClientFactory = new ExclusiveMockRaygunClientFactory();
+
+    threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+    threadPoolTaskExecutor.setCorePoolSize(SENDING_THREADS);
+    threadPoolTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    threadPoolTaskExecutor.setAwaitTerminationSeconds(30);
+    threadPoolTaskExecutor.afterPropertiesSet();
+
+    raygunTemplate = new RaygunTemplate(raygunClientFactory, threadPoolTaskExecutor);
+  }
+
+  @AfterEach
+  void afterEach() {
+    threadPoolTaskExecutor.destroy();
+  }
+
+  @Test
+  void clientShouldNotBeUsedByTwoThreadsAtOnce() throws InterruptedException {
+    sendFromRequestThreads();
+
+    assertThat(raygunClientFactory.concurrentUseCount()).isZero();
+  }
+
+  @Test
+  void retainedClientsShouldBeBoundedBySendingThreads() throws InterruptedException {
+    sendFromRequestThreads();
+
+    assertThat(raygunTemplate.getRaygunClientPool().getCreatedCount())
+        .isLessThanOrEqualTo(SENDING_THREADS)
+        .isLessThan(REQUEST_THREADS);
+  }
+
+  private void sendFromRequestThreads() throws InterruptedException {
+    List<Thread> requestThreads = new ArrayList<>();
+    for (int i = 0; i < REQUEST_THREADS; i++) {
+      Thread requestThread =
+          new Thread(
+              () -> {
+                for (int j = 0; j < MESSAGES_PER_REQUEST_THREAD; j++) {
+                  raygunTemplate.send(new RuntimeException());
+                }
+              });
+      requestThread.start();
+      requestThreads.add(requestThread);
+    }
+    for (Thread requestThread : requestThreads) {
+      requestThread.join();
+    }
+    threadPoolTaskExecutor.destroy();
+  }
+
+  /** A {@link RaygunClientFactory} creating clients which detect being used concurrently. */
+  static class ExclusiveMockRaygunClientFactory extends RaygunClientFactory {
+    private final AtomicInteger concurrentUseCount = new AtomicInteger();
+
+    ExclusiveMockRaygunClientFactory() {
+      super("apiKey");
+    }
+
+    @Override
+    public RaygunClient newClient() {
+      return new ExclusiveMockRaygunClient(concurrentUseCount);
+    }
+
+    int concurrentUseCount() {
+      return concurrentUseCount.get();
+    }
+  }
+
+  /** A {@link MockRaygunClient} which counts being used by two threads at once. */
+  static class ExclusiveMockRaygunClient extends MockRaygunClient {
+    private final AtomicBoolean inUse = new AtomicBoolean();
+    private final AtomicInteger concurrentUseCount;
+
+    ExclusiveMockRaygunClient(AtomicInteger concurrentUseCount) {
+      this.concurrentUseCount = concurrentUseCount;
+    }
+
+    @Override
+    public int send(RaygunMessage raygunMessage) {
+      if (!inUse.compareAndSet(false, true)) {
+        concurrentUseCount.incrementAndGet();
+        return super.send(raygunMessage);
+      }
+      try {
+        Thread.yield();
+        return super.send(raygunMessage);
+      } finally {
+        inUse.set(false);
+      }
+    }
+  }
+}
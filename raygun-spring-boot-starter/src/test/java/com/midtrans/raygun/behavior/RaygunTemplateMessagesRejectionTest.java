@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2024 authors.
+ * Copyright 2022-2026 authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,10 @@
 
 package com.midtrans.raygun.behavior;
 
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.midtrans.raygun.RaygunTemplate;
-import com.midtrans.raygun.test.MockRaygunClientFactory;
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
 import com.mindscapehq.raygun4java.core.RaygunClientFactory;
 
 import org.junit.jupiter.api.Test;
@@ -31,7 +31,7 @@ import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 
 /**
- * This test logs a {@link TaskRejectedException} if test logging is on.
+ * This test shows how messages are rejected when the {@link TaskExecutor} is saturated.
  *
  * <p>By default the auto-configured {@link ThreadPoolTaskExecutor} is configured with {@code
  * maxPoolSize} of {@code Integer.MAX_VALUE}, {@code queueCapacity} of {@code Integer.MAX_VALUE},
@@ -48,20 +48,50 @@ import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
  * default configuration, realistically, user applications will run out of memory before the {@link
  * ThreadPoolTaskExecutor} rejects any message.
  *
+ * <p>A {@link TaskRejectedException} is never thrown to the caller. The rejected messages are
+ * dropped and counted instead. The {@link RaygunDispatcher} bounds both its queue and its threads,
+ * and drops messages according to its overflow policy. The dropped messages are counted as rejected
+ * too.
+ *
  * @author Raydhitya Yoseph
  */
 class RaygunTemplateMessagesRejectionTest {
 
   @Test
-  void asyncCouldRejectMessagesWhenQueueIsFull() throws InterruptedException {
-    Runnable raygunRunnable = raygunRunnable(threadPoolTaskExecutor());
-    assertThatThrownBy(raygunRunnable::run).isInstanceOf(TaskRejectedException.class);
+  void asyncCouldRejectMessagesWhenQueueIsFull() {
+    RaygunTemplate raygunTemplate = raygunTemplate(threadPoolTaskExecutor());
+
+    new RaygunRunnable(raygunTemplate, 16).run();
+
+    assertThat(raygunTemplate.getRejectedCount()).isPositive();
   }
 
-  private Runnable raygunRunnable(TaskExecutor taskExecutor) {
-    RaygunClientFactory raygunClientFactory = new MockRaygunClientFactory();
-    RaygunTemplate raygunTemplate = new RaygunTemplate(raygunClientFactory, taskExecutor);
-    return new RaygunRunnable(raygunTemplate, 16);
+  @Test
+  void dispatcherCouldDropMessagesWhenQueueIsFull() {
+    RaygunDispatcher raygunDispatcher = raygunDispatcher();
+    RaygunTemplate raygunTemplate = raygunTemplate(raygunDispatcher.asTaskExecutor());
+
+    new RaygunRunnable(raygunTemplate, 1024).run();
+    raygunDispatcher.destroy();
+
+    assertThat(raygunDispatcher.getDroppedCount()).isPositive();
+  }
+
+  @Test
+  void dispatcherDroppedMessagesShouldBeRejected() {
+    RaygunDispatcher raygunDispatcher = raygunDispatcher();
+    RaygunTemplate raygunTemplate = raygunTemplate(raygunDispatcher.asTaskExecutor());
+
+    new RaygunRunnable(raygunTemplate, 1024).run();
+    raygunDispatcher.destroy();
+
+    assertThat(raygunTemplate.getRejectedCount()).isEqualTo(raygunDispatcher.getDroppedCount());
+  }
+
+  private RaygunTemplate raygunTemplate(TaskExecutor taskExecutor) {
+    RaygunClientFactory raygunClientFactory =
+        new CacheMockRaygunClientFactory(new DelayedMockRaygunClient(100));
+    return new RaygunTemplate(raygunClientFactory, taskExecutor);
   }
 
   private ThreadPoolTaskExecutor threadPoolTaskExecutor() {
@@ -72,4 +102,12 @@ class RaygunTemplateMessagesRejectionTest {
     threadPoolTaskExecutor.afterPropertiesSet();
     return threadPoolTaskExecutor;
   }
+
+  private RaygunDispatcher raygunDispatcher() {
+    RaygunDispatcher raygunDispatcher = new RaygunDispatcher();
+    raygunDispatcher.setCoreSize(1);
+    raygunDispatcher.setQueueCapacity(1);
+    raygunDispatcher.afterPropertiesSet();
+    return raygunDispatcher;
+  }
 }
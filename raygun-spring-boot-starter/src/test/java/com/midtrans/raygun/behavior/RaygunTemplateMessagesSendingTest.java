@@ -19,18 +19,19 @@ package com.midtrans.raygun.behavior;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.midtrans.raygun.RaygunTemplate;
+import com.midtrans.raygun.test.MockRaygunClientFactory;
 import com.mindscapehq.raygun4java.core.RaygunClient;
-import com.mindscapehq.raygun4java.core.RaygunClientFactory;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 /**
- * This test compares async and sync {@link RaygunClient}s sending count.
+ * This test compares async and sync {@link RaygunClient}s sending count, once the async messages
+ * are flushed.
  *
  * @author Raydhitya Yoseph
  */
@@ -39,26 +40,27 @@ class RaygunTemplateMessagesSendingTest {
   @Test
   void asyncCountShouldBeGreaterThanSyncCount() throws InterruptedException {
     DelayedMockRaygunClient syncRaygunClient = new DelayedMockRaygunClient(100);
-    Thread syncRaygunThread = raygunThread(syncRaygunClient, new SyncTaskExecutor());
+    MockRaygunClientFactory syncRaygunClientFactory =
+        new CacheMockRaygunClientFactory(syncRaygunClient);
+    Thread syncRaygunThread =
+        new Thread(raygunRunnable(syncRaygunClientFactory, new SyncTaskExecutor(), 200));
     syncRaygunThread.start();
 
     DelayedMockRaygunClient asyncRaygunClient = new DelayedMockRaygunClient(100);
-    Thread asyncRaygunThread = raygunThread(asyncRaygunClient, threadPoolTaskExecutor());
-    asyncRaygunThread.start();
+    MockRaygunClientFactory asyncRaygunClientFactory =
+        new CacheMockRaygunClientFactory(asyncRaygunClient);
+    raygunRunnable(asyncRaygunClientFactory, threadPoolTaskExecutor(), 40).run();
 
-    TimeUnit.MILLISECONDS.sleep(1000);
+    asyncRaygunClientFactory.flush(Duration.ofSeconds(10));
 
     assertThat(asyncRaygunClient.count()).isGreaterThan(syncRaygunClient.count());
   }
 
-  private Thread raygunThread(RaygunClient raygunClient, TaskExecutor taskExecutor) {
-    return new Thread(raygunRunnable(raygunClient, taskExecutor));
-  }
-
-  private Runnable raygunRunnable(RaygunClient raygunClient, TaskExecutor taskExecutor) {
-    RaygunClientFactory raygunClientFactory = new CacheMockRaygunClientFactory(raygunClient);
+  private Runnable raygunRunnable(
+      MockRaygunClientFactory raygunClientFactory, TaskExecutor taskExecutor, int iterationCount) {
     RaygunTemplate raygunTemplate = new RaygunTemplate(raygunClientFactory, taskExecutor);
-    return new RaygunRunnable(raygunTemplate, 200);
+    raygunTemplate.setRaygunReportRecorder(raygunClientFactory);
+    return new RaygunRunnable(raygunTemplate, iterationCount);
   }
 
   private ThreadPoolTaskExecutor threadPoolTaskExecutor() {
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshotter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test for {@link RaygunDeduplicator}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunDeduplicatorTest {
+  List<RaygunOccurrences> reported;
+  RaygunDeduplicator raygunDeduplicator;
+
+  @BeforeEach
+  void beforeEach() {
+    reported = new CopyOnWriteArrayList<>();
+    raygunDeduplicator = new RaygunDeduplicator();
+    raygunDeduplicator.setWindow(Duration.ofSeconds(10));
+    raygunDeduplicator.setStackFrames(1);
+    raygunDeduplicator.setMaxFingerprints(16);
+    raygunDeduplicator.setOccurrencesConsumer(reported::add);
+  }
+
+  @AfterEach
+  void afterEach() {
+    raygunDeduplicator.destroy();
+  }
+
+  static RuntimeException exception(int index) {
+    return new RuntimeException("Order " + index + " failed");
+  }
+
+  boolean offer(Throwable throwable, long now) {
+    return raygunDeduplicator.offer(throwable, Set.of("poppinparty"), Map.of("band", "1"), now);
+  }
+
+  @Nested
+  class Offer {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunDeduplicator.afterPropertiesSet();
+    }
+
+    @Test
+    void firstOccurrenceShouldBeSent() {
+      assertThat(raygunDeduplicator.offer(exception(1), Set.of(), Map.of())).isTrue();
+    }
+
+    @Test
+    void laterOccurrenceShouldNotBeSent() {
+      offer(exception(1), 1000);
+
+      assertThat(offer(exception(2), 2000)).isFalse();
+    }
+
+    @Test
+    void laterOccurrencesShouldBeCounted() {
+      offer(exception(1), 1000);
+      offer(exception(2), 2000);
+      offer(exception(3), 3000);
+
+      assertThat(raygunDeduplicator.getSuppressedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void otherFingerprintShouldBeSent() {
+      offer(exception(1), 1000);
+
+      assertThat(offer(new IllegalStateException(), 2000)).isTrue();
+    }
+
+    @Test
+    void occurrenceAfterWindowShouldBeSent() {
+      offer(exception(1), 1000);
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(offer(exception(2), 11_000)).isTrue();
+    }
+
+    @Test
+    void fingerprintsBeyondMaxShouldNotBeTracked() {
+      for (int index = 0; index < 64; index++) {
+        offer(new IllegalStateException("x".repeat(index)), 1000);
+      }
+
+      assertThat(raygunDeduplicator.getFingerprintCount()).isLessThanOrEqualTo(16);
+    }
+  }
+
+  @Nested
+  class Expire {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunDeduplicator.afterPropertiesSet();
+    }
+
+    @Test
+    void singleOccurrenceShouldNotBeReported() {
+      offer(exception(1), 1000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(reported).isEmpty();
+    }
+
+    @Test
+    void occurrencesShouldBeReported() {
+      offer(exception(1), 1000);
+      offer(exception(2), 2000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(reported).hasSize(1);
+    }
+
+    @Test
+    void openWindowShouldNotBeReported() {
+      offer(exception(1), 1000);
+      offer(exception(2), 2000);
+
+      raygunDeduplicator.expire(10_999);
+
+      assertThat(reported).isEmpty();
+    }
+
+    @Test
+    void openWindowShouldStayTracked() {
+      offer(exception(1), 1000);
+      offer(new IllegalStateException(), 5000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(raygunDeduplicator.getFingerprintCount()).isOne();
+    }
+
+    @Test
+    void reportShouldContainOccurrencesData() {
+      offer(exception(1), 1000);
+      offer(exception(2), 2000);
+      offer(exception(3), 3000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(reported.get(0).getData())
+          .isEqualTo(
+              Map.of(
+                  "band",
+                  "1",
+                  RaygunOccurrences.OCCURRENCE_COUNT,
+                  "3",
+                  RaygunOccurrences.FIRST_OCCURRENCE,
+                  "1970-01-01T00:00:01Z",
+                  RaygunOccurrences.LAST_OCCURRENCE,
+                  "1970-01-01T00:00:03Z"));
+    }
+
+    @Test
+    void reportShouldContainLastOccurrenceTags() {
+      offer(exception(1), 1000);
+      offer(exception(2), 2000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(reported.get(0).getTags()).isEqualTo(Set.of("poppinparty"));
+    }
+
+    @Test
+    void reportShouldContainLastOccurrenceThrowable() {
+      RuntimeException last = exception(2);
+      offer(exception(1), 1000);
+      offer(last, 2000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(reported.get(0).getThrowable()).isSameAs(last);
+    }
+
+    @Test
+    void destroyShouldReportOpenWindows() {
+      offer(exception(1), 1000);
+      offer(exception(2), 2000);
+
+      raygunDeduplicator.destroy();
+
+      assertThat(reported).hasSize(1);
+    }
+
+    @Test
+    void shouldExpireInBackground() {
+      raygunDeduplicator.destroy();
+      raygunDeduplicator.setWindow(Duration.ofMillis(10));
+      raygunDeduplicator.afterPropertiesSet();
+      raygunDeduplicator.offer(exception(1), Set.of(), Map.of());
+      raygunDeduplicator.offer(exception(2), Set.of(), Map.of());
+
+      long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+      while (reported.isEmpty() && System.nanoTime() < deadline) {
+        Thread.onSpinWait();
+      }
+
+      assertThat(reported.get(0).getCount()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class Snapshot {
+    RaygunThrowableSnapshotter raygunThrowableSnapshotter;
+
+    @BeforeEach
+    void beforeEach() {
+      raygunThrowableSnapshotter = new RaygunThrowableSnapshotter();
+      raygunDeduplicator.setRaygunThrowableSnapshotter(raygunThrowableSnapshotter);
+      raygunDeduplicator.afterPropertiesSet();
+    }
+
+    @Test
+    void reportShouldNotContainThrowable() {
+      offer(exception(1), 1000);
+      offer(exception(2), 2000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(reported.get(0).getThrowable()).isNull();
+    }
+
+    @Test
+    void reportShouldContainSecondOccurrenceSnapshot() {
+      offer(exception(1), 1000);
+      offer(exception(2), 2000);
+      offer(exception(3), 3000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(reported.get(0).getSnapshot().getMessage())
+          .isEqualTo("RuntimeException: Order 2 failed");
+    }
+
+    @Test
+    void singleOccurrenceShouldNotHoldSnapshot() {
+      offer(exception(1), 1000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(reported).isEmpty();
+    }
+
+    @Test
+    void openWindowsShouldNotReserveSnapshots() {
+      offer(exception(1), 1000);
+      offer(exception(2), 2000);
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+    }
+
+    @Test
+    void singleOccurrenceShouldBeReleased() {
+      offer(exception(1), 1000);
+
+      raygunDeduplicator.expire(11_000);
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+    }
+
+    @Test
+    void exceedingMaxQueuedSizeShouldStillBeTracked() {
+      raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(1));
+      offer(exception(1), 1000);
+
+      assertThat(offer(exception(2), 2000)).isFalse();
+    }
+  }
+
+  @Nested
+  class AfterPropertiesSet {
+
+    @Test
+    void windowZeroShouldThrowIllegalArgumentException() {
+      raygunDeduplicator.setWindow(Duration.ZERO);
+
+      assertThatCode(raygunDeduplicator::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The window must be positive");
+    }
+
+    @Test
+    void maxFingerprintsLessThanStripesShouldThrowIllegalArgumentException() {
+      raygunDeduplicator.setMaxFingerprints(15);
+
+      assertThatCode(raygunDeduplicator::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The maximum fingerprints must not be less than 16");
+    }
+
+    @Test
+    void occurrencesConsumerNullShouldThrowIllegalArgumentException() {
+      raygunDeduplicator.setOccurrencesConsumer(null);
+
+      assertThatCode(raygunDeduplicator::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The occurrences consumer must not be null");
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link RaygunFingerprinter}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunFingerprinterTest {
+  RaygunFingerprinter raygunFingerprinter;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunFingerprinter = new RaygunFingerprinter(1);
+  }
+
+  static RuntimeException exception(String message) {
+    return new RuntimeException(message);
+  }
+
+  @Nested
+  class Fingerprint {
+
+    @Test
+    void sameSiteAndMessageShouldBeEqual() {
+      assertThat(raygunFingerprinter.fingerprint(exception("Order failed")))
+          .isEqualTo(raygunFingerprinter.fingerprint(exception("Order failed")));
+    }
+
+    @Test
+    void messagesDifferingByNumbersShouldBeEqual() {
+      assertThat(raygunFingerprinter.fingerprint(exception("Order 12 failed after 300ms")))
+          .isEqualTo(raygunFingerprinter.fingerprint(exception("Order 4096 failed after 5ms")));
+    }
+
+    @Test
+    void differentMessagesShouldNotBeEqual() {
+      assertThat(raygunFingerprinter.fingerprint(exception("Order failed")))
+          .isNotEqualTo(raygunFingerprinter.fingerprint(exception("Payment failed")));
+    }
+
+    @Test
+    void numberShouldNotBeEqualToNoNumber() {
+      assertThat(raygunFingerprinter.fingerprint(exception("Order 1 failed")))
+          .isNotEqualTo(raygunFingerprinter.fingerprint(exception("Order  failed")));
+    }
+
+    @Test
+    void nullMessageShouldNotBeEqualToEmptyMessage() {
+      assertThat(raygunFingerprinter.fingerprint(exception(null)))
+          .isNotEqualTo(raygunFingerprinter.fingerprint(exception("")));
+    }
+
+    @Test
+    void differentTypesShouldNotBeEqual() {
+      assertThat(raygunFingerprinter.fingerprint(new IllegalStateException("Order failed")))
+          .isNotEqualTo(
+              raygunFingerprinter.fingerprint(new IllegalArgumentException("Order failed")));
+    }
+
+    @Test
+    void differentSitesShouldNotBeEqual() {
+      RuntimeException exception = exception("Order failed");
+      RuntimeException otherSiteException = new RuntimeException("Order failed");
+
+      assertThat(raygunFingerprinter.fingerprint(exception))
+          .isNotEqualTo(raygunFingerprinter.fingerprint(otherSiteException));
+    }
+
+    @Test
+    void differentSitesBeyondStackFramesShouldBeEqual() {
+      RaygunFingerprinter noFramesFingerprinter = new RaygunFingerprinter(0);
+      RuntimeException exception = exception("Order failed");
+      RuntimeException otherSiteException = new RuntimeException("Order failed");
+
+      assertThat(noFramesFingerprinter.fingerprint(exception))
+          .isEqualTo(noFramesFingerprinter.fingerprint(otherSiteException));
+    }
+  }
+
+  @Nested
+  class Constructor {
+
+    @Test
+    void negativeStackFramesShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> new RaygunFingerprinter(-1))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The stack frames must not be negative");
+    }
+  }
+}
@@ -0,0 +1,619 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link RaygunDispatcher}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunDispatcherTest {
+  RaygunDispatcher raygunDispatcher;
+  CountDownLatch senderBlocked;
+  CountDownLatch senderReleased;
+  List<String> sent;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunDispatcher = new RaygunDispatcher();
+    raygunDispatcher.setQueueCapacity(1);
+    raygunDispatcher.setCoreSize(1);
+    senderBlocked = new CountDownLatch(1);
+    senderReleased = new CountDownLatch(1);
+    sent = new CopyOnWriteArrayList<>();
+  }
+
+  @AfterEach
+  void afterEach() {
+    senderReleased.countDown();
+    raygunDispatcher.destroy();
+  }
+
+  /** Occupies the only sender thread and fills the queue with {@code queued} messages. */
+  void fill() throws InterruptedException {
+    raygunDispatcher.afterPropertiesSet();
+    raygunDispatcher.dispatch(
+        () -> {
+          senderBlocked.countDown();
+          await(senderReleased);
+        });
+    senderBlocked.await(5, TimeUnit.SECONDS);
+    for (int index = 0; index < raygunDispatcher.getQueueCapacity(); index++) {
+      raygunDispatcher.dispatch(() -> sent.add("queued"));
+    }
+  }
+
+  /** Releases the sender thread and waits until every queued message is sent. */
+  void drain() throws InterruptedException {
+    senderReleased.countDown();
+    while (raygunDispatcher.getQueueSize() > 0) {
+      Thread.onSpinWait();
+    }
+    CountDownLatch drained = new CountDownLatch(1);
+    raygunDispatcher.dispatch(drained::countDown);
+    drained.await(5, TimeUnit.SECONDS);
+  }
+
+  RaygunDroppableTask droppable(String message) {
+    return new RaygunDroppableTask() {
+      @Override
+      public void run() {
+        sent.add(message);
+      }
+
+      @Override
+      public void onDropped() {
+        sent.add("dropped " + message);
+      }
+    };
+  }
+
+  RaygunPrioritizedTask prioritized(RaygunPriority priority, String message) {
+    return new RaygunPrioritizedTask() {
+      @Override
+      public void run() {
+        sent.add(message);
+      }
+
+      @Override
+      public RaygunPriority getPriority() {
+        return priority;
+      }
+    };
+  }
+
+  static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Nested
+  class Dispatch {
+
+    @Test
+    void shouldSendInSenderThread() throws InterruptedException {
+      raygunDispatcher.setThreadNamePrefix("poppinparty-");
+      raygunDispatcher.afterPropertiesSet();
+      CountDownLatch latch = new CountDownLatch(1);
+
+      raygunDispatcher.dispatch(
+          () -> {
+            sent.add(Thread.currentThread().getName());
+            latch.countDown();
+          });
+      latch.await(5, TimeUnit.SECONDS);
+
+      assertThat(sent).singleElement().asString().startsWith("poppinparty-");
+    }
+
+    @Test
+    void failedTaskShouldNotStopSender() throws InterruptedException {
+      raygunDispatcher.afterPropertiesSet();
+      CountDownLatch latch = new CountDownLatch(1);
+
+      raygunDispatcher.dispatch(
+          () -> {
+            throw new IllegalStateException();
+          });
+      raygunDispatcher.dispatch(latch::countDown);
+
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void afterDestroyShouldBeDropped() {
+      raygunDispatcher.afterPropertiesSet();
+      raygunDispatcher.destroy();
+
+      raygunDispatcher.dispatch(() -> sent.add("dropped"));
+
+      assertThat(raygunDispatcher.getDroppedCount()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class AsTaskExecutor {
+
+    @Test
+    void shouldSendInSenderThread() throws InterruptedException {
+      raygunDispatcher.afterPropertiesSet();
+      CountDownLatch latch = new CountDownLatch(1);
+
+      raygunDispatcher.asTaskExecutor().execute(latch::countDown);
+
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void droppedShouldBeRejected() throws InterruptedException {
+      fill();
+
+      assertThatThrownBy(() -> raygunDispatcher.asTaskExecutor().execute(() -> sent.add("dropped")))
+          .isInstanceOf(RaygunDispatchRejectedException.class);
+    }
+
+    @Test
+    void droppedShouldBeNotifiedOnce() throws InterruptedException {
+      fill();
+
+      try {
+        raygunDispatcher.asTaskExecutor().execute(droppable("newest"));
+      } catch (RaygunDispatchRejectedException ex) {
+        sent.add("rejected");
+      }
+
+      assertThat(sent).isEqualTo(List.of("dropped newest", "rejected"));
+    }
+  }
+
+  @Nested
+  class KeepAlive {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunDispatcher.setKeepAlive(Duration.ofMillis(10));
+      raygunDispatcher.afterPropertiesSet();
+    }
+
+    void awaitSendersExited() {
+      while (raygunDispatcher.getSenderCount() > 0) {
+        Thread.onSpinWait();
+      }
+    }
+
+    @Test
+    void idleSenderShouldExit() {
+      awaitSendersExited();
+
+      assertThat(raygunDispatcher.getSenderCount()).isZero();
+    }
+
+    @Test
+    void exitedSenderShouldBeStartedAgain() throws InterruptedException {
+      awaitSendersExited();
+      CountDownLatch latch = new CountDownLatch(1);
+
+      raygunDispatcher.dispatch(latch::countDown);
+
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  @Nested
+  class WhenQueueIsFull {
+
+    @Test
+    void dropNewestShouldDropDispatchedMessage() throws InterruptedException {
+      raygunDispatcher.setOverflowPolicy(RaygunOverflowPolicy.DROP_NEWEST);
+      fill();
+
+      raygunDispatcher.dispatch(() -> sent.add("dropped"));
+      drain();
+
+      assertThat(sent).isEqualTo(List.of("queued", "queued"));
+    }
+
+    @Test
+    void dropNewestShouldCountDroppedMessage() throws InterruptedException {
+      raygunDispatcher.setOverflowPolicy(RaygunOverflowPolicy.DROP_NEWEST);
+      fill();
+
+      raygunDispatcher.dispatch(() -> sent.add("dropped"));
+
+      assertThat(raygunDispatcher.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dropNewestShouldNotifyDroppedTask() throws InterruptedException {
+      raygunDispatcher.setOverflowPolicy(RaygunOverflowPolicy.DROP_NEWEST);
+      fill();
+
+      raygunDispatcher.dispatch(droppable("newest"));
+
+      assertThat(sent).isEqualTo(List.of("dropped newest"));
+    }
+
+    @Test
+    void dropOldestShouldNotifyDroppedTask() throws InterruptedException {
+      raygunDispatcher.setOverflowPolicy(RaygunOverflowPolicy.DROP_OLDEST);
+      fill();
+      for (int index = 0; index < raygunDispatcher.getQueueCapacity(); index++) {
+        raygunDispatcher.dispatch(droppable("oldest"));
+      }
+
+      raygunDispatcher.dispatch(() -> sent.add("newest"));
+      drain();
+
+      assertThat(sent).isEqualTo(List.of("dropped oldest", "oldest", "newest"));
+    }
+
+    @Test
+    void dropOldestShouldDropQueuedMessage() throws InterruptedException {
+      raygunDispatcher.setOverflowPolicy(RaygunOverflowPolicy.DROP_OLDEST);
+      fill();
+
+      raygunDispatcher.dispatch(() -> sent.add("newest"));
+      drain();
+
+      assertThat(sent).isEqualTo(List.of("queued", "newest"));
+    }
+
+    @Test
+    void blockShouldDropDispatchedMessageAfterTimeout() throws InterruptedException {
+      raygunDispatcher.setOverflowPolicy(RaygunOverflowPolicy.BLOCK);
+      raygunDispatcher.setBlockTimeout(Duration.ofMillis(1));
+      fill();
+
+      assertThat(raygunDispatcher.dispatch(() -> sent.add("dropped"))).isFalse();
+    }
+
+    @Test
+    void blockShouldQueueDispatchedMessageWhenRoomIsAvailable() throws InterruptedException {
+      raygunDispatcher.setOverflowPolicy(RaygunOverflowPolicy.BLOCK);
+      raygunDispatcher.setBlockTimeout(Duration.ofSeconds(5));
+      fill();
+
+      CompletableFuture.runAsync(
+          senderReleased::countDown, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+
+      assertThat(raygunDispatcher.dispatch(() -> sent.add("blocked"))).isTrue();
+    }
+
+    @Test
+    void callerRunsShouldSendInDispatchingThread() throws InterruptedException {
+      raygunDispatcher.setOverflowPolicy(RaygunOverflowPolicy.CALLER_RUNS);
+      fill();
+
+      raygunDispatcher.dispatch(() -> sent.add(Thread.currentThread().getName()));
+
+      assertThat(sent).containsExactly(Thread.currentThread().getName());
+    }
+  }
+
+  @Nested
+  class Lanes {
+
+    @BeforeEach
+    void beforeEach() throws InterruptedException {
+      raygunDispatcher.setLowQueueCapacity(1);
+      fill();
+    }
+
+    @Test
+    void higherPriorityShouldBeSentFirst() throws InterruptedException {
+      raygunDispatcher.dispatch(prioritized(RaygunPriority.LOW, "low"));
+      raygunDispatcher.dispatch(prioritized(RaygunPriority.CRITICAL, "critical"));
+      drain();
+
+      assertThat(sent).isEqualTo(List.of("critical", "queued", "queued", "low"));
+    }
+
+    @Test
+    void fullLaneShouldNotDropOtherLanes() {
+      raygunDispatcher.dispatch(() -> sent.add("dropped"));
+
+      assertThat(raygunDispatcher.dispatch(prioritized(RaygunPriority.CRITICAL, "critical")))
+          .isTrue();
+    }
+
+    @Test
+    void fullLowLaneShouldDropLowMessages() {
+      for (int index = 0; index < 3; index++) {
+        raygunDispatcher.dispatch(prioritized(RaygunPriority.LOW, "low"));
+      }
+
+      assertThat(raygunDispatcher.getDroppedCount(RaygunPriority.LOW)).isOne();
+    }
+
+    @Test
+    void fullLowLaneShouldNotDropCriticalMessages() {
+      for (int index = 0; index < 3; index++) {
+        raygunDispatcher.dispatch(prioritized(RaygunPriority.LOW, "low"));
+      }
+      raygunDispatcher.dispatch(prioritized(RaygunPriority.CRITICAL, "critical"));
+
+      assertThat(raygunDispatcher.getDroppedCount(RaygunPriority.CRITICAL)).isZero();
+    }
+
+    @Test
+    void droppedCountShouldSumLanes() {
+      for (int index = 0; index < 3; index++) {
+        raygunDispatcher.dispatch(prioritized(RaygunPriority.LOW, "low"));
+      }
+      raygunDispatcher.dispatch(() -> sent.add("dropped"));
+
+      assertThat(raygunDispatcher.getDroppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void queueSizeShouldCountLaneMessages() {
+      raygunDispatcher.dispatch(prioritized(RaygunPriority.CRITICAL, "critical"));
+
+      assertThat(raygunDispatcher.getQueueSize(RaygunPriority.CRITICAL)).isOne();
+    }
+
+    @Test
+    void queueSizeShouldCountAllLanes() {
+      raygunDispatcher.dispatch(prioritized(RaygunPriority.CRITICAL, "critical"));
+
+      assertThat(raygunDispatcher.getQueueSize()).isEqualTo(3);
+    }
+
+    @Test
+    void criticalCapacityShouldBeDefault() {
+      assertThat(raygunDispatcher.getQueueCapacity(RaygunPriority.CRITICAL)).isEqualTo(256);
+    }
+
+    @Test
+    void lowCapacityShouldBeConfigured() {
+      assertThat(raygunDispatcher.getQueueCapacity(RaygunPriority.LOW)).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class QueueSize {
+
+    @Test
+    void shouldCountQueuedMessages() throws InterruptedException {
+      fill();
+
+      assertThat(raygunDispatcher.getQueueSize()).isEqualTo(2);
+    }
+
+    @Test
+    void capacityShouldBeConfigured() {
+      raygunDispatcher.setQueueCapacity(100);
+      raygunDispatcher.afterPropertiesSet();
+
+      assertThat(raygunDispatcher.getQueueCapacity()).isEqualTo(128);
+    }
+  }
+
+  @Nested
+  class Shutdown {
+
+    @Test
+    void queuedShouldBeSent() throws InterruptedException {
+      fill();
+      raygunDispatcher.shutdown();
+      senderReleased.countDown();
+
+      assertThat(raygunDispatcher.awaitTermination(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void blockedSenderShouldTimeOut() throws InterruptedException {
+      fill();
+      raygunDispatcher.shutdown();
+
+      assertThat(raygunDispatcher.awaitTermination(Duration.ofMillis(10))).isFalse();
+    }
+
+    @Test
+    void exitedSendersShouldBeTerminated() throws InterruptedException {
+      raygunDispatcher.setKeepAlive(Duration.ofMillis(1));
+      raygunDispatcher.afterPropertiesSet();
+      while (raygunDispatcher.getSenderCount() > 0) {
+        Thread.onSpinWait();
+      }
+      raygunDispatcher.shutdown();
+
+      assertThat(raygunDispatcher.awaitTermination(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void shouldNotAcceptMessages() {
+      raygunDispatcher.afterPropertiesSet();
+      raygunDispatcher.shutdown();
+
+      assertThat(raygunDispatcher.isRunning()).isFalse();
+    }
+
+    @Test
+    void shutdownNowShouldReturnQueuedMessages() throws InterruptedException {
+      fill();
+
+      assertThat(raygunDispatcher.shutdownNow()).hasSize(2);
+    }
+
+    @Test
+    void shutdownNowShouldNotCountDroppedMessages() throws InterruptedException {
+      fill();
+      raygunDispatcher.shutdownNow();
+
+      assertThat(raygunDispatcher.getDroppedCount()).isZero();
+    }
+  }
+
+  @Nested
+  class Pause {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunDispatcher.afterPropertiesSet();
+      raygunDispatcher.pause();
+    }
+
+    @Test
+    void queuedShouldNotBeSent() throws InterruptedException {
+      raygunDispatcher.dispatch(() -> sent.add("paused"));
+      Thread.sleep(50);
+
+      assertThat(raygunDispatcher.getQueueSize()).isOne();
+    }
+
+    @Test
+    void resumeShouldSendQueued() throws InterruptedException {
+      CountDownLatch latch = new CountDownLatch(1);
+      raygunDispatcher.dispatch(latch::countDown);
+
+      raygunDispatcher.resume();
+
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void resumeShouldNotBePaused() {
+      raygunDispatcher.resume();
+
+      assertThat(raygunDispatcher.isPaused()).isFalse();
+    }
+
+    @Test
+    void flushShouldSendQueued() throws InterruptedException {
+      raygunDispatcher.dispatch(() -> sent.add("flushed"));
+
+      raygunDispatcher.flush(Duration.ofSeconds(5));
+
+      assertThat(sent).containsExactly("flushed");
+    }
+
+    @Test
+    void flushShouldKeepPaused() throws InterruptedException {
+      raygunDispatcher.flush(Duration.ofSeconds(5));
+
+      assertThat(raygunDispatcher.isPaused()).isTrue();
+    }
+
+    @Test
+    void shutdownShouldSendQueued() throws InterruptedException {
+      raygunDispatcher.dispatch(() -> sent.add("queued"));
+
+      raygunDispatcher.shutdown();
+
+      assertThat(raygunDispatcher.awaitTermination(Duration.ofSeconds(5))).isTrue();
+    }
+  }
+
+  @Nested
+  class Flush {
+
+    @Test
+    void queuedShouldBeSent() throws InterruptedException {
+      fill();
+      senderReleased.countDown();
+
+      assertThat(raygunDispatcher.flush(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void blockedSenderShouldTimeOut() throws InterruptedException {
+      fill();
+
+      assertThat(raygunDispatcher.flush(Duration.ofMillis(10))).isFalse();
+    }
+
+    @Test
+    void afterShutdownShouldNotWaitForExitedSenders() throws InterruptedException {
+      fill();
+      senderReleased.countDown();
+      raygunDispatcher.shutdown();
+      raygunDispatcher.awaitTermination(Duration.ofSeconds(5));
+
+      assertThat(raygunDispatcher.flush(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void afterShutdownSendersShouldNotBeCounted() throws InterruptedException {
+      fill();
+      senderReleased.countDown();
+      raygunDispatcher.shutdown();
+      raygunDispatcher.awaitTermination(Duration.ofSeconds(5));
+
+      assertThat(raygunDispatcher.getSenderCount()).isZero();
+    }
+  }
+
+  @Nested
+  class AfterPropertiesSet {
+
+    @Test
+    void coreSizeNotPositiveShouldThrowIllegalArgumentException() {
+      raygunDispatcher.setCoreSize(0);
+
+      assertThatCode(raygunDispatcher::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The core size must be greater than 0");
+    }
+
+    @Test
+    void overflowPolicyNullShouldThrowIllegalArgumentException() {
+      raygunDispatcher.setOverflowPolicy(null);
+
+      assertThatCode(raygunDispatcher::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The overflow policy must not be null");
+    }
+
+    @Test
+    void blockTimeoutNegativeShouldThrowIllegalArgumentException() {
+      raygunDispatcher.setBlockTimeout(Duration.ofMillis(-1));
+
+      assertThatCode(raygunDispatcher::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The block timeout must not be null or negative");
+    }
+
+    @Test
+    void keepAliveZeroShouldThrowIllegalArgumentException() {
+      raygunDispatcher.setKeepAlive(Duration.ZERO);
+
+      assertThatCode(raygunDispatcher::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The keep-alive must be positive");
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.dispatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for {@link RingBuffer}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RingBufferTest {
+
+  @Nested
+  class Capacity {
+
+    @Test
+    void shouldBeRoundedUpToPowerOfTwo() {
+      assertThat(new RingBuffer<String>(5).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void oneShouldBeRoundedUpToTwo() {
+      assertThat(new RingBuffer<String>(1).capacity()).isEqualTo(2);
+    }
+
+    @Test
+    void notPositiveShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> new RingBuffer<String>(0))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The capacity must be greater than 0");
+    }
+
+    @Test
+    void tooLargeShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> new RingBuffer<String>(Integer.MAX_VALUE))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The capacity must not be greater than 2^30");
+    }
+  }
+
+  @Nested
+  class Offer {
+
+    @Test
+    void whenFullShouldReturnFalse() {
+      RingBuffer<String> ringBuffer = new RingBuffer<>(2);
+      ringBuffer.offer("kasumi");
+      ringBuffer.offer("tae");
+
+      assertThat(ringBuffer.offer("rimi")).isFalse();
+    }
+
+    @Test
+    void afterPollShouldReuseSlot() {
+      RingBuffer<String> ringBuffer = new RingBuffer<>(2);
+      ringBuffer.offer("kasumi");
+      ringBuffer.offer("tae");
+      ringBuffer.poll();
+
+      assertThat(ringBuffer.offer("rimi")).isTrue();
+    }
+  }
+
+  @Nested
+  class Poll {
+
+    @Test
+    void whenEmptyShouldReturnNull() {
+      assertThat(new RingBuffer<String>(2).poll()).isNull();
+    }
+
+    @Test
+    void shouldReturnElementsInInsertionOrder() {
+      RingBuffer<String> ringBuffer = new RingBuffer<>(4);
+      ringBuffer.offer("kasumi");
+      ringBuffer.offer("tae");
+      ringBuffer.offer("rimi");
+
+      assertThat(List.of(ringBuffer.poll(), ringBuffer.poll(), ringBuffer.poll()))
+          .containsExactly("kasumi", "tae", "rimi");
+    }
+  }
+
+  @Nested
+  class Size {
+
+    @Test
+    void shouldCountQueuedElements() {
+      RingBuffer<String> ringBuffer = new RingBuffer<>(4);
+      ringBuffer.offer("kasumi");
+      ringBuffer.offer("tae");
+      ringBuffer.poll();
+
+      assertThat(ringBuffer.size()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  class Concurrently {
+
+    @Test
+    void everyOfferedElementShouldBePolledExactlyOnce() throws InterruptedException {
+      int producerCount = 4;
+      int elementCount = 10_000;
+      RingBuffer<Integer> ringBuffer = new RingBuffer<>(64);
+      Set<Integer> polled = ConcurrentHashMap.newKeySet();
+      AtomicInteger duplicateCount = new AtomicInteger();
+      AtomicInteger remaining = new AtomicInteger(producerCount * elementCount);
+
+      ExecutorService executorService = Executors.newFixedThreadPool(producerCount * 2);
+      for (int producer = 0; producer < producerCount; producer++) {
+        int offset = producer * elementCount;
+        executorService.execute(
+            () -> {
+              for (int element = offset; element < offset + elementCount; element++) {
+                while (!ringBuffer.offer(element)) {
+                  Thread.onSpinWait();
+                }
+              }
+            });
+        executorService.execute(
+            () -> {
+              while (remaining.get() > 0) {
+                Integer element = ringBuffer.poll();
+                if (element != null) {
+                  remaining.decrementAndGet();
+                  if (!polled.add(element)) {
+                    duplicateCount.incrementAndGet();
+                  }
+                }
+              }
+            });
+      }
+      executorService.shutdown();
+      executorService.awaitTermination(30, TimeUnit.SECONDS);
+
+      assertThat(List.of(polled.size(), duplicateCount.get()))
+          .isEqualTo(List.of(producerCount * elementCount, 0));
+    }
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.exclude;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test for {@link RaygunExcludeRules}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunExcludeRulesTest {
+
+  static RaygunExcludeRules compile(String... rules) {
+    return new RaygunExcludeRules(
+        Stream.of(rules).map(RaygunExcludeRule::parse).collect(Collectors.toList()));
+  }
+
+  static IOException thrownBy(String className, String methodName) {
+    IOException exception = new IOException("Broken pipe");
+    exception.setStackTrace(
+        new StackTraceElement[] {new StackTraceElement(className, methodName, "File.java", 1)});
+    return exception;
+  }
+
+  @Nested
+  class Parse {
+
+    @Test
+    void nullShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunExcludeRule.parse(null))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The exclude rule must not be empty");
+    }
+
+    @Test
+    void onlySeparatorsShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunExcludeRule.parse(" ; ;"))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The exclude rule must not be empty");
+    }
+
+    @Test
+    void termWithoutValueShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunExcludeRule.parse("type"))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The exclude rule term must be written as key=value: type");
+    }
+
+    @Test
+    void unknownKeyShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunExcludeRule.parse("cause=java.io.IOException"))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessageStartingWith("The exclude rule key must be one of");
+    }
+
+    @Test
+    void emptyValueShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunExcludeRule.parse("type= "))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The exclude rule value must not be empty: type");
+    }
+
+    @Test
+    void repeatedKeyShouldThrowIllegalArgumentException() {
+      assertThatCode(
+              () -> RaygunExcludeRule.parse("type=java.io.IOException; type=java.lang.Error"))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The exclude rule key must not be repeated: type");
+    }
+
+    @Test
+    void originWithoutMethodShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunExcludeRule.parse("origin=com.example.Foo#"))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage(
+              "The exclude rule origin must be written as class or class#method: com.example.Foo#");
+    }
+
+    @Test
+    void invalidMessageShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> RaygunExcludeRule.parse("message=("))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ruleShouldBePrintedAsWritten() {
+      assertThat(RaygunExcludeRule.parse(" type=java.io.IOException; message=pipe "))
+          .hasToString("type=java.io.IOException; message=pipe");
+    }
+  }
+
+  @Nested
+  class Matches {
+
+    @Test
+    void noRulesShouldNotMatch() {
+      assertThat(compile().matches(new IOException())).isFalse();
+    }
+
+    @Test
+    void subtypeShouldMatch() {
+      assertThat(compile("type=java.io.IOException").matches(new SocketTimeoutException()))
+          .isTrue();
+    }
+
+    @Test
+    void interfaceShouldMatch() {
+      assertThat(compile("type=java.io.Serializable").matches(new IOException())).isTrue();
+    }
+
+    @Test
+    void supertypeShouldNotMatch() {
+      assertThat(compile("type=java.net.SocketTimeoutException").matches(new IOException()))
+          .isFalse();
+    }
+
+    @Test
+    void typeNotOnClasspathShouldNotMatch() {
+      assertThat(compile("type=org.example.MissingException").matches(new IOException())).isFalse();
+    }
+
+    @Test
+    void rootCauseShouldMatch() {
+      assertThat(
+              compile("root-cause=java.io.IOException")
+                  .matches(
+                      new IllegalStateException(
+                          new UncheckedIOException(new SocketTimeoutException()))))
+          .isTrue();
+    }
+
+    @Test
+    void intermediateCauseShouldNotMatchRootCause() {
+      assertThat(
+              compile("root-cause=java.io.UncheckedIOException")
+                  .matches(
+                      new IllegalStateException(
+                          new UncheckedIOException(new SocketTimeoutException()))))
+          .isFalse();
+    }
+
+    @Test
+    void exceptionWithoutCauseShouldBeItsRootCause() {
+      assertThat(compile("root-cause=java.io.IOException").matches(new IOException())).isTrue();
+    }
+
+    @Test
+    void packageShouldMatchSubpackages() {
+      assertThat(
+              compile("package=org.apache.catalina")
+                  .matches(thrownBy("org.apache.catalina.connector.OutputBuffer", "flush")))
+          .isTrue();
+    }
+
+    @Test
+    void packageShouldNotMatchPrefix() {
+      assertThat(
+              compile("package=org.apache.cat")
+                  .matches(thrownBy("org.apache.catalina.connector.OutputBuffer", "flush")))
+          .isFalse();
+    }
+
+    @Test
+    void originClassShouldMatch() {
+      assertThat(
+              compile("origin=org.apache.catalina.connector.OutputBuffer")
+                  .matches(thrownBy("org.apache.catalina.connector.OutputBuffer", "flush")))
+          .isTrue();
+    }
+
+    @Test
+    void otherOriginMethodShouldNotMatch() {
+      assertThat(
+              compile("origin=org.apache.catalina.connector.OutputBuffer#close")
+                  .matches(thrownBy("org.apache.catalina.connector.OutputBuffer", "flush")))
+          .isFalse();
+    }
+
+    @Test
+    void emptyStackTraceShouldNotMatchOrigin() {
+      IOException exception = new IOException();
+      exception.setStackTrace(new StackTraceElement[0]);
+
+      assertThat(compile("origin=java.io.IOException").matches(exception)).isFalse();
+    }
+
+    @Test
+    void messageShouldBeFound() {
+      assertThat(
+              compile("message=Broken pipe|Connection reset")
+                  .matches(new IOException("x: Broken pipe")))
+          .isTrue();
+    }
+
+    @Test
+    void escapedSeparatorShouldBeFoundInMessage() {
+      assertThat(
+              compile("type=java.io.IOException; message=band=roselia\\;")
+                  .matches(new IOException("band=roselia; status=offline")))
+          .isTrue();
+    }
+
+    @Test
+    void escapedBackslashShouldNotEscapeSeparator() {
+      assertThat(
+              compile("message=roselia\\\\; type=java.io.IOException")
+                  .matches(new IOException("roselia\\")))
+          .isTrue();
+    }
+
+    @Test
+    void nullMessageShouldNotMatch() {
+      assertThat(compile("message=.*").matches(new IOException())).isFalse();
+    }
+
+    @Test
+    void allTermsShouldMatch() {
+      assertThat(
+              compile("type=java.io.IOException; message=Connection reset")
+                  .matches(new IOException("Broken pipe")))
+          .isFalse();
+    }
+
+    @Test
+    void anyRuleShouldMatch() {
+      assertThat(
+              compile("type=java.lang.Error", "message=pipe; package=org.apache")
+                  .matches(thrownBy("org.apache.catalina.connector.OutputBuffer", "flush")))
+          .isTrue();
+    }
+  }
+}
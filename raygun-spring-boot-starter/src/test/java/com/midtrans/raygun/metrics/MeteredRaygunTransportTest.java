@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Test for {@link MeteredRaygunTransport}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class MeteredRaygunTransportTest {
+  MeterRegistry meterRegistry;
+  CompletableFuture<RaygunTransportResponse> response;
+  MeteredRaygunTransport meteredRaygunTransport;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    response = new CompletableFuture<>();
+    meteredRaygunTransport =
+        new MeteredRaygunTransport((apiKey, payload) -> response, meterRegistry);
+  }
+
+  long requests(String outcome) {
+    return meterRegistry
+        .get(MeteredRaygunTransport.REQUESTS_METRIC_NAME)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+
+  @Nested
+  class Requests {
+
+    @Test
+    void acceptedShouldBeSuccess() {
+      meteredRaygunTransport.send("apiKey", "{}");
+      response.complete(new RaygunTransportResponse(202));
+
+      assertThat(requests("SUCCESS")).isOne();
+    }
+
+    @Test
+    void badRequestShouldBeClientError() {
+      meteredRaygunTransport.send("apiKey", "{}");
+      response.complete(new RaygunTransportResponse(400));
+
+      assertThat(requests("CLIENT_ERROR")).isOne();
+    }
+
+    @Test
+    void unavailableShouldBeServerError() {
+      meteredRaygunTransport.send("apiKey", "{}");
+      response.complete(new RaygunTransportResponse(503));
+
+      assertThat(requests("SERVER_ERROR")).isOne();
+    }
+
+    @Test
+    void failureShouldBeUnknown() {
+      meteredRaygunTransport.send("apiKey", "{}");
+      response.completeExceptionally(new IOException("Connection refused"));
+
+      assertThat(requests("UNKNOWN")).isOne();
+    }
+
+    @Test
+    void pendingShouldNotBeTimed() {
+      meteredRaygunTransport.send("apiKey", "{}");
+
+      assertThat(requests("SUCCESS")).isZero();
+    }
+  }
+
+  @Nested
+  class InFlight {
+
+    @Test
+    void pendingShouldBeInFlight() {
+      meteredRaygunTransport.send("apiKey", "{}");
+
+      assertThat(meterRegistry.get(MeteredRaygunTransport.IN_FLIGHT_METRIC_NAME).gauge().value())
+          .isOne();
+    }
+
+    @Test
+    void completedShouldNotBeInFlight() {
+      meteredRaygunTransport.send("apiKey", "{}");
+      response.complete(new RaygunTransportResponse(202));
+
+      assertThat(meteredRaygunTransport.getInFlight()).isZero();
+    }
+  }
+
+  @Nested
+  class Payload {
+
+    @Test
+    void shouldBeSummarizedInBytes() {
+      String payload = "{\"message\":\"caf\u00e9 \u20ac \ud83d\ude00\"}";
+      meteredRaygunTransport.send("apiKey", payload);
+
+      assertThat(
+              meterRegistry.get(MeteredRaygunTransport.PAYLOAD_METRIC_NAME).summary().totalAmount())
+          .isEqualTo(payload.getBytes(StandardCharsets.UTF_8).length);
+    }
+  }
+
+  @Nested
+  class Utf8Length {
+
+    @Test
+    void shouldMatchEncodedLength() {
+      String payload = "a\u00e9\u20ac\ud83d\ude00";
+
+      assertThat(MeteredRaygunTransport.utf8Length(payload))
+          .isEqualTo(payload.getBytes(StandardCharsets.UTF_8).length);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.midtrans.raygun.RaygunReportRecorder;
+import com.midtrans.raygun.dedup.RaygunDeduplicator;
+import com.midtrans.raygun.dedup.RaygunOccurrences;
+import com.midtrans.raygun.snapshot.RaygunThrowableSnapshotter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test for {@link MicrometerRaygunReportRecorder}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class MicrometerRaygunReportRecorderTest {
+  MeterRegistry meterRegistry;
+  MicrometerRaygunReportRecorder recorder;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    recorder = new MicrometerRaygunReportRecorder(meterRegistry, 1);
+  }
+
+  double count(String exception, RaygunReportRecorder.Outcome outcome) {
+    return meterRegistry
+        .get(MicrometerRaygunReportRecorder.METRIC_NAME)
+        .tag("exception", exception)
+        .tag("outcome", outcome.name())
+        .counter()
+        .count();
+  }
+
+  static RaygunOccurrences occurrences(
+      Throwable throwable, RaygunThrowableSnapshotter raygunThrowableSnapshotter) {
+    List<RaygunOccurrences> occurrences = new ArrayList<>();
+    RaygunDeduplicator raygunDeduplicator = new RaygunDeduplicator();
+    raygunDeduplicator.setOccurrencesConsumer(occurrences::add);
+    raygunDeduplicator.setRaygunThrowableSnapshotter(raygunThrowableSnapshotter);
+    raygunDeduplicator.afterPropertiesSet();
+    raygunDeduplicator.offer(throwable, Set.of(), Map.of());
+    raygunDeduplicator.offer(throwable, Set.of(), Map.of());
+    raygunDeduplicator.destroy();
+    return occurrences.get(0);
+  }
+
+  @Test
+  void shouldCountPerOutcome() {
+    recorder.record(new IllegalStateException(), RaygunReportRecorder.Outcome.QUEUED);
+    recorder.record(new IllegalStateException(), RaygunReportRecorder.Outcome.QUEUED);
+    recorder.record(new IllegalStateException(), RaygunReportRecorder.Outcome.THROTTLED);
+
+    assertThat(count("IllegalStateException", RaygunReportRecorder.Outcome.QUEUED)).isEqualTo(2);
+  }
+
+  @Test
+  void exceptionTypesBeyondMaximumShouldBeOther() {
+    recorder.record(new IllegalStateException(), RaygunReportRecorder.Outcome.QUEUED);
+    recorder.record(new IllegalArgumentException(), RaygunReportRecorder.Outcome.QUEUED);
+    recorder.record(new UnsupportedOperationException(), RaygunReportRecorder.Outcome.QUEUED);
+
+    assertThat(count(MicrometerRaygunReportRecorder.OTHER, RaygunReportRecorder.Outcome.QUEUED))
+        .isEqualTo(2);
+  }
+
+  @Test
+  void exceptionTypesBeyondMaximumShouldNotBeTagged() {
+    recorder.record(new IllegalStateException(), RaygunReportRecorder.Outcome.QUEUED);
+    recorder.record(new IllegalArgumentException(), RaygunReportRecorder.Outcome.QUEUED);
+
+    assertThat(
+            meterRegistry
+                .find(MicrometerRaygunReportRecorder.METRIC_NAME)
+                .tag("exception", "IllegalArgumentException")
+                .counter())
+        .isNull();
+  }
+
+  @Test
+  void occurrencesShouldBeCounted() {
+    recorder.record(
+        occurrences(new IllegalStateException("poppinparty"), null),
+        RaygunReportRecorder.Outcome.QUEUED);
+
+    assertThat(count("IllegalStateException", RaygunReportRecorder.Outcome.QUEUED)).isOne();
+  }
+
+  @Test
+  void snapshotOccurrencesShouldBeCountedWithTheirExceptionType() {
+    recorder.record(new IllegalStateException(), RaygunReportRecorder.Outcome.DUPLICATE);
+    recorder.record(
+        occurrences(new IllegalStateException("roselia"), new RaygunThrowableSnapshotter()),
+        RaygunReportRecorder.Outcome.OVERFLOW);
+
+    assertThat(count("IllegalStateException", RaygunReportRecorder.Outcome.OVERFLOW)).isOne();
+  }
+
+  @Test
+  void negativeMaxExceptionTypesShouldBeRejected() {
+    assertThatCode(() -> new MicrometerRaygunReportRecorder(meterRegistry, -1))
+        .isExactlyInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The maximum exception types must not be negative");
+  }
+}
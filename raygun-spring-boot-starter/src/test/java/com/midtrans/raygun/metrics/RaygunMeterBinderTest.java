@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.retry.RaygunRetrier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link RaygunMeterBinder}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunMeterBinderTest {
+  MeterRegistry meterRegistry;
+  RaygunDispatcher raygunDispatcher;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    raygunDispatcher = new RaygunDispatcher();
+    raygunDispatcher.afterPropertiesSet();
+  }
+
+  @AfterEach
+  void afterEach() {
+    raygunDispatcher.destroy();
+  }
+
+  @Test
+  void dispatcherLanesShouldBeGauged() {
+    new RaygunMeterBinder(raygunDispatcher, null, null).bindTo(meterRegistry);
+
+    assertThat(
+            meterRegistry
+                .get("raygun.dispatcher.queue.size")
+                .tag("priority", "critical")
+                .gauge()
+                .value())
+        .isZero();
+  }
+
+  @Test
+  void retrierShouldBeCounted() {
+    new RaygunMeterBinder(null, new RaygunRetrier(), null).bindTo(meterRegistry);
+
+    assertThat(meterRegistry.get("raygun.retry.retried").functionCounter().count()).isZero();
+  }
+
+  @Test
+  void absentComponentsShouldNotBeBound() {
+    new RaygunMeterBinder(null, null, null).bindTo(meterRegistry);
+
+    assertThat(meterRegistry.getMeters()).isEmpty();
+  }
+}
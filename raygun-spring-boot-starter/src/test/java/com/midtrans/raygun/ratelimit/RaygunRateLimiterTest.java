@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link RaygunRateLimiter}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunRateLimiterTest {
+  static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  RaygunRateLimiter raygunRateLimiter;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunRateLimiter = new RaygunRateLimiter();
+    raygunRateLimiter.setPerFingerprint(2);
+    raygunRateLimiter.setGlobal(3);
+  }
+
+  int acquired(Throwable throwable, int times, long now) {
+    int acquired = 0;
+    for (int index = 0; index < times; index++) {
+      if (raygunRateLimiter.tryAcquire(throwable, now)) {
+        acquired++;
+      }
+    }
+    return acquired;
+  }
+
+  @Nested
+  class TryAcquire {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunRateLimiter.afterPropertiesSet();
+    }
+
+    @Test
+    void firstMessageShouldBeAcquired() {
+      assertThat(raygunRateLimiter.tryAcquire(new IllegalStateException())).isTrue();
+    }
+
+    @Test
+    void fingerprintShouldBeLimited() {
+      assertThat(acquired(new IllegalStateException(), 5, SECOND)).isEqualTo(2);
+    }
+
+    @Test
+    void fingerprintLimitShouldBeCounted() {
+      acquired(new IllegalStateException(), 5, SECOND);
+
+      assertThat(raygunRateLimiter.getFingerprintThrottledCount()).isEqualTo(3);
+    }
+
+    @Test
+    void messagesDifferingByNumbersShouldShareLimit() {
+      acquired(new IllegalStateException("Order 1 failed"), 2, SECOND);
+
+      assertThat(raygunRateLimiter.tryAcquire(new IllegalStateException("Order 2 failed"), SECOND))
+          .isFalse();
+    }
+
+    @Test
+    void otherFingerprintShouldNotBeLimited() {
+      acquired(new IllegalStateException(), 2, SECOND);
+
+      assertThat(raygunRateLimiter.tryAcquire(new IllegalArgumentException(), SECOND)).isTrue();
+    }
+
+    @Test
+    void globalShouldBeLimited() {
+      acquired(new IllegalStateException(), 2, SECOND);
+      acquired(new IllegalArgumentException(), 2, SECOND);
+
+      assertThat(raygunRateLimiter.getGlobalThrottledCount()).isOne();
+    }
+
+    @Test
+    void throttledShouldBeCounted() {
+      acquired(new IllegalStateException(), 3, SECOND);
+      acquired(new IllegalArgumentException(), 2, SECOND);
+
+      assertThat(raygunRateLimiter.getThrottledCount()).isEqualTo(2);
+    }
+
+    @Test
+    void tokensShouldBeRefilled() {
+      acquired(new IllegalStateException(), 2, SECOND);
+
+      assertThat(raygunRateLimiter.tryAcquire(new IllegalStateException(), SECOND + SECOND / 2))
+          .isTrue();
+    }
+
+    @Test
+    void tokensShouldNotBeRefilledBeyondOneSecond() {
+      assertThat(acquired(new IllegalStateException(), 5, 10 * SECOND)).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class AfterPropertiesSet {
+
+    @Test
+    void perFingerprintNotPositiveShouldThrowIllegalArgumentException() {
+      raygunRateLimiter.setPerFingerprint(0);
+
+      assertThatCode(raygunRateLimiter::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The rate per fingerprint must be greater than 0");
+    }
+
+    @Test
+    void globalNotPositiveShouldThrowIllegalArgumentException() {
+      raygunRateLimiter.setGlobal(0);
+
+      assertThatCode(raygunRateLimiter::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The global rate must be greater than 0");
+    }
+
+    @Test
+    void changedLimitsShouldBeApplied() {
+      raygunRateLimiter.afterPropertiesSet();
+      raygunRateLimiter.setPerFingerprint(1);
+      raygunRateLimiter.afterPropertiesSet();
+
+      assertThat(acquired(new IllegalStateException(), 5, SECOND)).isEqualTo(1);
+    }
+
+    @Test
+    void invalidLimitsShouldKeepPreviousLimits() {
+      raygunRateLimiter.afterPropertiesSet();
+      raygunRateLimiter.setPerFingerprint(0);
+      catchThrowable(raygunRateLimiter::afterPropertiesSet);
+
+      assertThat(acquired(new IllegalStateException(), 5, SECOND)).isEqualTo(2);
+    }
+  }
+}
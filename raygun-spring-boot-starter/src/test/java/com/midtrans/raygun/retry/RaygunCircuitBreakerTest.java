@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test for {@link RaygunCircuitBreaker}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunCircuitBreakerTest {
+  AtomicLong nanoTime;
+  RaygunCircuitBreaker raygunCircuitBreaker;
+
+  @BeforeEach
+  void beforeEach() {
+    nanoTime = new AtomicLong();
+    raygunCircuitBreaker = new RaygunCircuitBreaker(2, Duration.ofSeconds(1), nanoTime::get);
+  }
+
+  @Nested
+  class WhenClosed {
+
+    @Test
+    void shouldAcquire() {
+      assertThat(raygunCircuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failuresBelowThresholdShouldNotOpen() {
+      raygunCircuitBreaker.onFailure();
+
+      assertThat(raygunCircuitBreaker.getState()).isEqualTo(RaygunCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void successShouldResetFailures() {
+      raygunCircuitBreaker.onFailure();
+      raygunCircuitBreaker.onSuccess();
+      raygunCircuitBreaker.onFailure();
+
+      assertThat(raygunCircuitBreaker.getState()).isEqualTo(RaygunCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failuresReachingThresholdShouldOpen() {
+      raygunCircuitBreaker.onFailure();
+      raygunCircuitBreaker.onFailure();
+
+      assertThat(raygunCircuitBreaker.getState()).isEqualTo(RaygunCircuitBreaker.State.OPEN);
+    }
+  }
+
+  @Nested
+  class WhenOpen {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunCircuitBreaker.onFailure();
+      raygunCircuitBreaker.onFailure();
+    }
+
+    @Test
+    void shouldNotAcquire() {
+      assertThat(raygunCircuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void openDurationElapsedShouldAcquireProbe() {
+      nanoTime.set(Duration.ofSeconds(1).toNanos());
+
+      assertThat(raygunCircuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void openDurationElapsedShouldHalfOpen() {
+      nanoTime.set(Duration.ofSeconds(1).toNanos());
+
+      raygunCircuitBreaker.tryAcquire();
+
+      assertThat(raygunCircuitBreaker.getState()).isEqualTo(RaygunCircuitBreaker.State.HALF_OPEN);
+    }
+  }
+
+  @Nested
+  class WhenHalfOpen {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunCircuitBreaker.onFailure();
+      raygunCircuitBreaker.onFailure();
+      nanoTime.set(Duration.ofSeconds(1).toNanos());
+      raygunCircuitBreaker.tryAcquire();
+    }
+
+    @Test
+    void shouldNotAcquireAnotherProbe() {
+      assertThat(raygunCircuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void successShouldClose() {
+      raygunCircuitBreaker.onSuccess();
+
+      assertThat(raygunCircuitBreaker.getState()).isEqualTo(RaygunCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void failureShouldOpenAgain() {
+      raygunCircuitBreaker.onFailure();
+
+      assertThat(raygunCircuitBreaker.tryAcquire()).isFalse();
+    }
+  }
+}
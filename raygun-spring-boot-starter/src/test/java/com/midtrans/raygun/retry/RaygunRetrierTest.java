@@ -0,0 +1,421 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportException;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Test for {@link RaygunRetrier}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunRetrierTest {
+  RaygunTransport raygunTransport;
+  RaygunRetrier raygunRetrier;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunTransport = mock(RaygunTransport.class);
+    raygunRetrier = new RaygunRetrier();
+    raygunRetrier.setInitialBackoff(Duration.ofMillis(1));
+    raygunRetrier.setMaxBackoff(Duration.ofMillis(4));
+  }
+
+  @AfterEach
+  void afterEach() {
+    raygunRetrier.destroy();
+  }
+
+  static CompletableFuture<RaygunTransportResponse> response(int statusCode) {
+    return CompletableFuture.completedFuture(new RaygunTransportResponse(statusCode));
+  }
+
+  static RaygunTransportResponse retryAfter(String value) {
+    return new RaygunTransportResponse(
+        429, HttpHeaders.of(Map.of("Retry-After", List.of(value)), (name, header) -> true));
+  }
+
+  @Nested
+  class Send {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunRetrier.afterPropertiesSet();
+    }
+
+    @Test
+    void successfulResponseShouldNotBeRetried() {
+      when(raygunTransport.send("apiKey", "payload")).thenReturn(response(202));
+
+      raygunRetrier.send(raygunTransport, "apiKey", "payload").join();
+
+      verify(raygunTransport, times(1)).send("apiKey", "payload");
+    }
+
+    @Test
+    void rejectedResponseShouldNotBeRetried() {
+      when(raygunTransport.send("apiKey", "payload")).thenReturn(response(400));
+
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload").join().getStatusCode())
+          .isEqualTo(400);
+    }
+
+    @Test
+    void retryableResponseShouldBeRetried() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(response(503))
+          .thenReturn(response(429))
+          .thenReturn(response(202));
+
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload").join().getStatusCode())
+          .isEqualTo(202);
+    }
+
+    @Test
+    void failureShouldBeRetried() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(CompletableFuture.failedFuture(new ConnectException()))
+          .thenReturn(response(202));
+
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload").join().getStatusCode())
+          .isEqualTo(202);
+    }
+
+    @Test
+    void thrownExceptionShouldBeRetried() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenThrow(new IllegalStateException())
+          .thenReturn(response(202));
+
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload").join().getStatusCode())
+          .isEqualTo(202);
+    }
+
+    @Test
+    void retriesShouldBeCounted() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(response(503))
+          .thenReturn(response(503))
+          .thenReturn(response(202));
+
+      raygunRetrier.send(raygunTransport, "apiKey", "payload").join();
+
+      assertThat(raygunRetrier.getRetriedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void maxAttemptsReachedShouldCompleteWithLastResponse() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(response(503))
+          .thenReturn(response(503))
+          .thenReturn(response(502));
+
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload").join().getStatusCode())
+          .isEqualTo(502);
+    }
+
+    @Test
+    void maxAttemptsReachedShouldCompleteWithLastFailure() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(CompletableFuture.failedFuture(new ConnectException()));
+
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload"))
+          .failsWithin(Duration.ofSeconds(1))
+          .withThrowableOfType(ExecutionException.class)
+          .withRootCauseExactlyInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    void retriedResponseShouldContainAttempts() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(response(503))
+          .thenReturn(response(429))
+          .thenReturn(response(202));
+
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload").join().getAttempts())
+          .isEqualTo(3);
+    }
+
+    @Test
+    void maxAttemptsReachedFailureShouldContainAttempts() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(CompletableFuture.failedFuture(new ConnectException()));
+
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload"))
+          .failsWithin(Duration.ofSeconds(1))
+          .withThrowableOfType(ExecutionException.class)
+          .havingCause()
+          .isInstanceOf(RaygunTransportException.class)
+          .extracting("attempts")
+          .isEqualTo(3);
+    }
+
+    @Test
+    void destroyedShouldCompleteWithLastResponse() {
+      when(raygunTransport.send("apiKey", "payload")).thenReturn(response(503));
+      raygunRetrier.destroy();
+
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload").join().getStatusCode())
+          .isEqualTo(503);
+    }
+  }
+
+  @Nested
+  class WhenCircuitOpen {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunRetrier.setMaxAttempts(1);
+      raygunRetrier.setFailureThreshold(1);
+      raygunRetrier.afterPropertiesSet();
+      when(raygunTransport.send("apiKey", "payload")).thenReturn(response(503));
+      raygunRetrier.send(raygunTransport, "apiKey", "payload").join();
+    }
+
+    @Test
+    void sendShouldFail() {
+      assertThat(raygunRetrier.send(raygunTransport, "apiKey", "payload"))
+          .failsWithin(Duration.ZERO)
+          .withThrowableOfType(ExecutionException.class)
+          .withCauseExactlyInstanceOf(IOException.class)
+          .withMessageContaining("Raygun circuit breaker is open");
+    }
+
+    @Test
+    void sendShouldNotReachTransport() {
+      raygunRetrier.send(raygunTransport, "apiKey", "payload");
+
+      verify(raygunTransport, times(1)).send("apiKey", "payload");
+    }
+
+    @Test
+    void shortCircuitedShouldBeCounted() {
+      raygunRetrier.send(raygunTransport, "apiKey", "payload");
+
+      assertThat(raygunRetrier.getShortCircuitedCount()).isOne();
+    }
+
+    @Test
+    void openedDuringRetriesShouldStopRetrying() {
+      raygunRetrier.getCircuitBreaker().onSuccess();
+      raygunRetrier.setMaxAttempts(3);
+
+      raygunRetrier.send(raygunTransport, "apiKey", "payload").join();
+
+      verify(raygunTransport, times(2)).send("apiKey", "payload");
+    }
+  }
+
+  @Nested
+  class WhenCircuitOpensDuringBackoff {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunRetrier.setFailureThreshold(2);
+      raygunRetrier.setInitialBackoff(Duration.ofMillis(500));
+      raygunRetrier.setMaxBackoff(Duration.ofMillis(500));
+      raygunRetrier.afterPropertiesSet();
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(response(503))
+          .thenReturn(response(202));
+    }
+
+    CompletableFuture<RaygunTransportResponse> sendAndOpen() {
+      CompletableFuture<RaygunTransportResponse> result =
+          raygunRetrier.send(raygunTransport, "apiKey", "payload");
+      raygunRetrier.getCircuitBreaker().onFailure();
+      return result;
+    }
+
+    @Test
+    void retryShouldFail() {
+      assertThat(sendAndOpen())
+          .failsWithin(Duration.ofSeconds(5))
+          .withThrowableOfType(ExecutionException.class)
+          .withRootCauseExactlyInstanceOf(IOException.class);
+    }
+
+    @Test
+    void retryShouldNotReachTransport() {
+      sendAndOpen().exceptionally(ex -> null).join();
+
+      verify(raygunTransport, times(1)).send("apiKey", "payload");
+    }
+
+    @Test
+    void retryShouldBeCountedAsShortCircuited() {
+      sendAndOpen().exceptionally(ex -> null).join();
+
+      assertThat(raygunRetrier.getShortCircuitedCount()).isOne();
+    }
+  }
+
+  @Nested
+  class DelayMillis {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunRetrier.setInitialBackoff(Duration.ofMillis(100));
+      raygunRetrier.setMaxBackoff(Duration.ofMillis(300));
+      raygunRetrier.setMaxRetryAfter(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void firstRetryShouldBeJitteredInitialBackoff() {
+      long delayMillis = raygunRetrier.delayMillis(1, null);
+
+      assertThat(delayMillis).isGreaterThanOrEqualTo(50L).isLessThanOrEqualTo(100L);
+    }
+
+    @Test
+    void secondRetryShouldBeJitteredDoubledBackoff() {
+      long delayMillis = raygunRetrier.delayMillis(2, new RaygunTransportResponse(503));
+
+      assertThat(delayMillis).isGreaterThanOrEqualTo(100L).isLessThanOrEqualTo(200L);
+    }
+
+    @Test
+    void lateRetryShouldBeJitteredMaxBackoff() {
+      long delayMillis = raygunRetrier.delayMillis(40, new RaygunTransportResponse(503));
+
+      assertThat(delayMillis).isGreaterThanOrEqualTo(150L).isLessThanOrEqualTo(300L);
+    }
+
+    @Test
+    void retryAfterSecondsShouldBeHonored() {
+      long delayMillis = raygunRetrier.delayMillis(1, retryAfter("3"));
+
+      assertThat(delayMillis).isEqualTo(3000);
+    }
+
+    @Test
+    void retryAfterBeyondMaxShouldBeCapped() {
+      long delayMillis = raygunRetrier.delayMillis(1, retryAfter("120"));
+
+      assertThat(delayMillis).isEqualTo(10000);
+    }
+
+    @Test
+    void retryAfterDateShouldBeHonored() {
+      String date = ZonedDateTime.now().plusSeconds(5).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+      long delayMillis = raygunRetrier.delayMillis(1, retryAfter(date));
+
+      assertThat(delayMillis).isGreaterThanOrEqualTo(3000L).isLessThanOrEqualTo(5000L);
+    }
+
+    @Test
+    void retryAfterPastDateShouldBeZero() {
+      String date =
+          ZonedDateTime.now().minusSeconds(5).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+      long delayMillis = raygunRetrier.delayMillis(1, retryAfter(date));
+
+      assertThat(delayMillis).isZero();
+    }
+
+    @Test
+    void retryAfterInvalidShouldBeIgnored() {
+      long delayMillis = raygunRetrier.delayMillis(1, retryAfter("soon"));
+
+      assertThat(delayMillis).isGreaterThanOrEqualTo(50L).isLessThanOrEqualTo(100L);
+    }
+  }
+
+  @Nested
+  class AfterPropertiesSet {
+
+    @Test
+    void maxAttemptsNotPositiveShouldThrowIllegalArgumentException() {
+      raygunRetrier.setMaxAttempts(0);
+
+      assertThatCode(raygunRetrier::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The maximum attempts must be greater than 0");
+    }
+
+    @Test
+    void initialBackoffNegativeShouldThrowIllegalArgumentException() {
+      raygunRetrier.setInitialBackoff(Duration.ofMillis(-1));
+
+      assertThatCode(raygunRetrier::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The initial backoff must not be negative");
+    }
+
+    @Test
+    void maxBackoffLessThanInitialBackoffShouldThrowIllegalArgumentException() {
+      raygunRetrier.setMaxBackoff(Duration.ZERO);
+
+      assertThatCode(raygunRetrier::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The maximum backoff must not be less than the initial backoff");
+    }
+
+    @Test
+    void maxRetryAfterNegativeShouldThrowIllegalArgumentException() {
+      raygunRetrier.setMaxRetryAfter(Duration.ofMillis(-1));
+
+      assertThatCode(raygunRetrier::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The maximum retry after must not be negative");
+    }
+
+    @Test
+    void failureThresholdNotPositiveShouldThrowIllegalArgumentException() {
+      raygunRetrier.setFailureThreshold(0);
+
+      assertThatCode(raygunRetrier::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The failure threshold must be greater than 0");
+    }
+
+    @Test
+    void openDurationZeroShouldThrowIllegalArgumentException() {
+      raygunRetrier.setOpenDuration(Duration.ZERO);
+
+      assertThatCode(raygunRetrier::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The open duration must be positive");
+    }
+  }
+}
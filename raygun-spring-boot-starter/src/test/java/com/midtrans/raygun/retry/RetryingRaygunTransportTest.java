@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Test for {@link RetryingRaygunTransport}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RetryingRaygunTransportTest {
+
+  @Test
+  void sendShouldGoThroughRetrier() {
+    RaygunTransport raygunTransport = mock(RaygunTransport.class);
+    RaygunRetrier raygunRetrier = mock(RaygunRetrier.class);
+    CompletableFuture<RaygunTransportResponse> response = new CompletableFuture<>();
+    when(raygunRetrier.send(raygunTransport, "apiKey", "payload")).thenReturn(response);
+
+    assertThat(
+            new RetryingRaygunTransport(raygunTransport, raygunRetrier).send("apiKey", "payload"))
+        .isSameAs(response);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.sampling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link RaygunDecayingCounts}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunDecayingCountsTest {
+  static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+  static final double DECAY_PER_NANO = Math.log(2) / SECOND;
+
+  RaygunDecayingCounts raygunDecayingCounts;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunDecayingCounts = new RaygunDecayingCounts(16, 4);
+  }
+
+  List<String> activeLabels(long now) {
+    List<String> labels = new ArrayList<>();
+    raygunDecayingCounts.forEachActive(
+        now, DECAY_PER_NANO, (fingerprint, label, count) -> labels.add(label));
+    return labels;
+  }
+
+  @Nested
+  class Increment {
+
+    @Test
+    void newFingerprintShouldTakeSlot() {
+      assertThat(raygunDecayingCounts.increment(1, "poppinparty", 0, DECAY_PER_NANO)).isZero();
+    }
+
+    @Test
+    void countShouldDecay() {
+      raygunDecayingCounts.increment(1, "poppinparty", 0, DECAY_PER_NANO);
+
+      assertThat(raygunDecayingCounts.increment(1, "poppinparty", SECOND, DECAY_PER_NANO))
+          .isGreaterThan(0.49)
+          .isLessThan(0.51);
+    }
+
+    @Test
+    void activeFingerprintShouldShareSlot() {
+      raygunDecayingCounts.increment(1, "poppinparty", 0, DECAY_PER_NANO);
+
+      assertThat(raygunDecayingCounts.increment(17, "roselia", 0, DECAY_PER_NANO)).isOne();
+    }
+
+    @Test
+    void inactiveFingerprintShouldGiveSlot() {
+      raygunDecayingCounts.increment(1, "poppinparty", 0, DECAY_PER_NANO);
+      raygunDecayingCounts.increment(17, "roselia", 2 * SECOND, DECAY_PER_NANO);
+
+      assertThat(activeLabels(2 * SECOND)).isEqualTo(List.of("roselia"));
+    }
+  }
+
+  @Nested
+  class ForEachActive {
+
+    @Test
+    void inactiveFingerprintShouldBeSkipped() {
+      raygunDecayingCounts.increment(1, "poppinparty", 0, DECAY_PER_NANO);
+
+      assertThat(activeLabels(2 * SECOND)).isEmpty();
+    }
+
+    @Test
+    void activeFingerprintShouldBeConsumed() {
+      raygunDecayingCounts.increment(1, "poppinparty", 0, DECAY_PER_NANO);
+
+      assertThat(activeLabels(0)).isEqualTo(List.of("poppinparty"));
+    }
+  }
+
+  @Nested
+  class Constructor {
+
+    @Test
+    void slotsNotPowerOfTwoShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> new RaygunDecayingCounts(10, 2))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The slots must be a power of two");
+    }
+
+    @Test
+    void stripesBeyondSlotsShouldThrowIllegalArgumentException() {
+      assertThatCode(() -> new RaygunDecayingCounts(4, 8))
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The stripes must be a power of two not greater than the slots");
+    }
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.sampling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link RaygunSampler}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunSamplerTest {
+  static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  RaygunSampler raygunSampler;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunSampler = new RaygunSampler();
+    raygunSampler.setTargetRate(10);
+    raygunSampler.setHalfLife(Duration.ofSeconds(1));
+  }
+
+  static IllegalStateException hot() {
+    return new IllegalStateException("Order failed");
+  }
+
+  static final List<String> BANDS =
+      List.of(
+          "poppinparty",
+          "afterglow",
+          "pastelpalettes",
+          "roselia",
+          "hellohappyworld",
+          "morfonica",
+          "raiseasuilen",
+          "mygo",
+          "avemujica",
+          "glitterxgreen");
+
+  /**
+   * Sends every band 50 times per second for 20 seconds and returns the expected number of reports
+   * per second over the last 10 seconds.
+   */
+  double expectedRateOfBands() {
+    double sampleRates = 0;
+    long step = SECOND / 50 / BANDS.size();
+    for (long now = step; now <= 20 * SECOND; now += step) {
+      String band = BANDS.get((int) (now / step % BANDS.size()));
+      double sampleRate = raygunSampler.sample(new IllegalStateException(band), now, 0);
+      if (now > 10 * SECOND) {
+        sampleRates += sampleRate;
+      }
+    }
+    return sampleRates / 10;
+  }
+
+  double storm(int times, double random) {
+    double sampleRate = 0;
+    for (int index = 0; index < times; index++) {
+      sampleRate = raygunSampler.sample(hot(), SECOND, random);
+    }
+    return sampleRate;
+  }
+
+  @Nested
+  class Sample {
+
+    @BeforeEach
+    void beforeEach() {
+      raygunSampler.afterPropertiesSet();
+    }
+
+    @Test
+    void newFingerprintShouldBeSent() {
+      assertThat(raygunSampler.sample(hot())).isEqualTo(1.0);
+    }
+
+    @Test
+    void highFrequencyFingerprintShouldBeSampledOut() {
+      assertThat(storm(100, 0.99)).isZero();
+    }
+
+    @Test
+    void sampledOutShouldBeCounted() {
+      storm(100, 0.99);
+
+      assertThat(raygunSampler.getSampledOutCount()).isPositive();
+    }
+
+    @Test
+    void highFrequencyFingerprintShouldBeSentAtTargetRate() {
+      double sampleRate = storm(100, 0);
+
+      assertThat(sampleRate).isGreaterThan(0.14).isLessThan(0.15);
+    }
+
+    @Test
+    void rareFingerprintShouldBeSent() {
+      storm(100, 0.99);
+      raygunSampler.sample(new IllegalArgumentException(), SECOND, 0.99);
+
+      assertThat(raygunSampler.sample(new IllegalArgumentException(), SECOND, 0.99)).isEqualTo(1.0);
+    }
+
+    @Test
+    void highFrequencyFingerprintShouldBeSentAtTargetRateAfterLongUptime() {
+      double sampleRate = 0;
+      for (int index = 0; index < 100; index++) {
+        sampleRate = raygunSampler.sample(hot(), 1000 * SECOND, 0);
+      }
+
+      assertThat(sampleRate).isGreaterThan(0.14).isLessThan(0.15);
+    }
+
+    @Test
+    void highFrequencyFingerprintsShouldBeSentAtTargetRateTogether() {
+      assertThat(expectedRateOfBands()).isGreaterThan(9.5).isLessThan(10.5);
+    }
+
+    @Test
+    void ratesShouldDecay() {
+      storm(100, 0.99);
+
+      assertThat(raygunSampler.sample(hot(), 30 * SECOND, 0.99)).isEqualTo(1.0);
+    }
+  }
+
+  @Nested
+  class WithSampleRate {
+
+    @Test
+    void shouldAddSampleRate() {
+      assertThat(RaygunSampler.withSampleRate(Map.of("band", "1"), 0.25))
+          .isEqualTo(Map.of("band", "1", RaygunSampler.SAMPLE_RATE, "0.25"));
+    }
+  }
+
+  @Nested
+  class AfterPropertiesSet {
+
+    @Test
+    void targetRateNotPositiveShouldThrowIllegalArgumentException() {
+      raygunSampler.setTargetRate(0);
+
+      assertThatCode(raygunSampler::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The target rate must be greater than 0");
+    }
+
+    @Test
+    void halfLifeZeroShouldThrowIllegalArgumentException() {
+      raygunSampler.setHalfLife(Duration.ZERO);
+
+      assertThatCode(raygunSampler::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The half-life must be positive");
+    }
+
+    @Test
+    void changedTargetRateShouldBeApplied() {
+      raygunSampler.afterPropertiesSet();
+      raygunSampler.setTargetRate(20);
+      raygunSampler.afterPropertiesSet();
+
+      assertThat(storm(100, 0)).isGreaterThan(0.28).isLessThan(0.3);
+    }
+  }
+}
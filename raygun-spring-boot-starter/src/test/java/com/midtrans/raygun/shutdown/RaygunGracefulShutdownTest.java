@@ -0,0 +1,256 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.shutdown;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.midtrans.raygun.dispatch.RaygunDispatcher;
+import com.midtrans.raygun.dispatch.RaygunDroppableTask;
+import com.midtrans.raygun.spool.RaygunSpool;
+import com.midtrans.raygun.spool.SpoolingRaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link RaygunGracefulShutdown}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunGracefulShutdownTest {
+  @TempDir Path directory;
+  RaygunDispatcher raygunDispatcher;
+  RaygunSpool raygunSpool;
+  SpoolingRaygunTransport spoolingRaygunTransport;
+  CountDownLatch senderBlocked;
+  CountDownLatch senderReleased;
+  List<String> sent;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    raygunDispatcher = new RaygunDispatcher();
+    raygunDispatcher.setQueueCapacity(4);
+    raygunDispatcher.setCoreSize(2);
+    raygunDispatcher.afterPropertiesSet();
+    raygunSpool = new RaygunSpool();
+    raygunSpool.setDirectory(directory);
+    raygunSpool.setSegmentSize(DataSize.ofKilobytes(1));
+    raygunSpool.setMaxSize(DataSize.ofKilobytes(4));
+    raygunSpool.afterPropertiesSet();
+    spoolingRaygunTransport =
+        new SpoolingRaygunTransport(
+            (apiKey, payload) ->
+                CompletableFuture.completedFuture(new RaygunTransportResponse(202)),
+            raygunSpool,
+            1);
+    senderBlocked = new CountDownLatch(2);
+    senderReleased = new CountDownLatch(1);
+    sent = new CopyOnWriteArrayList<>();
+  }
+
+  @AfterEach
+  void afterEach() {
+    senderReleased.countDown();
+    raygunDispatcher.destroy();
+    raygunSpool.destroy();
+  }
+
+  RaygunGracefulShutdown raygunGracefulShutdown(
+      SpoolingRaygunTransport spoolingRaygunTransport, Duration timeout) {
+    RaygunGracefulShutdown raygunGracefulShutdown =
+        new RaygunGracefulShutdown(raygunDispatcher, spoolingRaygunTransport);
+    raygunGracefulShutdown.setTimeout(timeout);
+    raygunGracefulShutdown.afterPropertiesSet();
+    raygunGracefulShutdown.start();
+    return raygunGracefulShutdown;
+  }
+
+  /** Occupies both sender threads and queues two messages behind them. */
+  void block() throws InterruptedException {
+    for (int index = 0; index < 2; index++) {
+      raygunDispatcher.dispatch(
+          () -> {
+            senderBlocked.countDown();
+            await(senderReleased);
+          });
+    }
+    senderBlocked.await(5, TimeUnit.SECONDS);
+    for (int index = 0; index < 2; index++) {
+      raygunDispatcher.dispatch(spooling("queued"));
+    }
+  }
+
+  RaygunDroppableTask spooling(String payload) {
+    return new RaygunDroppableTask() {
+      @Override
+      public void run() {
+        spoolingRaygunTransport.send("apiKey", payload);
+        sent.add(payload);
+      }
+
+      @Override
+      public void onDropped() {
+        sent.add("dropped " + payload);
+      }
+    };
+  }
+
+  static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Nested
+  class Stop {
+
+    @Test
+    void queuedShouldBeSent() throws InterruptedException {
+      block();
+      senderReleased.countDown();
+
+      raygunGracefulShutdown(spoolingRaygunTransport, Duration.ofSeconds(5)).stop();
+
+      assertThat(sent).isEqualTo(List.of("queued", "queued"));
+    }
+
+    @Test
+    void sentShouldBeCounted() throws InterruptedException {
+      block();
+      Thread releasingThread =
+          new Thread(
+              () -> {
+                while (raygunDispatcher.isRunning()) {
+                  Thread.onSpinWait();
+                }
+                senderReleased.countDown();
+              });
+      releasingThread.start();
+      RaygunGracefulShutdown raygunGracefulShutdown =
+          raygunGracefulShutdown(spoolingRaygunTransport, Duration.ofSeconds(5));
+
+      raygunGracefulShutdown.stop();
+      releasingThread.join();
+
+      assertThat(raygunGracefulShutdown.getSentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void timeoutShouldSpoolRemaining() throws InterruptedException {
+      block();
+
+      raygunGracefulShutdown(spoolingRaygunTransport, Duration.ofMillis(50)).stop();
+
+      assertThat(raygunSpool.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void spooledShouldBeCounted() throws InterruptedException {
+      block();
+      RaygunGracefulShutdown raygunGracefulShutdown =
+          raygunGracefulShutdown(spoolingRaygunTransport, Duration.ofMillis(50));
+
+      raygunGracefulShutdown.stop();
+
+      assertThat(raygunGracefulShutdown.getSpooledCount()).isEqualTo(2);
+    }
+
+    @Test
+    void timeoutWithoutSpoolShouldDropRemaining() throws InterruptedException {
+      block();
+
+      raygunGracefulShutdown(null, Duration.ofMillis(50)).stop();
+
+      assertThat(sent).isEqualTo(List.of("dropped queued", "dropped queued"));
+    }
+
+    @Test
+    void droppedShouldBeCounted() throws InterruptedException {
+      block();
+      RaygunGracefulShutdown raygunGracefulShutdown =
+          raygunGracefulShutdown(null, Duration.ofMillis(50));
+
+      raygunGracefulShutdown.stop();
+
+      assertThat(raygunGracefulShutdown.getDroppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dispatcherShouldNotAcceptMessages() {
+      raygunGracefulShutdown(spoolingRaygunTransport, Duration.ofSeconds(5)).stop();
+
+      assertThat(raygunDispatcher.dispatch(spooling("late"))).isFalse();
+    }
+
+    @Test
+    void shouldNotBeRunning() {
+      RaygunGracefulShutdown raygunGracefulShutdown =
+          raygunGracefulShutdown(spoolingRaygunTransport, Duration.ofSeconds(5));
+
+      raygunGracefulShutdown.stop();
+
+      assertThat(raygunGracefulShutdown.isRunning()).isFalse();
+    }
+  }
+
+  @Nested
+  class Start {
+
+    @Test
+    void shouldBeRunning() {
+      assertThat(raygunGracefulShutdown(null, Duration.ofSeconds(5)).isRunning()).isTrue();
+    }
+
+    @Test
+    void phaseShouldBeAfterDefaultPhase() {
+      assertThat(raygunGracefulShutdown(null, Duration.ofSeconds(5)).getPhase())
+          .isLessThan(RaygunGracefulShutdown.DEFAULT_PHASE);
+    }
+  }
+
+  @Nested
+  class AfterPropertiesSet {
+
+    @Test
+    void timeoutNegativeShouldThrowIllegalArgumentException() {
+      RaygunGracefulShutdown raygunGracefulShutdown =
+          new RaygunGracefulShutdown(raygunDispatcher, null);
+      raygunGracefulShutdown.setTimeout(Duration.ofSeconds(-1));
+
+      assertThatCode(raygunGracefulShutdown::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The timeout must not be null or negative");
+    }
+  }
+}
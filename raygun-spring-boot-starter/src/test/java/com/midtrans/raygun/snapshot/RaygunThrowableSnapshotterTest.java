@@ -0,0 +1,288 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mindscapehq.raygun4java.core.RaygunClient;
+import com.mindscapehq.raygun4java.core.messages.RaygunErrorMessage;
+import com.mindscapehq.raygun4java.core.messages.RaygunMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test for {@link RaygunThrowableSnapshotter}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunThrowableSnapshotterTest {
+  RaygunThrowableSnapshotter raygunThrowableSnapshotter;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunThrowableSnapshotter = new RaygunThrowableSnapshotter();
+  }
+
+  static IllegalStateException poppinParty() {
+    return new IllegalStateException("poppin party", new IllegalArgumentException("roselia"));
+  }
+
+  static class AfterglowException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public String getMessage() {
+      throw new UnsupportedOperationException("afterglow");
+    }
+  }
+
+  @Nested
+  class Capture {
+
+    @Test
+    void classNameShouldBeCanonical() {
+      assertThat(raygunThrowableSnapshotter.capture(poppinParty()).getClassName())
+          .isEqualTo("java.lang.IllegalStateException");
+    }
+
+    @Test
+    void messageShouldContainSimpleClassName() {
+      assertThat(raygunThrowableSnapshotter.capture(poppinParty()).getMessage())
+          .isEqualTo("IllegalStateException: poppin party");
+    }
+
+    @Test
+    void nullMessageShouldBeSimpleClassName() {
+      assertThat(raygunThrowableSnapshotter.capture(new IllegalStateException()).getMessage())
+          .isEqualTo("IllegalStateException");
+    }
+
+    @Test
+    void throwingMessageShouldBeSimpleClassName() {
+      assertThat(raygunThrowableSnapshotter.capture(new AfterglowException()).getMessage())
+          .isEqualTo("AfterglowException");
+    }
+
+    @Test
+    void stackTraceShouldBeCopied() {
+      IllegalStateException exception = poppinParty();
+
+      assertThat(raygunThrowableSnapshotter.capture(exception).getStackTrace())
+          .isEqualTo(List.of(exception.getStackTrace()));
+    }
+
+    @Test
+    void causeShouldBeCaptured() {
+      assertThat(raygunThrowableSnapshotter.capture(poppinParty()).getCause().getMessage())
+          .isEqualTo("IllegalArgumentException: roselia");
+    }
+
+    @Test
+    void cyclicCauseShouldBeCapturedOnce() {
+      IllegalStateException exception = new IllegalStateException("poppin party");
+      IllegalArgumentException cause = new IllegalArgumentException("roselia", exception);
+      exception.initCause(cause);
+
+      assertThat(raygunThrowableSnapshotter.capture(exception).getCause().getCause()).isNull();
+    }
+
+    @Test
+    void deepCauseShouldBeTruncated() {
+      Throwable exception = new IllegalStateException();
+      for (int index = 0; index < 100; index++) {
+        exception = new IllegalStateException(exception);
+      }
+
+      RaygunThrowableSnapshot snapshot = raygunThrowableSnapshotter.capture(exception);
+      int depth = 0;
+      for (; snapshot != null; snapshot = snapshot.getCause()) {
+        depth++;
+      }
+
+      assertThat(depth).isEqualTo(32);
+    }
+  }
+
+  @Nested
+  class Intern {
+
+    @Test
+    void framesShouldBeShared() {
+      IllegalStateException exception = poppinParty();
+      RaygunThrowableSnapshot snapshot = raygunThrowableSnapshotter.capture(exception);
+
+      assertThat(raygunThrowableSnapshotter.capture(exception).getStackTrace().get(0))
+          .isSameAs(snapshot.getStackTrace().get(0));
+    }
+
+    @Test
+    void framesShouldBeCounted() {
+      raygunThrowableSnapshotter.capture(poppinParty());
+
+      assertThat(raygunThrowableSnapshotter.getInternedFrameCount()).isPositive();
+    }
+
+    @Test
+    void framesBeyondMaximumShouldNotBeInterned() {
+      raygunThrowableSnapshotter.setMaxInternedFrames(1);
+      raygunThrowableSnapshotter.capture(poppinParty());
+
+      assertThat(raygunThrowableSnapshotter.getInternedFrameCount()).isOne();
+    }
+
+    @Test
+    void internedSnapshotShouldBeSmaller() {
+      IllegalStateException exception = poppinParty();
+      RaygunThrowableSnapshotter notInterning = new RaygunThrowableSnapshotter();
+      notInterning.setMaxInternedFrames(0);
+
+      assertThat(raygunThrowableSnapshotter.capture(exception).getSize())
+          .isLessThan(notInterning.capture(exception).getSize());
+    }
+
+    @Test
+    void negativeMaximumShouldNotBeAllowed() {
+      assertThatThrownBy(() -> raygunThrowableSnapshotter.setMaxInternedFrames(-1))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class Budget {
+
+    @Test
+    void capturedShouldBeReserved() {
+      RaygunThrowableSnapshot snapshot = raygunThrowableSnapshotter.capture(poppinParty());
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isEqualTo(snapshot.getSize());
+    }
+
+    @Test
+    void releasedShouldBeFreed() {
+      raygunThrowableSnapshotter.release(raygunThrowableSnapshotter.capture(poppinParty()));
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+    }
+
+    @Test
+    void capturedUnreservedShouldNotBeReserved() {
+      raygunThrowableSnapshotter.captureUnreserved(poppinParty());
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+    }
+
+    @Test
+    void reservedShouldBeReserved() {
+      RaygunThrowableSnapshot snapshot =
+          raygunThrowableSnapshotter.captureUnreserved(poppinParty());
+      raygunThrowableSnapshotter.reserve(snapshot);
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isEqualTo(snapshot.getSize());
+    }
+
+    @Test
+    void exceedingReserveShouldBeRejected() {
+      raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(1));
+
+      assertThat(
+              raygunThrowableSnapshotter.reserve(
+                  raygunThrowableSnapshotter.captureUnreserved(poppinParty())))
+          .isFalse();
+    }
+
+    @Test
+    void exceedingShouldBeRejected() {
+      raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(1));
+
+      assertThat(raygunThrowableSnapshotter.capture(poppinParty())).isNull();
+    }
+
+    @Test
+    void fullShouldBeRejected() {
+      IllegalStateException exception = poppinParty();
+      raygunThrowableSnapshotter.setMaxQueuedSize(
+          DataSize.ofBytes(new RaygunThrowableSnapshotter().capture(exception).getSize()));
+      raygunThrowableSnapshotter.capture(exception);
+
+      assertThat(raygunThrowableSnapshotter.capture(exception)).isNull();
+    }
+
+    @Test
+    void rejectedShouldBeCounted() {
+      raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(1));
+      raygunThrowableSnapshotter.capture(poppinParty());
+
+      assertThat(raygunThrowableSnapshotter.getRejectedCount()).isOne();
+    }
+
+    @Test
+    void rejectedShouldNotBeReserved() {
+      raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(1));
+      raygunThrowableSnapshotter.capture(poppinParty());
+
+      assertThat(raygunThrowableSnapshotter.getQueuedSize()).isZero();
+    }
+
+    @Test
+    void zeroMaximumShouldNotBeAllowed() {
+      assertThatThrownBy(() -> raygunThrowableSnapshotter.setMaxQueuedSize(DataSize.ofBytes(0)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class ToRaygunMessage {
+
+    @Test
+    void errorShouldMatchThrowable() {
+      IllegalStateException exception = poppinParty();
+
+      assertThat(raygunThrowableSnapshotter.capture(exception).toRaygunErrorMessage())
+          .usingRecursiveComparison()
+          .ignoringFieldsMatchingRegexes(".*throwable")
+          .isEqualTo(new RaygunErrorMessage(exception));
+    }
+
+    @Test
+    void messageShouldContainError() {
+      RaygunMessage raygunMessage =
+          raygunThrowableSnapshotter
+              .capture(poppinParty())
+              .toRaygunMessage(new RaygunClient("apiKey"), Set.of("poppinparty"), Map.of());
+
+      assertThat(raygunMessage.getDetails().getError().getClassName())
+          .isEqualTo("java.lang.IllegalStateException");
+    }
+
+    @Test
+    void messageShouldContainTags() {
+      RaygunMessage raygunMessage =
+          raygunThrowableSnapshotter
+              .capture(poppinParty())
+              .toRaygunMessage(new RaygunClient("apiKey"), Set.of("poppinparty"), Map.of());
+
+      assertThat(raygunMessage.getDetails().getTags()).contains("poppinparty");
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.spool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test for {@link RaygunSpoolReplayer}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunSpoolReplayerTest {
+  @TempDir Path directory;
+  RaygunSpool raygunSpool;
+  Deque<CompletableFuture<RaygunTransportResponse>> responses;
+  List<String> sent;
+  RaygunSpoolReplayer raygunSpoolReplayer;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    raygunSpool = new RaygunSpool();
+    raygunSpool.setDirectory(directory);
+    raygunSpool.setSegmentSize(DataSize.ofKilobytes(1));
+    raygunSpool.afterPropertiesSet();
+    for (int index = 0; index < 5; index++) {
+      raygunSpool.append("{\"poppin\":" + index + "}");
+    }
+
+    responses = new ArrayDeque<>();
+    sent = new CopyOnWriteArrayList<>();
+    raygunSpoolReplayer =
+        new RaygunSpoolReplayer(
+            raygunSpool,
+            (apiKey, payload) -> {
+              sent.add(payload);
+              CompletableFuture<RaygunTransportResponse> response = responses.poll();
+              return response == null
+                  ? CompletableFuture.completedFuture(new RaygunTransportResponse(202))
+                  : response;
+            },
+            "apiKey");
+    raygunSpoolReplayer.setReplayRate(3);
+    raygunSpoolReplayer.setReplayInterval(Duration.ofSeconds(1));
+  }
+
+  @AfterEach
+  void afterEach() {
+    raygunSpoolReplayer.destroy();
+    raygunSpool.destroy();
+  }
+
+  @Nested
+  class Replay {
+
+    @Test
+    void shouldBeLimitedByReplayRate() {
+      assertThat(raygunSpoolReplayer.replay()).isEqualTo(3);
+    }
+
+    @Test
+    void sentMessagesShouldBeRemoved() {
+      raygunSpoolReplayer.replay();
+
+      assertThat(raygunSpool.getPendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void sentMessagesShouldBeCounted() {
+      raygunSpoolReplayer.replay();
+
+      assertThat(raygunSpoolReplayer.getReplayedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void failureShouldStopReplaying() {
+      responses.add(CompletableFuture.failedFuture(new ConnectException()));
+
+      raygunSpoolReplayer.replay();
+
+      assertThat(raygunSpool.getPendingCount()).isEqualTo(5);
+    }
+
+    @Test
+    void retryableResponseShouldStopReplaying() {
+      responses.add(CompletableFuture.completedFuture(new RaygunTransportResponse(503)));
+
+      raygunSpoolReplayer.replay();
+
+      assertThat(raygunSpool.getPendingCount()).isEqualTo(5);
+    }
+
+    @Test
+    void rejectedMessageShouldBeDiscarded() {
+      responses.add(CompletableFuture.completedFuture(new RaygunTransportResponse(400)));
+
+      raygunSpoolReplayer.replay();
+
+      assertThat(raygunSpoolReplayer.getDiscardedCount()).isOne();
+    }
+
+    @Test
+    void timeoutShouldStopReplaying() {
+      raygunSpoolReplayer.setRequestTimeout(Duration.ofMillis(10));
+      responses.add(new CompletableFuture<>());
+
+      raygunSpoolReplayer.replay();
+
+      assertThat(raygunSpool.getPendingCount()).isEqualTo(5);
+    }
+
+    @Test
+    void interruptedShouldStopReplaying() {
+      responses.add(new CompletableFuture<>());
+      Thread.currentThread().interrupt();
+
+      raygunSpoolReplayer.replay();
+      Thread.interrupted();
+
+      assertThat(raygunSpool.getPendingCount()).isEqualTo(5);
+    }
+
+    @Test
+    void rotatedDuringReplayShouldKeepNextMessage() throws IOException {
+      RaygunSpool raygunSpool = new RaygunSpool();
+      raygunSpool.setDirectory(directory.resolve("rotated"));
+      raygunSpool.setSegmentSize(DataSize.ofBytes(64));
+      raygunSpool.setMaxSize(DataSize.ofBytes(128));
+      raygunSpool.afterPropertiesSet();
+      raygunSpool.append("0" + "x".repeat(40));
+      RaygunSpoolReplayer raygunSpoolReplayer =
+          new RaygunSpoolReplayer(
+              raygunSpool,
+              (apiKey, payload) -> {
+                raygunSpool.append("1" + "x".repeat(40));
+                raygunSpool.append("2" + "x".repeat(40));
+                return CompletableFuture.completedFuture(new RaygunTransportResponse(202));
+              },
+              "apiKey");
+      raygunSpoolReplayer.setReplayRate(1);
+
+      try {
+        raygunSpoolReplayer.replay();
+
+        assertThat(raygunSpool.peek().getPayload()).startsWith("1");
+      } finally {
+        raygunSpool.destroy();
+      }
+    }
+
+    @Test
+    void shouldReplayInBackground() {
+      raygunSpoolReplayer.setReplayRate(100);
+      raygunSpoolReplayer.setReplayInterval(Duration.ofMillis(10));
+      raygunSpoolReplayer.afterPropertiesSet();
+
+      while (raygunSpool.getPendingCount() > 0) {
+        Thread.onSpinWait();
+      }
+
+      assertThat(sent).hasSize(5);
+    }
+  }
+
+  @Nested
+  class AfterPropertiesSet {
+
+    @Test
+    void replayRateNotPositiveShouldThrowIllegalArgumentException() {
+      raygunSpoolReplayer.setReplayRate(0);
+
+      assertThatCode(raygunSpoolReplayer::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The replay rate must be greater than 0");
+    }
+
+    @Test
+    void replayIntervalZeroShouldThrowIllegalArgumentException() {
+      raygunSpoolReplayer.setReplayInterval(Duration.ZERO);
+
+      assertThatCode(raygunSpoolReplayer::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The replay interval must be positive");
+    }
+  }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.spool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Test for {@link RaygunSpool}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class RaygunSpoolTest {
+  @TempDir Path directory;
+  RaygunSpool raygunSpool;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    raygunSpool = raygunSpool();
+  }
+
+  @AfterEach
+  void afterEach() {
+    raygunSpool.destroy();
+  }
+
+  RaygunSpool raygunSpool() throws IOException {
+    RaygunSpool raygunSpool = new RaygunSpool();
+    raygunSpool.setDirectory(directory);
+    raygunSpool.setSegmentSize(DataSize.ofBytes(64));
+    raygunSpool.setMaxSize(DataSize.ofBytes(192));
+    raygunSpool.afterPropertiesSet();
+    return raygunSpool;
+  }
+
+  List<String> drain(RaygunSpool raygunSpool) {
+    List<String> payloads = new ArrayList<>();
+    for (RaygunSpoolRecord record = raygunSpool.peek();
+        record != null;
+        record = raygunSpool.peek()) {
+      payloads.add(record.getPayload());
+      raygunSpool.remove(record);
+    }
+    return payloads;
+  }
+
+  @Nested
+  class Append {
+
+    @Test
+    void shouldBePeekedInOrder() {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.append("{\"poppin\":2}");
+
+      assertThat(drain(raygunSpool)).isEqualTo(List.of("{\"poppin\":1}", "{\"poppin\":2}"));
+    }
+
+    @Test
+    void peekShouldNotRemove() {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.peek();
+
+      assertThat(raygunSpool.getPendingCount()).isOne();
+    }
+
+    @Test
+    void shouldBeCounted() {
+      raygunSpool.append("{\"poppin\":1}");
+
+      assertThat(raygunSpool.getAppendedCount()).isOne();
+    }
+
+    @Test
+    void largerThanSegmentShouldBeDropped() {
+      raygunSpool.append("x".repeat(64));
+
+      assertThat(raygunSpool.getDroppedCount()).isOne();
+    }
+
+    @Test
+    void fullSegmentShouldBeRotated() {
+      raygunSpool.append("x".repeat(40));
+      raygunSpool.append("x".repeat(40));
+
+      assertThat(raygunSpool.getSegmentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void maxSegmentCountShouldFitMaxSize() {
+      assertThat(raygunSpool.getMaxSegmentCount()).isEqualTo(3);
+    }
+
+    @Test
+    void beyondMaxSizeShouldDropOldestSegment() {
+      for (int index = 0; index < 4; index++) {
+        raygunSpool.append(index + "x".repeat(40));
+      }
+
+      assertThat(raygunSpool.peek().getPayload()).startsWith("1");
+    }
+
+    @Test
+    void manyRotationsShouldKeepNewestMessages() {
+      for (int index = 0; index < 1000; index++) {
+        raygunSpool.append(index + "x".repeat(40));
+      }
+
+      assertThat(raygunSpool.peek().getPayload()).startsWith("997");
+    }
+
+    @Test
+    void beyondMaxSizeShouldDeleteOldestFile() throws IOException {
+      for (int index = 0; index < 4; index++) {
+        raygunSpool.append(index + "x".repeat(40));
+      }
+
+      try (Stream<Path> paths = Files.list(directory)) {
+        assertThat(paths.count()).isEqualTo(3);
+      }
+    }
+
+    @Test
+    void beyondMaxSizeShouldCountDroppedMessages() {
+      for (int index = 0; index < 4; index++) {
+        raygunSpool.append(index + "x".repeat(40));
+      }
+
+      assertThat(raygunSpool.getDroppedCount()).isOne();
+    }
+  }
+
+  @Nested
+  class Remove {
+
+    @Test
+    void emptySpoolShouldBePeekedAsNull() {
+      assertThat(raygunSpool.peek()).isNull();
+    }
+
+    @Test
+    void removedShouldNotBeRemovedAgain() {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.append("{\"poppin\":2}");
+      RaygunSpoolRecord record = raygunSpool.peek();
+      raygunSpool.remove(record);
+
+      assertThat(raygunSpool.remove(record)).isFalse();
+    }
+
+    @Test
+    void removedTwiceShouldKeepNextMessage() {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.append("{\"poppin\":2}");
+      RaygunSpoolRecord record = raygunSpool.peek();
+      raygunSpool.remove(record);
+      raygunSpool.remove(record);
+
+      assertThat(raygunSpool.getPendingCount()).isOne();
+    }
+
+    @Test
+    void deletedSegmentShouldNotRemoveNextMessage() {
+      raygunSpool.append("0" + "x".repeat(40));
+      RaygunSpoolRecord record = raygunSpool.peek();
+      for (int index = 1; index < 4; index++) {
+        raygunSpool.append(index + "x".repeat(40));
+      }
+
+      raygunSpool.remove(record);
+
+      assertThat(raygunSpool.peek().getPayload()).startsWith("1");
+    }
+
+    @Test
+    void consumedSegmentShouldBeDeleted() {
+      raygunSpool.append("x".repeat(40));
+      raygunSpool.append("y".repeat(40));
+      raygunSpool.remove(raygunSpool.peek());
+      raygunSpool.peek();
+
+      assertThat(raygunSpool.getSegmentCount()).isOne();
+    }
+  }
+
+  @Nested
+  class Recover {
+
+    @Test
+    void pendingMessagesShouldBeRecovered() throws IOException {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.append("{\"poppin\":2}");
+      raygunSpool.remove(raygunSpool.peek());
+      raygunSpool.destroy();
+
+      assertThat(drain(raygunSpool())).isEqualTo(List.of("{\"poppin\":2}"));
+    }
+
+    @Test
+    void appendedMessagesShouldFollowRecoveredMessages() throws IOException {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.destroy();
+
+      RaygunSpool recoveredRaygunSpool = raygunSpool();
+      recoveredRaygunSpool.append("{\"poppin\":2}");
+
+      assertThat(drain(recoveredRaygunSpool))
+          .isEqualTo(List.of("{\"poppin\":1}", "{\"poppin\":2}"));
+    }
+
+    @Test
+    void consumedSegmentShouldBeDeleted() throws IOException {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.remove(raygunSpool.peek());
+      raygunSpool.destroy();
+
+      assertThat(raygunSpool().getSegmentCount()).isZero();
+    }
+
+    @Test
+    void corruptedMessageShouldStopRecovery() throws IOException {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.append("{\"poppin\":2}");
+      raygunSpool.destroy();
+      corrupt(20 + 8 + 2);
+
+      assertThat(drain(raygunSpool())).isEqualTo(List.of("{\"poppin\":1}"));
+    }
+
+    @Test
+    void corruptedSegmentShouldNotBeAppended() throws IOException {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.append("{\"poppin\":2}");
+      raygunSpool.destroy();
+      corrupt(20 + 8 + 2);
+
+      RaygunSpool recoveredRaygunSpool = raygunSpool();
+      recoveredRaygunSpool.append("{\"poppin\":3}");
+
+      assertThat(drain(recoveredRaygunSpool))
+          .isEqualTo(List.of("{\"poppin\":1}", "{\"poppin\":3}"));
+    }
+
+    @Test
+    void truncatedMessageShouldStopRecovery() throws IOException {
+      raygunSpool.append("{\"poppin\":1}");
+      raygunSpool.destroy();
+      overwrite(20, 1000);
+
+      assertThat(drain(raygunSpool())).isEqualTo(List.of("{\"poppin\":1}"));
+    }
+
+    void corrupt(int position) throws IOException {
+      try (FileChannel fileChannel = segmentChannel()) {
+        fileChannel.write(ByteBuffer.wrap(new byte[] {'x'}), position);
+      }
+    }
+
+    void overwrite(int position, int value) throws IOException {
+      try (FileChannel fileChannel = segmentChannel()) {
+        fileChannel.write(ByteBuffer.allocate(4).putInt(0, value), position);
+      }
+    }
+
+    FileChannel segmentChannel() throws IOException {
+      return FileChannel.open(
+          directory.resolve("raygun-0000000000000000.spool"), StandardOpenOption.WRITE);
+    }
+  }
+
+  @Nested
+  class AfterPropertiesSet {
+
+    @Test
+    void directoryNullShouldThrowIllegalArgumentException() {
+      RaygunSpool raygunSpool = new RaygunSpool();
+
+      assertThatCode(raygunSpool::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The directory must not be null");
+    }
+
+    @Test
+    void segmentSizeTooSmallShouldThrowIllegalArgumentException() {
+      RaygunSpool raygunSpool = new RaygunSpool();
+      raygunSpool.setDirectory(directory);
+      raygunSpool.setSegmentSize(DataSize.ofBytes(8));
+
+      assertThatCode(raygunSpool::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The segment size must be greater than 8 bytes and less than 2 gigabytes");
+    }
+
+    @Test
+    void maxSizeLessThanSegmentSizeShouldThrowIllegalArgumentException() {
+      RaygunSpool raygunSpool = new RaygunSpool();
+      raygunSpool.setDirectory(directory);
+      raygunSpool.setMaxSize(DataSize.ofKilobytes(1));
+
+      assertThatCode(raygunSpool::afterPropertiesSet)
+          .isExactlyInstanceOf(IllegalArgumentException.class)
+          .hasMessage("The maximum size must not be less than the segment size");
+    }
+  }
+}
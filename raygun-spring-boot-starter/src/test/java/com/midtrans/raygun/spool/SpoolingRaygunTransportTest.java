@@ -0,0 +1,156 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.spool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.midtrans.raygun.transport.RaygunTransport;
+import com.midtrans.raygun.transport.RaygunTransportResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Test for {@link SpoolingRaygunTransport}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class SpoolingRaygunTransportTest {
+  RaygunTransport raygunTransport;
+  RaygunSpool raygunSpool;
+  SpoolingRaygunTransport spoolingRaygunTransport;
+
+  @BeforeEach
+  void beforeEach() {
+    raygunTransport = mock(RaygunTransport.class);
+    raygunSpool = mock(RaygunSpool.class);
+    when(raygunSpool.append(anyString())).thenReturn(true);
+    spoolingRaygunTransport = new SpoolingRaygunTransport(raygunTransport, raygunSpool, 1);
+  }
+
+  @Nested
+  class Send {
+
+    @Test
+    void successfulResponseShouldBeReturned() {
+      RaygunTransportResponse raygunTransportResponse = new RaygunTransportResponse(202);
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(CompletableFuture.completedFuture(raygunTransportResponse));
+
+      assertThat(spoolingRaygunTransport.send("apiKey", "payload").join())
+          .isSameAs(raygunTransportResponse);
+    }
+
+    @Test
+    void rejectedResponseShouldBeReturned() {
+      RaygunTransportResponse raygunTransportResponse = new RaygunTransportResponse(400);
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(CompletableFuture.completedFuture(raygunTransportResponse));
+
+      assertThat(spoolingRaygunTransport.send("apiKey", "payload").join())
+          .isSameAs(raygunTransportResponse);
+    }
+
+    @Test
+    void retryableResponseShouldBeSpooled() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(CompletableFuture.completedFuture(new RaygunTransportResponse(429)));
+
+      assertThat(spoolingRaygunTransport.send("apiKey", "payload").join().isSpooled()).isTrue();
+    }
+
+    @Test
+    void failedResponseShouldBeSpooled() {
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(CompletableFuture.failedFuture(new ConnectException()));
+
+      assertThat(spoolingRaygunTransport.send("apiKey", "payload").join().isSpooled()).isTrue();
+    }
+
+    @Test
+    void thrownExceptionShouldBeSpooled() {
+      when(raygunTransport.send("apiKey", "payload")).thenThrow(new IllegalStateException());
+
+      assertThat(spoolingRaygunTransport.send("apiKey", "payload").join().isSpooled()).isTrue();
+    }
+
+    @Test
+    void tooManyInFlightShouldBeSpooled() {
+      when(raygunTransport.send("apiKey", "payload")).thenReturn(new CompletableFuture<>());
+      spoolingRaygunTransport.send("apiKey", "payload");
+
+      assertThat(spoolingRaygunTransport.send("apiKey", "payload").join().isSpooled()).isTrue();
+    }
+
+    @Test
+    void completedResponseShouldNotBeInFlight() {
+      CompletableFuture<RaygunTransportResponse> response = new CompletableFuture<>();
+      when(raygunTransport.send("apiKey", "payload")).thenReturn(response);
+      spoolingRaygunTransport.send("apiKey", "payload");
+
+      response.complete(new RaygunTransportResponse(202));
+
+      assertThat(spoolingRaygunTransport.getInFlight()).isZero();
+    }
+
+    @Test
+    void fullSpoolShouldFail() {
+      when(raygunSpool.append("payload")).thenReturn(false);
+      when(raygunTransport.send("apiKey", "payload"))
+          .thenReturn(CompletableFuture.failedFuture(new ConnectException()));
+
+      assertThat(spoolingRaygunTransport.send("apiKey", "payload"))
+          .failsWithin(Duration.ZERO)
+          .withThrowableOfType(ExecutionException.class)
+          .withCauseExactlyInstanceOf(IOException.class)
+          .withRootCauseExactlyInstanceOf(ConnectException.class);
+    }
+  }
+
+  @Nested
+  class SpoolAll {
+
+    @BeforeEach
+    void beforeEach() {
+      spoolingRaygunTransport.spoolAll();
+    }
+
+    @Test
+    void messageShouldBeSpooled() {
+      assertThat(spoolingRaygunTransport.send("apiKey", "payload").join().isSpooled()).isTrue();
+    }
+
+    @Test
+    void messageShouldNotBeSent() {
+      spoolingRaygunTransport.send("apiKey", "payload");
+
+      verify(raygunTransport, never()).send("apiKey", "payload");
+    }
+  }
+}
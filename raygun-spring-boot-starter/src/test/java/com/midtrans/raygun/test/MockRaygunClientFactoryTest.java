@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.midtrans.raygun.RaygunTemplate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Test for {@link MockRaygunClientFactory}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class MockRaygunClientFactoryTest {
+  MockRaygunClientFactory mockRaygunClientFactory;
+
+  @BeforeEach
+  void beforeEach() {
+    mockRaygunClientFactory = new MockRaygunClientFactory();
+  }
+
+  RaygunTemplate raygunTemplate(TaskExecutor taskExecutor) {
+    RaygunTemplate raygunTemplate = new RaygunTemplate(mockRaygunClientFactory, taskExecutor);
+    raygunTemplate.setRaygunReportRecorder(mockRaygunClientFactory);
+    return raygunTemplate;
+  }
+
+  @Test
+  void clientsShouldShareRecorder() {
+    mockRaygunClientFactory.newClient().send(new IllegalStateException());
+    mockRaygunClientFactory.newClient().send(new IllegalStateException());
+
+    assertThat(mockRaygunClientFactory.getRecorder().count()).isEqualTo(2);
+  }
+
+  @Nested
+  class Flush {
+
+    @Test
+    void nothingSubmittedShouldReturnTrue() throws InterruptedException {
+      assertThat(mockRaygunClientFactory.flush(Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    void syncShouldReturnTrue() throws InterruptedException {
+      raygunTemplate(new SyncTaskExecutor()).send(new IllegalStateException());
+
+      assertThat(mockRaygunClientFactory.flush(Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    void notExecutedShouldTimeOut() throws InterruptedException {
+      raygunTemplate(task -> {}).send(new IllegalStateException());
+
+      assertThat(mockRaygunClientFactory.flush(Duration.ofMillis(10))).isFalse();
+    }
+
+    @Test
+    void rejectedShouldNotBeWaitedFor() throws InterruptedException {
+      raygunTemplate(
+              task -> {
+                throw new RejectedExecutionException();
+              })
+          .send(new IllegalStateException());
+
+      assertThat(mockRaygunClientFactory.flush(Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    void failedShouldNotBeWaitedFor() throws InterruptedException {
+      mockRaygunClientFactory.getRecorder().setSerializationEnabled(true);
+      RaygunTemplate raygunTemplate =
+          new RaygunTemplate(
+              new MockRaygunClientFactory(mockRaygunClientFactory.getRecorder()) {
+                @Override
+                public MockRaygunClient newClient() {
+                  MockRaygunClient mockRaygunClient = super.newClient();
+                  mockRaygunClient.setOnBeforeSend(
+                      (raygunClient, raygunMessage) -> {
+                        throw new IllegalStateException();
+                      });
+                  return mockRaygunClient;
+                }
+              },
+              new SyncTaskExecutor());
+      raygunTemplate.setRaygunReportRecorder(mockRaygunClientFactory);
+      raygunTemplate.send(new IllegalStateException());
+
+      assertThat(mockRaygunClientFactory.flush(Duration.ZERO)).isTrue();
+    }
+
+    @Nested
+    class Async {
+      ThreadPoolTaskExecutor threadPoolTaskExecutor;
+
+      @BeforeEach
+      void beforeEach() {
+        threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(4);
+        threadPoolTaskExecutor.afterPropertiesSet();
+      }
+
+      @AfterEach
+      void afterEach() {
+        threadPoolTaskExecutor.destroy();
+      }
+
+      @Test
+      void shouldWaitForEverySubmitted() throws InterruptedException {
+        RaygunTemplate raygunTemplate = raygunTemplate(threadPoolTaskExecutor);
+        for (int i = 0; i < 100; i++) {
+          raygunTemplate.send(new IllegalStateException());
+        }
+        mockRaygunClientFactory.flush(Duration.ofSeconds(10));
+
+        assertThat(mockRaygunClientFactory.getRecorder().count()).isEqualTo(100);
+      }
+
+      @Test
+      void shouldReturnTrue() throws InterruptedException {
+        RaygunTemplate raygunTemplate = raygunTemplate(threadPoolTaskExecutor);
+        for (int i = 0; i < 100; i++) {
+          raygunTemplate.send(new IllegalStateException());
+        }
+
+        assertThat(mockRaygunClientFactory.flush(Duration.ofSeconds(10))).isTrue();
+      }
+    }
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for {@link MockRaygunClient} and {@link MockRaygunRecorder}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class MockRaygunClientTest {
+  MockRaygunRecorder mockRaygunRecorder;
+  MockRaygunClient mockRaygunClient;
+
+  @BeforeEach
+  void beforeEach() {
+    mockRaygunRecorder = new MockRaygunRecorder();
+    mockRaygunClient = new MockRaygunClient(mockRaygunRecorder);
+  }
+
+  @Nested
+  class Send {
+
+    @Test
+    void shouldReturnOk() {
+      assertThat(mockRaygunClient.send(new IllegalStateException()))
+          .isEqualTo(HttpURLConnection.HTTP_OK);
+    }
+
+    @Test
+    void shouldBeCounted() {
+      mockRaygunClient.send(new IllegalStateException());
+      mockRaygunClient.send(new IllegalArgumentException());
+
+      assertThat(mockRaygunClient.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBeRecordedInOrder() {
+      mockRaygunClient.send(new IllegalStateException());
+      mockRaygunClient.send(new IllegalArgumentException());
+
+      assertThat(mockRaygunRecorder.getMessages())
+          .extracting(raygunMessage -> raygunMessage.getDetails().getError().getClassName())
+          .isEqualTo(
+              List.of(
+                  IllegalStateException.class.getName(), IllegalArgumentException.class.getName()));
+    }
+
+    @Test
+    void rejectedByOnBeforeSendShouldNotBeRecorded() {
+      mockRaygunClient.setOnBeforeSend((raygunClient, raygunMessage) -> null);
+      mockRaygunClient.send(new IllegalStateException());
+
+      assertThat(mockRaygunRecorder.count()).isZero();
+    }
+
+    @Test
+    void shouldCallOnAfterSend() {
+      AtomicInteger afterSendCount = new AtomicInteger();
+      mockRaygunClient.setOnAfterSend(
+          (raygunClient, raygunMessage) -> {
+            afterSendCount.incrementAndGet();
+            return raygunMessage;
+          });
+      mockRaygunClient.send(new IllegalStateException());
+
+      assertThat(afterSendCount).hasValue(1);
+    }
+
+    @Test
+    void concurrentShouldAllBeRecorded() throws InterruptedException {
+      List<Thread> threads = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        MockRaygunClient threadRaygunClient = new MockRaygunClient(mockRaygunRecorder);
+        Thread thread =
+            new Thread(
+                () -> {
+                  for (int j = 0; j < 100; j++) {
+                    threadRaygunClient.send(new IllegalStateException(), Set.of("tag"));
+                  }
+                });
+        thread.start();
+        threads.add(thread);
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertThat(mockRaygunRecorder.getMessagesTagged("tag")).hasSize(800);
+    }
+  }
+
+  @Nested
+  class Serialization {
+
+    @Test
+    void disabledShouldNotSerialize() {
+      mockRaygunClient =
+          new MockRaygunClient(mockRaygunRecorder) {
+            @Override
+            public String toJson(Object raygunMessage) {
+              throw new UnsupportedOperationException();
+            }
+          };
+      mockRaygunClient.send(new IllegalStateException());
+
+      assertThat(mockRaygunRecorder.count()).isEqualTo(1);
+    }
+
+    @Test
+    void disabledShouldNotRecordPayloads() {
+      mockRaygunClient.send(new IllegalStateException());
+
+      assertThat(mockRaygunRecorder.getPayloads()).isEmpty();
+    }
+
+    @Test
+    void enabledShouldRecordPayloads() {
+      mockRaygunRecorder.setSerializationEnabled(true);
+      mockRaygunClient.send(new IllegalStateException("poppin party"));
+
+      assertThat(mockRaygunRecorder.getPayloads())
+          .singleElement()
+          .asString()
+          .contains("poppin party");
+    }
+
+    @Test
+    void enabledShouldSendPayloads() {
+      List<String> payloads = new ArrayList<>();
+      mockRaygunClient =
+          new MockRaygunClient(mockRaygunRecorder) {
+            @Override
+            public int send(String payload) throws IOException {
+              payloads.add(payload);
+              return super.send(payload);
+            }
+          };
+      mockRaygunRecorder.setSerializationEnabled(true);
+      mockRaygunClient.send(new IllegalStateException());
+
+      assertThat(payloads).isEqualTo(mockRaygunRecorder.getPayloads());
+    }
+
+    @Test
+    void failedShouldNotBeRecorded() {
+      mockRaygunClient =
+          new MockRaygunClient(mockRaygunRecorder) {
+            @Override
+            public int send(String payload) throws IOException {
+              throw new IOException("roselia");
+            }
+          };
+      mockRaygunRecorder.setSerializationEnabled(true);
+      mockRaygunClient.send(new IllegalStateException());
+
+      assertThat(mockRaygunRecorder.count()).isZero();
+    }
+  }
+
+  @Nested
+  class Query {
+
+    @BeforeEach
+    void beforeEach() {
+      mockRaygunClient.send(new IllegalStateException(), Set.of("afterglow"));
+      mockRaygunClient.send(new IllegalArgumentException(), Set.of("afterglow", "roselia"));
+      mockRaygunClient.send(new IllegalStateException(), Set.of(), Map.of());
+    }
+
+    @Test
+    void byTypeShouldBeMatched() {
+      assertThat(mockRaygunRecorder.getMessages(IllegalStateException.class)).hasSize(2);
+    }
+
+    @Test
+    void bySuperTypeShouldNotBeMatched() {
+      assertThat(mockRaygunRecorder.getMessages(RuntimeException.class)).isEmpty();
+    }
+
+    @Test
+    void byTagShouldBeMatched() {
+      assertThat(mockRaygunRecorder.getMessagesTagged("afterglow")).hasSize(2);
+    }
+
+    @Test
+    void byUnknownTagShouldBeEmpty() {
+      assertThat(mockRaygunRecorder.getMessagesTagged("pastel")).isEmpty();
+    }
+
+    @Test
+    void clearShouldRemoveMessages() {
+      mockRaygunRecorder.clear();
+
+      assertThat(mockRaygunRecorder.getMessages(IllegalStateException.class)).isEmpty();
+    }
+
+    @Test
+    void clearShouldResetCount() {
+      mockRaygunRecorder.clear();
+
+      assertThat(mockRaygunRecorder.count()).isZero();
+    }
+  }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
 
 /**
  * Test for {@link RaygunContextCustomizer}.
@@ -28,6 +29,21 @@ import org.junit.jupiter.api.Test;
  */
 class RaygunContextCustomizerTest {
 
+  @Nested
+  class CustomizeContext {
+
+    @Test
+    void recorderShouldBeSharedByFactory() {
+      try (GenericApplicationContext context = new GenericApplicationContext()) {
+        new RaygunContextCustomizer().customizeContext(context, null);
+        context.refresh();
+
+        assertThat(context.getBean(MockRaygunClientFactory.class).getRecorder())
+            .isSameAs(context.getBean(MockRaygunRecorder.class));
+      }
+    }
+  }
+
   @Nested
   class Equals {
 
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Test for {@link GzipPayloadEncoder}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class GzipPayloadEncoderTest {
+  static final String PAYLOAD =
+      "{\"details\":{\"error\":{\"stackTrace\":["
+          + "{\"className\":\"poppinparty\"},".repeat(100)
+          + "]}}}";
+
+  GzipPayloadEncoder payloadEncoder;
+
+  @BeforeEach
+  void beforeEach() {
+    payloadEncoder = new GzipPayloadEncoder();
+  }
+
+  static String decode(byte[] encoded) throws IOException {
+    try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  @Nested
+  class Encode {
+
+    @Test
+    void shouldBeDecodedByGzip() throws IOException {
+      assertThat(decode(payloadEncoder.encode(PAYLOAD))).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    void reusedDeflaterShouldEncodeEveryPayload() throws IOException {
+      payloadEncoder.encode(PAYLOAD);
+
+      assertThat(decode(payloadEncoder.encode("{\"morfonica\":true}")))
+          .isEqualTo("{\"morfonica\":true}");
+    }
+
+    @Test
+    void emptyPayloadShouldBeDecodedByGzip() throws IOException {
+      assertThat(decode(payloadEncoder.encode(""))).isEmpty();
+    }
+
+    @Test
+    void noCompressionLevelShouldBeDecodedByGzip() throws IOException {
+      assertThat(decode(new GzipPayloadEncoder(0).encode(PAYLOAD))).isEqualTo(PAYLOAD);
+    }
+  }
+
+  @Nested
+  class Pool {
+
+    @Test
+    void deflaterShouldBePooled() {
+      payloadEncoder.encode(PAYLOAD);
+
+      assertThat(payloadEncoder.getPooledCount()).isOne();
+    }
+
+    @Test
+    void concurrentEncodingShouldNotPoolBeyondProcessors() throws InterruptedException {
+      int threads = Runtime.getRuntime().availableProcessors() * 2;
+      ExecutorService executorService = Executors.newFixedThreadPool(threads);
+      try {
+        for (int index = 0; index < threads * 10; index++) {
+          executorService.execute(() -> payloadEncoder.encode(PAYLOAD));
+        }
+      } finally {
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+      }
+
+      assertThat(payloadEncoder.getPooledCount())
+          .isLessThanOrEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Test
+    void closedShouldEndPooledDeflaters() {
+      payloadEncoder.encode(PAYLOAD);
+
+      payloadEncoder.close();
+
+      assertThat(payloadEncoder.getPooledCount()).isZero();
+    }
+
+    @Test
+    void closedShouldStillEncode() throws IOException {
+      payloadEncoder.encode(PAYLOAD);
+      payloadEncoder.close();
+
+      assertThat(decode(payloadEncoder.encode(PAYLOAD))).isEqualTo(PAYLOAD);
+    }
+  }
+
+  @Nested
+  class Statistics {
+
+    @Test
+    void payloadsShouldBeCounted() {
+      payloadEncoder.encode(PAYLOAD);
+      payloadEncoder.encode(PAYLOAD);
+
+      assertThat(payloadEncoder.getPayloadCount()).isEqualTo(2);
+    }
+
+    @Test
+    void uncompressedBytesShouldBeCounted() {
+      payloadEncoder.encode(PAYLOAD);
+
+      assertThat(payloadEncoder.getUncompressedBytes()).isEqualTo(PAYLOAD.length());
+    }
+
+    @Test
+    void compressedBytesShouldBeCounted() {
+      byte[] encoded = payloadEncoder.encode(PAYLOAD);
+
+      assertThat(payloadEncoder.getCompressedBytes()).isEqualTo(encoded.length);
+    }
+
+    @Test
+    void repetitivePayloadRatioShouldBeLessThanOne() {
+      payloadEncoder.encode(PAYLOAD);
+
+      assertThat(payloadEncoder.getCompressionRatio()).isLessThan(0.1);
+    }
+
+    @Test
+    void notEncodedRatioShouldBeOne() {
+      assertThat(payloadEncoder.getCompressionRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    void compressionTimeShouldBeRecorded() {
+      payloadEncoder.encode(PAYLOAD);
+
+      assertThat(payloadEncoder.getCompressionTime()).isPositive();
+    }
+
+    @Test
+    void averageCompressionTimeShouldBeRecorded() {
+      payloadEncoder.encode(PAYLOAD);
+
+      assertThat(payloadEncoder.getAverageCompressionTime()).isPositive();
+    }
+
+    @Test
+    void notEncodedAverageCompressionTimeShouldBeZero() {
+      assertThat(payloadEncoder.getAverageCompressionTime()).isEqualTo(Duration.ZERO);
+    }
+  }
+}
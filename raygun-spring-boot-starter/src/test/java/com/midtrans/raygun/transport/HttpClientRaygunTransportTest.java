@@ -0,0 +1,197 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for {@link HttpClientRaygunTransport} against a local stub Raygun API.
+ *
+ * @author Raydhitya Yoseph
+ */
+class HttpClientRaygunTransportTest {
+  HttpServer httpServer;
+  List<String> received;
+  CountDownLatch responseReleased;
+  HttpClientRaygunTransport raygunTransport;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    received = new CopyOnWriteArrayList<>();
+    responseReleased = new CountDownLatch(0);
+
+    httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    httpServer.createContext("/entries", this::handle);
+    httpServer.start();
+
+    raygunTransport = raygunTransport(Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  void afterEach() {
+    responseReleased.countDown();
+    httpServer.stop(0);
+  }
+
+  HttpClientRaygunTransport raygunTransport(Duration requestTimeout) {
+    URI endpoint = URI.create("http://localhost:" + httpServer.getAddress().getPort() + "/entries");
+    return new HttpClientRaygunTransport(
+        HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build(),
+        endpoint,
+        requestTimeout);
+  }
+
+  void handle(HttpExchange httpExchange) throws IOException {
+    try (InputStream inputStream = httpExchange.getRequestBody()) {
+      byte[] body = inputStream.readAllBytes();
+      received.add(
+          httpExchange.getRequestMethod()
+              + " "
+              + httpExchange.getRequestHeaders().getFirst("X-ApiKey")
+              + " "
+              + ("gzip".equals(httpExchange.getRequestHeaders().getFirst("Content-Encoding"))
+                  ? "gzip " + GzipPayloadEncoderTest.decode(body)
+                  : new String(body, StandardCharsets.UTF_8)));
+    }
+    try {
+      responseReleased.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    httpExchange.getResponseHeaders().add("Retry-After", "1");
+    httpExchange.sendResponseHeaders(202, -1);
+    httpExchange.close();
+  }
+
+  @Nested
+  class Send {
+
+    @Test
+    void shouldPostPayloadWithApiKey() throws ExecutionException, InterruptedException {
+      raygunTransport.send("apiKey", "{\"poppin\":\"party\"}").get();
+
+      assertThat(received).singleElement().isEqualTo("POST apiKey {\"poppin\":\"party\"}");
+    }
+
+    @Test
+    void shouldCompleteWithStatusCode() throws ExecutionException, InterruptedException {
+      RaygunTransportResponse raygunTransportResponse = raygunTransport.send("apiKey", "{}").get();
+
+      assertThat(raygunTransportResponse.getStatusCode()).isEqualTo(202);
+    }
+
+    @Test
+    void acceptedShouldBeLastDelivered() throws ExecutionException, InterruptedException {
+      Instant before = Instant.now().minusMillis(1);
+
+      raygunTransport.send("apiKey", "{}").get();
+
+      assertThat(raygunTransport.getLastDelivered()).isAfter(before);
+    }
+
+    @Test
+    void notSentShouldNotBeLastDelivered() {
+      assertThat(raygunTransport.getLastDelivered()).isNull();
+    }
+
+    @Test
+    void shouldCompleteWithHeaders() throws ExecutionException, InterruptedException {
+      RaygunTransportResponse raygunTransportResponse = raygunTransport.send("apiKey", "{}").get();
+
+      assertThat(raygunTransportResponse.getHeaders().firstValue("Retry-After")).hasValue("1");
+    }
+
+    @Test
+    void shouldNotWaitForResponse() {
+      responseReleased = new CountDownLatch(1);
+
+      assertThat(raygunTransport.send("apiKey", "{}")).isNotDone();
+    }
+
+    @Test
+    void responseNotReceivedInTimeShouldCompleteExceptionally() {
+      responseReleased = new CountDownLatch(1);
+
+      assertThatThrownBy(() -> raygunTransport(Duration.ofMillis(50)).send("apiKey", "{}").get())
+          .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    void serverNotAvailableShouldCompleteExceptionally() {
+      httpServer.stop(0);
+
+      assertThatThrownBy(() -> raygunTransport.send("apiKey", "{}").get())
+          .isInstanceOf(ExecutionException.class);
+    }
+  }
+
+  @Nested
+  class SendCompressed {
+
+    @Test
+    void shouldPostGzipEncodedPayload() throws ExecutionException, InterruptedException {
+      URI endpoint =
+          URI.create("http://localhost:" + httpServer.getAddress().getPort() + "/entries");
+      new HttpClientRaygunTransport(
+              HttpClient.newHttpClient(), endpoint, Duration.ofSeconds(5), new GzipPayloadEncoder())
+          .send("apiKey", "{\"poppin\":\"party\"}")
+          .get();
+
+      assertThat(received).singleElement().isEqualTo("POST apiKey gzip {\"poppin\":\"party\"}");
+    }
+
+    @Test
+    void destroyShouldEndPooledDeflaters() throws ExecutionException, InterruptedException {
+      URI endpoint =
+          URI.create("http://localhost:" + httpServer.getAddress().getPort() + "/entries");
+      GzipPayloadEncoder payloadEncoder = new GzipPayloadEncoder();
+      HttpClientRaygunTransport transport =
+          new HttpClientRaygunTransport(
+              HttpClient.newHttpClient(), endpoint, Duration.ofSeconds(5), payloadEncoder);
+      transport.send("apiKey", "{\"poppin\":\"party\"}").get();
+
+      transport.destroy();
+
+      assertThat(payloadEncoder.getPooledCount()).isZero();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Test for {@link TransportRaygunClientFactory}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class TransportRaygunClientFactoryTest {
+
+  @Test
+  void newClientShouldSendThroughTransport() {
+    RaygunTransport raygunTransport = (apiKey, payload) -> new CompletableFuture<>();
+
+    assertThat(new TransportRaygunClientFactory("apiKey", raygunTransport).newClient())
+        .isExactlyInstanceOf(TransportRaygunClient.class)
+        .extracting("raygunTransport")
+        .isSameAs(raygunTransport);
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2022-2026 authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.midtrans.raygun.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test for {@link TransportRaygunClient}.
+ *
+ * @author Raydhitya Yoseph
+ */
+class TransportRaygunClientTest {
+  List<String> sent;
+  CompletableFuture<RaygunTransportResponse> response;
+  TransportRaygunClient raygunClient;
+
+  @BeforeEach
+  void beforeEach() {
+    sent = new CopyOnWriteArrayList<>();
+    response = new CompletableFuture<>();
+    raygunClient =
+        new TransportRaygunClient(
+            "apiKey",
+            (apiKey, payload) -> {
+              sent.add(apiKey);
+              return response;
+            });
+  }
+
+  @Nested
+  class SendAsync {
+
+    @Test
+    void shouldSendThroughTransport() {
+      raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of());
+
+      assertThat(sent).singleElement().isEqualTo("apiKey");
+    }
+
+    @Test
+    void shouldNotWaitForResponse() {
+      assertThat(raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of())).isNotDone();
+    }
+
+    @Test
+    void responseShouldCompleteWithStatusCode() {
+      CompletableFuture<Integer> statusCode =
+          raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of());
+      response.complete(new RaygunTransportResponse(202));
+
+      assertThat(statusCode).isCompletedWithValue(202);
+    }
+
+    @Test
+    void responseShouldCallOnAfterSend() {
+      raygunClient.setOnAfterSend(
+          (client, message) -> {
+            sent.add("after");
+            return message;
+          });
+
+      raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of());
+      response.complete(new RaygunTransportResponse(202));
+
+      assertThat(sent).isEqualTo(List.of("apiKey", "after"));
+    }
+
+    @Test
+    void failureShouldCompleteWithNotSent() {
+      CompletableFuture<Integer> statusCode =
+          raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of());
+      response.completeExceptionally(new ConnectException());
+
+      assertThat(statusCode).isCompletedWithValue(-1);
+    }
+
+    @Test
+    void failureShouldCallOnFailedSend() {
+      raygunClient.setOnFailedSend(
+          (client, payload) -> {
+            sent.add("failed");
+            return payload;
+          });
+
+      raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of());
+      response.completeExceptionally(new ConnectException());
+
+      assertThat(sent).isEqualTo(List.of("apiKey", "failed"));
+    }
+
+    @Test
+    void failingHandlerShouldNotFailSending() {
+      raygunClient.setOnAfterSend(
+          (client, message) -> {
+            throw new IllegalStateException();
+          });
+
+      CompletableFuture<Integer> statusCode =
+          raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of());
+      response.complete(new RaygunTransportResponse(202));
+
+      assertThat(statusCode).isCompletedWithValue(202);
+    }
+
+    @Test
+    void failingFailedSendHandlerShouldNotFailSending() {
+      raygunClient.setOnFailedSend(
+          (client, payload) -> {
+            throw new IllegalStateException();
+          });
+
+      CompletableFuture<Integer> statusCode =
+          raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of());
+      response.completeExceptionally(new ConnectException());
+
+      assertThat(statusCode).isCompletedWithValue(-1);
+    }
+
+    @Test
+    void onBeforeSendReturningNullShouldNotSend() {
+      raygunClient.setOnBeforeSend((client, message) -> null);
+
+      raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of());
+
+      assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void apiKeyNotConfiguredShouldNotSend() {
+      TransportRaygunClient raygunClient =
+          new TransportRaygunClient("", (apiKey, payload) -> response);
+
+      assertThat(raygunClient.sendAsync(new RuntimeException(), Set.of(), Map.of()))
+          .isCompletedWithValue(-1);
+    }
+  }
+
+  @Nested
+  class DeliverMessage {
+
+    @Test
+    void shouldSendThroughTransport() {
+      raygunClient.deliver(raygunClient.buildMessage(new RuntimeException(), Set.of(), Map.of()));
+
+      assertThat(sent).singleElement().isEqualTo("apiKey");
+    }
+
+    @Test
+    void responseShouldComplete() {
+      CompletableFuture<RaygunTransportResponse> delivered =
+          raygunClient.deliver(
+              raygunClient.buildMessage(new RuntimeException(), Set.of(), Map.of()));
+      response.complete(new RaygunTransportResponse(202));
+
+      assertThat(delivered.join().getStatusCode()).isEqualTo(202);
+    }
+
+    @Test
+    void nullShouldNotBeSent() {
+      assertThat(raygunClient.deliver(null))
+          .isCompletedWithValue(RaygunTransportResponse.notSent());
+    }
+  }
+
+  @Nested
+  class Send {
+
+    @AfterEach
+    void afterEach() {
+      Thread.interrupted();
+    }
+
+    @Test
+    void shouldWaitForResponse() throws IOException {
+      response.complete(new RaygunTransportResponse(202));
+
+      assertThat(raygunClient.send("{}")).isEqualTo(202);
+    }
+
+    @Test
+    void failureShouldThrowIoException() {
+      response.completeExceptionally(new ConnectException());
+
+      assertThatThrownBy(() -> raygunClient.send("{}"))
+          .isInstanceOf(IOException.class)
+          .hasRootCauseInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    void interruptedShouldThrowIoException() {
+      Thread.currentThread().interrupt();
+
+      assertThatThrownBy(() -> raygunClient.send("{}")).isInstanceOf(IOException.class);
+    }
+  }
+}
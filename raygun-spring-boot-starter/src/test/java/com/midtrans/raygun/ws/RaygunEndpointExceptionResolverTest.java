@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.verify;
 
+import com.midtrans.raygun.RaygunReport;
 import com.midtrans.raygun.RaygunTemplate;
 
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,6 @@ class RaygunEndpointExceptionResolverTest {
 
     assertThat(raygunEndpointExceptionResolver.resolveExceptionInternal(null, null, exception));
 
-    verify(raygunTemplate, atMostOnce()).send(eq(exception));
+    verify(raygunTemplate, atMostOnce()).send(eq(exception), eq(RaygunReport.CRITICAL));
   }
 }